@@ -0,0 +1,22 @@
+-- 뉴스 상세 조회 시 신고 건수 COUNT 쿼리를 제거하기 위한 비정규화 카운터 마이그레이션 스크립트
+-- news.complaint_count 컬럼을 추가하고 news_complaint 집계로 초기값을 채웁니다
+
+-- 1. 카운터 컬럼 추가 (기본값 0, 크롤러 등 컬럼을 모르는 writer도 그대로 INSERT 가능)
+ALTER TABLE news ADD COLUMN complaint_count INT NOT NULL DEFAULT 0, ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 2. 기존 신고 건수로 초기화
+UPDATE news n
+JOIN (SELECT news_id, COUNT(*) AS cnt FROM news_complaint GROUP BY news_id) c ON c.news_id = n.news_id
+SET n.complaint_count = c.cnt;
+
+-- 3. 검증 (결과가 없어야 함)
+SELECT n.news_id, n.complaint_count, COUNT(c.complaint_id) AS actual
+FROM news n LEFT JOIN news_complaint c ON c.news_id = n.news_id
+WHERE n.complaint_count > 0 OR c.complaint_id IS NOT NULL
+GROUP BY n.news_id, n.complaint_count
+HAVING n.complaint_count <> actual;
+
+-- 주의사항:
+-- - 신고 접수 시 news-service가 같은 트랜잭션에서 카운터를 증가시킵니다
+-- - news_complaint를 직접 수정한 경우 ComplaintCountReconcileService가 주기적으로 보정합니다
+--   (news.complaint-count.reconcile-cron, 기본 매일 04:00)
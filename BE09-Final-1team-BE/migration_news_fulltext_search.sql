@@ -0,0 +1,24 @@
+-- 뉴스 키워드 검색(LIKE '%키워드%' 전체 스캔)을 ngram FULLTEXT 인덱스로 전환하기 위한 마이그레이션 스크립트
+-- 한국어는 공백 단위 토큰화가 어려워 ngram 파서(기본 ngram_token_size=2)를 사용합니다
+
+-- 1. ngram 토큰 크기 확인 (서버 설정, 기본값 2 권장)
+SHOW VARIABLES LIKE 'ngram_token_size';
+
+-- 2. 제목 + 본문 FULLTEXT 인덱스 추가
+-- 테이블에 FTS_DOC_ID 컬럼이 없으면 최초 1회 테이블 재구성이 발생하므로 트래픽이 적은 시간대에 실행하세요
+ALTER TABLE news ADD FULLTEXT INDEX ft_news_title_content (title, content) WITH PARSER ngram;
+
+-- 3. 동작 확인 (관련도순)
+SELECT news_id, title, MATCH(title, content) AGAINST ('+"반도체"' IN BOOLEAN MODE) AS score
+FROM news
+WHERE MATCH(title, content) AGAINST ('+"반도체"' IN BOOLEAN MODE) > 0
+ORDER BY score DESC
+LIMIT 10;
+
+-- 4. 실행 계획 확인 (type=fulltext 이어야 함)
+EXPLAIN SELECT news_id FROM news WHERE MATCH(title, content) AGAINST ('+"반도체"' IN BOOLEAN MODE) > 0;
+
+-- 주의사항:
+-- - 인덱스는 INSERT/UPDATE 시 MySQL이 자동으로 갱신하므로 별도 색인 작업이 필요 없습니다
+-- - 기본값은 news.search.fulltext-enabled=false (LIKE 검색) 입니다. 이 인덱스를 만든 MySQL 환경의 설정(config-files/news-service.yml)에서만 true로 켜세요
+-- - 1글자 단어는 ngram 토큰보다 짧아 FULLTEXT로 찾을 수 없으므로 LIKE 조건으로 처리됩니다 (예: '금 시세' -> +"시세" FULLTEXT + '금' LIKE)
@@ -0,0 +1,29 @@
+-- news.published_at(VARCHAR) 정렬/범위 조회를 DATETIME 컬럼으로 이전하기 위한 마이그레이션 스크립트
+-- 기존 문자열 컬럼은 유지하고 published_at_dt 컬럼을 추가한 뒤 온라인으로 백필합니다
+
+-- 1. 타입 컬럼 추가 (NULL 허용 컬럼 추가는 INPLACE, 쓰기 잠금 없음)
+ALTER TABLE news ADD COLUMN published_at_dt DATETIME NULL, ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 2. 복합 인덱스 추가 (카테고리별 최신순 / 상태별 최신순)
+ALTER TABLE news ADD INDEX idx_news_cat_pub_dt (category_name, published_at_dt), ALGORITHM=INPLACE, LOCK=NONE;
+ALTER TABLE news ADD INDEX idx_news_status_pub_dt (status, published_at_dt), ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 3. 기존 문자열 기반 인덱스 제거 (존재하는 경우)
+ALTER TABLE news DROP INDEX IF EXISTS idx_news_cat_pub;
+
+-- 4. 백필
+-- news-service 기동 시 PublishedAtBackfillService가 news_id 키셋 단위로 published_at_dt를 채웁니다
+-- (news.published-at-backfill.batch-size, news.published-at-backfill.cron 으로 조정)
+-- 마지막으로 확인한 news_id는 Redis 키 news:published-at-backfill:last-id에 저장되며, 이후 주기는 그 다음 행부터 확인합니다
+-- (published_at 문자열을 직접 고친 뒤 다시 백필하려면 해당 키를 삭제)
+
+-- 5. 백필 진행 상황 확인
+SELECT COUNT(*) AS remaining FROM news WHERE published_at_dt IS NULL;
+
+-- 6. 실행 계획 확인 (idx_news_cat_pub_dt 범위 스캔이어야 함)
+EXPLAIN SELECT news_id FROM news WHERE category_name = 'POLITICS' ORDER BY published_at_dt DESC LIMIT 20;
+
+-- 주의사항:
+-- - crawler-service / news-service 모두 저장 시 published_at_dt를 함께 기록합니다
+-- - 파싱 불가한 published_at 값은 published_at_dt가 NULL로 남으며 최신순 정렬에서 뒤로 밀립니다
+-- - 모든 writer 배포 및 백필 완료 후 published_at 문자열 컬럼 제거를 검토할 수 있습니다
@@ -0,0 +1,24 @@
+-- 같은 뉴스 요약이 동시에 생성되며 중복 행이 쌓이는 것을 막기 위한 유니크 키 마이그레이션 스크립트
+-- (news_id, summary_type, lines) 당 1행만 허용하고, 요약 캐시 조회도 이 인덱스를 사용합니다
+
+-- 1. 기존 중복 행 정리 (키별 가장 최근 id만 남김)
+DELETE s FROM news_summary s
+JOIN (
+    SELECT news_id, summary_type, `lines`, MAX(id) AS keep_id
+    FROM news_summary
+    GROUP BY news_id, summary_type, `lines`
+    HAVING COUNT(*) > 1
+) d ON d.news_id = s.news_id AND d.summary_type = s.summary_type AND d.`lines` = s.`lines`
+WHERE s.id <> d.keep_id;
+
+-- 2. 유니크 키 추가 (Flask 모델의 uq_news_summary_key와 같은 이름)
+ALTER TABLE news_summary
+    ADD UNIQUE KEY uq_news_summary_key (news_id, summary_type, `lines`);
+
+-- 3. 변경사항 확인
+SHOW INDEX FROM news_summary;
+
+-- 주의사항:
+-- - 1번 단계에서 중복 행은 가장 최근 것만 남고 삭제됩니다 (요약 본문만 다른 동일 키 행)
+-- - Flask 요약 API는 저장 시 유니크 키 충돌이 나면 기존 행을 갱신하므로 마이그레이션 후에도 오류 없이 동작합니다
+-- - 이미 같은 이름의 키가 있으면 2번 단계는 실패하므로 건너뜁니다
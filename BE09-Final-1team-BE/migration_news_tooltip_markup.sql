@@ -0,0 +1,25 @@
+-- 뉴스 상세 조회 시 툴팁 서비스 동기 호출을 제거하기 위한 마크업 저장 테이블 마이그레이션 스크립트
+-- news-service가 뉴스 승격/주기 스윕 시점에 툴팁 마크업을 미리 생성해 저장합니다
+
+-- 1. 마크업 테이블 생성 (뉴스당 1행, 생성에 사용한 어려운 단어 사전 버전 함께 저장)
+CREATE TABLE IF NOT EXISTS news_tooltip_markup (
+    news_id BIGINT NOT NULL PRIMARY KEY,
+    processed_content MEDIUMTEXT NOT NULL,
+    vocabulary_version BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+
+-- 2. 스윕 시작점(재생성 기간 안의 첫 news_id) 조회용 발행일 인덱스
+ALTER TABLE news ADD INDEX idx_news_pub_dt (published_at_dt), ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 3. 검증 (스윕이 한 번 돈 뒤 최근 30일 뉴스 중 마크업이 없는 건수, 0에 가까워야 함)
+SELECT COUNT(*)
+FROM news n LEFT JOIN news_tooltip_markup m ON m.news_id = n.news_id
+WHERE n.published_at_dt >= NOW() - INTERVAL 30 DAY AND m.news_id IS NULL;
+
+-- 주의사항:
+-- - 기존 뉴스는 배포 후 스윕(news.tooltip-markup.sweep-interval-ms)이 최근 regenerate-window-days일 범위를 채웁니다
+--   그보다 오래된 뉴스는 처음 조회될 때 원본 본문을 반환하고 생성이 예약됩니다
+-- - 툴팁 서비스에서 어려운 단어 캐시를 갱신하면 사전 버전이 올라가고, 다음 스윕부터 최근 뉴스가 재생성됩니다
+-- - 뉴스 삭제 시 마크업 행은 남지만 조회되지 않으므로 필요하면 별도로 정리합니다
+--   DELETE m FROM news_tooltip_markup m LEFT JOIN news n ON n.news_id = m.news_id WHERE n.news_id IS NULL;
@@ -1,7 +1,6 @@
 package com.newnormallist.crawlerservice.controller;
 
-import com.newnormallist.crawlerservice.config.FtpConfig;
-import com.newnormallist.crawlerservice.util.FtpUploader;
+import com.newnormallist.crawlerservice.storage.FileStorage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,6 +12,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
 
 
 /**
@@ -26,7 +28,7 @@ import org.springframework.web.multipart.MultipartFile;
  * 기능:
  * - POST /api/ftp/upload: CSV 파일 업로드
  * - 디렉터리 자동 생성
- * - 파일 덮어쓰기 지원
+ * - 파일 덮어쓰기 지원 (임시 이름으로 쓴 뒤 이름 변경)
  */
 @Tag(name = "FTP Upload", description = "FTP 파일 업로드 API")
 @Slf4j
@@ -35,7 +37,7 @@ import org.springframework.web.multipart.MultipartFile;
 @RequestMapping("/api/ftp")
 public class FtpUploadController {
 
-    private final FtpConfig ftpConfig;
+    private final FileStorage fileStorage;
 
     @Operation(summary = "CSV 파일 업로드", description = "JSON 형태로 CSV 파일을 FTP 서버에 업로드합니다.")
     @ApiResponses({
@@ -46,26 +48,12 @@ public class FtpUploadController {
     public ResponseEntity<String> uploadCsv(
             @Parameter(description = "업로드 요청 (경로, 파일명, 내용)") @RequestBody CsvUploadRequest request) {
         try {
-            // FTP 경로 구성: basePath + 상대경로
-            String ftpPath = ftpConfig.getBasePath() + "/" + request.getPath();
-            
-            boolean result = FtpUploader.uploadCsvFile(
-                ftpConfig.getServer(),    // FTP 서버 (설정파일에서)
-                ftpConfig.getPort(),      // 포트 (설정파일에서)
-                ftpConfig.getUsername(),  // 사용자 (설정파일에서)
-                ftpConfig.getPassword(),  // 비밀번호 (설정파일에서)
-                ftpPath,                  // FTP 경로
-                request.getFilename(),    // 파일명
-                request.getContent()      // CSV 내용
-            );
+            // 파일서버 저장소(FTP/로컬)에 기록 (경로: basePath + 상대경로)
+            byte[] content = request.getContent() != null ? request.getContent().getBytes(StandardCharsets.UTF_8) : new byte[0];
+            fileStorage.write(request.getPath(), request.getFilename(), out -> out.write(content));
 
-            if (result) {
-                log.info("📁 FTP 업로드 성공: {}/{}", ftpPath, request.getFilename());
-                return ResponseEntity.ok("업로드 성공");
-            } else {
-                log.error("📁 FTP 업로드 실패: {}/{}", ftpPath, request.getFilename());
-                return ResponseEntity.status(500).body("업로드 실패");
-            }
+            log.info("📁 업로드 성공: {}/{}", request.getPath(), request.getFilename());
+            return ResponseEntity.ok("업로드 성공");
             
         } catch (Exception e) {
             log.error("📁 FTP 업로드 오류: {}, 오류: {}", request.getFilename(), e.getMessage());
@@ -84,25 +72,15 @@ public class FtpUploadController {
             @Parameter(description = "FTP 상대 경로", example = "pm/2025-08-19_pm/list") @RequestParam("path") String path) {
         
         try {
-            // FTP 경로 구성: basePath + 상대경로
-            String ftpPath = ftpConfig.getBasePath() + "/" + path;
-            
-            boolean result = FtpUploader.uploadFile(
-                ftpConfig.getServer(),    // FTP 서버 (설정파일에서)
-                ftpConfig.getPort(),      // 포트 (설정파일에서)
-                ftpConfig.getUsername(),  // 사용자 (설정파일에서)
-                ftpConfig.getPassword(),  // 비밀번호 (설정파일에서)
-                ftpPath,                  // FTP 경로
-                file                      // 파일
-            );
+            // 파일서버 저장소(FTP/로컬)에 스트리밍 기록 (임시 이름으로 쓴 뒤 이름 변경)
+            fileStorage.write(path, file.getOriginalFilename(), out -> {
+                try (InputStream in = file.getInputStream()) {
+                    in.transferTo(out);
+                }
+            });
 
-            if (result) {
-                log.info("📁 FTP 파일 업로드 성공: {}/{}", ftpPath, file.getOriginalFilename());
-                return ResponseEntity.ok("파일 업로드 성공");
-            } else {
-                log.error("📁 FTP 파일 업로드 실패: {}/{}", ftpPath, file.getOriginalFilename());
-                return ResponseEntity.status(500).body("파일 업로드 실패");
-            }
+            log.info("📁 파일 업로드 성공: {}/{}", path, file.getOriginalFilename());
+            return ResponseEntity.ok("파일 업로드 성공");
             
         } catch (Exception e) {
             log.error("📁 FTP 파일 업로드 오류: {}, 오류: {}", file.getOriginalFilename(), e.getMessage());
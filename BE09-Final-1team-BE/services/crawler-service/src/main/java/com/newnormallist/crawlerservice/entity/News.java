@@ -37,6 +37,10 @@ public class News {
     @Column(name = "published_at")
     private String publishedAt;
 
+    // news-service 정렬/범위 조회용 발행일 (published_at 문자열에서 파생)
+    @Column(name = "published_at_dt", columnDefinition = "DATETIME")
+    private LocalDateTime publishedDateTime;
+
     @Column(name = "reporter", length = 100)
     private String reporter;
 
@@ -72,6 +76,26 @@ public class News {
     @Builder.Default
     private Integer viewCount = 0;
 
+    private static final DateTimeFormatter PUBLISHED_AT_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    @PrePersist
+    @PreUpdate
+    void syncPublishedDateTime() {
+        if (publishedAt == null || publishedAt.isBlank()) {
+            return;
+        }
+        String value = publishedAt.trim().replace('T', ' ');
+        int dotIndex = value.indexOf('.');
+        if (dotIndex != -1) {
+            value = value.substring(0, dotIndex);
+        }
+        try {
+            publishedDateTime = LocalDateTime.parse(value, PUBLISHED_AT_FORMATTER);
+        } catch (Exception ignored) {
+            // 파싱 불가한 형식은 null로 두고 문자열 컬럼만 저장
+        }
+    }
+
     // 날짜를 원하는 형식으로 변환하는 메서드
     public String getCreatedAtFormatted() {
         if (createdAt != null) {
@@ -1,10 +1,10 @@
 package com.newnormallist.crawlerservice.service;
 
 import com.newnormallist.crawlerservice.dto.NewsDetail;
+import com.newnormallist.crawlerservice.util.ArticleFetcher;
 import com.newnormallist.crawlerservice.util.NaverNewsCrawler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
@@ -41,13 +41,11 @@ public class DeploymentOptimizedCrawlerService {
     private final FileServerService fileServerService;
     private final PythonDeduplicationIntegrationService pythonDeduplicationIntegrationService;
     private final FileServerDatabaseService fileServerDatabaseService;
+    private final ArticleFetcher articleFetcher;
 
     // 기본 카테고리용 고정값 (코드에서 각 카테고리별 개수는 하드코딩됨)
     private final int targetCount = 100;
 
-    // 요청 간격 (밀리초) - 서버 부하 방지
-    private final int requestDelay = 1500;
-    
     // 크롤링 세션 타임스탬프 (1단계와 2단계에서 동일한 타임스탬프 사용)
     private String sessionTimestamp;
 
@@ -118,6 +116,7 @@ public class DeploymentOptimizedCrawlerService {
                 log.info("{} 카테고리 뉴스 목록 파일서버 저장 완료: {}개", category, categoryNews.size());
             } catch (Exception e) {
                 log.error("{} 카테고리 뉴스 목록 파일서버 저장 실패: {}", category, e.getMessage());
+                naverNewsCrawler.discardWatermarks(category);
             }
         }
     }
@@ -129,7 +128,9 @@ public class DeploymentOptimizedCrawlerService {
         log.info("뉴스 상세 크롤링 시작");
         
         String[] categories = {"POLITICS", "ECONOMY", "SOCIETY", "LIFE", "INTERNATIONAL", "IT_SCIENCE", "VEHICLE", "TRAVEL_FOOD", "ART"};
-        
+
+        // 모든 카테고리의 상세 요청을 먼저 시작 (동시 요청 수와 호스트별 속도는 ArticleFetcher가 전체 기준으로 제한)
+        Map<String, List<CompletableFuture<NewsDetail>>> pendingDetails = new LinkedHashMap<>();
         for (String category : categories) {
             try {
                 // 파일서버에서 뉴스 목록 조회 (세션 타임스탬프 사용)
@@ -138,9 +139,17 @@ public class DeploymentOptimizedCrawlerService {
                     log.info("{} 카테고리 뉴스 목록이 비어있음", category);
                     continue;
                 }
-                
-                // 상세 크롤링
-                List<NewsDetail> detailedNews = crawlCategoryDetails(category, newsList);
+                pendingDetails.put(category, crawlCategoryDetails(category, newsList));
+            } catch (Exception e) {
+                log.error("{} 카테고리 상세 크롤링 실패: {}", category, e.getMessage());
+                naverNewsCrawler.discardWatermarks(category);
+            }
+        }
+
+        for (Map.Entry<String, List<CompletableFuture<NewsDetail>>> entry : pendingDetails.entrySet()) {
+            String category = entry.getKey();
+            try {
+                List<NewsDetail> detailedNews = collectCategoryDetails(category, entry.getValue());
                 
                 // 파일서버에 상세 정보 저장 (동일한 세션 타임스탬프 사용)
                 fileServerService.saveNewsListToCsvWithTimestamp(category, detailedNews, "detail", sessionTimestamp);
@@ -148,6 +157,7 @@ public class DeploymentOptimizedCrawlerService {
                 
             } catch (Exception e) {
                 log.error("{} 카테고리 상세 크롤링 실패: {}", category, e.getMessage());
+                naverNewsCrawler.discardWatermarks(category);
             }
         }
         
@@ -155,29 +165,34 @@ public class DeploymentOptimizedCrawlerService {
     }
 
     /**
-     * 카테고리별 상세 크롤링
+     * 카테고리별 상세 크롤링 시작 (요청만 등록하고 바로 반환)
      */
-    private List<NewsDetail> crawlCategoryDetails(String category, List<NewsDetail> newsList) {
+    private List<CompletableFuture<NewsDetail>> crawlCategoryDetails(String category, List<NewsDetail> newsList) {
         log.info("{} 카테고리 상세 크롤링 시작: {}개", category, newsList.size());
-        
-        List<NewsDetail> detailedNews = new ArrayList<>();
-        ExecutorService executor = Executors.newFixedThreadPool(3);
-        List<Future<NewsDetail>> futures = new ArrayList<>();
 
+        List<CompletableFuture<NewsDetail>> futures = new ArrayList<>(newsList.size());
         for (NewsDetail news : newsList) {
-            futures.add(executor.submit(() -> crawlSingleNewsDetail(news)));
+            futures.add(articleFetcher.fetchDocument(news.getLink())
+                    .thenApply(doc -> parseNewsDetail(news, doc))
+                    .exceptionally(e -> {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        log.warn("뉴스 상세 크롤링 실패: {} - {}", news.getLink(), cause.getMessage());
+                        return failedNewsDetail(news);
+                    }));
         }
+        return futures;
+    }
 
-        executor.shutdown();
-        try {
-            for (Future<NewsDetail> future : futures) {
-                NewsDetail detailedNewsItem = future.get();
-                if (detailedNewsItem != null) {
-                    detailedNews.add(detailedNewsItem);
-                }
+    /**
+     * 카테고리의 상세 크롤링 결과 수집 (실패한 기사는 기본 정보만 포함)
+     */
+    private List<NewsDetail> collectCategoryDetails(String category, List<CompletableFuture<NewsDetail>> futures) {
+        List<NewsDetail> detailedNews = new ArrayList<>(futures.size());
+        for (CompletableFuture<NewsDetail> future : futures) {
+            NewsDetail detailedNewsItem = future.join();
+            if (detailedNewsItem != null) {
+                detailedNews.add(detailedNewsItem);
             }
-        } catch (Exception e) {
-            log.error("{} 카테고리 상세 크롤링 실패: {}", category, e.getMessage());
         }
 
         log.info("{} 카테고리 상세 크롤링 완료: {}개", category, detailedNews.size());
@@ -185,18 +200,10 @@ public class DeploymentOptimizedCrawlerService {
     }
 
     /**
-     * 개별 뉴스 상세 크롤링
+     * 개별 뉴스 상세 페이지 파싱
      */
-    private NewsDetail crawlSingleNewsDetail(NewsDetail news) {
+    private NewsDetail parseNewsDetail(NewsDetail news, Document doc) {
         try {
-            // 요청 간격 조절
-            Thread.sleep(requestDelay);
-            
-            Document doc = Jsoup.connect(news.getLink())
-                .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
-                .timeout(10000)
-                .get();
-
             // 제목은 이미 크롤링할 때 받아온 것을 사용 (원래 로직)
             
             // 내용 추출
@@ -227,23 +234,29 @@ public class DeploymentOptimizedCrawlerService {
 
         } catch (Exception e) {
             log.warn("뉴스 상세 크롤링 실패: {} - {}", news.getLink(), e.getMessage());
-            // 실패 시 기본 정보만 반환
-            return NewsDetail.builder()
-                .link(news.getLink())
-                .title(news.getTitle())
-                .press(news.getPress())
-                .content("상세 내용 크롤링 실패")
-                .reporter("")
-                .date(news.getDate())
-                .categoryName(news.getCategoryName())
-                .imageUrl("")
-                .trusted(1)  // trusted 필드 추가
-                .oidAid(extractOidAidFromUrl(news.getLink()))  // oid_aid 추가
-                .createdAt(LocalDateTime.now())
-                .build();
+            return failedNewsDetail(news);
         }
     }
 
+    /**
+     * 상세 크롤링 실패 시 기본 정보만 반환
+     */
+    private NewsDetail failedNewsDetail(NewsDetail news) {
+        return NewsDetail.builder()
+            .link(news.getLink())
+            .title(news.getTitle())
+            .press(news.getPress())
+            .content("상세 내용 크롤링 실패")
+            .reporter("")
+            .date(news.getDate())
+            .categoryName(news.getCategoryName())
+            .imageUrl("")
+            .trusted(1)  // trusted 필드 추가
+            .oidAid(extractOidAidFromUrl(news.getLink()))  // oid_aid 추가
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+
 
 
     /**
@@ -514,6 +527,8 @@ public class DeploymentOptimizedCrawlerService {
         
         try {
             fileServerDatabaseService.saveLatestDataToDatabase();
+            // DB 저장이 끝난 뒤에만 목록 크롤링 중단 지점을 확정
+            naverNewsCrawler.commitWatermarks();
             fileServerDatabaseService.summarizeLatestData();
             log.info("파일서버 기반 DB 저장 완료");
             
@@ -1,20 +1,14 @@
 package com.newnormallist.crawlerservice.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.newnormallist.crawlerservice.dto.NewsDetail;
 import com.newnormallist.crawlerservice.dto.RelatedNewsDetail;
-import lombok.RequiredArgsConstructor;
+import com.newnormallist.crawlerservice.storage.FileStorage;
+import com.newnormallist.crawlerservice.util.CsvReader;
+import com.newnormallist.crawlerservice.util.CsvWriter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.*;
@@ -26,7 +20,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Function;
 
 /**
  * 파일서버 관리 서비스
@@ -40,18 +34,19 @@ import java.util.Map;
  * - CSV 파일 저장: 크롤링된 뉴스를 단계별로 저장
  * - CSV 파일 조회: 저장된 뉴스 데이터를 읽어서 객체로 변환
  * - 최신 파일 찾기: 타임스탬프 기반으로 가장 최신 파일 자동 탐색
+ * - 파일 업로드: FileStorage(FTP/로컬)로 직접 스트리밍 기록 (임시 이름 → 최종 이름 변경)
  * - 디렉터리 구조: /am|pm/yyyy-MM-dd_am|pm/stage/category_stage_yyyy-MM-dd-HH-mm.csv
  */
 @Slf4j
 @Service
 public class FileServerService {
 
-    private final ObjectMapper objectMapper;
+    private final FileStorage fileStorage;
     // HTTP 클라이언트 (UTF-8 인코딩 설정)
     private final RestTemplate restTemplate;
     
-    public FileServerService(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+    public FileServerService(FileStorage fileStorage) {
+        this.fileStorage = fileStorage;
         this.restTemplate = new RestTemplate();
         // UTF-8 인코딩을 위한 메시지 컨버터 설정
         this.restTemplate.getMessageConverters().forEach(converter -> {
@@ -67,6 +62,12 @@ public class FileServerService {
     // 시간 포맷터
     private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("HH");
+
+    // 뉴스 CSV 컬럼 (Python 중복제거 서비스와 동일한 순서)
+    private static final String[] NEWS_CSV_HEADER = {
+            "title", "press", "reporter", "date", "link", "imageUrl", "oidAid",
+            "trusted", "content", "dedupState", "categoryName", "createdAt"
+    };
     
     /**
      * 현재 시간 기반 디렉터리 경로 생성
@@ -86,35 +87,10 @@ public class FileServerService {
         String dirPath = getCurrentTimePath() + "/" + stage;
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm"));
         String fileName = category.toLowerCase() + "_" + stage + "_" + timestamp + ".csv";
-        String fullPath = dirPath + "/" + fileName;
         
         try {
-            // CSV 데이터를 메모리에서 생성
-            StringBuilder csvContent = new StringBuilder();
-            
-            // CSV 헤더
-            csvContent.append("title,press,reporter,date,link,imageUrl,oidAid,trusted,content,dedupState,categoryName,createdAt\n");
-            
-            // 데이터 쓰기
-            for (NewsDetail news : newsList) {
-                            csvContent.append(String.format("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",%d,\"%s\",\"%s\",\"%s\",\"%s\"%n",
-                escapeCSV(news.getTitle()),
-                escapeCSV(news.getPress()),
-                escapeCSV(news.getReporter()),
-                escapeCSV(news.getDate()),
-                escapeCSV(news.getLink()),
-                escapeCSV(news.getImageUrl()),
-                escapeCSV(news.getOidAid()),
-                news.getTrusted() != null ? news.getTrusted() : 1,  // 기본값 1 (true)
-                escapeCSV(news.getContent()),
-                escapeCSV(news.getDedupState()),
-                escapeCSV(news.getCategoryName()),  // categoryName 추가
-                escapeCSV(news.getCreatedAt() != null ? news.getCreatedAt().toString() : "")  // createdAt 추가
-            ));
-            }
-            
-            // HTTP 파일서버에 업로드
-            uploadFileToServer(dirPath, fileName, csvContent.toString());
+            // 파일서버에 업로드 (레코드 단위로 바로 기록)
+            uploadFileToServer(dirPath, fileName, out -> writeNewsCsv(out, newsList));
             
             log.info("📁 파일서버 업로드 완료: {} - 카테고리: {}, 개수: {}", dirPath + "/" + fileName, category, newsList.size());
             
@@ -125,76 +101,17 @@ public class FileServerService {
     }
     
     /**
-     * FTP 업로드 API 호출
+     * 파일서버 저장소에 업로드
      */
-    private void uploadFileToServer(String dirPath, String fileName, String content) {
+    private void uploadFileToServer(String dirPath, String fileName, FileStorage.ContentWriter writer) {
+        // 상대 경로 추출 (basePath 제거)
+        String relativePath = dirPath.replace(basePath + "/", "");
         try {
-            // 상대 경로 추출 (basePath 제거)
-            String relativePath = dirPath.replace(basePath + "/", "");
-            
-            // FTP 업로드 요청 데이터 생성 (UTF-8 인코딩 명시)
-            Map<String, String> uploadRequest = Map.of(
-                "path", relativePath,
-                "filename", fileName,
-                "content", content  // 이미 UTF-8 String
-            );
-            
-            // HTTP 헤더 설정 (UTF-8 인코딩 명시)
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Accept-Charset", "UTF-8");
-            
-            // 요청 엔티티 생성
-            HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(uploadRequest, headers);
-            
-            // 내부 FTP 업로드 API 호출
-            ResponseEntity<String> response = restTemplate.exchange(
-                "http://localhost:8083/api/ftp/upload", // 크롤러 서비스 FTP API 호출
-                org.springframework.http.HttpMethod.POST, 
-                requestEntity, 
-                String.class
-            );
-            
-            if (response.getStatusCode().is2xxSuccessful()) {
-                log.debug("FTP 업로드 성공: {}/{}", relativePath, fileName);
-            } else {
-                throw new RuntimeException("FTP 업로드 실패: " + response.getStatusCode());
-            }
-            
-        } catch (Exception e) {
-            log.error("FTP 업로드 오류: {}/{}", dirPath, fileName, e);
-            throw new RuntimeException("FTP 업로드 실패", e);
-        }
-    }
-    
-    /**
-     * HTTP 파일서버에서 파일 다운로드
-     */
-    public String downloadFileFromServer(String fileUrl) {
-        try {
-            // UTF-8 인코딩을 위한 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Accept-Charset", "UTF-8");
-            HttpEntity<?> entity = new HttpEntity<>(headers);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                fileUrl, 
-                HttpMethod.GET, 
-                entity, 
-                String.class
-            );
-            
-            if (response.getStatusCode().is2xxSuccessful()) {
-                log.debug("파일 다운로드 성공: {}", fileUrl);
-                return response.getBody();
-            } else {
-                log.warn("파일 다운로드 실패: {} - 상태코드: {}", fileUrl, response.getStatusCode());
-                return null;
-            }
-            
+            fileStorage.write(relativePath, fileName, writer);
+            log.debug("파일 업로드 성공: {}/{}", relativePath, fileName);
         } catch (Exception e) {
-            log.warn("HTTP 파일 다운로드 오류: {}, 오류: {}", fileUrl, e.getMessage());
-            return null;
+            log.error("파일 업로드 오류: {}/{}", relativePath, fileName, e);
+            throw new RuntimeException("파일 업로드 실패", e);
         }
     }
     
@@ -206,32 +123,8 @@ public class FileServerService {
         String fileName = category.toLowerCase() + "_" + stage + "_" + timestamp + ".csv";
         
         try {
-            // CSV 데이터를 메모리에서 생성
-            StringBuilder csvContent = new StringBuilder();
-            
-            // CSV 헤더
-            csvContent.append("title,press,reporter,date,link,imageUrl,oidAid,trusted,content,dedupState,categoryName,createdAt\n");
-            
-            // 데이터 쓰기
-            for (NewsDetail news : newsList) {
-                            csvContent.append(String.format("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",%d,\"%s\",\"%s\",\"%s\",\"%s\"%n",
-                escapeCSV(news.getTitle()),
-                escapeCSV(news.getPress()),
-                escapeCSV(news.getReporter()),
-                escapeCSV(news.getDate()),
-                escapeCSV(news.getLink()),
-                escapeCSV(news.getImageUrl()),
-                escapeCSV(news.getOidAid()),
-                news.getTrusted() != null ? news.getTrusted() : 1,  // 기본값 1 (true)
-                escapeCSV(news.getContent()),
-                escapeCSV(news.getDedupState()),
-                escapeCSV(news.getCategoryName()),  // categoryName 추가
-                escapeCSV(news.getCreatedAt() != null ? news.getCreatedAt().toString() : "")  // createdAt 추가
-            ));
-            }
-            
-            // HTTP 파일서버에 업로드
-            uploadFileToServer(dirPath, fileName, csvContent.toString());
+            // 파일서버에 업로드 (레코드 단위로 바로 기록)
+            uploadFileToServer(dirPath, fileName, out -> writeNewsCsv(out, newsList));
             
             log.info("📁 파일서버 업로드 완료 (지정 타임스탬프): {}/{} - 카테고리: {}, 개수: {}", dirPath, fileName, category, newsList.size());
             
@@ -254,30 +147,13 @@ public class FileServerService {
         String fullPath = dirPath + "/" + fileName;
         
         try {
-            // HTTP 파일서버에서 파일 다운로드
-            String csvContent = downloadFileFromServer(fullPath);
-            if (csvContent == null) {
+            // HTTP 파일서버에서 파일을 받아 레코드 단위로 파싱
+            List<NewsDetail> parsed = readCsvFromServer(fullPath, this::toNewsDetail);
+            if (parsed == null) {
                 log.info("📁 지정 타임스탬프 파일이 존재하지 않음: {}", fullPath);
                 return newsList;
             }
-            
-            // CSV 내용 파싱
-            String[] lines = csvContent.split("\n");
-            boolean isFirstLine = true;
-            
-            for (String line : lines) {
-                if (isFirstLine) {
-                    isFirstLine = false; // 헤더 스킵
-                    continue;
-                }
-                
-                if (line.trim().isEmpty()) continue;
-                
-                NewsDetail news = parseCSVLine(line);
-                if (news != null) {
-                    newsList.add(news);
-                }
-            }
+            newsList = parsed;
             
             log.info("📁 파일서버 조회 완료 (지정 타임스탬프): {} - 카테고리: {}, 개수: {}", fullPath, category, newsList.size());
             
@@ -305,14 +181,14 @@ public class FileServerService {
         String fullPath = dirPath + "/" + fileName;
         
         // 만약 해당 시간의 파일이 없다면, 몇 분 전의 파일들을 시도
-        String csvContent = null;
+        List<NewsDetail> parsed = null;
         for (int i = 0; i < 180; i++) { // 최대 3시간 전까지 시도 (180분)
             String tryTimestamp = LocalDateTime.now().minusMinutes(i).format(DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm"));
             String tryFileName = category.toLowerCase() + "_" + stage + "_" + tryTimestamp + ".csv";
             String tryFullPath = dirPath + "/" + tryFileName;
             
-            csvContent = downloadFileFromServer(tryFullPath);
-            if (csvContent != null) {
+            parsed = readCsvFromServer(tryFullPath, this::toNewsDetail);
+            if (parsed != null) {
                 fullPath = tryFullPath;
                 log.info("📁 파일 발견 ({}분 전): {}", i, fullPath);
                 break;
@@ -320,7 +196,7 @@ public class FileServerService {
         }
         
         // PM 경로에서 찾지 못했다면 AM 경로도 시도
-        if (csvContent == null) {
+        if (parsed == null) {
             log.info("📁 PM 경로에서 파일을 찾지 못함, AM 경로 시도: {}", dirPath);
             String amTimePath = timePath.replace("/pm/", "/am/").replace("_pm", "_am");
             String amDirPath = amTimePath + "/" + stage;
@@ -330,8 +206,8 @@ public class FileServerService {
                 String tryFileName = category.toLowerCase() + "_" + stage + "_" + tryTimestamp + ".csv";
                 String tryFullPath = amDirPath + "/" + tryFileName;
                 
-                csvContent = downloadFileFromServer(tryFullPath);
-                if (csvContent != null) {
+                parsed = readCsvFromServer(tryFullPath, this::toNewsDetail);
+                if (parsed != null) {
                     fullPath = tryFullPath;
                     dirPath = amDirPath;
                     log.info("📁 AM 경로에서 파일 발견 ({}분 전): {}", i, fullPath);
@@ -340,37 +216,13 @@ public class FileServerService {
             }
         }
         
-        if (csvContent == null) {
+        if (parsed == null) {
             log.info("📁 해당 카테고리의 파일이 존재하지 않음: {}/{}", dirPath, category);
             return newsList;
         }
+        newsList = parsed;
         
-        try {
-            
-            // CSV 내용 파싱
-            String[] lines = csvContent.split("\n");
-            boolean isFirstLine = true;
-            
-            for (String line : lines) {
-                if (isFirstLine) {
-                    isFirstLine = false; // 헤더 스킵
-                    continue;
-                }
-                
-                if (line.trim().isEmpty()) continue;
-                
-                NewsDetail news = parseCSVLine(line);
-                if (news != null) {
-                    newsList.add(news);
-                }
-            }
-            
-            log.info("📁 파일서버 조회 완료: {} - 카테고리: {}, 개수: {}", fullPath, category, newsList.size());
-            
-        } catch (Exception e) {
-            log.error("📁 파일서버 조회 실패: {}, 오류: {}", fullPath, e.getMessage());
-            throw new RuntimeException("파일서버 조회 실패", e);
-        }
+        log.info("📁 파일서버 조회 완료: {} - 카테고리: {}, 개수: {}", fullPath, category, newsList.size());
         
         return newsList;
     }
@@ -420,30 +272,73 @@ public class FileServerService {
     }
     
     /**
-     * CSV 필드 이스케이프
+     * 뉴스 목록을 CSV로 기록 (RFC 4180, 레코드 단위)
+     * 스트림은 저장소가 닫으므로 여기서는 flush만 함
      */
-    private String escapeCSV(String value) {
-        if (value == null) return "";
-        return value.replace("\"", "\"\"").replace("\n", "\\n").replace("\r", "\\r");
+    private void writeNewsCsv(OutputStream out, List<NewsDetail> newsList) throws IOException {
+        CsvWriter csv = new CsvWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        csv.writeRecord((Object[]) NEWS_CSV_HEADER);
+        for (NewsDetail news : newsList) {
+            csv.writeRecord(
+                news.getTitle(),
+                news.getPress(),
+                news.getReporter(),
+                news.getDate(),
+                news.getLink(),
+                news.getImageUrl(),
+                news.getOidAid(),
+                news.getTrusted() != null ? news.getTrusted() : 1,  // 기본값 1 (true)
+                news.getContent(),
+                news.getDedupState(),
+                news.getCategoryName(),
+                news.getCreatedAt() != null ? news.getCreatedAt().toString() : ""
+            );
+        }
+        csv.flush();
+    }
+
+    /**
+     * HTTP 파일서버의 CSV 파일을 받아 레코드 단위로 파싱 (헤더 제외)
+     * 파일이 없거나 받을 수 없으면 null 반환
+     */
+    private <T> List<T> readCsvFromServer(String fileUrl, Function<List<String>, T> mapper) {
+        try {
+            return restTemplate.execute(
+                fileUrl,
+                HttpMethod.GET,
+                request -> request.getHeaders().set("Accept-Charset", "UTF-8"),
+                response -> {
+                    List<T> rows = new ArrayList<>();
+                    try (CsvReader csv = new CsvReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+                        csv.readRecord(); // 헤더 스킵
+                        List<String> fields;
+                        while ((fields = csv.readRecord()) != null) {
+                            T row = mapper.apply(fields);
+                            if (row != null) {
+                                rows.add(row);
+                            }
+                        }
+                    }
+                    log.debug("파일 다운로드 성공: {}", fileUrl);
+                    return rows;
+                }
+            );
+        } catch (Exception e) {
+            log.warn("HTTP 파일 다운로드 오류: {}, 오류: {}", fileUrl, e.getMessage());
+            return null;
+        }
     }
     
     /**
-     * CSV 라인 파싱 (견고한 파싱 로직)
+     * CSV 레코드를 뉴스로 변환
      */
-    private NewsDetail parseCSVLine(String line) {
+    private NewsDetail toNewsDetail(List<String> fields) {
         try {
-            if (line == null || line.trim().isEmpty()) {
+            if (fields.size() < 12) { // 중복제거 파일은 12개 필드 (title,press,reporter,date,link,imageUrl,oidAid,trusted,content,dedupState,categoryName,createdAt)
+                log.debug("CSV 필드 개수 부족: {} (필요: 12개, 실제: {}개)", fields.get(0), fields.size());
                 return null;
             }
             
-            // CSV 필드 파싱 (따옴표 처리 개선)
-            List<String> fields = parseCSVFields(line);
-            
-                    if (fields.size() < 12) { // 중복제거 파일은 12개 필드 (title,press,reporter,date,link,imageUrl,oidAid,trusted,content,dedupState,categoryName,createdAt)
-            log.debug("CSV 필드 개수 부족: {} (필요: 12개, 실제: {}개)", line.substring(0, Math.min(50, line.length())), fields.size());
-            return null;
-        }
-            
             // trusted 필드 안전하게 파싱
             Integer trusted = 0;
             try {
@@ -458,8 +353,8 @@ public class FileServerService {
             // createdAt 필드 안전하게 파싱
             LocalDateTime createdAt = null;
             try {
-                String createdAtStr = unescapeCSV(fields.get(11));
-                if (createdAtStr != null && !createdAtStr.trim().isEmpty()) {
+                String createdAtStr = fields.get(11);
+                if (!createdAtStr.trim().isEmpty()) {
                     createdAt = LocalDateTime.parse(createdAtStr);
                 }
             } catch (Exception e) {
@@ -468,61 +363,26 @@ public class FileServerService {
             }
 
             return NewsDetail.builder()
-                .title(unescapeCSV(fields.get(0)))
-                .press(unescapeCSV(fields.get(1)))
-                .reporter(unescapeCSV(fields.get(2)))
-                .date(unescapeCSV(fields.get(3)))
-                .link(unescapeCSV(fields.get(4)))
-                .imageUrl(unescapeCSV(fields.get(5)))
-                .oidAid(unescapeCSV(fields.get(6)))
+                .title(fields.get(0))
+                .press(fields.get(1))
+                .reporter(fields.get(2))
+                .date(fields.get(3))
+                .link(fields.get(4))
+                .imageUrl(fields.get(5))
+                .oidAid(fields.get(6))
                 .trusted(trusted)
-                .content(unescapeCSV(fields.get(8)))
-                .dedupState(unescapeCSV(fields.get(9)))
-                .categoryName(unescapeCSV(fields.get(10))) // categoryName 파싱
+                .content(fields.get(8))
+                .dedupState(fields.get(9))
+                .categoryName(fields.get(10)) // categoryName 파싱
                 .createdAt(createdAt) // 안전하게 파싱된 createdAt
                 .build();
                 
         } catch (Exception e) {
-            log.warn("CSV 라인 파싱 실패: {} - 오류: {}", line.substring(0, Math.min(100, line.length())), e.getMessage());
+            log.warn("CSV 레코드 파싱 실패: {} - 오류: {}", fields.get(0), e.getMessage());
             return null;
         }
     }
     
-    /**
-     * CSV 필드를 정확하게 파싱 (따옴표와 쉼표 처리)
-     */
-    private List<String> parseCSVFields(String line) {
-        List<String> fields = new ArrayList<>();
-        StringBuilder currentField = new StringBuilder();
-        boolean inQuotes = false;
-        
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-            
-            if (c == '"') {
-                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
-                    // 연속된 따옴표는 이스케이프된 따옴표
-                    currentField.append('"');
-                    i++; // 다음 따옴표 스킵
-                } else {
-                    // 따옴표 상태 토글
-                    inQuotes = !inQuotes;
-                }
-            } else if (c == ',' && !inQuotes) {
-                // 따옴표 밖의 쉼표는 필드 구분자
-                fields.add(currentField.toString());
-                currentField.setLength(0);
-            } else {
-                currentField.append(c);
-            }
-        }
-        
-        // 마지막 필드 추가
-        fields.add(currentField.toString());
-        
-        return fields;
-    }
-    
     /**
      * 디렉터리에서 가장 최신 파일 찾기
      */
@@ -575,14 +435,6 @@ public class FileServerService {
         return fileName; // 파싱 실패시 원본 반환
     }
     
-    /**
-     * CSV 필드 언이스케이프
-     */
-    private String unescapeCSV(String value) {
-        if (value == null) return null;
-        return value.replace("\"\"", "\"").replace("\\n", "\n").replace("\\r", "\r");
-    }
-    
     /**
      * 연관뉴스 CSV 파일에서 데이터 조회 (타임스탬프 지정)
      */
@@ -597,9 +449,9 @@ public class FileServerService {
             
             log.debug("📁 연관뉴스 파일서버 조회 시도: {}", fullPath);
             
-            String csvContent = downloadFileFromServer(fullPath);
-            if (csvContent != null) {
-                relatedNewsList = parseRelatedNewsCsv(csvContent);
+            List<RelatedNewsDetail> parsed = readCsvFromServer(fullPath, this::toRelatedNewsDetail);
+            if (parsed != null) {
+                relatedNewsList = parsed;
                 log.info("📁 파일서버 조회 완료 (지정 타임스탬프): {} - 카테고리: {}, 개수: {}", fullPath, category, relatedNewsList.size());
             } else {
                 log.info("📁 지정 타임스탬프 파일이 존재하지 않음: {}", fullPath);
@@ -632,9 +484,9 @@ public class FileServerService {
                 
                 log.debug("📁 연관뉴스 파일서버 조회 시도: {}", tryFullPath);
                 
-                String csvContent = downloadFileFromServer(tryFullPath);
-                if (csvContent != null) {
-                    relatedNewsList = parseRelatedNewsCsv(csvContent);
+                List<RelatedNewsDetail> parsed = readCsvFromServer(tryFullPath, this::toRelatedNewsDetail);
+                if (parsed != null) {
+                    relatedNewsList = parsed;
                     log.info("📁 연관뉴스 파일서버 조회 완료 ({}분 전): {} - 카테고리: {}, 개수: {}", i, tryFullPath, category, relatedNewsList.size());
                     break;
                 }
@@ -653,9 +505,9 @@ public class FileServerService {
                     
                     log.debug("📁 연관뉴스 AM 경로 조회 시도: {}", tryFullPath);
                     
-                    String csvContent = downloadFileFromServer(tryFullPath);
-                    if (csvContent != null) {
-                        relatedNewsList = parseRelatedNewsCsv(csvContent);
+                    List<RelatedNewsDetail> parsed = readCsvFromServer(tryFullPath, this::toRelatedNewsDetail);
+                    if (parsed != null) {
+                        relatedNewsList = parsed;
                         log.info("📁 연관뉴스 AM 경로에서 파일 발견 ({}분 전): {} - 카테고리: {}, 개수: {}", i, tryFullPath, category, relatedNewsList.size());
                         break;
                     }
@@ -674,48 +526,12 @@ public class FileServerService {
     }
     
     /**
-     * 연관뉴스 CSV 내용 파싱
-     */
-    private List<RelatedNewsDetail> parseRelatedNewsCsv(String csvContent) {
-        List<RelatedNewsDetail> relatedNewsList = new ArrayList<>();
-        
-        try {
-            String[] lines = csvContent.split("\n");
-            boolean isFirstLine = true;
-            
-            for (String line : lines) {
-                if (isFirstLine) {
-                    isFirstLine = false; // 헤더 스킵
-                    continue;
-                }
-                
-                if (line.trim().isEmpty()) continue;
-                
-                RelatedNewsDetail relatedNews = parseRelatedNewsCsvLine(line);
-                if (relatedNews != null) {
-                    relatedNewsList.add(relatedNews);
-                }
-            }
-            
-        } catch (Exception e) {
-            log.error("📁 연관뉴스 CSV 파싱 실패: {}", e.getMessage());
-        }
-        
-        return relatedNewsList;
-    }
-    
-    /**
-     * 연관뉴스 CSV 라인 파싱
+     * 연관뉴스 CSV 레코드 변환
      */
-    private RelatedNewsDetail parseRelatedNewsCsvLine(String line) {
+    private RelatedNewsDetail toRelatedNewsDetail(List<String> fields) {
         try {
-            if (line == null || line.trim().isEmpty()) {
-                return null;
-            }
-            
-            List<String> fields = parseCSVFields(line);
             if (fields.size() < 4) { // repOidAid, relatedOidAid, similarity, category 최소 4개
-                log.debug("연관뉴스 CSV 필드 개수 부족: {} (필요: 4개, 실제: {}개)", line.substring(0, Math.min(50, line.length())), fields.size());
+                log.debug("연관뉴스 CSV 필드 개수 부족: {} (필요: 4개, 실제: {}개)", fields.get(0), fields.size());
                 return null;
             }
             
@@ -730,15 +546,15 @@ public class FileServerService {
             }
             
             return RelatedNewsDetail.builder()
-                .repOidAid(unescapeCSV(fields.get(0)))
-                .relatedOidAid(unescapeCSV(fields.get(1)))
+                .repOidAid(fields.get(0))
+                .relatedOidAid(fields.get(1))
                 .similarity(similarity)
-                .category(unescapeCSV(fields.get(3)))
+                .category(fields.get(3))
                 .createdAt(LocalDateTime.now()) // CSV에 createdAt이 없으면 현재 시간
                 .build();
                 
         } catch (Exception e) {
-            log.warn("연관뉴스 CSV 라인 파싱 실패: {} - 오류: {}", line.substring(0, Math.min(100, line.length())), e.getMessage());
+            log.warn("연관뉴스 CSV 레코드 파싱 실패: {} - 오류: {}", fields.get(0), e.getMessage());
             return null;
         }
     }
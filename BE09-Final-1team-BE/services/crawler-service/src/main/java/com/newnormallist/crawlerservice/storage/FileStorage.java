@@ -0,0 +1,32 @@
+package com.newnormallist.crawlerservice.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 파일서버 저장소
+ *
+ * 역할:
+ * - 단계별 CSV 파일을 파일서버(HTTP로 조회되는 디렉터리)에 기록
+ * - 구현체: FTP 서버 직접 업로드(ftp), 로컬 디렉터리 직접 기록(local)
+ *
+ * 규칙:
+ * - 내용은 스트림으로 바로 기록 (파일 전체를 메모리에 만들지 않음)
+ * - 임시 이름으로 끝까지 쓴 뒤 최종 이름으로 변경 (조회하는 쪽에서 쓰다 만 파일을 보지 않음)
+ */
+public interface FileStorage {
+
+    /**
+     * 파일 기록
+     *
+     * @param relativeDir 파일서버 기준 상대 경로 (예: pm/2025-08-19_pm/list)
+     * @param fileName 파일명 (예: politics_list_2025-08-19-15-26.csv)
+     * @param writer 내용을 스트림에 쓰는 함수 (스트림은 저장소가 닫음)
+     */
+    void write(String relativeDir, String fileName, ContentWriter writer) throws IOException;
+
+    @FunctionalInterface
+    interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,118 @@
+package com.newnormallist.crawlerservice.storage;
+
+import com.newnormallist.crawlerservice.config.FtpConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.net.ftp.FTP;
+import org.apache.commons.net.ftp.FTPClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+/**
+ * FTP 저장소 (기본값)
+ * 파일서버의 FTP 서버에 직접 업로드 (Apache Commons Net 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "fileserver.storage.type", havingValue = "ftp", matchIfMissing = true)
+public class FtpFileStorage implements FileStorage {
+
+    private final FtpConfig ftpConfig;
+
+    @Override
+    public void write(String relativeDir, String fileName, ContentWriter writer) throws IOException {
+        String remoteDir = ftpConfig.getBasePath() + "/" + relativeDir;
+        String tempName = "." + fileName + "." + UUID.randomUUID().toString().substring(0, 8) + ".part";
+        FTPClient ftpClient = createClient();
+
+        try {
+            ftpClient.connect(ftpConfig.getServer(), ftpConfig.getPort());
+            if (!ftpClient.login(ftpConfig.getUsername(), ftpConfig.getPassword())) {
+                throw new IOException("FTP 로그인 실패: " + ftpConfig.getUsername());
+            }
+            ftpClient.enterLocalPassiveMode();
+            ftpClient.setFileType(FTP.BINARY_FILE_TYPE);
+            changeDirectory(ftpClient, remoteDir);
+
+            // 임시 이름으로 스트리밍 업로드
+            OutputStream remote = ftpClient.storeFileStream(tempName);
+            if (remote == null) {
+                throw new IOException("FTP 업로드 시작 실패: " + ftpClient.getReplyString());
+            }
+            try (OutputStream out = new BufferedOutputStream(remote)) {
+                writer.writeTo(out);
+            } catch (IOException | RuntimeException e) {
+                // 쓰다 만 임시 파일 정리
+                try {
+                    ftpClient.completePendingCommand();
+                } catch (IOException ignored) {
+                    // 원래 오류를 그대로 전달
+                }
+                deleteQuietly(ftpClient, tempName);
+                throw e;
+            }
+            if (!ftpClient.completePendingCommand()) {
+                deleteQuietly(ftpClient, tempName);
+                throw new IOException("FTP 업로드 실패: " + ftpClient.getReplyString());
+            }
+
+            // 최종 이름으로 변경 (기존 파일을 덮어쓰지 못하는 서버는 삭제 후 변경)
+            if (!ftpClient.rename(tempName, fileName)) {
+                ftpClient.deleteFile(fileName);
+                if (!ftpClient.rename(tempName, fileName)) {
+                    deleteQuietly(ftpClient, tempName);
+                    throw new IOException("FTP 파일 이름 변경 실패: " + ftpClient.getReplyString());
+                }
+            }
+            log.debug("📁 FTP 업로드 완료: {}/{}", remoteDir, fileName);
+
+            ftpClient.logout();
+        } finally {
+            if (ftpClient.isConnected()) {
+                try {
+                    ftpClient.disconnect();
+                } catch (IOException e) {
+                    log.warn("FTP 연결 종료 오류: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * FTP 클라이언트 생성 (테스트에서 교체)
+     */
+    FTPClient createClient() {
+        return new FTPClient();
+    }
+
+    /**
+     * 디렉터리 재귀적 생성 및 이동
+     */
+    private static void changeDirectory(FTPClient ftpClient, String remotePath) throws IOException {
+        for (String dir : remotePath.split("/")) {
+            if (dir.isEmpty()) continue;
+
+            if (!ftpClient.changeWorkingDirectory(dir)) {
+                // 디렉터리가 없으면 생성 (동시에 다른 업로드가 만든 경우도 있으므로 결과 대신 이동 성공 여부로 판단)
+                ftpClient.makeDirectory(dir);
+                if (!ftpClient.changeWorkingDirectory(dir)) {
+                    throw new IOException("FTP 디렉터리 생성/이동 실패: " + dir);
+                }
+            }
+        }
+    }
+
+    private static void deleteQuietly(FTPClient ftpClient, String fileName) {
+        try {
+            ftpClient.deleteFile(fileName);
+        } catch (IOException e) {
+            log.debug("FTP 임시 파일 삭제 실패: {}", fileName);
+        }
+    }
+}
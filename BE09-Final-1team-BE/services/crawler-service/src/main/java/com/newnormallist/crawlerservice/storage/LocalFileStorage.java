@@ -0,0 +1,58 @@
+package com.newnormallist.crawlerservice.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 로컬 디렉터리 저장소
+ * 크롤러가 파일서버와 같은 서버에서 실행될 때, 파일서버가 서비스하는 디렉터리에 직접 기록
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fileserver.storage.type", havingValue = "local")
+public class LocalFileStorage implements FileStorage {
+
+    private final Path root;
+
+    public LocalFileStorage(@Value("${fileserver.storage.local-root:/tmp/news-data}") String localRoot) {
+        this.root = Paths.get(localRoot).toAbsolutePath().normalize();
+        log.info("📁 로컬 파일 저장소 사용: {}", root);
+    }
+
+    @Override
+    public void write(String relativeDir, String fileName, ContentWriter writer) throws IOException {
+        Path dir = root.resolve(relativeDir).normalize();
+        Path target = dir.resolve(fileName).normalize();
+        if (!target.startsWith(root)) {
+            throw new IOException("저장소 밖의 경로입니다: " + relativeDir + "/" + fileName);
+        }
+        Files.createDirectories(dir);
+
+        // 같은 디렉터리에 임시 파일로 쓴 뒤 이름 변경
+        Path temp = Files.createTempFile(dir, "." + fileName + ".", ".part");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                writer.writeTo(out);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            log.debug("📁 로컬 저장 완료: {}", target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
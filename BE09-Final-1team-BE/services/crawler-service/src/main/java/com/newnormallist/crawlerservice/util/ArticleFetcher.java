@@ -0,0 +1,228 @@
+package com.newnormallist.crawlerservice.util;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 뉴스 상세 페이지 수집기
+ *
+ * - 애플리케이션 전체에서 HttpClient 하나를 공유 (keep-alive 연결 재사용, gzip 응답 요청)
+ * - 전체 동시 요청 수는 max-concurrent로 제한 (카테고리와 무관하게 공유)
+ * - 호스트별 토큰 버킷으로 초당 요청 수 제한 (고정 sleep 대신 필요한 만큼만 대기)
+ * - 네트워크 오류, 429, 5xx 응답은 지터를 준 지수 백오프로 재시도
+ */
+@Slf4j
+@Component
+public class ArticleFetcher {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+
+    private final HttpClient httpClient;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final double permitsPerSecond;
+    private final int burst;
+    private final Duration requestTimeout;
+    private final int maxRetries;
+    private final long backoffMs;
+
+    public ArticleFetcher(@Value("${crawler.fetch.max-concurrent:8}") int maxConcurrent,
+                          @Value("${crawler.fetch.queue-capacity:2000}") int queueCapacity,
+                          @Value("${crawler.fetch.per-host-rate:3.0}") double permitsPerSecond,
+                          @Value("${crawler.fetch.per-host-burst:3}") int burst,
+                          @Value("${crawler.fetch.timeout-ms:10000}") long timeoutMs,
+                          @Value("${crawler.fetch.max-retries:2}") int maxRetries,
+                          @Value("${crawler.fetch.backoff-ms:500}") long backoffMs) {
+        this.permitsPerSecond = Math.max(0.1, permitsPerSecond);
+        this.burst = Math.max(1, burst);
+        this.requestTimeout = Duration.ofMillis(timeoutMs);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.backoffMs = Math.max(1L, backoffMs);
+
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(timeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        int threads = Math.max(1, maxConcurrent);
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "article-fetch-" + threadSeq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        log.info("기사 수집기 설정: maxConcurrent={}, perHostRate={}/s, burst={}, maxRetries={}",
+                threads, this.permitsPerSecond, this.burst, this.maxRetries);
+    }
+
+    /**
+     * 페이지를 받아 Jsoup 문서로 반환 (비동기)
+     * 실패 시 future가 예외로 완료됨
+     */
+    public CompletableFuture<Document> fetchDocument(String url) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return fetch(url);
+            } catch (IOException e) {
+                throw new FetchException(url, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FetchException(url, e);
+            }
+        }, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Document fetch(String url) throws IOException, InterruptedException {
+        URI uri = URI.create(url);
+        TokenBucket bucket = buckets.computeIfAbsent(String.valueOf(uri.getHost()),
+                host -> new TokenBucket(permitsPerSecond, burst));
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header("User-Agent", USER_AGENT)
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+
+        for (int attempt = 0; ; attempt++) {
+            bucket.acquire();
+            HttpResponse<byte[]> response;
+            try {
+                response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            } catch (IOException e) {
+                if (attempt >= maxRetries) {
+                    throw e;
+                }
+                log.debug("기사 요청 재시도 예정: {} - {}", url, e.getMessage());
+                Thread.sleep(backoffWithJitter(attempt));
+                continue;
+            }
+
+            int status = response.statusCode();
+            if (status >= 200 && status < 300) {
+                return parse(response, url);
+            }
+            // 429, 5xx만 재시도
+            if (status != 429 && status < 500 || attempt >= maxRetries) {
+                throw new IOException("HTTP " + status);
+            }
+            long retryAfterMs = response.headers().firstValue("Retry-After")
+                    .map(ArticleFetcher::parseRetryAfterMs).orElse(0L);
+            log.debug("기사 요청 재시도 예정: {} - HTTP {}", url, status);
+            Thread.sleep(Math.max(retryAfterMs, backoffWithJitter(attempt)));
+        }
+    }
+
+    // 지수 백오프 (backoff-ms * 2^attempt)의 50~100% 구간에서 무작위 대기
+    private long backoffWithJitter(int attempt) {
+        long max = backoffMs << Math.min(attempt, 10);
+        return max / 2 + ThreadLocalRandom.current().nextLong(max / 2 + 1);
+    }
+
+    private static long parseRetryAfterMs(String value) {
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static Document parse(HttpResponse<byte[]> response, String url) throws IOException {
+        InputStream body = new ByteArrayInputStream(response.body());
+        boolean gzip = response.headers().firstValue("Content-Encoding")
+                .map(v -> v.toLowerCase().contains("gzip")).orElse(false);
+        if (gzip) {
+            body = new GZIPInputStream(body);
+        }
+        // 인코딩은 Content-Type에 있으면 사용, 없으면 Jsoup이 meta 태그로 판별
+        String charset = response.headers().firstValue("Content-Type")
+                .map(ArticleFetcher::charsetOf).orElse(null);
+        try (InputStream in = body) {
+            return Jsoup.parse(in, charset, url);
+        }
+    }
+
+    private static String charsetOf(String contentType) {
+        for (String part : contentType.split(";")) {
+            String trimmed = part.trim();
+            if (trimmed.toLowerCase().startsWith("charset=")) {
+                return trimmed.substring("charset=".length()).replace("\"", "");
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 호스트별 토큰 버킷
+     * 토큰을 먼저 예약하고, 부족하면 채워질 때까지 락 밖에서 대기
+     */
+    private static final class TokenBucket {
+        private final double permitsPerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefill;
+
+        private TokenBucket(double permitsPerSecond, int capacity) {
+            this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.lastRefill = System.nanoTime();
+        }
+
+        void acquire() throws InterruptedException {
+            long waitNanos = reserve();
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        }
+
+        private synchronized long reserve() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+            lastRefill = now;
+            tokens -= 1;
+            return tokens >= 0 ? 0 : (long) (-tokens / permitsPerNano);
+        }
+    }
+
+    /**
+     * 기사 페이지 수집 실패
+     */
+    public static class FetchException extends RuntimeException {
+        public FetchException(String url, Throwable cause) {
+            super("기사 페이지 수집 실패: " + url + " - " + cause.getMessage(), cause);
+        }
+    }
+}
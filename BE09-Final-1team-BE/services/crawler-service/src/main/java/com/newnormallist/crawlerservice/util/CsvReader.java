@@ -0,0 +1,123 @@
+package com.newnormallist.crawlerservice.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 읽기 (레코드 단위 스트리밍)
+ *
+ * - 따옴표로 감싼 필드 안의 쉼표, 줄바꿈(CRLF/LF/CR), ""(따옴표) 처리
+ * - 레코드 구분자는 CRLF, LF, CR 모두 허용하고 빈 줄은 건너뜀
+ * - 따옴표 없는 필드 중간의 따옴표는 글자 그대로 취급 (느슨한 파싱)
+ * - 한 번에 레코드 하나만 메모리에 올림
+ */
+public final class CsvReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int NONE = -2;
+
+    private final Reader in;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private int pushedBack = NONE;
+    private boolean started;
+
+    public CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * 다음 레코드의 필드 목록 반환, 더 이상 없으면 null
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        // 빈 줄 건너뛰기
+        while (c == '\r' || c == '\n') {
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+
+        while (true) {
+            if (inQuotes) {
+                if (c == -1) {
+                    // 닫히지 않은 따옴표: 남은 내용을 마지막 필드로 사용
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pushedBack = next;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c == '"' && field.length() == 0) {
+                inQuotes = true;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        int c = next();
+        // 파일 맨 앞의 BOM 제거
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = next();
+            }
+        }
+        return c;
+    }
+
+    private int next() throws IOException {
+        if (position == limit) {
+            limit = in.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+}
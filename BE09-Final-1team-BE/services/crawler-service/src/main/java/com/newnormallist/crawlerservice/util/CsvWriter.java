@@ -0,0 +1,84 @@
+package com.newnormallist.crawlerservice.util;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 작성기 (레코드 단위 스트리밍)
+ *
+ * - 쉼표, 따옴표, 줄바꿈이 있는 필드만 따옴표로 감싸고 내부 따옴표는 ""로 이스케이프 (Python csv 모듈 기본값과 동일)
+ * - 줄바꿈은 이스케이프하지 않고 따옴표 안에 그대로 기록
+ * - 레코드 구분자는 CRLF, null 필드는 빈 문자열
+ * - 고정 크기 버퍼로 바로 내보내므로 파일 전체를 메모리에 만들지 않음
+ */
+public final class CsvWriter implements Closeable, Flushable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Writer out;
+
+    public CsvWriter(Writer out) {
+        this.out = out instanceof BufferedWriter ? out : new BufferedWriter(out, BUFFER_SIZE);
+    }
+
+    public void writeRecord(Object... fields) throws IOException {
+        // 빈 필드 하나뿐인 레코드는 빈 줄과 구분되도록 따옴표로 기록
+        if (fields.length == 1 && (fields[0] == null || fields[0].toString().isEmpty())) {
+            out.write("\"\"\r\n");
+            return;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeField(fields[i] != null ? fields[i].toString() : "");
+        }
+        out.write("\r\n");
+    }
+
+    public void writeRecord(List<?> fields) throws IOException {
+        writeRecord(fields.toArray());
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (!needsQuoting(value)) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '"') {
+                out.write(value, start, i - start + 1);
+                out.write('"');
+                start = i + 1;
+            }
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,16 +1,17 @@
 package com.newnormallist.crawlerservice.util;
 
 import com.newnormallist.crawlerservice.dto.NewsDetail;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
@@ -24,13 +25,14 @@ import java.util.concurrent.*;
  * 
  * 역할:
  * - 네이버 뉴스 사이트에서 실제 뉴스 데이터 수집
- * - Selenium WebDriver 기반 동적 웹 크롤링
+ * - Selenium WebDriver 기반 동적 웹 크롤링 (브라우저는 WebDriverPool에서 빌려 재사용)
  * - 카테고리별 뉴스 목록 및 상세 정보 추출
  * 
  * 기능:
  * - 뉴스 목록 크롤링: 카테고리별 뉴스 링크 및 기본 정보 수집
  * - 뉴스 상세 크롤링: 개별 뉴스의 본문, 이미지, 메타데이터 추출
- * - 더보기 버튼 자동 클릭: 목표 개수(100개)까지 뉴스 수집
+ * - 더보기 버튼 자동 클릭: 새 기사가 로드되는 것을 확인하며 클릭, 이전 크롤링 지점에 도달하면 중단
+ *   (중단 지점은 수집한 기사가 저장된 뒤 commitWatermarks()로 확정해야 다음 크롤링에 반영)
  * - 언론사 필터링: 신뢰할 수 있는 언론사만 선별
  * - 오류 처리: 네트워크 오류, 페이지 로딩 실패 등 예외 상황 대응
  */
@@ -54,14 +56,55 @@ public class NaverNewsCrawler {
             "블로터", "전자신문", "지디넷코리아"
     );
 
+    // 목록의 기사 요소 (페이지 구조에 따라 선택자가 달라 모두 포함)
+    private static final String ARTICLE_SELECTOR = "#newsct div.section_latest_article ul li, .sa_item, .section_latest li";
+
+    private static final String[] MORE_BUTTON_SELECTORS = {
+            "#newsct > div.section_latest > div > div.section_more > a",
+            "button.sa_more_btn",
+            ".sa_more_btn",
+            "button[class*='more']",
+            "a[class*='more']",
+            ".more_wrap button",
+            ".sa_more"
+    };
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+    private static final long MIN_MORE_WAIT_MS = 500;
+    // URL별로 기억하는 최신 기사 링크 수 (다음 크롤링의 중단 지점)
+    private static final int WATERMARK_SIZE = 20;
+
+    private final WebDriverPool webDriverPool;
+    private final MeterRegistry meterRegistry;
+    private final long moreWaitMs;
+    private final boolean stopAtWatermark;
+
+    // 목록 URL -> 저장까지 끝난 직전 크롤링에서 본 최신 기사 링크
+    private final Map<String, Set<String>> watermarks = new ConcurrentHashMap<>();
+    // 카테고리 -> (목록 URL -> 이번 크롤링에서 본 최신 기사 링크), 저장이 끝나면 watermarks로 확정
+    private final Map<String, Map<String, Set<String>>> pendingWatermarks = new ConcurrentHashMap<>();
+
+    public NaverNewsCrawler(WebDriverPool webDriverPool,
+                            MeterRegistry meterRegistry,
+                            @Value("${crawler.list.more-wait-ms:5000}") long moreWaitMs,
+                            @Value("${crawler.list.stop-at-watermark:true}") boolean stopAtWatermark) {
+        this.webDriverPool = webDriverPool;
+        this.meterRegistry = meterRegistry;
+        this.moreWaitMs = Math.max(MIN_MORE_WAIT_MS, moreWaitMs);
+        this.stopAtWatermark = stopAtWatermark;
+    }
+
     /**
      * 모든 카테고리 크롤링 실행
      */
     public Map<String, List<NewsDetail>> crawlAllCategories(int targetCount) {
         log.info("모든 카테고리 크롤링 시작 - 목표: {}개씩", targetCount);
+        // 이전 실행에서 저장되지 못한 중단 지점은 버림
+        pendingWatermarks.clear();
 
         Map<String, List<NewsDetail>> results = new ConcurrentHashMap<>();
-        ExecutorService executor = Executors.newFixedThreadPool(3);
+        // 동시 크롤링 수는 브라우저 풀 크기에 맞춤
+        ExecutorService executor = Executors.newFixedThreadPool(webDriverPool.getPoolSize());
         List<Future<?>> futures = new ArrayList<>();
 
         // 기본 카테고리 크롤링
@@ -105,89 +148,193 @@ public class NaverNewsCrawler {
     private List<NewsDetail> crawlCategory(int categoryCode, String categoryName, int targetCount) {
         log.info("{} 카테고리 크롤링 시작 - 목표: {}개", categoryName, targetCount);
 
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--headless", "--disable-gpu", "--no-sandbox", "--disable-dev-shm-usage");
-
-        WebDriver driver = new ChromeDriver(options);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
         Set<String> collectedLinks = new HashSet<>();
         List<NewsDetail> newsList = new ArrayList<>();
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
         try {
-            String url = "https://news.naver.com/section/" + categoryCode;
-            driver.get(url);
+            webDriverPool.run(driver -> collectCategory(driver, categoryCode, categoryName, targetCount, collectedLinks, newsList));
+        } catch (Exception e) {
+            result = "failure";
+            log.error("❌ {} 카테고리 크롤링 실패: {}", categoryName, e.getMessage(), e);
+        } finally {
+            recordCrawlTime(sample, categoryName, result);
+        }
+
+        log.info("📊 {} 카테고리 크롤링 결과: {}개 수집", categoryName, newsList.size());
+        return newsList;
+    }
+
+    private void collectCategory(WebDriver driver, int categoryCode, String categoryName, int targetCount,
+                                 Set<String> collectedLinks, List<NewsDetail> newsList) {
+        String url = "https://news.naver.com/section/" + categoryCode;
+        driver.get(url);
 
-            // 더보기 버튼을 여러 번 클릭하여 충분한 기사 로드
-            int clickCount = 0;
-            int maxClicks = 10; // 최대 10번 클릭
+        // 더보기 버튼을 여러 번 클릭하여 충분한 기사 로드 (최대 10번)
+        loadMoreArticles(driver, categoryName, url, 10);
 
-            while (clickCount < maxClicks) {
-                if (!clickMoreButton(wait)) {
-                    log.info("더보기 버튼 클릭 실패 또는 버튼 없음 ({}번째 시도)", clickCount + 1);
-                    break;
+        // 페이지 소스는 카테고리당 한 번만 가져옴
+        String pageSource = driver.getPageSource();
+        Document doc = Jsoup.parse(pageSource);
+        Elements articles = doc.select("#newsct div.section_latest_article ul li");
+
+        // 다른 선택자도 시도
+        if (articles.isEmpty()) {
+            articles = doc.select(".sa_item");
+        }
+        if (articles.isEmpty()) {
+            articles = doc.select(".section_latest li");
+        }
+
+        log.info("🔍 {} 카테고리 URL: {}", categoryName, url);
+        log.info("🔍 전체 페이지 크기: {} bytes", pageSource.length());
+        log.info("🔍 찾은 기사 요소 개수: {}", articles.size());
+        recordWatermark(categoryName, url, articles);
+
+        // 첫 번째 기사 요소의 HTML 구조 확인 (디버깅용)
+        if (!articles.isEmpty()) {
+            log.info("🔍 첫 번째 기사 요소 HTML: {}", articles.first().outerHtml().substring(0, Math.min(500, articles.first().outerHtml().length())));
+        }
+
+        for (Element article : articles) {
+            if (collectedLinks.size() >= targetCount) break;
+
+            try {
+                Element linkElement = article.selectFirst("a");
+                if (linkElement == null) {
+                    log.debug("❌ 링크 요소 없음");
+                    continue;
+                }
+                String link = linkElement.attr("href");
+                if (link.isEmpty() || collectedLinks.contains(link)) {
+                    log.debug("❌ 빈 링크 또는 중복: {}", link);
+                    continue;
                 }
-                clickCount++;
-                log.info("더보기 버튼 {}번째 클릭 완료", clickCount);
+                Element titleElement = article.selectFirst("strong");
+                if (titleElement == null) {
+                    log.debug("❌ 제목 요소 없음");
+                    continue;
+                }
+                String title = titleElement.text().trim();
+                if (title.isEmpty()) {
+                    log.debug("❌ 빈 제목");
+                    continue;
+                }
+                
+                // 대괄호 안에 "시사", "칼럼", "컬럼" 등이 포함된 기사 필터링
+                if (containsFilteredKeywords(title)) {
+                    log.info("🚫 필터링된 기사: {}", title);
+                    continue;
+                }
+                // 다양한 언론사 선택자 시도
+                Element pressElement = article.selectFirst("span.press");
+                if (pressElement == null) {
+                    pressElement = article.selectFirst(".press");
+                }
+                if (pressElement == null) {
+                    pressElement = article.selectFirst("em");
+                }
+                if (pressElement == null) {
+                    pressElement = article.selectFirst(".sa_text_press");
+                }
+                String press = pressElement != null ? pressElement.text().trim() : "알 수 없음";
 
-                // 클릭 후 잠시 대기
-                try {
-                    Thread.sleep(2000);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
+                log.info("🔍 발견된 언론사: '{}', 제목: '{}'", press, title.substring(0, Math.min(title.length(), 30)));
+
+                // 허용된 언론사만 수집
+                if (!ALLOWED_PRESSES.contains(press)) {
+                    log.info("❌ 허용되지 않은 언론사: '{}'", press);
+                    continue;
                 }
-            }
 
-            Document doc = Jsoup.parse(driver.getPageSource());
-            Elements articles = doc.select("#newsct div.section_latest_article ul li");
+                collectedLinks.add(link);
 
-            // 다른 선택자도 시도
-            if (articles.isEmpty()) {
-                articles = doc.select(".sa_item");
-            }
-            if (articles.isEmpty()) {
-                articles = doc.select(".section_latest li");
-            }
+                NewsDetail news = NewsDetail.builder()
+                        .link(link)
+                        .title(title)
+                        .press(press)
+                        .categoryName(categoryName)      // 카테고리명 설정
+                        .createdAt(LocalDateTime.now())
+                        .build();
 
-            log.info("🔍 {} 카테고리 URL: {}", categoryName, url);
-            log.info("🔍 전체 페이지 크기: {} bytes", driver.getPageSource().length());
-            log.info("🔍 찾은 기사 요소 개수: {}", articles.size());
+                newsList.add(news);
 
-            // 첫 번째 기사 요소의 HTML 구조 확인 (디버깅용)
-            if (!articles.isEmpty()) {
-                log.info("🔍 첫 번째 기사 요소 HTML: {}", articles.first().outerHtml().substring(0, Math.min(500, articles.first().outerHtml().length())));
+            } catch (Exception e) {
+                log.warn("기사 파싱 실패: {}", e.getMessage());
             }
+        }
+    }
+
+    /**
+     * 추가 카테고리 크롤링 (자동차, 생활, 여행, 예술)
+     */
+    private List<NewsDetail> crawlAdditionalCategory(String categoryName, int targetCount) {
+        log.info("{} 카테고리 크롤링 시작", categoryName);
+
+        Set<String> collectedLinks = new HashSet<>();
+        List<NewsDetail> newsList = new ArrayList<>();
+
+        // 카테고리별 URL과 개수 매핑
+        CategoryCrawlConfig config = getCategoryCrawlConfig(categoryName);
+        if (config == null) {
+            log.error("{} 카테고리 설정을 찾을 수 없습니다", categoryName);
+            return newsList;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        try {
+            webDriverPool.run(driver -> collectAdditionalCategory(driver, categoryName, config, collectedLinks, newsList));
+        } catch (Exception e) {
+            result = "failure";
+            log.error("{} 카테고리 크롤링 실패: {}", categoryName, e.getMessage(), e);
+        } finally {
+            recordCrawlTime(sample, categoryName, result);
+        }
+
+        log.info("{} 카테고리 크롤링 결과: {}개 수집", categoryName, newsList.size());
+        return newsList;
+    }
+
+    private void collectAdditionalCategory(WebDriver driver, String categoryName, CategoryCrawlConfig config,
+                                           Set<String> collectedLinks, List<NewsDetail> newsList) {
+        for (UrlConfig urlConfig : config.getUrls()) {
+            if (collectedLinks.size() >= config.getTotalTarget()) break;
+
+            log.info("{} 카테고리 {} 크롤링 중: {}개 목표", categoryName, urlConfig.getUrl(), urlConfig.getTargetCount());
+
+            driver.get(urlConfig.getUrl());
+
+            // 더보기 버튼을 여러 번 클릭하여 충분한 기사 로드 (추가 카테고리는 최대 5번)
+            loadMoreArticles(driver, categoryName, urlConfig.getUrl(), 5);
+
+            Document doc = Jsoup.parse(driver.getPageSource());
+            Elements articles = doc.select("#newsct div.section_latest_article ul li");
+            recordWatermark(categoryName, urlConfig.getUrl(), articles);
 
             for (Element article : articles) {
-                if (collectedLinks.size() >= targetCount) break;
+                if (collectedLinks.size() >= urlConfig.getTargetCount()) break;
 
                 try {
                     Element linkElement = article.selectFirst("a");
-                    if (linkElement == null) {
-                        log.debug("❌ 링크 요소 없음");
-                        continue;
-                    }
+                    if (linkElement == null) continue;
+
                     String link = linkElement.attr("href");
-                    if (link.isEmpty() || collectedLinks.contains(link)) {
-                        log.debug("❌ 빈 링크 또는 중복: {}", link);
-                        continue;
-                    }
+                    if (link.isEmpty() || collectedLinks.contains(link)) continue;
+
                     Element titleElement = article.selectFirst("strong");
-                    if (titleElement == null) {
-                        log.debug("❌ 제목 요소 없음");
-                        continue;
-                    }
+                    if (titleElement == null) continue;
+
                     String title = titleElement.text().trim();
-                    if (title.isEmpty()) {
-                        log.debug("❌ 빈 제목");
-                        continue;
-                    }
+                    if (title.isEmpty()) continue;
                     
                     // 대괄호 안에 "시사", "칼럼", "컬럼" 등이 포함된 기사 필터링
                     if (containsFilteredKeywords(title)) {
                         log.info("🚫 필터링된 기사: {}", title);
                         continue;
                     }
+
                     // 다양한 언론사 선택자 시도
                     Element pressElement = article.selectFirst("span.press");
                     if (pressElement == null) {
@@ -201,13 +348,8 @@ public class NaverNewsCrawler {
                     }
                     String press = pressElement != null ? pressElement.text().trim() : "알 수 없음";
 
-                    log.info("🔍 발견된 언론사: '{}', 제목: '{}'", press, title.substring(0, Math.min(title.length(), 30)));
-
                     // 허용된 언론사만 수집
-                    if (!ALLOWED_PRESSES.contains(press)) {
-                        log.info("❌ 허용되지 않은 언론사: '{}'", press);
-                        continue;
-                    }
+                    if (!ALLOWED_PRESSES.contains(press)) continue;
 
                     collectedLinks.add(link);
 
@@ -225,135 +367,7 @@ public class NaverNewsCrawler {
                     log.warn("기사 파싱 실패: {}", e.getMessage());
                 }
             }
-
-        } catch (Exception e) {
-            log.error("❌ {} 카테고리 크롤링 실패: {}", categoryName, e.getMessage(), e);
-        } finally {
-            driver.quit();
         }
-
-        log.info("📊 {} 카테고리 크롤링 결과: {}개 수집", categoryName, newsList.size());
-        return newsList;
-    }
-
-    /**
-     * 추가 카테고리 크롤링 (자동차, 생활, 여행, 예술)
-     */
-    private List<NewsDetail> crawlAdditionalCategory(String categoryName, int targetCount) {
-        log.info("{} 카테고리 크롤링 시작", categoryName);
-
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--headless", "--disable-gpu", "--no-sandbox", "--disable-dev-shm-usage");
-
-        WebDriver driver = new ChromeDriver(options);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
-        Set<String> collectedLinks = new HashSet<>();
-        List<NewsDetail> newsList = new ArrayList<>();
-
-        try {
-            // 카테고리별 URL과 개수 매핑
-            CategoryCrawlConfig config = getCategoryCrawlConfig(categoryName);
-            if (config == null) {
-                log.error("{} 카테고리 설정을 찾을 수 없습니다", categoryName);
-                return newsList;
-            }
-
-            for (UrlConfig urlConfig : config.getUrls()) {
-                if (collectedLinks.size() >= config.getTotalTarget()) break;
-
-                log.info("{} 카테고리 {} 크롤링 중: {}개 목표", categoryName, urlConfig.getUrl(), urlConfig.getTargetCount());
-
-                driver.get(urlConfig.getUrl());
-                Thread.sleep(2000); // 페이지 로딩 대기
-
-                // 더보기 버튼을 여러 번 클릭하여 충분한 기사 로드
-                int clickCount = 0;
-                int maxClicks = 5; // 추가 카테고리는 최대 5번 클릭
-
-                while (clickCount < maxClicks) {
-                    if (!clickMoreButton(wait)) {
-                        log.info("더보기 버튼 클릭 실패 또는 버튼 없음 ({}번째 시도)", clickCount + 1);
-                        break;
-                    }
-                    clickCount++;
-                    log.info("더보기 버튼 {}번째 클릭 완료", clickCount);
-
-                    // 클릭 후 잠시 대기
-                    try {
-                        Thread.sleep(2000);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
-                }
-
-                Document doc = Jsoup.parse(driver.getPageSource());
-                Elements articles = doc.select("#newsct div.section_latest_article ul li");
-
-                for (Element article : articles) {
-                    if (collectedLinks.size() >= urlConfig.getTargetCount()) break;
-
-                    try {
-                        Element linkElement = article.selectFirst("a");
-                        if (linkElement == null) continue;
-
-                        String link = linkElement.attr("href");
-                        if (link.isEmpty() || collectedLinks.contains(link)) continue;
-
-                        Element titleElement = article.selectFirst("strong");
-                        if (titleElement == null) continue;
-
-                        String title = titleElement.text().trim();
-                        if (title.isEmpty()) continue;
-                        
-                        // 대괄호 안에 "시사", "칼럼", "컬럼" 등이 포함된 기사 필터링
-                        if (containsFilteredKeywords(title)) {
-                            log.info("🚫 필터링된 기사: {}", title);
-                            continue;
-                        }
-
-                        // 다양한 언론사 선택자 시도
-                        Element pressElement = article.selectFirst("span.press");
-                        if (pressElement == null) {
-                            pressElement = article.selectFirst(".press");
-                        }
-                        if (pressElement == null) {
-                            pressElement = article.selectFirst("em");
-                        }
-                        if (pressElement == null) {
-                            pressElement = article.selectFirst(".sa_text_press");
-                        }
-                        String press = pressElement != null ? pressElement.text().trim() : "알 수 없음";
-
-                        // 허용된 언론사만 수집
-                        if (!ALLOWED_PRESSES.contains(press)) continue;
-
-                        collectedLinks.add(link);
-
-                        NewsDetail news = NewsDetail.builder()
-                                .link(link)
-                                .title(title)
-                                .press(press)
-                                .categoryName(categoryName)      // 카테고리명 설정
-                                .createdAt(LocalDateTime.now())
-                                .build();
-
-                        newsList.add(news);
-
-                    } catch (Exception e) {
-                        log.warn("기사 파싱 실패: {}", e.getMessage());
-                    }
-                }
-            }
-
-        } catch (Exception e) {
-            log.error("{} 카테고리 크롤링 실패: {}", categoryName, e.getMessage(), e);
-        } finally {
-            driver.quit();
-        }
-
-        log.info("{} 카테고리 크롤링 결과: {}개 수집", categoryName, newsList.size());
-        return newsList;
     }
 
     /**
@@ -450,41 +464,165 @@ public class NaverNewsCrawler {
     }
 
     /**
-     * 더보기 버튼 클릭
+     * 더보기 버튼으로 기사 목록을 추가로 불러옴 (고정 대기 없이 조건 기반 대기)
+     * - 클릭 후 기사 개수가 늘어나거나 버튼이 사라질 때까지만 대기
+     * - 대기 시간은 직전 로딩 시간의 3배로 조정 (최소 MIN_MORE_WAIT_MS, 최대 more-wait-ms)
+     * - 직전 크롤링에서 본 기사(워터마크)가 목록에 나타나면 그 뒤는 이미 수집한 기사이므로 중단
      */
-    private boolean clickMoreButton(WebDriverWait wait) {
+    private void loadMoreArticles(WebDriver driver, String categoryName, String url, int maxClicks) {
+        Set<String> watermark = stopAtWatermark ? watermarks.getOrDefault(url, Set.of()) : Set.of();
+        long timeoutMs = moreWaitMs;
+        int count = waitForArticles(driver, timeoutMs);
+        int checked = 0;
+        int clickCount = 0;
+        String stopReason = "최대 클릭 수 도달";
+
+        while (clickCount < maxClicks) {
+            if (reachedWatermark(driver, checked, watermark)) {
+                stopReason = "이전 크롤링 지점 도달";
+                break;
+            }
+            checked = count;
+
+            WebElement moreButton = findMoreButton(driver);
+            if (moreButton == null) {
+                stopReason = "더보기 버튼 없음";
+                break;
+            }
+
+            final int before = count;
+            long startTime = System.currentTimeMillis();
+            try {
+                moreButton.click();
+                new WebDriverWait(driver, Duration.ofMillis(timeoutMs), POLL_INTERVAL)
+                        .until(d -> countArticles(d) > before || findMoreButton(d) == null);
+            } catch (TimeoutException e) {
+                stopReason = "추가 기사 로딩 대기 시간 초과 (" + timeoutMs + "ms)";
+                break;
+            } catch (WebDriverException e) {
+                stopReason = "더보기 버튼 클릭 실패: " + e.getMessage();
+                break;
+            }
+            clickCount++;
+
+            count = countArticles(driver);
+            if (count <= before) {
+                stopReason = "추가 기사 없음";
+                break;
+            }
+            long elapsed = System.currentTimeMillis() - startTime;
+            timeoutMs = Math.min(moreWaitMs, Math.max(MIN_MORE_WAIT_MS, elapsed * 3));
+        }
+
+        log.info("{} 더보기 {}회 클릭, 기사 요소 {}개 - 종료 사유: {}", categoryName, clickCount, count, stopReason);
+    }
+
+    /**
+     * 첫 기사 목록이 나타날 때까지 대기 후 기사 요소 개수 반환
+     */
+    private int waitForArticles(WebDriver driver, long timeoutMs) {
         try {
-            // 여러 가지 더보기 버튼 선택자 시도
-            String[] moreButtonSelectors = {
-                    "#newsct > div.section_latest > div > div.section_more > a",
-                    "button.sa_more_btn",
-                    ".sa_more_btn",
-                    "button[class*='more']",
-                    "a[class*='more']",
-                    ".more_wrap button",
-                    ".sa_more"
-            };
+            new WebDriverWait(driver, Duration.ofMillis(timeoutMs), POLL_INTERVAL)
+                    .until(d -> countArticles(d) > 0);
+        } catch (TimeoutException e) {
+            log.warn("기사 목록 로딩 대기 시간 초과: {}", driver.getCurrentUrl());
+        }
+        return countArticles(driver);
+    }
 
-            for (String selector : moreButtonSelectors) {
-                try {
-                    WebElement moreButton = wait.until(ExpectedConditions.elementToBeClickable(
-                            By.cssSelector(selector)
-                    ));
-                    moreButton.click();
-                    log.debug("더보기 버튼 클릭 성공: {}", selector);
-                    Thread.sleep(1000);
+    private static int countArticles(WebDriver driver) {
+        Object count = ((JavascriptExecutor) driver).executeScript(
+                "return document.querySelectorAll(arguments[0]).length;", ARTICLE_SELECTOR);
+        return count instanceof Number number ? number.intValue() : 0;
+    }
+
+    /**
+     * from번째 이후 기사 중 워터마크에 있는 링크가 있는지 확인
+     */
+    private static boolean reachedWatermark(WebDriver driver, int from, Set<String> watermark) {
+        if (watermark.isEmpty()) {
+            return false;
+        }
+        Object links = ((JavascriptExecutor) driver).executeScript(
+                "return Array.from(document.querySelectorAll(arguments[0])).slice(arguments[1])"
+                        + ".map(li => { const a = li.querySelector('a'); return a ? a.getAttribute('href') : null; });",
+                ARTICLE_SELECTOR, from);
+        if (links instanceof List<?> list) {
+            for (Object link : list) {
+                if (link != null && watermark.contains(link.toString())) {
                     return true;
-                } catch (Exception e) {
-                    log.debug("더보기 버튼 선택자 실패: {}", selector);
-                    continue;
                 }
             }
+        }
+        return false;
+    }
 
-            log.debug("모든 더보기 버튼 선택자 실패");
-            return false;
-        } catch (Exception e) {
-            log.debug("더보기 버튼 클릭 중 오류: {}", e.getMessage());
-            return false;
+    /**
+     * 수집한 기사가 저장된 뒤 호출: 이번 크롤링에서 본 최신 기사 링크를 다음 크롤링의 중단 지점으로 확정
+     * 저장 전에 확정하면 저장에 실패한 기사를 다음 크롤링에서 건너뛰게 됨
+     */
+    public void commitWatermarks() {
+        int committed = 0;
+        for (String category : new ArrayList<>(pendingWatermarks.keySet())) {
+            Map<String, Set<String>> byUrl = pendingWatermarks.remove(category);
+            if (byUrl != null) {
+                watermarks.putAll(byUrl);
+                committed += byUrl.size();
+            }
         }
+        log.info("크롤링 중단 지점 확정: 목록 URL {}개", committed);
+    }
+
+    /**
+     * 저장에 실패한 카테고리의 중단 지점은 확정하지 않음 (다음 크롤링에서 다시 수집)
+     */
+    public void discardWatermarks(String categoryName) {
+        if (pendingWatermarks.remove(categoryName) != null) {
+            log.info("{} 카테고리 크롤링 중단 지점 폐기 (저장 실패)", categoryName);
+        }
+    }
+
+    /**
+     * 이번에 본 목록의 최신 기사 링크를 확정 대기 중인 중단 지점으로 기록
+     */
+    private void recordWatermark(String categoryName, String url, Elements articles) {
+        Set<String> latest = new HashSet<>();
+        for (Element article : articles) {
+            if (latest.size() >= WATERMARK_SIZE) break;
+            Element linkElement = article.selectFirst("a");
+            if (linkElement != null && !linkElement.attr("href").isEmpty()) {
+                latest.add(linkElement.attr("href"));
+            }
+        }
+        if (!latest.isEmpty()) {
+            pendingWatermarks.computeIfAbsent(categoryName, k -> new ConcurrentHashMap<>()).put(url, latest);
+        }
+    }
+
+    /**
+     * 화면에 보이는 더보기 버튼 찾기 (없으면 null, 대기하지 않음)
+     */
+    private static WebElement findMoreButton(WebDriver driver) {
+        for (String selector : MORE_BUTTON_SELECTORS) {
+            for (WebElement button : driver.findElements(By.cssSelector(selector))) {
+                try {
+                    if (button.isDisplayed() && button.isEnabled()) {
+                        return button;
+                    }
+                } catch (StaleElementReferenceException e) {
+                    log.debug("더보기 버튼 요소가 갱신됨: {}", selector);
+                }
+            }
+        }
+        return null;
+    }
+
+    private void recordCrawlTime(Timer.Sample sample, String categoryName, String result) {
+        long nanos = sample.stop(Timer.builder("crawler.list.category.duration")
+                .description("카테고리별 뉴스 목록 크롤링 소요 시간")
+                .tag("category", categoryName)
+                .tag("result", result)
+                .register(meterRegistry));
+        log.info("{} 카테고리 목록 크롤링 소요 시간: {}ms", categoryName, TimeUnit.NANOSECONDS.toMillis(nanos));
     }
 }
@@ -0,0 +1,191 @@
+package com.newnormallist.crawlerservice.util;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 헤드리스 브라우저(WebDriver) 풀
+ *
+ * - 최대 size개의 브라우저를 필요할 때 띄우고, 작업이 끝나면 닫지 않고 다음 작업에 재사용
+ * - 빌려줄 때 세션이 살아 있는지 확인하고, 죽은 브라우저(크래시/세션 만료)는 폐기 후 새로 띄움
+ * - 작업 중 브라우저가 죽었거나 max-sessions-per-driver번 사용한 브라우저는 반납 시 종료 (메모리 누수 방지)
+ * - 반납 시 쿠키를 지우고 빈 페이지로 이동해 이전 작업 상태를 남기지 않음
+ */
+@Slf4j
+@Component
+public class WebDriverPool {
+
+    private static final Duration PAGE_LOAD_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Supplier<WebDriver> driverFactory;
+    private final int poolSize;
+    private final long borrowTimeoutMs;
+    private final int maxSessionsPerDriver;
+
+    private final BlockingQueue<PooledDriver> idle = new LinkedBlockingQueue<>();
+    private final Semaphore permits;
+    private volatile boolean closed;
+
+    @Autowired
+    public WebDriverPool(@Value("${crawler.browser-pool.size:0}") int size,
+                         @Value("${crawler.browser-pool.borrow-timeout-ms:600000}") long borrowTimeoutMs,
+                         @Value("${crawler.browser-pool.max-sessions-per-driver:50}") int maxSessionsPerDriver) {
+        this(WebDriverPool::createChromeDriver, size, borrowTimeoutMs, maxSessionsPerDriver);
+    }
+
+    /**
+     * 드라이버 생성 방식을 지정하는 생성자 (Chrome 없이 가짜 드라이버로 풀 동작을 확인할 때 사용)
+     */
+    WebDriverPool(Supplier<WebDriver> driverFactory, int size, long borrowTimeoutMs, int maxSessionsPerDriver) {
+        this.driverFactory = driverFactory;
+        // 0이면 코어 수의 절반 (브라우저 하나가 코어 하나 이상을 씀)
+        this.poolSize = size > 0 ? size : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.borrowTimeoutMs = borrowTimeoutMs;
+        this.maxSessionsPerDriver = Math.max(1, maxSessionsPerDriver);
+        this.permits = new Semaphore(poolSize, true);
+        log.info("브라우저 풀 설정: size={}, maxSessionsPerDriver={}", poolSize, this.maxSessionsPerDriver);
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * 풀에서 브라우저를 빌려 작업을 수행하고 반납합니다.
+     */
+    public <T> T execute(Function<WebDriver, T> work) {
+        PooledDriver pooled = borrow();
+        boolean reusable = false;
+        try {
+            T result = work.apply(pooled.driver);
+            reusable = true;
+            return result;
+        } catch (RuntimeException e) {
+            // 페이지 오류면 세션은 재사용, 브라우저가 죽었으면 폐기
+            reusable = isAlive(pooled.driver);
+            throw e;
+        } finally {
+            release(pooled, reusable);
+        }
+    }
+
+    public void run(Consumer<WebDriver> work) {
+        execute(driver -> {
+            work.accept(driver);
+            return null;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        PooledDriver pooled;
+        while ((pooled = idle.poll()) != null) {
+            quit(pooled);
+        }
+    }
+
+    private PooledDriver borrow() {
+        if (closed) {
+            throw new IllegalStateException("브라우저 풀이 종료되었습니다.");
+        }
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("사용 가능한 브라우저 대기 시간을 초과했습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("브라우저 대기 중 인터럽트되었습니다.", e);
+        }
+
+        try {
+            PooledDriver pooled;
+            while ((pooled = idle.poll()) != null) {
+                if (isAlive(pooled.driver)) {
+                    return pooled;
+                }
+                log.warn("응답 없는 브라우저 세션을 폐기합니다. (사용 {}회)", pooled.uses);
+                quit(pooled);
+            }
+            long startTime = System.currentTimeMillis();
+            pooled = new PooledDriver(driverFactory.get());
+            log.info("브라우저 시작: {}ms", System.currentTimeMillis() - startTime);
+            return pooled;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void release(PooledDriver pooled, boolean reusable) {
+        try {
+            pooled.uses++;
+            if (closed || !reusable || pooled.uses >= maxSessionsPerDriver) {
+                quit(pooled);
+                return;
+            }
+            try {
+                pooled.driver.manage().deleteAllCookies();
+                pooled.driver.get("about:blank");
+            } catch (WebDriverException e) {
+                log.warn("브라우저 초기화 실패, 폐기합니다: {}", e.getMessage());
+                quit(pooled);
+                return;
+            }
+            idle.offer(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private static void quit(PooledDriver pooled) {
+        try {
+            pooled.driver.quit();
+        } catch (Exception e) {
+            log.debug("브라우저 종료 중 오류: {}", e.getMessage());
+        }
+    }
+
+    private static WebDriver createChromeDriver() {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless", "--disable-gpu", "--no-sandbox", "--disable-dev-shm-usage");
+        ChromeDriver driver = new ChromeDriver(options);
+        // 멈춘 페이지가 브라우저를 계속 붙잡지 않도록 로딩 시간 제한
+        driver.manage().timeouts().pageLoadTimeout(PAGE_LOAD_TIMEOUT);
+        return driver;
+    }
+
+    private static final class PooledDriver {
+        private final WebDriver driver;
+        private int uses;
+
+        private PooledDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+}
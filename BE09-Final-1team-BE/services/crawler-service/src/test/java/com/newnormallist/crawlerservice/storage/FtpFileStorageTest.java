@@ -0,0 +1,108 @@
+package com.newnormallist.crawlerservice.storage;
+
+import com.newnormallist.crawlerservice.config.FtpConfig;
+import org.apache.commons.net.ftp.FTPClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FtpFileStorageTest {
+
+    private final ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+    private FTPClient ftpClient;
+    private FtpFileStorage storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        FtpConfig config = new FtpConfig();
+        config.setServer("localhost");
+        config.setPort(21);
+        config.setUsername("crawler");
+        config.setPassword("secret");
+        config.setBasePath("/1");
+
+        ftpClient = mock(FTPClient.class);
+        when(ftpClient.login("crawler", "secret")).thenReturn(true);
+        when(ftpClient.changeWorkingDirectory(anyString())).thenReturn(true);
+        when(ftpClient.storeFileStream(anyString())).thenReturn(uploaded);
+        when(ftpClient.completePendingCommand()).thenReturn(true);
+        when(ftpClient.rename(anyString(), anyString())).thenReturn(true);
+
+        storage = new FtpFileStorage(config) {
+            @Override
+            FTPClient createClient() {
+                return ftpClient;
+            }
+        };
+    }
+
+    @Test
+    void uploadsUnderTempNameThenRenames() throws IOException {
+        storage.write("pm/2025-08-19_pm/list", "politics_list.csv",
+                out -> out.write("title\n기사\n".getBytes(StandardCharsets.UTF_8)));
+
+        ArgumentCaptor<String> tempName = ArgumentCaptor.forClass(String.class);
+        InOrder order = inOrder(ftpClient);
+        order.verify(ftpClient).changeWorkingDirectory("list");
+        order.verify(ftpClient).storeFileStream(tempName.capture());
+        order.verify(ftpClient).completePendingCommand();
+        order.verify(ftpClient).rename(tempName.getValue(), "politics_list.csv");
+
+        assertThat(tempName.getValue()).startsWith(".politics_list.csv.").endsWith(".part");
+        assertThat(uploaded.toString(StandardCharsets.UTF_8)).isEqualTo("title\n기사\n");
+    }
+
+    @Test
+    void existingFileIsDeletedWhenServerCannotRenameOverIt() throws IOException {
+        when(ftpClient.rename(anyString(), eq("a.csv"))).thenReturn(false, true);
+
+        storage.write("list", "a.csv", out -> out.write(1));
+
+        InOrder order = inOrder(ftpClient);
+        order.verify(ftpClient).rename(anyString(), eq("a.csv"));
+        order.verify(ftpClient).deleteFile("a.csv");
+        order.verify(ftpClient).rename(anyString(), eq("a.csv"));
+    }
+
+    @Test
+    void failedWriteDeletesTempFileAndNeverRenames() throws IOException {
+        assertThatThrownBy(() -> storage.write("list", "a.csv", out -> {
+            out.write(1);
+            throw new IOException("크롤링 중단");
+        })).isInstanceOf(IOException.class).hasMessage("크롤링 중단");
+
+        ArgumentCaptor<String> tempName = ArgumentCaptor.forClass(String.class);
+        verify(ftpClient).storeFileStream(tempName.capture());
+        verify(ftpClient).deleteFile(tempName.getValue());
+        verify(ftpClient, never()).rename(anyString(), anyString());
+        verify(ftpClient, never()).deleteFile("a.csv");
+    }
+
+    @Test
+    void failedTransferDeletesTempFile() throws IOException {
+        when(ftpClient.completePendingCommand()).thenReturn(false);
+
+        assertThatThrownBy(() -> storage.write("list", "a.csv", out -> out.write(1)))
+                .isInstanceOf(IOException.class);
+
+        ArgumentCaptor<String> tempName = ArgumentCaptor.forClass(String.class);
+        verify(ftpClient).storeFileStream(tempName.capture());
+        verify(ftpClient).deleteFile(tempName.getValue());
+        verify(ftpClient, never()).rename(anyString(), anyString());
+    }
+}
@@ -0,0 +1,86 @@
+package com.newnormallist.crawlerservice.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalFileStorageTest {
+
+    @TempDir
+    Path root;
+
+    private LocalFileStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalFileStorage(root.toString());
+    }
+
+    @Test
+    void contentIsPublishedUnderFinalNameOnlyAfterWriteCompletes() throws IOException {
+        Path target = root.resolve("pm/2025-08-19_pm/list/politics_list.csv");
+        AtomicReference<Boolean> visibleWhileWriting = new AtomicReference<>();
+
+        storage.write("pm/2025-08-19_pm/list", "politics_list.csv", out -> {
+            out.write("title\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            visibleWhileWriting.set(Files.exists(target));
+            out.write("기사\n".getBytes(StandardCharsets.UTF_8));
+        });
+
+        // 쓰는 동안에는 최종 이름이 보이지 않음
+        assertThat(visibleWhileWriting.get()).isFalse();
+        assertThat(Files.readString(target)).isEqualTo("title\n기사\n");
+        assertThat(filesIn(target.getParent())).containsExactly("politics_list.csv");
+    }
+
+    @Test
+    void existingFileIsReplaced() throws IOException {
+        storage.write("list", "a.csv", out -> out.write("old".getBytes(StandardCharsets.UTF_8)));
+        storage.write("list", "a.csv", out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(Files.readString(root.resolve("list/a.csv"))).isEqualTo("new");
+        assertThat(filesIn(root.resolve("list"))).containsExactly("a.csv");
+    }
+
+    @Test
+    void failedWriteRemovesTempFileAndKeepsPreviousContent() throws IOException {
+        storage.write("list", "a.csv", out -> out.write("old".getBytes(StandardCharsets.UTF_8)));
+
+        assertThatThrownBy(() -> storage.write("list", "a.csv", out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("크롤링 중단");
+        })).isInstanceOf(IOException.class).hasMessage("크롤링 중단");
+
+        assertThat(Files.readString(root.resolve("list/a.csv"))).isEqualTo("old");
+        assertThat(filesIn(root.resolve("list"))).containsExactly("a.csv");
+    }
+
+    @Test
+    void pathsOutsideRootAreRejected() {
+        assertThatThrownBy(() -> storage.write("../outside", "a.csv", out -> out.write(1)))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> storage.write("list", "../../a.csv", out -> out.write(1)))
+                .isInstanceOf(IOException.class);
+
+        assertThat(Files.exists(root.resolveSibling("outside"))).isFalse();
+        assertThat(Files.exists(root.getParent().resolve("a.csv"))).isFalse();
+    }
+
+    private static List<String> filesIn(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(path -> path.getFileName().toString()).toList();
+        }
+    }
+}
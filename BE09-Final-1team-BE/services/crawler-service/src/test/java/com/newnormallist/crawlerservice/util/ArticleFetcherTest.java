@@ -0,0 +1,237 @@
+package com.newnormallist.crawlerservice.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 HTTP 서버로 재시도/백오프, gzip 해제, 호스트별 요청 간격을 확인
+ */
+class ArticleFetcherTest {
+
+    private static final String PAGE = "<html><head><title>기사 제목</title></head><body>본문</body></html>";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ArticleFetcher fetcher;
+
+    // 응답 순서 (비어 있으면 200 PAGE)
+    private final Queue<Reply> replies = new ConcurrentLinkedQueue<>();
+    // 받은 요청 (수신 시각, Host 헤더, Accept-Encoding 헤더)
+    private final List<Received> received = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        if (fetcher != null) {
+            fetcher.shutdown();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void retries429And5xxWithBackoffThenSucceeds() {
+        fetcher = fetcher(1000.0, 10, 2, 200);
+        replies.add(Reply.status(503));
+        replies.add(Reply.status(429));
+
+        Document document = fetcher.fetchDocument(url("localhost", "/article")).join();
+
+        assertThat(document.title()).isEqualTo("기사 제목");
+        assertThat(received).hasSize(3);
+        // 지수 백오프의 50~100% 구간: 첫 재시도 100~200ms, 두 번째 재시도 200~400ms
+        assertThat(gapMs(0, 1)).isGreaterThanOrEqualTo(90);
+        assertThat(gapMs(1, 2)).isGreaterThanOrEqualTo(190);
+    }
+
+    @Test
+    void honorsRetryAfterWhenLongerThanBackoff() {
+        fetcher = fetcher(1000.0, 10, 1, 10);
+        replies.add(Reply.status(429).header("Retry-After", "1"));
+
+        fetcher.fetchDocument(url("localhost", "/article")).join();
+
+        assertThat(received).hasSize(2);
+        assertThat(gapMs(0, 1)).isGreaterThanOrEqualTo(950);
+    }
+
+    @Test
+    void givesUpAfterMaxRetries() {
+        fetcher = fetcher(1000.0, 10, 2, 10);
+        for (int i = 0; i < 5; i++) {
+            replies.add(Reply.status(500));
+        }
+
+        CompletableFuture<Document> future = fetcher.fetchDocument(url("localhost", "/article"));
+
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ArticleFetcher.FetchException.class)
+                .hasRootCauseMessage("HTTP 500");
+        assertThat(received).hasSize(3);
+    }
+
+    @Test
+    void doesNotRetry404() {
+        fetcher = fetcher(1000.0, 10, 2, 10);
+        replies.add(Reply.status(404));
+
+        CompletableFuture<Document> future = fetcher.fetchDocument(url("localhost", "/missing"));
+
+        assertThatThrownBy(future::join)
+                .hasCauseInstanceOf(ArticleFetcher.FetchException.class)
+                .hasRootCauseMessage("HTTP 404");
+        assertThat(received).hasSize(1);
+    }
+
+    @Test
+    void decodesGzipBody() throws IOException {
+        fetcher = fetcher(1000.0, 10, 0, 10);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(PAGE.getBytes(StandardCharsets.UTF_8));
+        }
+        replies.add(new Reply(200, compressed.toByteArray())
+                .header("Content-Encoding", "gzip")
+                .header("Content-Type", "text/html; charset=UTF-8"));
+
+        Document document = fetcher.fetchDocument(url("localhost", "/article")).join();
+
+        assertThat(document.title()).isEqualTo("기사 제목");
+        assertThat(document.body().text()).isEqualTo("본문");
+        assertThat(received.get(0).acceptEncoding()).contains("gzip");
+    }
+
+    @Test
+    void tokenBucketSpacesRequestsToSameHost() {
+        // 초당 5건, 버스트 1 -> 약 200ms 간격
+        fetcher = fetcher(5.0, 1, 0, 10);
+
+        List<CompletableFuture<Document>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(fetcher.fetchDocument(url("localhost", "/article/" + i)));
+        }
+        futures.forEach(CompletableFuture::join);
+
+        assertThat(received).hasSize(4);
+        List<Long> times = received.stream().map(Received::atNanos).sorted().toList();
+        for (int i = 1; i < times.size(); i++) {
+            assertThat(TimeUnit.NANOSECONDS.toMillis(times.get(i) - times.get(i - 1))).isGreaterThanOrEqualTo(150);
+        }
+    }
+
+    @Test
+    void differentHostsAreNotSpacedByEachOther() {
+        // 초당 2건, 버스트 1 -> 같은 호스트는 약 500ms 간격, 다른 호스트는 버킷이 따로
+        fetcher = fetcher(2.0, 1, 0, 10);
+
+        List<CompletableFuture<Document>> futures = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            futures.add(fetcher.fetchDocument(url("localhost", "/a/" + i)));
+            futures.add(fetcher.fetchDocument(url("127.0.0.1", "/b/" + i)));
+        }
+        futures.forEach(CompletableFuture::join);
+
+        List<Long> localhost = arrivalsFor("localhost");
+        List<Long> loopback = arrivalsFor("127.0.0.1");
+        assertThat(localhost).hasSize(2);
+        assertThat(loopback).hasSize(2);
+
+        // 두 호스트의 첫 요청은 서로 기다리지 않음
+        assertThat(Math.abs(TimeUnit.NANOSECONDS.toMillis(localhost.get(0) - loopback.get(0)))).isLessThan(300);
+        // 같은 호스트의 두 번째 요청은 토큰이 찰 때까지 대기
+        assertThat(TimeUnit.NANOSECONDS.toMillis(localhost.get(1) - localhost.get(0))).isGreaterThanOrEqualTo(400);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(loopback.get(1) - loopback.get(0))).isGreaterThanOrEqualTo(400);
+    }
+
+    private ArticleFetcher fetcher(double perHostRate, int burst, int maxRetries, long backoffMs) {
+        return new ArticleFetcher(8, 100, perHostRate, burst, 5000, maxRetries, backoffMs);
+    }
+
+    private String url(String host, String path) {
+        return "http://" + host + ":" + server.getAddress().getPort() + path;
+    }
+
+    private long gapMs(int from, int to) {
+        return TimeUnit.NANOSECONDS.toMillis(received.get(to).atNanos() - received.get(from).atNanos());
+    }
+
+    private List<Long> arrivalsFor(String host) {
+        return received.stream()
+                .filter(r -> r.host().startsWith(host + ":"))
+                .map(Received::atNanos)
+                .sorted()
+                .toList();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        received.add(new Received(System.nanoTime(),
+                String.valueOf(exchange.getRequestHeaders().getFirst("Host")),
+                String.valueOf(exchange.getRequestHeaders().getFirst("Accept-Encoding"))));
+        Reply reply = replies.poll();
+        if (reply == null) {
+            reply = new Reply(200, PAGE.getBytes(StandardCharsets.UTF_8))
+                    .header("Content-Type", "text/html; charset=UTF-8");
+        }
+        reply.headers.forEach(h -> exchange.getResponseHeaders().add(h[0], h[1]));
+        exchange.sendResponseHeaders(reply.status, reply.body.length == 0 ? -1 : reply.body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(reply.body);
+        }
+    }
+
+    private record Received(long atNanos, String host, String acceptEncoding) {
+    }
+
+    private static final class Reply {
+        private final int status;
+        private final byte[] body;
+        private final List<String[]> headers = new ArrayList<>();
+
+        private Reply(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static Reply status(int status) {
+            return new Reply(status, new byte[0]);
+        }
+
+        Reply header(String name, String value) {
+            headers.add(new String[]{name, value});
+            return this;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.newnormallist.crawlerservice.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 뉴스 CSV 쓰기/읽기 처리량 측정 (기본 test 태스크에서는 제외, ./gradlew benchmark로 실행)
+ */
+@Tag("benchmark")
+class CsvBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CsvBenchmarkTest.class);
+
+    private static final int RECORDS = 200_000;
+    private static final int ROUNDS = 5;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writeAndReadNewsCsv() throws IOException {
+        Path file = tempDir.resolve("news.csv");
+        String content = "정부가 내년 예산안을 발표했다. \"경기 회복\"을 위해, 지출을 늘린다.\r\n"
+                .repeat(5);
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            long writeStart = System.nanoTime();
+            try (CsvWriter writer = new CsvWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+                writer.writeRecord("news_id", "title", "press", "content");
+                for (int i = 0; i < RECORDS; i++) {
+                    writer.writeRecord(i, "제목 " + i + ", 속보", "연합뉴스", content);
+                }
+            }
+            long writeNanos = System.nanoTime() - writeStart;
+
+            long readStart = System.nanoTime();
+            int read = 0;
+            try (CsvReader reader = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+                List<String> record;
+                while ((record = reader.readRecord()) != null) {
+                    assertThat(record).hasSize(4);
+                    read++;
+                }
+            }
+            long readNanos = System.nanoTime() - readStart;
+
+            assertThat(read).isEqualTo(RECORDS + 1);
+            long megabytes = Files.size(file) >> 20;
+            log.info("round {}: {} records, {} MB, write {} ms, read {} ms",
+                    round, RECORDS, megabytes,
+                    TimeUnit.NANOSECONDS.toMillis(writeNanos), TimeUnit.NANOSECONDS.toMillis(readNanos));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.newnormallist.crawlerservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvReaderWriterTest {
+
+    @Test
+    void quotesOnlyFieldsThatNeedIt() throws IOException {
+        String csv = write(List.of(
+                Arrays.asList("plain", "a,b", "say \"hi\"", "", null)));
+
+        assertThat(csv).isEqualTo("plain,\"a,b\",\"say \"\"hi\"\"\",,\r\n");
+    }
+
+    @Test
+    void roundTripsEmbeddedQuotesAndCommas() throws IOException {
+        List<List<String>> records = List.of(
+                List.of("id", "title", "content"),
+                List.of("1", "\"따옴표\"로 시작", "쉼표, 그리고 \"인용\", 끝"),
+                List.of("2", "\"\"", ",,,"));
+
+        assertThat(read(write(records))).isEqualTo(records);
+    }
+
+    @Test
+    void roundTripsLineBreaksInsideFields() throws IOException {
+        List<List<String>> records = List.of(
+                List.of("lf", "첫 줄\n둘째 줄"),
+                List.of("crlf", "첫 줄\r\n둘째 줄"),
+                List.of("cr", "첫 줄\r둘째 줄"),
+                List.of("edges", "\n앞뒤 줄바꿈\r\n"));
+
+        assertThat(read(write(records))).isEqualTo(records);
+    }
+
+    @Test
+    void readsLineBreaksInsideQuotedFieldsWrittenByOtherTools() throws IOException {
+        // Python csv 모듈(lineterminator='\n')이 쓴 형식
+        String csv = "id,content\n1,\"첫 줄\n둘째 줄\"\n2,\"a\r\nb\"\n";
+
+        assertThat(read(csv)).containsExactly(
+                List.of("id", "content"),
+                List.of("1", "첫 줄\n둘째 줄"),
+                List.of("2", "a\r\nb"));
+    }
+
+    @Test
+    void acceptsAnyRecordSeparatorAndSkipsBlankLines() throws IOException {
+        String csv = "a,b\r\nc,d\ne,f\rg,h\r\n\r\n\ni,j";
+
+        assertThat(read(csv)).containsExactly(
+                List.of("a", "b"), List.of("c", "d"), List.of("e", "f"), List.of("g", "h"), List.of("i", "j"));
+    }
+
+    @Test
+    void distinguishesEmptyFromMissingTrailingFields() throws IOException {
+        assertThat(read("a,b,\r\n")).containsExactly(List.of("a", "b", ""));
+        assertThat(read("a,b\r\n")).containsExactly(List.of("a", "b"));
+        assertThat(read("a,,\r\n")).containsExactly(List.of("a", "", ""));
+        assertThat(read("a,\"\"\r\n")).containsExactly(List.of("a", ""));
+
+        List<List<String>> records = List.of(
+                List.of("a", "", ""),
+                List.of("a"),
+                List.of(""),
+                List.of("", ""));
+        assertThat(read(write(records))).isEqualTo(records);
+    }
+
+    @Test
+    void singleEmptyFieldIsNotABlankLine() throws IOException {
+        String csv = write(List.of(List.of("before"), Arrays.asList((String) null), List.of("after")));
+
+        assertThat(csv).isEqualTo("before\r\n\"\"\r\nafter\r\n");
+        assertThat(read(csv)).containsExactly(List.of("before"), List.of(""), List.of("after"));
+    }
+
+    @Test
+    void skipsByteOrderMarkAtStartOnly() throws IOException {
+        assertThat(read("\uFEFFid,title\r\n1,\uFEFF제목\r\n")).containsExactly(
+                List.of("id", "title"),
+                List.of("1", "\uFEFF제목"));
+        assertThat(read("\uFEFF\"id\",title\r\n")).containsExactly(List.of("id", "title"));
+    }
+
+    @Test
+    void returnsRestOfInputWhenQuotedFieldHitsEof() throws IOException {
+        try (CsvReader reader = new CsvReader(new StringReader("1,ok\r\n2,\"닫히지 않은\r\n따옴표,계속"))) {
+            assertThat(reader.readRecord()).containsExactly("1", "ok");
+            assertThat(reader.readRecord()).containsExactly("2", "닫히지 않은\r\n따옴표,계속");
+            assertThat(reader.readRecord()).isNull();
+            assertThat(reader.readRecord()).isNull();
+        }
+    }
+
+    @Test
+    void emptyInputHasNoRecords() throws IOException {
+        assertThat(read("")).isEmpty();
+        assertThat(read("\uFEFF")).isEmpty();
+        assertThat(read("\r\n\n")).isEmpty();
+    }
+
+    @Test
+    void roundTripsRandomFieldsAcrossBufferBoundaries() throws IOException {
+        // 버퍼(8192자) 경계에 따옴표, CR/LF가 걸리도록 긴 필드와 특수 문자를 섞음
+        Random random = new Random(42);
+        char[] alphabet = {'a', 'Z', '9', ' ', ',', '"', '\r', '\n', '가', '뉴', '\uFEFF'};
+        List<List<String>> records = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int fieldCount = 1 + random.nextInt(6);
+            List<String> record = new ArrayList<>(fieldCount);
+            for (int f = 0; f < fieldCount; f++) {
+                int length = random.nextInt(10) == 0 ? 5000 + random.nextInt(10000) : random.nextInt(40);
+                StringBuilder field = new StringBuilder(length);
+                for (int c = 0; c < length; c++) {
+                    field.append(alphabet[random.nextInt(alphabet.length)]);
+                }
+                record.add(field.toString());
+            }
+            // 맨 앞 필드의 BOM은 파일 시작 BOM과 구분되지 않으므로 제외
+            if (i == 0) {
+                record.set(0, "first");
+            }
+            records.add(record);
+        }
+
+        assertThat(read(write(records))).isEqualTo(records);
+    }
+
+    private static String write(List<? extends List<String>> records) throws IOException {
+        StringWriter out = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(out)) {
+            for (List<String> record : records) {
+                writer.writeRecord(record);
+            }
+        }
+        return out.toString();
+    }
+
+    private static List<List<String>> read(String csv) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
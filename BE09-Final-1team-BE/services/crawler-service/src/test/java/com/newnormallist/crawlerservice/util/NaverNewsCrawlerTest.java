@@ -0,0 +1,263 @@
+package com.newnormallist.crawlerservice.util;
+
+import com.newnormallist.crawlerservice.dto.NewsDetail;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 목록 크롤링 중단 지점(워터마크) : 가짜 브라우저로 더보기 클릭 횟수와 수집 결과 확인
+ * - 목록은 처음 5개, 더보기 한 번에 5개씩 더 보이고 전부 보이면 더보기 버튼이 사라짐
+ */
+class NaverNewsCrawlerTest {
+
+    private static final String POLITICS_URL = "https://news.naver.com/section/100";
+    private static final String ECONOMY_URL = "https://news.naver.com/section/101";
+    private static final int ARTICLES_PER_PAGE = 30;
+    private static final int PAGE_STEP = 5;
+
+    private final FakeBrowser browser = new FakeBrowser();
+    private WebDriverPool pool;
+    private NaverNewsCrawler crawler;
+
+    @BeforeEach
+    void setUp() {
+        pool = new WebDriverPool(browser::driver, 1, 1000, 1000);
+        crawler = new NaverNewsCrawler(pool, new SimpleMeterRegistry(), 500, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void firstCrawlLoadsWholeList() {
+        Map<String, List<NewsDetail>> results = crawler.crawlAllCategories(100);
+
+        // 5개 -> 30개 : 더보기 5번 후 버튼 없음
+        assertThat(browser.clicks(POLITICS_URL)).isEqualTo(5);
+        assertThat(browser.clicks(ECONOMY_URL)).isEqualTo(5);
+        assertThat(results.get("POLITICS")).hasSize(ARTICLES_PER_PAGE);
+    }
+
+    @Test
+    void watermarkIsNotAdvancedUntilCommitted() {
+        crawler.crawlAllCategories(100);
+        browser.resetClicks();
+
+        // 저장(commit) 전에는 다음 크롤링도 목록 전체를 다시 읽음
+        crawler.crawlAllCategories(100);
+
+        assertThat(browser.clicks(POLITICS_URL)).isEqualTo(5);
+        assertThat(browser.clicks(ECONOMY_URL)).isEqualTo(5);
+    }
+
+    @Test
+    void committedWatermarkStopsLoadingAtPreviouslySeenArticles() {
+        crawler.crawlAllCategories(100);
+        crawler.commitWatermarks();
+        browser.resetClicks();
+
+        // 새 기사 10개가 위에 추가됨: 5개씩 두 번 더 불러와야 이전에 본 기사가 나타남
+        browser.publish(ECONOMY_URL, 10);
+        Map<String, List<NewsDetail>> results = crawler.crawlAllCategories(100);
+
+        assertThat(browser.clicks(ECONOMY_URL)).isEqualTo(2);
+        assertThat(results.get("ECONOMY")).extracting(NewsDetail::getLink)
+                .contains(browser.link(ECONOMY_URL, 0), browser.link(ECONOMY_URL, 9));
+        // 변화 없는 목록은 첫 화면에서 바로 중단
+        assertThat(browser.clicks(POLITICS_URL)).isZero();
+    }
+
+    @Test
+    void discardedCategoryKeepsPreviousWatermark() {
+        crawler.crawlAllCategories(100);
+        crawler.commitWatermarks();
+
+        browser.publish(POLITICS_URL, 10);
+        browser.publish(ECONOMY_URL, 10);
+        crawler.crawlAllCategories(100);
+        // POLITICS 목록 저장 실패 -> 이번 중단 지점은 버리고 나머지만 확정
+        crawler.discardWatermarks("POLITICS");
+        crawler.commitWatermarks();
+        browser.resetClicks();
+
+        crawler.crawlAllCategories(100);
+
+        // POLITICS는 이전 중단 지점까지 다시 읽어 저장하지 못한 새 기사 10개를 다시 수집
+        assertThat(browser.clicks(POLITICS_URL)).isEqualTo(2);
+        assertThat(browser.clicks(ECONOMY_URL)).isZero();
+    }
+
+    @Test
+    void failedRunDoesNotLeakWatermarkIntoNextCommit() {
+        crawler.crawlAllCategories(100);
+        crawler.commitWatermarks();
+
+        // 이번 실행은 저장 단계 전에 실패해 확정되지 않음
+        browser.publish(ECONOMY_URL, 10);
+        crawler.crawlAllCategories(100);
+
+        // 다음 실행에서 ECONOMY 목록을 못 읽었다면, 실패한 실행의 중단 지점이 함께 확정되면 안 됨
+        browser.failOn(ECONOMY_URL);
+        crawler.crawlAllCategories(100);
+        crawler.commitWatermarks();
+        browser.failOn(null);
+        browser.resetClicks();
+
+        crawler.crawlAllCategories(100);
+        assertThat(browser.clicks(ECONOMY_URL)).isEqualTo(2);
+    }
+
+    /**
+     * 목록 URL별 기사 목록을 흉내 내는 가짜 브라우저 (WebDriver + JavascriptExecutor)
+     */
+    private static final class FakeBrowser {
+
+        private final Map<String, List<String>> pages = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> clicks = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> published = new ConcurrentHashMap<>();
+        private volatile String currentUrl = "about:blank";
+        private volatile String failingUrl;
+        private int visible;
+
+        WebDriver driver() {
+            WebDriver.Options options = mock(WebDriver.Options.class, RETURNS_DEEP_STUBS);
+            return mock(WebDriver.class, withSettings()
+                    .extraInterfaces(JavascriptExecutor.class)
+                    .defaultAnswer(invocation -> answer(invocation, options)));
+        }
+
+        void publish(String url, int count) {
+            List<String> page = page(url);
+            int next = published.computeIfAbsent(url, k -> new AtomicInteger()).get();
+            List<String> added = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                added.add(url + "/new/" + (next + i));
+            }
+            published.get(url).addAndGet(count);
+            page.addAll(0, added);
+        }
+
+        // 맨 위(최신)에서 index번째 기사 링크
+        String link(String url, int index) {
+            return page(url).get(index);
+        }
+
+        int clicks(String url) {
+            AtomicInteger count = clicks.get(url);
+            return count == null ? 0 : count.get();
+        }
+
+        void resetClicks() {
+            clicks.clear();
+        }
+
+        void failOn(String url) {
+            failingUrl = url;
+        }
+
+        private List<String> page(String url) {
+            return pages.computeIfAbsent(url, k -> {
+                List<String> links = new ArrayList<>();
+                for (int i = 0; i < ARTICLES_PER_PAGE; i++) {
+                    links.add(url + "/article/" + i);
+                }
+                return links;
+            });
+        }
+
+        private Object answer(InvocationOnMock invocation, WebDriver.Options options) {
+            Object[] args = flatten(invocation.getArguments());
+            switch (invocation.getMethod().getName()) {
+                case "get" -> {
+                    currentUrl = (String) args[0];
+                    if (currentUrl.equals(failingUrl)) {
+                        throw new IllegalStateException("페이지 로딩 실패: " + currentUrl);
+                    }
+                    visible = currentUrl.startsWith("http") ? Math.min(PAGE_STEP, page(currentUrl).size()) : 0;
+                    return null;
+                }
+                case "getCurrentUrl" -> {
+                    return currentUrl;
+                }
+                case "getWindowHandle" -> {
+                    return "window-1";
+                }
+                case "manage" -> {
+                    return options;
+                }
+                case "getPageSource" -> {
+                    return pageSource();
+                }
+                case "findElements" -> {
+                    return visible < page(currentUrl).size() ? List.of(moreButton()) : List.of();
+                }
+                case "executeScript" -> {
+                    String script = (String) args[0];
+                    if (script.contains(".slice(")) {
+                        int from = ((Number) args[2]).intValue();
+                        return new ArrayList<>(page(currentUrl).subList(Math.min(from, visible), visible));
+                    }
+                    return (long) visible;
+                }
+                default -> {
+                    return null;
+                }
+            }
+        }
+
+        private WebElement moreButton() {
+            String url = currentUrl;
+            return mock(WebElement.class, invocation -> switch (invocation.getMethod().getName()) {
+                case "isDisplayed", "isEnabled" -> true;
+                case "click" -> {
+                    clicks.computeIfAbsent(url, k -> new AtomicInteger()).incrementAndGet();
+                    visible = Math.min(visible + PAGE_STEP, page(url).size());
+                    yield null;
+                }
+                default -> null;
+            });
+        }
+
+        private String pageSource() {
+            StringBuilder html = new StringBuilder("<html><body><div id=\"newsct\"><div class=\"section_latest_article\"><ul>");
+            for (String link : page(currentUrl).subList(0, visible)) {
+                html.append("<li><a href=\"").append(link).append("\"><strong>기사 ").append(link.hashCode())
+                        .append("</strong></a><span class=\"press\">연합뉴스</span></li>");
+            }
+            return html.append("</ul></div></div></body></html>").toString();
+        }
+
+        // 가변 인자(executeScript의 Object...)를 펼침
+        private static Object[] flatten(Object[] args) {
+            List<Object> flat = new ArrayList<>();
+            for (Object arg : args) {
+                if (arg instanceof Object[] array) {
+                    flat.addAll(Arrays.asList(array));
+                } else {
+                    flat.add(arg);
+                }
+            }
+            return flat.toArray();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.newnormallist.crawlerservice.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.abort;
+
+/**
+ * 실제 헤드리스 Chrome으로 로컬 HTML 픽스처 페이지를 열어 풀 동작을 확인
+ * Chrome을 띄울 수 없는 환경에서는 건너뜁니다.
+ */
+class WebDriverPoolFixturePageTest {
+
+    // 목록을 스크립트로 늦게 그리는 페이지 (네이버 목록처럼 조건 대기가 필요)
+    private static final String LIST_PAGE = """
+            <html><head><meta charset="UTF-8"><title>뉴스 목록</title></head>
+            <body><ul id="list"></ul>
+            <script>
+              setTimeout(function () {
+                var list = document.getElementById('list');
+                for (var i = 1; i <= 3; i++) {
+                  var item = document.createElement('li');
+                  item.className = 'item';
+                  item.innerHTML = '<a href="/article/' + i + '">기사 ' + i + '</a>';
+                  list.appendChild(item);
+                }
+              }, 300);
+            </script></body></html>
+            """;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private WebDriverPool pool;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/list", exchange -> reply(exchange, LIST_PAGE));
+        // 방문 시 쿠키를 심는 페이지
+        server.createContext("/login", exchange -> {
+            exchange.getResponseHeaders().add("Set-Cookie", "session=abc; Path=/");
+            reply(exchange, page("로그인", "ok"));
+        });
+        // 받은 Cookie 헤더를 그대로 보여주는 페이지
+        server.createContext("/cookies", exchange -> {
+            String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+            reply(exchange, page("쿠키", cookie == null ? "none" : cookie));
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void readsScriptRenderedListWithConditionWait() throws Exception {
+        pool = startPool(2);
+
+        // 브라우저 2개가 동시에 같은 픽스처 페이지를 읽음
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                results.add(callers.submit(() -> pool.execute(this::readList)));
+            }
+            for (Future<List<String>> result : results) {
+                assertThat(result.get(60, TimeUnit.SECONDS)).containsExactly("기사 1", "기사 2", "기사 3");
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void reusedBrowserStartsWithoutPreviousCookies() {
+        pool = startPool(1);
+
+        WebDriver first = pool.execute(driver -> {
+            driver.get(url("/login"));
+            driver.get(url("/cookies"));
+            assertThat(body(driver)).isEqualTo("session=abc");
+            return driver;
+        });
+
+        // 같은 브라우저를 다시 빌리면 빈 페이지에서 시작하고 쿠키가 지워져 있음
+        WebDriver second = pool.execute(driver -> {
+            assertThat(driver.getCurrentUrl()).isEqualTo("about:blank");
+            driver.get(url("/cookies"));
+            assertThat(body(driver)).isEqualTo("none");
+            return driver;
+        });
+        assertThat(second).isSameAs(first);
+    }
+
+    /**
+     * 실제 Chrome 풀을 만들고 첫 브라우저를 띄워 봄 (실패하면 테스트 건너뜀)
+     */
+    private WebDriverPool startPool(int size) {
+        WebDriverPool chromePool = new WebDriverPool(size, 60_000, 50);
+        try {
+            chromePool.run(driver -> driver.get(url("/list")));
+        } catch (WebDriverException | IllegalStateException e) {
+            chromePool.shutdown();
+            abort("헤드리스 Chrome을 시작할 수 없어 건너뜁니다: " + e.getMessage());
+        }
+        return chromePool;
+    }
+
+    private List<String> readList(WebDriver driver) {
+        driver.get(url("/list"));
+        List<WebElement> items = new WebDriverWait(driver, Duration.ofSeconds(10), Duration.ofMillis(50))
+                .until(d -> {
+                    List<WebElement> found = d.findElements(By.cssSelector("#list li.item a"));
+                    return found.size() == 3 ? found : null;
+                });
+        return items.stream().map(WebElement::getText).toList();
+    }
+
+    private static String body(WebDriver driver) {
+        return driver.findElement(By.tagName("body")).getText().trim();
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private static String page(String title, String body) {
+        return "<html><head><meta charset=\"UTF-8\"><title>" + title + "</title></head><body>" + body + "</body></html>";
+    }
+
+    private static void reply(HttpExchange exchange, String html) throws IOException {
+        byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/html; charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
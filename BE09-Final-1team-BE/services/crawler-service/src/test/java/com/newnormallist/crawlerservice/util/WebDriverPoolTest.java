@@ -0,0 +1,194 @@
+package com.newnormallist.crawlerservice.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WebDriverPoolTest {
+
+    private final List<WebDriver> created = new CopyOnWriteArrayList<>();
+    private final Supplier<WebDriver> factory = () -> {
+        WebDriver driver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+        created.add(driver);
+        return driver;
+    };
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void reusesReturnedDriverAndResetsSession() {
+        WebDriverPool pool = new WebDriverPool(factory, 1, 1000, 50);
+
+        WebDriver first = pool.execute(driver -> driver);
+        WebDriver second = pool.execute(driver -> driver);
+
+        assertThat(second).isSameAs(first);
+        assertThat(created).hasSize(1);
+        verify(first.manage(), times(2)).deleteAllCookies();
+        verify(first, times(2)).get("about:blank");
+    }
+
+    @Test
+    void borrowBlocksAtBoundAndTimesOut() throws Exception {
+        WebDriverPool pool = new WebDriverPool(factory, 1, 200, 50);
+        CountDownLatch borrowed = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Future<?> holder = executor.submit(() -> pool.run(driver -> {
+            borrowed.countDown();
+            await(finish);
+        }));
+        assertThat(borrowed.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> pool.run(driver -> { }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("대기 시간을 초과");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(150);
+
+        finish.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+
+        // 반납 후에는 같은 브라우저를 다시 빌림
+        pool.run(driver -> { });
+        assertThat(created).hasSize(1);
+    }
+
+    @Test
+    void blockedBorrowerGetsDriverWhenReturned() throws Exception {
+        WebDriverPool pool = new WebDriverPool(factory, 1, 5000, 50);
+        CountDownLatch borrowed = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Future<WebDriver> holder = executor.submit(() -> pool.execute(driver -> {
+            borrowed.countDown();
+            await(finish);
+            return driver;
+        }));
+        assertThat(borrowed.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<WebDriver> waiter = executor.submit(() -> pool.execute(driver -> driver));
+        Thread.sleep(100);
+        assertThat(waiter.isDone()).isFalse();
+
+        finish.countDown();
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isSameAs(holder.get(5, TimeUnit.SECONDS));
+        assertThat(created).hasSize(1);
+    }
+
+    @Test
+    void brokenDriverIsDiscardedOnReturnAndReplaced() {
+        WebDriverPool pool = new WebDriverPool(factory, 1, 1000, 50);
+
+        // 작업 중 브라우저가 죽으면 예외는 그대로 전달하고 반납 시 종료
+        assertThatThrownBy(() -> pool.run(driver -> {
+            when(driver.getWindowHandle()).thenThrow(new WebDriverException("session deleted"));
+            throw new WebDriverException("chrome not reachable");
+        })).isInstanceOf(WebDriverException.class);
+
+        WebDriver broken = created.get(0);
+        verify(broken).quit();
+
+        WebDriver next = pool.execute(driver -> driver);
+        assertThat(next).isNotSameAs(broken);
+        assertThat(created).hasSize(2);
+    }
+
+    @Test
+    void pageErrorKeepsLiveDriver() {
+        WebDriverPool pool = new WebDriverPool(factory, 1, 1000, 50);
+
+        assertThatThrownBy(() -> pool.run(driver -> {
+            throw new IllegalArgumentException("파싱 실패");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        WebDriver first = created.get(0);
+        verify(first, never()).quit();
+        WebDriver next = pool.execute(driver -> driver);
+        assertThat(next).isSameAs(first);
+    }
+
+    @Test
+    void deadIdleDriverIsReplacedOnBorrow() {
+        WebDriverPool pool = new WebDriverPool(factory, 1, 1000, 50);
+        WebDriver first = pool.execute(driver -> driver);
+
+        // 대기 중에 세션이 만료된 경우
+        when(first.getWindowHandle()).thenThrow(new WebDriverException("invalid session id"));
+
+        WebDriver next = pool.execute(driver -> driver);
+        assertThat(next).isNotSameAs(first);
+        verify(first).quit();
+        assertThat(created).hasSize(2);
+    }
+
+    @Test
+    void driverIsRetiredAfterMaxSessions() {
+        WebDriverPool pool = new WebDriverPool(factory, 1, 1000, 2);
+
+        WebDriver first = pool.execute(driver -> driver);
+        WebDriver second = pool.execute(driver -> driver);
+        assertThat(second).isSameAs(first);
+        verify(first).quit();
+
+        WebDriver third = pool.execute(driver -> driver);
+        assertThat(third).isNotSameAs(first);
+        assertThat(created).hasSize(2);
+    }
+
+    @Test
+    void shutdownQuitsEveryDriver() {
+        WebDriverPool pool = new WebDriverPool(factory, 3, 1000, 50);
+
+        // 한 스레드에서 중첩으로 빌려 브라우저 3개를 띄운 뒤 모두 반납
+        pool.run(a -> pool.run(b -> pool.run(c -> { })));
+        assertThat(created).hasSize(3);
+
+        // 하나를 사용 중인 상태로 종료: 대기 중인 2개는 즉시, 사용 중인 1개는 반납 시 종료
+        WebDriver inUse = pool.execute(driver -> {
+            pool.shutdown();
+            for (WebDriver other : created) {
+                if (other != driver) {
+                    verify(other).quit();
+                }
+            }
+            verify(driver, never()).quit();
+            return driver;
+        });
+        verify(inUse).quit();
+
+        assertThatThrownBy(() -> pool.run(driver -> { }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("종료");
+        assertThat(created).hasSize(3);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
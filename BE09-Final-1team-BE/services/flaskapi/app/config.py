@@ -17,6 +17,9 @@ class BaseConfig:
     SQLALCHEMY_TRACK_MODIFICATIONS = False
     OPENAI_API_KEY = os.getenv("OPENAI_API_KEY")
     OPENAI_MODEL = os.getenv("OPENAI_MODEL", "gpt-4.1-mini")
+    # 오프라인 테스트용: OpenAI 대신 본문 앞 문장으로 요약을 흉내냄 (SUMMARIZER_STUB=1)
+    SUMMARIZER_STUB = bool(strtobool(os.getenv("SUMMARIZER_STUB", "0")))
+    SUMMARIZER_STUB_DELAY_MS = int(os.getenv("SUMMARIZER_STUB_DELAY_MS", "0"))  # 모델 지연 흉내
 
 class DevConfig(BaseConfig):
     # instance/summary.db 절대경로로 고정
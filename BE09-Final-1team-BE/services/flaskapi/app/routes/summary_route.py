@@ -1,6 +1,8 @@
 # routes/summary_route.py
+import os
+from concurrent.futures import ThreadPoolExecutor
 from flask import Blueprint, request, jsonify, current_app, g
-from sqlalchemy.exc import SQLAlchemyError
+from sqlalchemy.exc import IntegrityError, SQLAlchemyError
 from datetime import datetime
 from ..extensions import db
 from ..models import News, NewsSummary
@@ -13,6 +15,11 @@ summary_bp = Blueprint("summary", __name__, url_prefix="/summary")
 # 안전장치: 한 번에 돌릴 프롬프트 개수 상한
 MAX_PROMPTS = 10
 
+# 일괄 요약(/summary/batch): 요청당 최대 건수 / 모델 동시 호출 수
+MAX_BATCH_ITEMS = int(os.getenv("SUMMARY_BATCH_MAX_ITEMS", "16"))
+BATCH_WORKERS = int(os.getenv("SUMMARY_BATCH_WORKERS", "4"))
+_batch_pool = ThreadPoolExecutor(max_workers=BATCH_WORKERS, thread_name_prefix="summary-batch")
+
 def _parse_bool(data: dict, key: str, default=False) -> bool:
     """data[key]를 유연하게 불리언으로 파싱."""
     val = data.get(key, default)
@@ -116,6 +123,67 @@ def create_summary():
     # Content-Type 미지정 요청 방지: force 대신 silent 사용
     data = request.get_json(silent=True) or {}
 
+    job = _prepare(data)
+    if "response" in job:
+        body, status = job["response"]
+        return jsonify(body), status
+
+    try:
+        summary_text = _generate(job)
+    except Exception as e:
+        current_app.logger.exception(f"[{g.rid}] summarize failed (/summary)")
+        return jsonify({"error": "SUMMARIZE_FAILED", "detail": str(e)}), 500
+
+    body, status = _store(job, summary_text)
+    return jsonify(body), status
+
+
+@summary_bp.route("/batch", methods=["POST"])
+def create_summary_batch():
+    """
+    여러 건을 한 번에 요약 (Spring 클라이언트의 마이크로 배치용)
+    요청(JSON): { "items": [ /summary 요청과 같은 형식, ... ] }
+    응답(JSON): { "results": [ { "status": 200, "body": { /summary 응답과 같은 형식 } }, ... ] }
+      - results는 items와 같은 순서, 건별 실패는 해당 status/body(error)로 표시
+      - 모델 호출은 BATCH_WORKERS개까지 동시에 수행, DB 조회/저장은 요청 스레드에서 순서대로 처리
+    """
+    data = request.get_json(silent=True) or {}
+    items = data.get("items")
+    if not isinstance(items, list) or not items:
+        return jsonify({"error": "items 배열이 필요합니다."}), 400
+    if len(items) > MAX_BATCH_ITEMS:
+        return jsonify({"error": f"items는 최대 {MAX_BATCH_ITEMS}건까지 가능합니다."}), 413
+
+    jobs = [_prepare(item if isinstance(item, dict) else {}) for item in items]
+
+    # 캐시 미스만 모델 호출 (ensemble은 로깅에 요청 컨텍스트가 필요해 요청 스레드에서 처리)
+    futures = {}
+    for i, job in enumerate(jobs):
+        if "response" not in job and not job["ensemble"]:
+            futures[i] = _batch_pool.submit(summarize, job["text"], job["prompt_text"])
+
+    results = []
+    for i, job in enumerate(jobs):
+        if "response" in job:
+            body, status = job["response"]
+        else:
+            try:
+                summary_text = futures[i].result() if i in futures else _generate(job)
+                body, status = _store(job, summary_text)
+            except Exception as e:
+                current_app.logger.warning(f"[{g.rid}] summarize failed (/summary/batch) item={i}: {e}")
+                body, status = {"error": "SUMMARIZE_FAILED", "detail": str(e)}, 500
+        results.append({"status": status, "body": body})
+
+    current_app.logger.info(f"[{g.rid}] batch summary items={len(items)} generated={len(futures)}")
+    return jsonify({"results": results}), 200
+
+
+def _prepare(data: dict) -> dict:
+    """
+    원문/타입/프롬프트 확정 및 캐시 조회.
+    바로 응답할 수 있으면 {"response": (body, status)}, 아니면 요약 생성에 필요한 값을 담은 dict 반환.
+    """
     news_id = data.get("news_id") or data.get('newsId')
     text = data.get("text")
 
@@ -123,13 +191,13 @@ def create_summary():
     news = None
     if not (isinstance(text, str) and text.strip()):
         if not news_id:
-            return jsonify({"error": "text 또는 news_id가 필요합니다."}), 400
+            return {"response": ({"error": "text 또는 news_id가 필요합니다."}, 400)}
         news = News.query.get(news_id)
         if not news:
-            return jsonify({"error": "뉴스가 없습니다.", "newsId": news_id}), 404
+            return {"response": ({"error": "뉴스가 없습니다.", "newsId": news_id}, 404)}
         text = getattr(news, "content", None) or getattr(news, "body", None)
         if not text or not str(text).strip():
-            return jsonify({"error": "뉴스 본문이 비어 있습니다.", "newsId": news_id}), 400
+            return {"response": ({"error": "뉴스 본문이 비어 있습니다.", "newsId": news_id}, 400)}
 
     # 단일 vs 종합(ensemble) 모드 선택
     # 기본은 단일 모드: 상세페이지 클릭 시 성능/비용 절감
@@ -140,7 +208,6 @@ def create_summary():
 
     # 캐시 조회: 단일 모드에만 적용(ensemble은 매번 달라질 수 있음)
     # ⚠️ 캐시 키에는 반드시 lines 포함
-    cached_row = None
     if not ensemble and news_id:
         cached_row = (
             NewsSummary.query
@@ -149,78 +216,101 @@ def create_summary():
         )
         if cached_row:
             current_app.logger.info(f"[{g.rid}] cache hit news_id={news_id} type={resolved_type} lines={lines}")
-            return jsonify({
+            return {"response": ({
                 "newsId": cached_row.news_id,
                 "type": cached_row.summary_type,
                 "lines": cached_row.lines,
                 "summary": cached_row.summary_text,
                 "cached": True,
                 "createdAt": (cached_row.created_at or datetime.utcnow()).replace(microsecond=0).isoformat() + "Z"
-            }), 200
+            }, 200)}
 
-    # 요약 생성
-    try:
-        if ensemble:
-            # 해당 타입의 모든 프롬프트를 실행 → 통합
-            items = PromptManager.get_many_by_types(
-                [resolved_type], include_default=True, lines=lines
-            )[:MAX_PROMPTS]
-            partials = []
-            for it in items:
-                try:
-                    s = summarize(text, it["prompt"])
-                except Exception as e:
-                    # 한 개 실패해도 전체는 계속
-                    current_app.logger.warning(f"[{g.rid}] summarize partial failed {it['id']}: {e}")
-                    s = ""
-                partials.append({"id": it["id"], "summary": s})
-            summary_text = _aggregate_summaries(partials, lines)
-        else:
-            summary_text = summarize(text, prompt_text)
+    return {
+        "news_id": news_id,
+        "text": text,
+        "ensemble": ensemble,
+        "resolved_type": resolved_type,
+        "prompt_text": prompt_text,
+        "lines": lines,
+    }
 
-    except Exception as e:
-        current_app.logger.exception(f"[{g.rid}] summarize failed (/summary)")
-        return jsonify({"error": "SUMMARIZE_FAILED", "detail": str(e)}), 500
 
-    # 저장: (news_id, summary_type, lines) 기준 upsert
+def _generate(job: dict) -> str:
+    """요약 생성 (예외는 호출 측에서 처리)."""
+    if not job["ensemble"]:
+        return summarize(job["text"], job["prompt_text"])
+
+    # 해당 타입의 모든 프롬프트를 실행 → 통합
+    items = PromptManager.get_many_by_types(
+        [job["resolved_type"]], include_default=True, lines=job["lines"]
+    )[:MAX_PROMPTS]
+    partials = []
+    for it in items:
+        try:
+            s = summarize(job["text"], it["prompt"])
+        except Exception as e:
+            # 한 개 실패해도 전체는 계속
+            current_app.logger.warning(f"[{g.rid}] summarize partial failed {it['id']}: {e}")
+            s = ""
+        partials.append({"id": it["id"], "summary": s})
+    return _aggregate_summaries(partials, job["lines"])
+
+
+def _store(job: dict, summary_text: str) -> tuple[dict, int]:
+    """(news_id, summary_type, lines) 기준 upsert 후 표준 응답 반환."""
+    news_id = job["news_id"]
+    resolved_type = job["resolved_type"]
+    lines = job["lines"]
+
     saved_row = None
     if news_id:
         try:
-            saved_row = (
-                NewsSummary.query
-                .filter_by(news_id=news_id, summary_type=resolved_type, lines=lines)
-                .first()
-            )
-            now = datetime.utcnow()
-            if saved_row:
-                # ensemble은 기본 덮어쓰기(필요 시 정책 분기 가능)
-                saved_row.summary_text = summary_text
-                saved_row.created_at = now
-            else:
-                saved_row = NewsSummary(
-                    news_id=news_id,
-                    summary_type=resolved_type,
-                    lines=lines,
-                    summary_text=summary_text,
-                    created_at=now
-                )
-                db.session.add(saved_row)
-            db.session.commit()
+            try:
+                saved_row = _upsert_summary(news_id, resolved_type, lines, summary_text)
+            except IntegrityError:
+                # 다른 요청이 같은 키(uq_news_summary_key)를 먼저 저장함 → 그 행을 갱신
+                db.session.rollback()
+                saved_row = _upsert_summary(news_id, resolved_type, lines, summary_text)
         except SQLAlchemyError as e:
             current_app.logger.exception(f"[{g.rid}] DB commit failed (/summary)")
             db.session.rollback()
-            return jsonify({"error": "DB_ERROR", "detail": str(e)}), 500
+            return {"error": "DB_ERROR", "detail": str(e)}, 500
 
     # 최종 응답(표준 스키마, 200 통일)
     created_at = (
             (saved_row.created_at if saved_row else datetime.utcnow())
             .replace(microsecond=0).isoformat() + "Z"
     )
-    return jsonify({
+    return {
         "newsId": news_id,
         "type": resolved_type,
         "lines": lines,
         "summary": summary_text,
         "cached": False,
         "createdAt": created_at
-    }), 200
+    }, 200
+
+
+def _upsert_summary(news_id, resolved_type: str, lines: int, summary_text: str):
+    """(news_id, summary_type, lines) 행이 있으면 덮어쓰고 없으면 추가 후 커밋."""
+    row = (
+        NewsSummary.query
+        .filter_by(news_id=news_id, summary_type=resolved_type, lines=lines)
+        .first()
+    )
+    now = datetime.utcnow()
+    if row:
+        # ensemble은 기본 덮어쓰기(필요 시 정책 분기 가능)
+        row.summary_text = summary_text
+        row.created_at = now
+    else:
+        row = NewsSummary(
+            news_id=news_id,
+            summary_type=resolved_type,
+            lines=lines,
+            summary_text=summary_text,
+            created_at=now
+        )
+        db.session.add(row)
+    db.session.commit()
+    return row
@@ -1,10 +1,16 @@
 # app/services/summarizer.py
+import re
+import time
 from openai import OpenAI
 from ..config import Config
 
-_client = OpenAI(api_key=Config.OPENAI_API_KEY)
+# 스텁 모드에서는 API 키 없이도 기동되도록 클라이언트를 만들지 않음
+_client = None if Config.SUMMARIZER_STUB else OpenAI(api_key=Config.OPENAI_API_KEY)
 
 def summarize(text: str, prompt: str) -> str:
+    if Config.SUMMARIZER_STUB:
+        return _stub_summarize(text, prompt)
+
     resp = _client.chat.completions.create(
         model=Config.OPENAI_MODEL,
         messages=[
@@ -20,4 +26,14 @@ def summarize(text: str, prompt: str) -> str:
         ]
     )
     return resp.choices[0].message.content.strip()
+
+def _stub_summarize(text: str, prompt: str) -> str:
+    """오프라인 스텁: 프롬프트의 'N줄'만큼 본문 앞 문장을 줄바꿈으로 이어 반환."""
+    if Config.SUMMARIZER_STUB_DELAY_MS > 0:
+        time.sleep(Config.SUMMARIZER_STUB_DELAY_MS / 1000.0)
+    m = re.search(r"(\d+)\s*줄", prompt or "")
+    lines = int(m.group(1)) if m else 3
+    plain = re.sub(r"<[^>]+>", " ", text or "")
+    sentences = [s.strip() for s in re.split(r"(?<=[.!?])\s+", plain) if s.strip()]
+    return "\n".join(sentences[:max(1, lines)])
 # End of app/services/summarizer.py
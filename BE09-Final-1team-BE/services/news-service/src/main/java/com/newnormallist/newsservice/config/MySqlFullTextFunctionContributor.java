@@ -0,0 +1,26 @@
+package com.newnormallist.newsservice.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * MySQL FULLTEXT 검색 함수 등록
+ * JPQL/Criteria에서 function('match_against', n.title, n.content, :query) 형태로 사용하며
+ * match(title, content) against (? in boolean mode) 로 변환되어 관련도 점수(0 이상)를 반환합니다.
+ * (news 테이블의 ngram FULLTEXT 인덱스 ft_news_title_content 필요)
+ */
+public class MySqlFullTextFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match(?1, ?2) against (?3 in boolean mode)",
+                functionContributions.getTypeConfiguration()
+                        .getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE));
+    }
+}
@@ -84,7 +84,7 @@ public class LegacyNewsController {
 
     @GetMapping("/search")
     public ResponseEntity<?> searchNews(@RequestParam String query, Pageable pageable) {
-        return searchController.searchNews(query, null, null, null, null, null, null, pageable);
+        return searchController.searchNews(query, null, null, null, null, null, null, null, pageable);
     }
 
     @GetMapping("/press/{press}")
@@ -36,8 +36,12 @@ public class NewsController {
      * 뉴스 조회수 증가
      */
     @PostMapping("/{newsId}/view")
-    public ResponseEntity<Void> incrementViewCount(@PathVariable Long newsId) {
-        newsService.incrementViewCount(newsId);
+    public ResponseEntity<Void> incrementViewCount(@PathVariable Long newsId,
+                                                   @AuthenticationPrincipal String userIdString) {
+        // 로그인 사용자의 조회는 추천 벡터 갱신 활동으로도 기록
+        Long userId = (userIdString == null || "anonymousUser".equals(userIdString))
+                ? null : Long.parseLong(userIdString);
+        newsService.incrementViewCount(newsId, userId);
         return ResponseEntity.ok().build();
     }
 
@@ -43,7 +43,7 @@ public class SearchController {
             @Parameter(description = "검색어", schema = @Schema(example = "AI 반도체")) 
             @RequestParam String query,
             
-            @Parameter(description = "정렬 기준", schema = @Schema(allowableValues = {"publishedAt", "views", "relevance"})) 
+            @Parameter(description = "정렬 기준", schema = @Schema(allowableValues = {"publishedAt", "views", "relevance", "title", "press"})) 
             @RequestParam(required = false) String sortBy,
             
             @Parameter(description = "정렬 순서", schema = @Schema(allowableValues = {"asc", "desc"})) 
@@ -61,6 +61,9 @@ public class SearchController {
             @Parameter(description = "언론사", schema = @Schema(example = "조선일보")) 
             @RequestParam(required = false) String press,
             
+            @Parameter(description = "신뢰도 높은 뉴스만 조회", schema = @Schema(example = "true")) 
+            @RequestParam(required = false) Boolean trusted,
+            
             @Parameter(description = "시작일(YYYY-MM-DD)", schema = @Schema(example = "2025-08-01")) 
             @RequestParam(required = false) String startDate,
             
@@ -69,7 +72,7 @@ public class SearchController {
             
             @ParameterObject Pageable pageable) {
         Page<NewsListResponse> news = newsService.searchNewsWithFilters(
-                query, sortBy, sortOrder, category, press, startDate, endDate, pageable);
+                query, sortBy, sortOrder, category, press, trusted, startDate, endDate, pageable);
         return ResponseEntity.ok(news);
     }
 
@@ -5,12 +5,19 @@ import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Objects;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
-@Table(name = "news")
+@Table(name = "news", indexes = {
+    // 카테고리별 최신순 / 상태별 최신순 조회를 인덱스 범위 스캔으로 처리
+    @Index(name = "idx_news_cat_pub_dt", columnList = "category_name, published_at_dt"),
+    @Index(name = "idx_news_status_pub_dt", columnList = "status, published_at_dt"),
+    // 발행일 기준 기간의 첫 news_id 조회 (툴팁 마크업 스윕 시작점)
+    @Index(name = "idx_news_pub_dt", columnList = "published_at_dt")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -36,9 +43,14 @@ public class News {
     @Column(name = "press", nullable = false, length = 500)
     private String press;
 
+    // 크롤러가 저장하는 원본 발행일 문자열 (하위 호환용)
     @Column(name = "published_at", length = 100)
     private String publishedAt;
 
+    // 정렬/범위 조회용 발행일 (published_at 문자열에서 파생)
+    @Column(name = "published_at_dt", columnDefinition = "DATETIME")
+    private LocalDateTime publishedDateTime;
+
     @Column(name = "reporter", nullable = false, length = 500)
     private String reporter;
 
@@ -66,6 +78,12 @@ public class News {
     @Builder.Default
     private Long viewCount = 0L;
 
+    // 신고 건수 (news_complaint 집계의 비정규화 카운터)
+    // 엔티티 저장 시 덮어쓰지 않도록 updatable = false, 증가는 NewsRepository.incrementComplaintCount로만 수행
+    @Column(name = "complaint_count", nullable = false, updatable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+    @Builder.Default
+    private Integer complaintCount = 0;
+
     // 뉴스레터와의 N:N 연결
     @OneToMany(mappedBy = "news")
     private List<NewsletterNews> newsletterNewsList;
@@ -79,6 +97,37 @@ public class News {
     @Column(name = "updated_at", columnDefinition = "DATETIME(6)")
     private LocalDateTime updatedAt;
 
+    private static final DateTimeFormatter PUBLISHED_AT_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    @PrePersist
+    @PreUpdate
+    void syncPublishedDateTime() {
+        LocalDateTime parsed = parsePublishedAt(publishedAt);
+        if (parsed != null) {
+            publishedDateTime = parsed;
+        }
+    }
+
+    /**
+     * 발행일 문자열 파싱
+     * "yyyy-MM-dd HH:mm:ss", 마이크로초(.000000), ISO 8601('T' 구분자) 형식을 허용하며 실패 시 null 반환
+     */
+    public static LocalDateTime parsePublishedAt(String publishedAt) {
+        if (publishedAt == null || publishedAt.isBlank()) {
+            return null;
+        }
+        String value = publishedAt.trim().replace('T', ' ');
+        int dotIndex = value.indexOf('.');
+        if (dotIndex != -1) {
+            value = value.substring(0, dotIndex);
+        }
+        try {
+            return LocalDateTime.parse(value, PUBLISHED_AT_FORMATTER);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
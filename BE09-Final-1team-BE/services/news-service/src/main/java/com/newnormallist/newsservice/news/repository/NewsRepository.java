@@ -4,6 +4,8 @@ import com.newnormallist.newsservice.news.entity.News;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,27 +15,27 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface NewsRepository extends JpaRepository<News, Long> {
+public interface NewsRepository extends JpaRepository<News, Long>, JpaSpecificationExecutor<News> {
 
 
-    Optional<News> findTop1ByImageUrlIsNotNullOrderByPublishedAtDesc();
+    Optional<News> findTop1ByImageUrlIsNotNullOrderByPublishedDateTimeDesc();
 
     List<News> findByTitleContainingAndImageUrlIsNotNull(String keyword);
 
-    @Query("SELECT n FROM News n WHERE STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') > :since")
+    @Query("SELECT n FROM News n WHERE n.publishedDateTime > :since")
     List<News> findByPublishedAtAfter(@Param("since") LocalDateTime since);
 
     // 카테고리별 뉴스 조회 (최신순)
-    @Query("SELECT n FROM News n WHERE n.categoryName = :category ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+    @Query("SELECT n FROM News n WHERE n.categoryName = :category ORDER BY n.publishedDateTime DESC")
     Page<News> findByCategory(@Param("category") Category category, Pageable pageable);
 
     // 키워드 검색 (제목, 내용에서 검색, 최신순)
     @Query("SELECT n FROM News n WHERE " +
-           "n.title LIKE %:keyword% OR n.content LIKE %:keyword% ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+           "n.title LIKE %:keyword% OR n.content LIKE %:keyword% ORDER BY n.publishedDateTime DESC")
     Page<News> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
     // 최신 뉴스 조회 (발행일 기준 내림차순)
-    @Query("SELECT n FROM News n ORDER BY n.publishedAt DESC")
+    @Query("SELECT n FROM News n ORDER BY n.publishedDateTime DESC")
     Page<News> findLatestNews(Pageable pageable);
 
     // 인기 뉴스 조회 (신뢰도 기준 내림차순)
@@ -41,26 +43,26 @@ public interface NewsRepository extends JpaRepository<News, Long> {
     Page<News> findPopularNews(Pageable pageable);
 
     // 트렌딩 뉴스 조회 (신뢰도 + 발행일 기준)
-    @Query("SELECT n FROM News n ORDER BY n.trusted DESC, STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+    @Query("SELECT n FROM News n ORDER BY n.trusted DESC, n.publishedDateTime DESC")
     Page<News> findTrendingNews(Pageable pageable);
 
-    // 특정 기간 내 뉴스 조회 (페이징) - String 비교로 변경
-    @Query("SELECT n FROM News n WHERE n.publishedAt BETWEEN :startDate AND :endDate ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
-    Page<News> findByPublishedAtBetween(@Param("startDate") String startDate,
-                                       @Param("endDate") String endDate,
+    // 특정 기간 내 뉴스 조회 (페이징)
+    @Query("SELECT n FROM News n WHERE n.publishedDateTime BETWEEN :startDate AND :endDate ORDER BY n.publishedDateTime DESC")
+    Page<News> findByPublishedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                       @Param("endDate") LocalDateTime endDate,
                                        Pageable pageable);
 
-    // 특정 기간 내 뉴스 조회 (List 반환) - String 비교로 변경
-    @Query("SELECT n FROM News n WHERE n.publishedAt BETWEEN :startDate AND :endDate ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
-    List<News> findByPublishedAtBetween(@Param("startDate") String startDate,
-                                       @Param("endDate") String endDate);
+    // 특정 기간 내 뉴스 조회 (List 반환)
+    @Query("SELECT n FROM News n WHERE n.publishedDateTime BETWEEN :startDate AND :endDate ORDER BY n.publishedDateTime DESC")
+    List<News> findByPublishedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                       @Param("endDate") LocalDateTime endDate);
 
     // 신뢰도가 높은 뉴스 조회 (최신순)
-    @Query("SELECT n FROM News n WHERE n.trusted = true ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+    @Query("SELECT n FROM News n WHERE n.trusted = true ORDER BY n.publishedDateTime DESC")
     Page<News> findByTrustedTrue(Pageable pageable);
 
     // 특정 언론사 뉴스 조회 (최신순)
-    @Query("SELECT n FROM News n WHERE n.press = :press ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+    @Query("SELECT n FROM News n WHERE n.press = :press ORDER BY n.publishedDateTime DESC")
     Page<News> findByPress(@Param("press") String press, Pageable pageable);
 
     // 카테고리별 뉴스 개수 조회
@@ -71,7 +73,7 @@ public interface NewsRepository extends JpaRepository<News, Long> {
     Page<News> findAll(Pageable pageable);
 
     // 전체 뉴스 조회 (최신순 정렬)
-    @Query("SELECT n FROM News n ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+    @Query("SELECT n FROM News n ORDER BY n.publishedDateTime DESC")
     Page<News> findAllByOrderByPublishedAtDesc(Pageable pageable);
 
     // 연관뉴스 조회를 위한 메서드들
@@ -96,10 +98,10 @@ public interface NewsRepository extends JpaRepository<News, Long> {
                                           @Param("excludeNewsId") Long excludeNewsId);
 
     // 특정 기간, 같은 카테고리, 특정 뉴스들 제외
-    @Query("SELECT n FROM News n WHERE n.categoryName = :categoryName AND n.publishedAt BETWEEN :startDate AND :endDate AND n.newsId NOT IN :excludeNewsIds")
+    @Query("SELECT n FROM News n WHERE n.categoryName = :categoryName AND n.publishedDateTime BETWEEN :startDate AND :endDate AND n.newsId NOT IN :excludeNewsIds")
     List<News> findByCategoryNameAndPublishedAtBetweenAndNewsIdNotIn(@Param("categoryName") Category categoryName,
-                                                                     @Param("startDate") String startDate,
-                                                                     @Param("endDate") String endDate,
+                                                                     @Param("startDate") LocalDateTime startDate,
+                                                                     @Param("endDate") LocalDateTime endDate,
                                                                      @Param("excludeNewsIds") List<Long> excludeNewsIds);
 
     // 같은 카테고리, 특정 뉴스들 제외 (페이징)
@@ -110,7 +112,7 @@ public interface NewsRepository extends JpaRepository<News, Long> {
            "n.categoryName IN :categories OR " +
            "n.title LIKE %:keyword% OR " +
            "n.content LIKE %:keyword% " +
-           "ORDER BY n.trusted DESC, STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+           "ORDER BY n.trusted DESC, n.publishedDateTime DESC")
     List<News> findPersonalizedNews(@Param("userId") Long userId,
                                    @Param("categories") List<String> userPreferences,
                                    @Param("keyword") String readingHistory,
@@ -118,12 +120,21 @@ public interface NewsRepository extends JpaRepository<News, Long> {
 
     // 개인화된 뉴스 조회 (카테고리 기반)
     @Query("SELECT n FROM News n WHERE n.categoryName IN :categories " +
-           "ORDER BY n.trusted DESC, STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+           "ORDER BY n.trusted DESC, n.publishedDateTime DESC")
     List<News> findPersonalizedNewsByCategories(@Param("categories") List<Category> categories,
                                                Pageable pageable);
 
+    // 신고 건수 카운터 증가 (동시 신고에도 누락되지 않도록 DB에서 원자적으로 증가)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE News n SET n.complaintCount = n.complaintCount + 1 WHERE n.newsId = :newsId")
+    int incrementComplaintCount(@Param("newsId") Long newsId);
+
+    // 신고 건수 카운터 조회 (영속성 컨텍스트가 아닌 DB 값)
+    @Query("SELECT n.complaintCount FROM News n WHERE n.newsId = :newsId")
+    Integer findComplaintCountByNewsId(@Param("newsId") Long newsId);
+
     // 카테고리별 신뢰도 높은 뉴스 조회
     @Query("SELECT n FROM News n WHERE n.categoryName = :category AND n.trusted = true " +
-           "ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+           "ORDER BY n.publishedDateTime DESC")
     Page<News> findByCategoryAndTrustedTrue(@Param("category") Category category, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.newnormallist.newsservice.news.repository;
+
+import com.newnormallist.newsservice.config.MySqlFullTextFunctionContributor;
+import com.newnormallist.newsservice.news.entity.Category;
+import com.newnormallist.newsservice.news.entity.News;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 뉴스 검색 조건 (JpaSpecificationExecutor용)
+ * 각 조건은 값이 없으면 Specification.unrestricted()를 반환하므로 Specification.allOf(..)로 그대로 조합할 수 있습니다.
+ */
+public final class NewsSpecifications {
+
+    private NewsSpecifications() {
+    }
+
+    /**
+     * FULLTEXT 검색 (BOOLEAN MODE 쿼리)
+     */
+    public static Specification<News> matchesFullText(String booleanModeQuery) {
+        if (booleanModeQuery == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> cb.gt(fullTextScore(root, cb, booleanModeQuery), 0.0);
+    }
+
+    /**
+     * FULLTEXT 관련도순 정렬 (동점이면 최신순)
+     * count 쿼리에서는 Spring Data가 정렬을 제거하므로 목록 조회에만 적용됩니다.
+     */
+    public static Specification<News> orderByRelevance(String booleanModeQuery) {
+        if (booleanModeQuery == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> {
+            query.orderBy(
+                    cb.desc(fullTextScore(root, cb, booleanModeQuery)),
+                    cb.desc(root.get("publishedDateTime")),
+                    cb.desc(root.get("newsId")));
+            return null;
+        };
+    }
+
+    /**
+     * 제목/본문 LIKE 검색 (FULLTEXT 미사용 시, 또는 FULLTEXT로 찾을 수 없는 1글자 단어)
+     */
+    public static Specification<News> containsKeyword(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return Specification.unrestricted();
+        }
+        String pattern = "%" + keyword.trim() + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(root.get("title"), pattern),
+                cb.like(root.get("content"), pattern));
+    }
+
+    public static Specification<News> hasCategory(Category category) {
+        if (category == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> cb.equal(root.get("categoryName"), category);
+    }
+
+    public static Specification<News> pressContains(String press) {
+        if (press == null || press.isBlank()) {
+            return Specification.unrestricted();
+        }
+        String pattern = "%" + press.trim().toLowerCase() + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("press")), pattern);
+    }
+
+    public static Specification<News> isTrusted(Boolean trusted) {
+        if (trusted == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> cb.equal(root.get("trusted"), trusted);
+    }
+
+    /**
+     * 발행일 >= from
+     */
+    public static Specification<News> publishedFrom(LocalDateTime from) {
+        if (from == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("publishedDateTime"), from);
+    }
+
+    /**
+     * 발행일 < until
+     */
+    public static Specification<News> publishedBefore(LocalDateTime until) {
+        if (until == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> cb.lessThan(root.get("publishedDateTime"), until);
+    }
+
+    private static Expression<Double> fullTextScore(Root<News> root, CriteriaBuilder cb, String booleanModeQuery) {
+        return cb.function(MySqlFullTextFunctionContributor.MATCH_AGAINST, Double.class,
+                root.get("title"), root.get("content"), cb.literal(booleanModeQuery));
+    }
+}
@@ -0,0 +1,56 @@
+package com.newnormallist.newsservice.news.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * news.complaint_count 카운터 보정
+ * - 카운터는 신고 시점에 증가하지만, 신고 행의 수동 삭제/직접 INSERT 등으로 어긋날 수 있음
+ * - news_complaint 집계를 원본으로 보고 차이가 있는 행만 갱신
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ComplaintCountReconcileService {
+
+    // 신고가 있는 뉴스: 집계값과 다르면 맞춤 (신고 테이블이 작으므로 집계 비용이 낮음)
+    private static final String SYNC_COUNTED_SQL =
+            "UPDATE news n " +
+            "JOIN (SELECT news_id, COUNT(*) AS cnt FROM news_complaint GROUP BY news_id) c ON c.news_id = n.news_id " +
+            "SET n.complaint_count = c.cnt " +
+            "WHERE n.complaint_count <> c.cnt";
+
+    // 신고가 없는데 카운터가 남아있는 뉴스: 0으로 초기화
+    private static final String RESET_ORPHAN_SQL =
+            "UPDATE news n SET n.complaint_count = 0 " +
+            "WHERE n.complaint_count > 0 " +
+            "AND NOT EXISTS (SELECT 1 FROM news_complaint c WHERE c.news_id = n.news_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Scheduled(cron = "${news.complaint-count.reconcile-cron:0 0 4 * * ?}")
+    public void reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int synced = jdbcTemplate.update(SYNC_COUNTED_SQL);
+            int reset = jdbcTemplate.update(RESET_ORPHAN_SQL);
+
+            if (synced > 0 || reset > 0) {
+                log.warn("신고 건수 카운터 보정: 불일치={}건, 초기화={}건", synced, reset);
+            }
+        } catch (Exception e) {
+            log.error("신고 건수 카운터 보정 실패", e);
+        } finally {
+            running.set(false);
+        }
+    }
+}
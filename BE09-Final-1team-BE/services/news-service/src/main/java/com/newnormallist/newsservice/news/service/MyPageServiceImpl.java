@@ -5,8 +5,10 @@ import com.newnormallist.newsservice.news.entity.Category;
 import com.newnormallist.newsservice.news.entity.News;
 import com.newnormallist.newsservice.news.entity.NewsScrap;
 import com.newnormallist.newsservice.news.repository.NewsScrapRepository;
+import com.newnormallist.newsservice.recommendation.event.UserActivityEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -24,6 +26,7 @@ import java.util.stream.Collectors;
 public class MyPageServiceImpl implements MyPageService {
 
     private final NewsScrapRepository newsScrapRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Page<NewsListResponse> getScrappedNews(Long userId, String category, String query, boolean uncollectedOnly, Pageable pageable) {
@@ -71,6 +74,7 @@ public class MyPageServiceImpl implements MyPageService {
             throw new IllegalStateException("스크랩된 뉴스를 찾을 수 없습니다.");
         }
         newsScrapRepository.deleteAll(newsScraps);
+        eventPublisher.publishEvent(new UserActivityEvent(userId, UserActivityEvent.Type.SCRAP));
     }
 
     private NewsListResponse convertToNewsListResponse(NewsScrap newsScrap) {
@@ -30,6 +30,7 @@ public interface NewsService {
     List<NewsResponse> getPersonalizedNews(Long userId);
     List<NewsResponse> getTrendingNews();
     void incrementViewCount(Long newsId);
+    void incrementViewCount(Long newsId, Long userId); // 로그인 사용자의 조회는 추천 벡터 활동으로도 기록
     Long getViewCount(Long newsId);
     Long getDailyViewCount(Long newsId);
 
@@ -39,8 +40,8 @@ public interface NewsService {
     Page<NewsListResponse> getNewsByCategory(Category category, Pageable pageable);
     Page<NewsListResponse> searchNews(String query, Pageable pageable);
     Page<NewsListResponse> searchNewsWithFilters(String query, String sortBy, String sortOrder,
-                                                String category, String press, String startDate,
-                                                String endDate, Pageable pageable);
+                                                String category, String press, Boolean trusted,
+                                                String startDate, String endDate, Pageable pageable);
     Page<NewsListResponse> getPopularNews(Pageable pageable);
     Page<NewsListResponse> getLatestNews(Pageable pageable);
     List<CategoryDto> getAllCategories();
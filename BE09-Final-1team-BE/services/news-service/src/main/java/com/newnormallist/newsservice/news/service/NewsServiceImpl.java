@@ -4,13 +4,17 @@ import com.newnormallist.newsservice.news.dto.*;
 import com.newnormallist.newsservice.news.entity.*;
 import com.newnormallist.newsservice.news.exception.*;
 import com.newnormallist.newsservice.news.repository.*;
-import com.newnormallist.newsservice.tooltip.client.TooltipServiceClient;
-import com.newnormallist.newsservice.tooltip.dto.*;
+import com.newnormallist.newsservice.tooltip.service.TooltipMarkupService;
+import com.newnormallist.newsservice.summarizer.service.NewsSummaryService;
 import com.newnormallist.newsservice.news.client.UserServiceClient;
 import com.newnormallist.newsservice.news.client.dto.*;
+import com.newnormallist.newsservice.recommendation.event.UserActivityEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -18,7 +22,6 @@ import org.springframework.util.StringUtils;
 
 import java.time.*;
 import java.util.*;
-import java.util.concurrent.*;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,14 +38,19 @@ public class NewsServiceImpl implements NewsService {
     @Autowired
     private UserServiceClient userServiceClient;
 
+    // 툴팁 마크업은 미리 생성해 저장한 것을 사용
     @Autowired
-    private TooltipServiceClient tooltipServiceClient;
+    private TooltipMarkupService tooltipMarkupService;
+
+    @Autowired
+    private NewsSummaryService newsSummaryService;
     
     @Autowired
     private RedisTemplate<String, String> redisTemplate;
-    
-    // 비동기 처리를 위한 Executor (커넥션 풀과 균형 맞춤)
-    private final Executor asyncExecutor = Executors.newFixedThreadPool(3); // 5 → 3으로 감소
+
+    // 조회수 DB 반영은 write-behind 버퍼에서 주기적으로 배치 처리
+    @Autowired
+    private ViewCountFlushService viewCountFlushService;
 
     @Autowired
     private KeywordSubscriptionRepository keywordSubscriptionRepository;
@@ -56,6 +64,21 @@ public class NewsServiceImpl implements NewsService {
     @Autowired
     private NewsComplaintRepository newsComplaintRepository;
 
+    // 조회/스크랩 활동을 추천 벡터 재계산 트리거로 전달
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // 트렌딩 키워드는 수집 시점에 시간 버킷으로 증분 집계
+    @Autowired
+    private TrendingKeywordAggregator trendingKeywordAggregator;
+
+    // 카테고리별 트렌딩 키워드 집계 기간 (30일)
+    private static final int CATEGORY_TRENDING_WINDOW_HOURS = 30 * 24;
+
+    // 키워드 검색에 ngram FULLTEXT 인덱스 사용 여부 (기본값 false: LIKE 검색, 인덱스를 만든 MySQL 환경에서만 true)
+    @Value("${news.search.fulltext-enabled:false}")
+    private boolean fullTextSearchEnabled;
+
 
 
     // 크롤링 관련 메서드들
@@ -96,7 +119,7 @@ public class NewsServiceImpl implements NewsService {
     public Page<NewsResponse> getNews(Category category, String keyword, Pageable pageable) {
         if (keyword != null && !keyword.trim().isEmpty()) {
             // 키워드 검색
-            return newsRepository.searchByKeyword(keyword, pageable)
+            return searchNewsPage(keyword, null, null, null, null, null, null, null, pageable)
                     .map(this::convertToNewsResponse);
         } else if (category != null) {
             // 카테고리별 검색
@@ -114,36 +137,18 @@ public class NewsServiceImpl implements NewsService {
         News news = newsRepository.findById(newsId)
                 .orElseThrow(() -> new NewsNotFoundException("존재하지 않는 뉴스입니다: " + newsId));
 
-        // 신고 건수 확인
-        long complaintCount = newsComplaintRepository.countByNewsNewsId(newsId);
-        if (complaintCount >= 10) {
+        // 신고 건수 확인 (비정규화 카운터 사용, 집계 쿼리 없음)
+        if (news.getComplaintCount() != null && news.getComplaintCount() >= 10) {
             throw new NewsForbiddenException("많은 신고가 접수되어 접근이 제한된 뉴스입니다.");
         }
 
         // ----- 툴팁 기능을 위한 코드 시작 -----
-        // 툴팁 서비스를 호출하여 마크업된 본문 가져오기
-        String processedContent = getProcessedContent(newsId, news.getContent());
+        // 미리 생성된 마크업 본문 가져오기 (없으면 원본 본문, 생성은 비동기로 예약)
+        String processedContent = tooltipMarkupService.getProcessedContent(news);
 
         return convertToNewsResponseWithTooltip(news, processedContent);
     }
 
-    /**
-     * 툴팁 서비스를 호출하여 마크업된 본문을 가져옵니다.
-     * 실패 시 원본 본문을 반환합니다.
-     */
-    private String getProcessedContent(Long newsId, String originalContent) {
-        try {
-            log.info("🟡 뉴스 ID {}에 대해 툴팁 서비스 호출을 시작합니다.", newsId);
-            ProcessContentRequest request = new ProcessContentRequest(newsId, originalContent);
-            ProcessContentResponse response = tooltipServiceClient.processContent(request);
-            log.info("🟢 뉴스 ID {} 툴팁 마크업 완료!", newsId);
-            return response.processedContent();
-        } catch (Exception e) {
-            log.warn("⚠️ 뉴스 ID {} 툴팁 서비스 호출 실패, 원본 텍스트 사용: {}", newsId, e.getMessage());
-            return originalContent;
-        }
-    }
-
     /**
      * 툴팁이 적용된 NewsResponse 생성
      */
@@ -154,7 +159,7 @@ public class NewsServiceImpl implements NewsService {
                 .content(processedContent) 
                 .press(news.getPress())
                 .link(news.getLink())
-                .publishedAt(parsePublishedAt(news.getPublishedAt()))
+                .publishedAt(resolvePublishedAt(news))
                 .reporterName(news.getReporter())
                 .createdAt(news.getCreatedAt())
                 .updatedAt(news.getUpdatedAt())
@@ -242,6 +247,14 @@ public class NewsServiceImpl implements NewsService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public void incrementViewCount(Long newsId, Long userId) {
+        incrementViewCount(newsId);
+        if (userId != null) {
+            eventPublisher.publishEvent(new UserActivityEvent(userId, UserActivityEvent.Type.READ));
+        }
+    }
+
     @Override
     @Transactional(readOnly = false)
     public void incrementViewCount(Long newsId) {
@@ -256,8 +269,8 @@ public class NewsServiceImpl implements NewsService {
             // 일일 조회수는 자정에 만료
             redisTemplate.expire(dailyKey, Duration.ofDays(1));
             
-            // 비동기로 DB 업데이트 (배치 처리)
-            CompletableFuture.runAsync(() -> updateViewCountInDB(newsId), asyncExecutor);
+            // DB 반영은 증가분만 버퍼에 기록 (주기적으로 배치 UPDATE)
+            viewCountFlushService.record(newsId);
             
             log.debug("뉴스 조회수 증가: newsId={}", newsId);
             
@@ -269,8 +282,7 @@ public class NewsServiceImpl implements NewsService {
 
     @Override
     public Page<NewsListResponse> getTrendingNews(Pageable pageable) {
-        return newsRepository.findTrendingNews(pageable)
-                .map(this::convertToNewsListResponse);
+        return toNewsListPage(newsRepository.findTrendingNews(pageable));
     }
 
     @Override
@@ -291,150 +303,141 @@ public class NewsServiceImpl implements NewsService {
             int start = (int) pageable.getOffset();
             int end = Math.min(start + pageable.getPageSize(), recommendedNews.size());
             
-            List<NewsListResponse> pageContent = recommendedNews
-                    .subList(start, end)
-                    .stream()
-                    .map(this::convertToNewsListResponse)
-                    .collect(Collectors.toList());
+            List<NewsListResponse> pageContent = toNewsListResponses(recommendedNews.subList(start, end));
             
             return new PageImpl<>(pageContent, pageable, recommendedNews.size());
             
         } catch (Exception e) {
             log.error("추천 뉴스 조회 실패: userId={}", userId, e);
             // 폴백: 신뢰도 높은 뉴스 반환
-            return newsRepository.findByTrustedTrue(pageable)
-                    .map(this::convertToNewsListResponse);
+            return toNewsListPage(newsRepository.findByTrustedTrue(pageable));
         }
     }
 
     @Override
     public Page<NewsListResponse> getNewsByCategory(Category category, Pageable pageable) {
-        return newsRepository.findByCategory(category, pageable)
-                .map(this::convertToNewsListResponse);
+        return toNewsListPage(newsRepository.findByCategory(category, pageable));
     }
 
     @Override
     public Page<NewsListResponse> searchNews(String query, Pageable pageable) {
-        return newsRepository.searchByKeyword(query, pageable)
-                .map(this::convertToNewsListResponse);
+        return toNewsListPage(searchNewsPage(query, null, null, null, null, null, null, null, pageable));
     }
 
     @Override
     public Page<NewsListResponse> searchNewsWithFilters(String query, String sortBy, String sortOrder,
-            String category, String press, String startDate,
+            String category, String press, Boolean trusted, String startDate,
             String endDate, Pageable pageable) {
-        // 기본 검색 결과 가져오기
-        Page<News> newsPage = newsRepository.searchByKeyword(query, pageable);
-
-        // 필터링 적용
-        List<News> filteredNews = newsPage.getContent().stream()
-                .filter(news -> {
-                    // 카테고리 필터
-                    if (category != null && !category.isEmpty()) {
-                        try {
-                            Category categoryEnum = Category.valueOf(category.toUpperCase());
-                            if (!news.getCategoryName().equals(categoryEnum)) {
-                                return false;
-                            }
-                        } catch (IllegalArgumentException e) {
-                            return false;
-                        }
-                    }
-
-                    // 언론사 필터
-                    if (press != null && !press.isEmpty()) {
-                        if (!news.getPress().toLowerCase().contains(press.toLowerCase())) {
-                            return false;
-                        }
-                    }
-
-                    // 날짜 필터
-                    if (startDate != null && !startDate.isEmpty()) {
-                        LocalDateTime start = parsePublishedAt(startDate);
-                        if (news.getCreatedAt().isBefore(start)) {
-                            return false;
-                        }
-                    }
-
-                    if (endDate != null && !endDate.isEmpty()) {
-                        LocalDateTime end = parsePublishedAt(endDate);
-                        if (news.getCreatedAt().isAfter(end)) {
-                            return false;
-                        }
-                    }
-
-                    return true;
-                })
-                .collect(Collectors.toList());
+        // 필터/정렬/페이징을 모두 하나의 쿼리(+count 쿼리)로 DB에서 처리
+        Category categoryEnum = null;
+        if (category != null && !category.isEmpty()) {
+            categoryEnum = stringToCategory(category);
+            if (categoryEnum == null) {
+                return Page.empty(pageable);
+            }
+        }
+        LocalDate start = parseDateParam(startDate);
+        LocalDate end = parseDateParam(endDate);
 
-        // 정렬 적용
-        if (sortBy != null && !sortBy.isEmpty()) {
-            String order = (sortOrder != null && sortOrder.equalsIgnoreCase("desc")) ? "desc" : "asc";
-
-            switch (sortBy.toLowerCase()) {
-                case "date":
-                case "publishedat":
-                    if (order.equals("desc")) {
-                        filteredNews.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
-                    } else {
-                        filteredNews.sort((a, b) -> a.getCreatedAt().compareTo(b.getCreatedAt()));
-                    }
-                    break;
-//                case "viewcount":
-//                    if (order.equals("desc")) {
-//                        filteredNews.sort((a, b) -> Integer.compare(b.getViewCount() != null ? b.getViewCount() : 0,
-//                                                                   a.getViewCount() != null ? a.getViewCount() : 0));
-//                    } else {
-//                        filteredNews.sort((a, b) -> Integer.compare(a.getViewCount() != null ? a.getViewCount() : 0,
-//                                                                   b.getViewCount() != null ? b.getViewCount() : 0));
-//                    }
-//                    break;
-                case "title":
-                    if (order.equals("desc")) {
-                        filteredNews.sort((a, b) -> b.getTitle().compareTo(a.getTitle()));
-                    } else {
-                        filteredNews.sort((a, b) -> a.getTitle().compareTo(b.getTitle()));
-                    }
-                    break;
-                case "press":
-                    if (order.equals("desc")) {
-                        filteredNews.sort((a, b) -> b.getPress().compareTo(a.getPress()));
-                    } else {
-                        filteredNews.sort((a, b) -> a.getPress().compareTo(b.getPress()));
-                    }
-                    break;
-                default:
-                    // 기본 정렬: 최신순
-                    filteredNews.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
+        return toNewsListPage(searchNewsPage(query, sortBy, sortOrder, categoryEnum, press, trusted,
+                start != null ? start.atStartOfDay() : null,
+                end != null ? end.plusDays(1).atStartOfDay() : null,
+                pageable));
+    }
+
+    /**
+     * 키워드 검색 공통 처리
+     * 전문 검색이 가능하면 FULLTEXT, 아니면 LIKE 조건으로 조회
+     * FULLTEXT 검색 시 ngram 토큰보다 짧은 단어(1글자)는 LIKE 조건으로 함께 적용
+     * 검색어가 모두 1글자면 LIKE 조건으로만 조회
+     * 정렬 기준이 없거나 relevance면 관련도순(FULLTEXT) 또는 최신순(LIKE)
+     */
+    private Page<News> searchNewsPage(String keyword, String sortBy, String sortOrder,
+                                      Category category, String press, Boolean trusted,
+                                      LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+        SearchKeyword searchKeyword = fullTextSearchEnabled ? SearchKeyword.parse(keyword) : null;
+        String booleanModeQuery = searchKeyword != null ? searchKeyword.booleanModeQuery() : null;
+
+        Specification<News> keywordSpec;
+        if (booleanModeQuery != null) {
+            List<Specification<News>> conditions = new ArrayList<>();
+            conditions.add(NewsSpecifications.matchesFullText(booleanModeQuery));
+            for (String term : searchKeyword.shortTerms()) {
+                conditions.add(NewsSpecifications.containsKeyword(term));
             }
+            keywordSpec = Specification.allOf(conditions);
+        } else {
+            keywordSpec = NewsSpecifications.containsKeyword(keyword);
         }
 
-        // 페이징 적용
-        int pageSize = pageable.getPageSize();
-        int pageNumber = pageable.getPageNumber();
-        int start = pageNumber * pageSize;
-        int end = Math.min(start + pageSize, filteredNews.size());
+        Specification<News> spec = Specification.allOf(
+                keywordSpec,
+                NewsSpecifications.hasCategory(category),
+                NewsSpecifications.pressContains(press),
+                NewsSpecifications.isTrusted(trusted),
+                NewsSpecifications.publishedFrom(startDate),
+                NewsSpecifications.publishedBefore(endDate));
 
-        List<News> pagedNews = filteredNews.subList(start, end);
-        List<NewsListResponse> responseList = pagedNews.stream()
-                .map(this::convertToNewsListResponse)
-                .collect(Collectors.toList());
+        Sort sort = resolveSearchSort(sortBy, sortOrder);
+        if (sort.isUnsorted()) {
+            if (booleanModeQuery != null) {
+                spec = spec.and(NewsSpecifications.orderByRelevance(booleanModeQuery));
+            } else {
+                sort = Sort.by(Sort.Direction.DESC, "publishedDateTime", "newsId");
+            }
+        }
+
+        Pageable pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+        return newsRepository.findAll(spec, pageRequest);
+    }
 
-        // Page 객체 생성
-        return new org.springframework.data.domain.PageImpl<>(
-                responseList, pageable, filteredNews.size());
+    /**
+     * 검색 정렬 기준 변환 (relevance/미지정은 unsorted 반환)
+     * 동일 값에서도 페이지 경계가 흔들리지 않도록 newsId를 보조 정렬로 추가
+     */
+    private Sort resolveSearchSort(String sortBy, String sortOrder) {
+        if (sortBy == null || sortBy.isEmpty()) {
+            return Sort.unsorted();
+        }
+        Sort.Direction direction = (sortOrder != null && sortOrder.equalsIgnoreCase("desc"))
+                ? Sort.Direction.DESC : Sort.Direction.ASC;
+
+        String property = switch (sortBy.toLowerCase()) {
+            case "date", "publishedat" -> "publishedDateTime";
+            case "views", "viewcount" -> "viewCount";
+            case "title" -> "title";
+            case "press" -> "press";
+            default -> null; // relevance 포함
+        };
+        if (property == null) {
+            return Sort.unsorted();
+        }
+        return Sort.by(direction, property).and(Sort.by(direction, "newsId"));
+    }
+
+    /**
+     * 검색 기간 파라미터(YYYY-MM-DD) 파싱, 실패 시 필터 미적용
+     */
+    private LocalDate parseDateParam(String date) {
+        if (date == null || date.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date.trim().length() > 10 ? date.trim().substring(0, 10) : date.trim());
+        } catch (Exception e) {
+            log.warn("검색 기간 파싱 실패, 필터를 적용하지 않습니다: {}", date);
+            return null;
+        }
     }
 
     @Override
     public Page<NewsListResponse> getPopularNews(Pageable pageable) {
-        return newsRepository.findPopularNews(pageable)
-                .map(this::convertToNewsListResponse);
+        return toNewsListPage(newsRepository.findPopularNews(pageable));
     }
 
     @Override
     public Page<NewsListResponse> getLatestNews(Pageable pageable) {
-        return newsRepository.findLatestNews(pageable)
-                .map(this::convertToNewsListResponse);
+        return toNewsListPage(newsRepository.findLatestNews(pageable));
     }
 
     @Override
@@ -448,19 +451,12 @@ public class NewsServiceImpl implements NewsService {
     // 새로 추가된 메서드들의 구현
     @Override
     public Page<NewsListResponse> getNewsByPress(String press, Pageable pageable) {
-        return newsRepository.findByPress(press, pageable)
-                .map(this::convertToNewsListResponse);
+        return toNewsListPage(newsRepository.findByPress(press, pageable));
     }
 
     @Override
     public List<NewsListResponse> getNewsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        // LocalDateTime을 String으로 변환하여 전달
-        String startDateStr = startDate.toString();
-        String endDateStr = endDate.toString();
-        return newsRepository.findByPublishedAtBetween(startDateStr, endDateStr)
-                .stream()
-                .map(this::convertToNewsListResponse)
-                .collect(Collectors.toList());
+        return toNewsListResponses(newsRepository.findByPublishedAtBetween(startDate, endDate));
     }
 
     @Override
@@ -492,12 +488,17 @@ public class NewsServiceImpl implements NewsService {
                 .press(newsCrawl.getPress())
                 .reporter(newsCrawl.getReporterName())
                 .publishedAt(newsCrawl.getPublishedAt().toString())
+                .publishedDateTime(newsCrawl.getPublishedAt())
                 .trusted(calculateTrusted(newsCrawl)) // 신뢰도 계산
                 .categoryName(newsCrawl.getCategory()) // 카테고리 설정
                 .dedupState(DedupState.KEPT) // 기본값
                 .build();
 
         newsRepository.save(news);
+
+        // 툴팁 마크업, 기본 요약 미리 생성
+        tooltipMarkupService.requestGeneration(news.getNewsId());
+        newsSummaryService.requestPregeneration(news.getNewsId());
     }
 
     @Override
@@ -515,7 +516,7 @@ public class NewsServiceImpl implements NewsService {
                 .press(news.getPress())
                 .link(buildNewsLink(news)) // 뉴스 링크 생성
                 .trusted(news.getTrusted() ? 1 : 0)
-                .publishedAt(parsePublishedAt(news.getPublishedAt()))
+                .publishedAt(resolvePublishedAt(news))
                 .createdAt(news.getCreatedAt())
                 .reporterName(news.getReporter())
                 .categoryName(news.getCategoryName().name())
@@ -527,7 +528,26 @@ public class NewsServiceImpl implements NewsService {
                 .build();
     }
 
-    private NewsListResponse convertToNewsListResponse(News news) {
+    /**
+     * 목록 페이지 변환 (조회수는 페이지 단위로 한 번에 조회)
+     */
+    private Page<NewsListResponse> toNewsListPage(Page<News> page) {
+        return new PageImpl<>(toNewsListResponses(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    /**
+     * 목록 변환 (조회수는 MGET 한 번으로 조회)
+     */
+    private List<NewsListResponse> toNewsListResponses(List<News> newsList) {
+        long[] viewCounts = getViewCounts(newsList);
+        List<NewsListResponse> responses = new ArrayList<>(newsList.size());
+        for (int i = 0; i < newsList.size(); i++) {
+            responses.add(convertToNewsListResponse(newsList.get(i), viewCounts[i]));
+        }
+        return responses;
+    }
+
+    private NewsListResponse convertToNewsListResponse(News news, long viewCount) {
         return NewsListResponse.builder()
                 .newsId(news.getNewsId())
                 .title(news.getTitle())
@@ -535,10 +555,10 @@ public class NewsServiceImpl implements NewsService {
                 .press(news.getPress())
                 .link(buildNewsLink(news)) // 뉴스 링크 생성
                 .trusted(news.getTrusted() ? 1 : 0)
-                .publishedAt(parsePublishedAt(news.getPublishedAt()))
+                .publishedAt(resolvePublishedAt(news))
                 .createdAt(news.getCreatedAt())
                 .reporterName(news.getReporter())
-                .viewCount(getViewCount(news.getNewsId()).intValue()) // 실제 조회수 조회
+                .viewCount((int) viewCount)
                 .categoryName(news.getCategoryName().name())
                 .dedupState(news.getDedupState().name())
                 .dedupStateDescription(news.getDedupState().getDescription())
@@ -594,6 +614,14 @@ public class NewsServiceImpl implements NewsService {
         return trusted >= 70; // 70 이상이면 true
     }
 
+    // 발행일 조회: 타입 컬럼 우선, 백필 전 데이터는 문자열 파싱으로 대체
+    private LocalDateTime resolvePublishedAt(News news) {
+        if (news.getPublishedDateTime() != null) {
+            return news.getPublishedDateTime();
+        }
+        return parsePublishedAt(news.getPublishedAt());
+    }
+
     // 안전한 날짜 파싱 메서드
     private LocalDateTime parsePublishedAt(String publishedAt) {
         if (publishedAt == null || publishedAt.trim().isEmpty()) {
@@ -679,68 +707,16 @@ public class NewsServiceImpl implements NewsService {
 
     @Override
     public List<TrendingKeywordDto> getTrendingKeywordsByCategory(Category category, int limit) {
-        log.info("카테고리별 트렌딩 키워드 조회 시작: category={}, limit={}", category, limit);
-        
-        // 해당 카테고리의 최근 뉴스에서 키워드 추출 (기간을 30일로 확장)
-        LocalDateTime monthAgo = LocalDateTime.now().minusDays(30);
-        log.info("조회 기간: {} ~ {}", monthAgo, LocalDateTime.now());
-        
-        try {
-            // 해당 카테고리의 최근 뉴스 조회 (개수를 500개로 증가)
-            Page<News> categoryNews = newsRepository.findByCategory(category, Pageable.ofSize(500));
-            log.info("카테고리 {} 전체 뉴스 수: {}", category, categoryNews.getTotalElements());
-            
-            List<News> recentNews = categoryNews.getContent().stream()
-                    .filter(news -> {
-                        try {
-                            LocalDateTime publishedAt = LocalDateTime.parse(news.getPublishedAt());
-                            return publishedAt.isAfter(monthAgo);
-                        } catch (Exception e) {
-                            log.debug("날짜 파싱 실패: newsId={}, publishedAt={}", news.getNewsId(), news.getPublishedAt());
-                            return false;
-                        }
-                    })
-                    .collect(Collectors.toList());
+        // 최근 30일 버킷 합산 (기사별 키워드는 수집 시점에 집계됨)
+        List<TrendingKeywordDto> result = trendingKeywordAggregator.topKeywords(
+                category, CATEGORY_TRENDING_WINDOW_HOURS, limit);
 
-            log.info("카테고리 {}의 최근 뉴스 수: {}", category, recentNews.size());
-            
-            if (recentNews.isEmpty()) {
-                log.warn("최근 뉴스가 없어 기본 키워드를 반환합니다: category={}", category);
-                return getDefaultKeywordsByCategory(category, limit);
-            }
-
-            // 키워드 추출 및 빈도 계산
-            Map<String, Long> keywordCounts = recentNews.stream()
-                    .flatMap(news -> extractKeywordsFromNews(news).stream())
-                    .collect(Collectors.groupingBy(keyword -> keyword, Collectors.counting()));
-
-            log.info("추출된 키워드 수: {}", keywordCounts.size());
-            log.debug("키워드 빈도: {}", keywordCounts);
-            
-            List<TrendingKeywordDto> result = keywordCounts.entrySet().stream()
-                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                    .limit(limit)
-                    .map(entry -> TrendingKeywordDto.builder()
-                            .keyword(entry.getKey())
-                            .count(entry.getValue())
-                            .trendScore(entry.getValue().doubleValue())
-                            .build())
-                    .collect(Collectors.toList());
-
-            log.info("카테고리별 트렌드 키워드 결과: category={}, resultSize={}", category, result.size());
-            
-            // 결과가 비어있으면 기본 키워드 반환
-            if (result.isEmpty()) {
-                log.info("추출된 키워드가 없어 기본 키워드를 반환합니다: category={}", category);
-                return getDefaultKeywordsByCategory(category, limit);
-            }
-            
-            return result;
-                    
-        } catch (Exception e) {
-            log.error("카테고리별 트렌딩 키워드 조회 실패: category={}, error={}", category, e.getMessage(), e);
+        // 결과가 비어있으면 기본 키워드 반환
+        if (result.isEmpty()) {
+            log.info("추출된 키워드가 없어 기본 키워드를 반환합니다: category={}", category);
             return getDefaultKeywordsByCategory(category, limit);
         }
+        return result;
     }
 
     @Override
@@ -759,8 +735,9 @@ public class NewsServiceImpl implements NewsService {
         newsComplaintRepository.save(complaint);
         log.info("사용자 {}가 뉴스 {}를 신고했습니다. DB 저장 완료.", userId, newsId);
 
-        // 신고 건수 확인
-        long complaintCount = newsComplaintRepository.countByNewsNewsId(newsId);
+        // 신고 건수 카운터 증가 (신고 저장과 같은 트랜잭션)
+        newsRepository.incrementComplaintCount(newsId);
+        int complaintCount = newsRepository.findComplaintCountByNewsId(newsId);
         log.info("뉴스 {}의 총 신고 건수: {}", newsId, complaintCount);
 
         if (complaintCount >= 20) {
@@ -793,6 +770,7 @@ public class NewsServiceImpl implements NewsService {
 
         newsScrapRepository.save(newsScrap);
         log.info("뉴스 스크랩 완료 (임시 저장): userId={}, newsId={}", userId, newsId);
+        eventPublisher.publishEvent(new UserActivityEvent(userId, UserActivityEvent.Type.SCRAP));
     }
 
     @Override
@@ -897,6 +875,7 @@ public class NewsServiceImpl implements NewsService {
             newsScrapRepository.save(newScrap);
             log.info("새로운 스크랩을 생성하여 컬렉션에 추가: userId={}, newsId={}, collectionId={}", userId, newsId, collectionId);
         }
+        eventPublisher.publishEvent(new UserActivityEvent(userId, UserActivityEvent.Type.SCRAP));
     }
 
     @Override
@@ -994,129 +973,6 @@ public class NewsServiceImpl implements NewsService {
         log.info("컬렉션에서 뉴스 삭제 완료: userId={}, collectionId={}, newsId={}", userId, collectionId, newsId);
     }
 
-    /**
-     * 뉴스에서 키워드 추출
-     */
-    private List<String> extractKeywordsFromNews(News news) {
-        List<String> keywords = new ArrayList<>();
-        
-        // 제목에서 키워드 추출
-        if (news.getTitle() != null) {
-            List<String> titleKeywords = extractKeywordsFromText(news.getTitle());
-            log.debug("제목에서 추출된 키워드: {}", titleKeywords);
-            keywords.addAll(titleKeywords);
-        }
-        
-        // 내용에서 키워드 추출 (내용이 너무 길면 앞부분만 사용, 길이를 1000자로 증가)
-        if (news.getContent() != null) {
-            String content = news.getContent();
-            if (content.length() > 1000) {
-                content = content.substring(0, 1000);
-            }
-            List<String> contentKeywords = extractKeywordsFromText(content);
-            log.debug("내용에서 추출된 키워드 수: {}", contentKeywords.size());
-            keywords.addAll(contentKeywords);
-        }
-        
-        log.debug("전체 추출된 키워드: {}", keywords);
-        return keywords;
-    }
-    
-    /**
-     * 텍스트에서 키워드 추출 - 개선된 필터링 로직
-     */
-    private List<String> extractKeywordsFromText(String text) {
-        if (text == null || text.trim().isEmpty()) {
-            return new ArrayList<>();
-        }
-        
-        List<String> keywords = new ArrayList<>();
-        
-        // 1. 공백으로 분할
-        String[] words = text.split("\\s+");
-        
-        for (String word : words) {
-            if (word == null || word.trim().isEmpty()) {
-                continue;
-            }
-            
-            // 2. 특수문자 제거 (한글, 영문, 숫자만 남김)
-            String cleanedWord = word.replaceAll("[^가-힣0-9A-Za-z]", "");
-            
-            // 3. 개선된 키워드 필터링 조건
-            if (isValidKeyword(cleanedWord)) {
-                keywords.add(cleanedWord);
-                log.debug("추출된 키워드: '{}' (원본: '{}')", cleanedWord, word);
-            }
-        }
-        
-        log.debug("텍스트에서 추출된 키워드 수: {}", keywords.size());
-        return keywords;
-    }
-    
-    /**
-     * 키워드 유효성 검사 - 체계적인 필터링
-     */
-    private boolean isValidKeyword(String word) {
-        if (word == null || word.length() < 2) {
-            return false;
-        }
-        
-        // 1. 불용어 목록에 포함된 단어 제외
-        if (STOPWORDS.contains(word)) {
-            return false;
-        }
-        
-        // 2. 숫자만으로 구성된 단어 제외 (연도, 날짜 등)
-        if (word.matches("^\\d+$")) {
-            return false;
-        }
-        
-        // 3. 특수 패턴 제외
-        if (word.matches(".*[#@$%^&*()].*")) {
-            return false;
-        }
-        
-        // 4. 너무 짧은 영문 단어 제외 (2글자 이하)
-        if (word.matches("^[A-Za-z]{1,2}$")) {
-            return false;
-        }
-        
-        // 5. 반복 문자 패턴 제외 (예: "ㅋㅋㅋ", "ㅎㅎㅎ")
-        if (word.matches("(.)\\1{2,}")) {
-            return false;
-        }
-        
-        // 6. 의미없는 조합어 제외
-        if (isMeaninglessCombination(word)) {
-            return false;
-        }
-        
-        return true;
-    }
-    
-    /**
-     * 의미없는 조합어 판별
-     */
-    private boolean isMeaninglessCombination(String word) {
-        // 의미없는 조합어 패턴들
-        String[] meaninglessPatterns = {
-            "영화의", "기사의", "뉴스의", "사진의", "영상의", "내용의", "정보의",
-            "추출할", "분석할", "조사할", "확인할", "검토할", "검증할",
-            "관련된", "대한", "위한", "통한", "통해", "대해", "관해",
-            "있는", "없는", "같은", "다른", "이런", "그런", "저런",
-            "하는", "되는", "되는", "이되는", "되는", "되는", "되는"
-        };
-        
-        for (String pattern : meaninglessPatterns) {
-            if (word.contains(pattern)) {
-                return true;
-            }
-        }
-        
-        return false;
-    }
-    
     /**
      * 기본 키워드 반환
      */
@@ -1182,35 +1038,6 @@ public class NewsServiceImpl implements NewsService {
                 .collect(Collectors.toList());
     }
     
-    // 확장된 불용어 목록 - 의미없는 단어들을 체계적으로 필터링
-    private static final Set<String> STOPWORDS = Set.of(
-            // 뉴스 관련 일반 용어
-            "속보", "영상", "단독", "인터뷰", "기자", "사진", "종합", "뉴스", "기사", "외신",
-            "현장", "보도", "취재", "논평", "사설", "칼럼", "특집", "기획", "리포트",
-            
-            // 시간 관련
-            "오늘", "내일", "어제", "이번", "지난", "현재", "최근", "곧", "이제",
-            "년", "월", "일", "시", "분", "초", "주", "달", "년도",
-            
-            // 일반적인 조사/어미
-            "것", "수", "등", "및", "또는", "그리고", "하지만", "그러나", "따라서",
-            "있다", "없다", "하다", "되다", "이다", "아니다", "같다", "다르다",
-            "위해", "통해", "대해", "관해", "대한", "관련", "위한", "통한",
-            
-            // 정부/기관 관련
-            "정부", "대통령", "국회", "한국", "대한민국", "국가", "정부기관", "공공기관",
-            "시청", "구청", "군청", "도청", "청", "부", "처", "원",
-            
-            // 일반적인 형용사/부사
-            "최대", "최소", "매우", "정말", "진짜", "완전", "엄청", "너무", "아주",
-            "많이", "조금", "약간", "좀", "더", "가장", "제일", "특히", "특별히",
-            
-            // 기타 의미없는 단어들
-            "내용", "정보", "자료", "데이터", "결과", "상황", "문제", "이슈", "사건",
-            "분석", "전망", "동향", "소식", "업데이트", "변화", "발전", "진전",
-            "영향", "효과", "원인", "이유", "목적", "방법", "과정"
-    );
-    
     private KeywordSubscriptionDto convertToKeywordSubscriptionDto(KeywordSubscription subscription) {
         return KeywordSubscriptionDto.builder()
                 .subscriptionId(subscription.getSubscriptionId())
@@ -1277,33 +1104,6 @@ public class NewsServiceImpl implements NewsService {
     // 조회수 관련 헬퍼 메서드들
     // ========================================
 
-    /**
-     * 비동기로 DB의 조회수 업데이트
-     */
-    private void updateViewCountInDB(Long newsId) {
-        try {
-            // Redis에서 현재 조회수 조회
-            String key = "news:viewcount:" + newsId;
-            String viewCountStr = redisTemplate.opsForValue().get(key);
-            
-            if (viewCountStr != null) {
-                Long viewCount = Long.parseLong(viewCountStr);
-                
-                // DB 업데이트
-                newsRepository.findById(newsId).ifPresent(news -> {
-                    news.setViewCount(viewCount);
-                    newsRepository.save(news);
-                });
-                
-                log.debug("DB 조회수 업데이트 완료: newsId={}, viewCount={}", newsId, viewCount);
-            }
-            
-        } catch (Exception e) {
-            log.error("DB 조회수 업데이트 실패: newsId={}", newsId, e);
-        }
-    }
-
-
     /**
      * 일일 조회수 조회 (Redis에서)
      */
@@ -1651,6 +1451,48 @@ public class NewsServiceImpl implements NewsService {
         }
     }
 
+    /**
+     * 목록용 조회수 일괄 조회
+     * Redis MGET 한 번으로 조회하고, 키가 없거나 Redis 장애 시 이미 로드된 view_count 컬럼 값 사용
+     * 반환 배열은 newsList와 같은 순서
+     */
+    private long[] getViewCounts(List<News> newsList) {
+        long[] viewCounts = new long[newsList.size()];
+        if (newsList.isEmpty()) {
+            return viewCounts;
+        }
+
+        List<String> keys = new ArrayList<>(newsList.size());
+        for (News news : newsList) {
+            keys.add("news:viewcount:" + news.getNewsId());
+        }
+
+        List<String> cached = null;
+        try {
+            cached = redisTemplate.opsForValue().multiGet(keys);
+        } catch (Exception e) {
+            log.warn("조회수 일괄 조회 실패, DB 값을 사용합니다: size={}, error={}", keys.size(), e.getMessage());
+        }
+
+        for (int i = 0; i < viewCounts.length; i++) {
+            String value = cached != null && i < cached.size() ? cached.get(i) : null;
+            viewCounts[i] = value != null ? parseViewCount(value, newsList.get(i)) : dbViewCount(newsList.get(i));
+        }
+        return viewCounts;
+    }
+
+    private long parseViewCount(String value, News news) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return dbViewCount(news);
+        }
+    }
+
+    private long dbViewCount(News news) {
+        return news.getViewCount() != null ? news.getViewCount() : 0L;
+    }
+
     /**
      * 뉴스 다양성 확보를 위한 메서드 (개선된 버전)
      */
@@ -1737,7 +1579,7 @@ public class NewsServiceImpl implements NewsService {
             }
             
             // 3. 시간 점수 (30%)
-            LocalDateTime publishedAt = parsePublishedAt(news.getPublishedAt());
+            LocalDateTime publishedAt = resolvePublishedAt(news);
             LocalDateTime now = LocalDateTime.now();
             Duration duration = Duration.between(publishedAt, now);
             long hoursAgo = duration.toHours();
@@ -1869,19 +1711,14 @@ public class NewsServiceImpl implements NewsService {
             int start = (int) pageable.getOffset();
             int end = Math.min(start + pageable.getPageSize(), diversifiedNews.size());
             
-            List<NewsListResponse> pageContent = diversifiedNews
-                .subList(start, end)
-                .stream()
-                .map(this::convertToNewsListResponse)
-                .collect(Collectors.toList());
+            List<NewsListResponse> pageContent = toNewsListResponses(diversifiedNews.subList(start, end));
             
             return new PageImpl<>(pageContent, pageable, diversifiedNews.size());
             
         } catch (Exception e) {
             log.error("신규 사용자 인기 뉴스 조회 실패", e);
             // 폴백: 기본 인기 뉴스
-            return newsRepository.findPopularNews(pageable)
-                .map(this::convertToNewsListResponse);
+            return toNewsListPage(newsRepository.findPopularNews(pageable));
         }
     }
 
@@ -0,0 +1,161 @@
+package com.newnormallist.newsservice.news.service;
+
+import com.newnormallist.newsservice.news.entity.News;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * published_at(문자열) -> published_at_dt(DATETIME) 온라인 백필
+ * - news_id 키셋 페이지 단위로 조회/갱신하여 테이블 잠금 없이 점진적으로 채움
+ * - 파싱은 News.parsePublishedAt과 동일 규칙을 사용하고, 파싱 불가 행은 건너뜀
+ * - 기동 시 1회 + 주기 실행으로 문자열만 저장하는 구버전 writer의 행도 보정
+ * - 마지막으로 확인한 news_id(워터마크)부터 이어서 조회하므로 매 주기 새로 들어온 행만 읽고,
+ *   파싱 불가 행은 한 번만 확인 (워터마크는 Redis에 저장하여 재기동 후에도 유지)
+ * - 기동 시 백필은 published_at_dt를 읽는 다른 기동 작업(트렌딩 키워드 집계 초기화)보다 먼저 실행 (STARTUP_ORDER)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PublishedAtBackfillService {
+
+    private static final String SELECT_SQL =
+            "SELECT news_id, published_at FROM news " +
+            "WHERE published_at_dt IS NULL AND news_id > ? ORDER BY news_id LIMIT ?";
+
+    private static final String UPDATE_SQL =
+            "UPDATE news SET published_at_dt = ? WHERE news_id = ? AND published_at_dt IS NULL";
+
+    // 기동 시 백필 순서 (published_at_dt에 의존하는 ApplicationReadyEvent 리스너는 이보다 뒤에 실행)
+    public static final int STARTUP_ORDER = 0;
+
+    private static final String WATERMARK_KEY = "news:published-at-backfill:last-id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${news.published-at-backfill.batch-size:1000}")
+    private int batchSize;
+
+    private final ReentrantLock backfillLock = new ReentrantLock();
+
+    // 마지막으로 확인한 news_id (-1이면 아직 Redis에서 읽지 않음)
+    private volatile long lastScannedId = -1L;
+
+    /**
+     * 기동 시 백필
+     * 주기 실행이 이미 진행 중이면 끝날 때까지 기다린 뒤 남은 행을 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(STARTUP_ORDER)
+    public void backfillOnStartup() {
+        backfillLock.lock();
+        try {
+            runBackfill();
+        } finally {
+            backfillLock.unlock();
+        }
+    }
+
+    /**
+     * 주기 백필 (이미 진행 중이면 이번 주기는 건너뜀)
+     */
+    @Scheduled(cron = "${news.published-at-backfill.cron:0 */30 * * * ?}")
+    public void backfill() {
+        if (!backfillLock.tryLock()) {
+            return;
+        }
+        try {
+            runBackfill();
+        } finally {
+            backfillLock.unlock();
+        }
+    }
+
+    private void runBackfill() {
+        try {
+            if (lastScannedId < 0) {
+                lastScannedId = loadWatermark();
+            }
+            long lastId = lastScannedId;
+            int updated = 0;
+            int skipped = 0;
+
+            while (true) {
+                List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_SQL, lastId, batchSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                List<Object[]> params = new ArrayList<>(rows.size());
+                for (Map<String, Object> row : rows) {
+                    long newsId = ((Number) row.get("news_id")).longValue();
+                    lastId = newsId;
+
+                    LocalDateTime parsed = News.parsePublishedAt((String) row.get("published_at"));
+                    if (parsed == null) {
+                        skipped++;
+                        continue;
+                    }
+                    params.add(new Object[]{Timestamp.valueOf(parsed), newsId});
+                }
+
+                if (!params.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_SQL, params);
+                    updated += params.size();
+                }
+                // 갱신이 끝난 페이지까지만 워터마크 전진
+                lastScannedId = lastId;
+                saveWatermark(lastId);
+
+                if (rows.size() < batchSize) {
+                    break;
+                }
+            }
+
+            if (updated > 0 || skipped > 0) {
+                log.info("published_at_dt 백필 완료: 갱신={}건, 파싱 불가={}건, lastScannedId={}", updated, skipped, lastScannedId);
+            }
+        } catch (Exception e) {
+            log.error("published_at_dt 백필 실패", e);
+        }
+    }
+
+    /**
+     * Redis에 저장된 워터마크 (없거나 읽지 못하면 처음부터)
+     */
+    private long loadWatermark() {
+        try {
+            String value = redisTemplate.opsForValue().get(WATERMARK_KEY);
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (Exception e) {
+            log.warn("published_at_dt 백필 워터마크 조회 실패, 처음부터 확인합니다: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    /**
+     * 워터마크 저장 (실패해도 이번 기동 동안은 메모리 값으로 계속 진행)
+     */
+    private void saveWatermark(long lastId) {
+        try {
+            redisTemplate.opsForValue().set(WATERMARK_KEY, String.valueOf(lastId));
+        } catch (Exception e) {
+            log.warn("published_at_dt 백필 워터마크 저장 실패: {}", e.getMessage());
+        }
+    }
+}
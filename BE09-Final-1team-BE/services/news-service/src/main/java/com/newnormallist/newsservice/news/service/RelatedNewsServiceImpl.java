@@ -14,7 +14,6 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -28,8 +27,6 @@ public class RelatedNewsServiceImpl implements RelatedNewsService {
     private final NewsRepository newsRepository;
     private final RelatedNewsRepository relatedNewsRepository;
     private static final int MAX_RELATED_NEWS = 4;
-    // DB의 날짜 형식(yyyy-MM-dd HH:mm:ss)과 일치하는 포매터
-    private static final DateTimeFormatter DB_DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     @Override
     public List<RelatedNewsResponseDto> getRelatedNews(Long newsId) {
@@ -201,14 +198,14 @@ public class RelatedNewsServiceImpl implements RelatedNewsService {
         excludeNewsIds.add(news.getNewsId());
 
         try {
-            LocalDateTime newsDateTime = parsePublishedAt(news.getPublishedAt());
+            LocalDateTime newsDateTime = parsePublishedAt(news);
             LocalDateTime startOfDay = newsDateTime.toLocalDate().atStartOfDay(); // yyyy-MM-dd 00:00:00
             LocalDateTime endOfDay = newsDateTime.toLocalDate().atTime(LocalTime.MAX); // yyyy-MM-dd 23:59:59.999...
 
             List<News> sameDayCategoryNews = newsRepository.findByCategoryNameAndPublishedAtBetweenAndNewsIdNotIn(
                     news.getCategoryName(),
-                    startOfDay.format(DB_DATETIME_FORMATTER),
-                    endOfDay.format(DB_DATETIME_FORMATTER),
+                    startOfDay,
+                    endOfDay,
                     excludeNewsIds);
 
             // 오전/오후 시간대 필터링
@@ -217,7 +214,7 @@ public class RelatedNewsServiceImpl implements RelatedNewsService {
             List<News> filteredNews = new ArrayList<>(sameDayCategoryNews.stream()
                     .filter(n -> {
                         try {
-                            LocalTime time = parsePublishedAt(n.getPublishedAt()).toLocalTime();
+                            LocalTime time = parsePublishedAt(n).toLocalTime();
                             // 기준 뉴스가 오전이면 오전 뉴스만, 오후면 오후 뉴스만 필터링
                             return isMorning == time.isBefore(LocalTime.NOON);
                         } catch (Exception e) {
@@ -247,8 +244,8 @@ public class RelatedNewsServiceImpl implements RelatedNewsService {
 
         List<News> recentCategoryNews = newsRepository.findByCategoryNameAndPublishedAtBetweenAndNewsIdNotIn(
                 news.getCategoryName(),
-                threeDaysAgo.format(DB_DATETIME_FORMATTER),
-                now.format(DB_DATETIME_FORMATTER),
+                threeDaysAgo,
+                now,
                 excludeNewsIds);
 
         Collections.shuffle(recentCategoryNews);
@@ -275,18 +272,16 @@ public class RelatedNewsServiceImpl implements RelatedNewsService {
     }
 
     /**
-     * 안전한 날짜 파싱 메서드
+     * 발행일 조회 (타입 컬럼 우선, 백필 전 데이터는 문자열 파싱)
      */
-    private LocalDateTime parsePublishedAt(String publishedAt) {
-        if (publishedAt == null || publishedAt.trim().isEmpty()) {
-            throw new IllegalArgumentException("날짜 문자열(publishedAt)이 null이거나 비어있습니다.");
+    private LocalDateTime parsePublishedAt(News news) {
+        if (news.getPublishedDateTime() != null) {
+            return news.getPublishedDateTime();
         }
-        // MySQL DATETIME 형식에서 밀리초(.) 이후 부분을 제거
-        String parsableDateTime = publishedAt;
-        int dotIndex = publishedAt.indexOf('.');
-        if (dotIndex != -1) {
-            parsableDateTime = publishedAt.substring(0, dotIndex);
+        LocalDateTime parsed = News.parsePublishedAt(news.getPublishedAt());
+        if (parsed == null) {
+            throw new IllegalArgumentException("발행일을 파싱할 수 없습니다: " + news.getPublishedAt());
         }
-        return LocalDateTime.parse(parsableDateTime, DB_DATETIME_FORMATTER);
+        return parsed;
     }
 }
\ No newline at end of file
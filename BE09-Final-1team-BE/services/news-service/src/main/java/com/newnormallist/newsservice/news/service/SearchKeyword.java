@@ -0,0 +1,41 @@
+package com.newnormallist.newsservice.news.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색어 분해 결과
+ * - booleanModeQuery: ngram 토큰 크기 이상인 단어를 필수 구문(+"단어")으로 묶은 FULLTEXT BOOLEAN MODE 쿼리 (없으면 null)
+ * - shortTerms: ngram 토큰(2글자)보다 짧아 FULLTEXT로 찾을 수 없는 단어 (LIKE 조건으로 함께 적용)
+ *
+ * 예) "금 시세" -> +"시세" 로 FULLTEXT 검색하고 '금'은 LIKE로 추가 필터
+ */
+record SearchKeyword(String booleanModeQuery, List<String> shortTerms) {
+
+    // MySQL ngram_token_size 기본값
+    static final int NGRAM_TOKEN_SIZE = 2;
+
+    static SearchKeyword parse(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return new SearchKeyword(null, List.of());
+        }
+        StringBuilder sb = new StringBuilder();
+        List<String> shortTerms = new ArrayList<>();
+        for (String token : keyword.trim().split("\\s+")) {
+            // BOOLEAN MODE 연산자 제거
+            String cleaned = token.replaceAll("[+\\-<>()~*\"@]", "");
+            if (cleaned.isEmpty()) {
+                continue;
+            }
+            if (cleaned.length() < NGRAM_TOKEN_SIZE) {
+                shortTerms.add(cleaned);
+                continue;
+            }
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append("+\"").append(cleaned).append('"');
+        }
+        return new SearchKeyword(sb.length() == 0 ? null : sb.toString(), List.copyOf(shortTerms));
+    }
+}
@@ -0,0 +1,570 @@
+package com.newnormallist.newsservice.news.service;
+
+import com.newnormallist.newsservice.news.dto.TrendingKeywordDto;
+import com.newnormallist.newsservice.news.entity.Category;
+import com.newnormallist.newsservice.news.entity.News;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 트렌딩 키워드 증분 집계기 (시간 단위 슬라이딩 윈도우)
+ * - 새로 저장된 기사를 news_id 키셋으로 주기 수집하여 기사당 한 번만 토큰화
+ * - 발행 시각(시간) x 범위(전체/카테고리)별 키워드 빈도 버킷을 메모리에 유지
+ * - 지난 시간 버킷은 상위 K개만 남기고 봉인하여 메모리와 조회 비용을 제한
+ * - 조회는 윈도우에 포함된 버킷만 합산하므로 O(버킷 수 x K)
+ * - 버킷은 Redis ZSET으로 미러링하여 재기동 시 DB 재집계 없이 복원
+ *
+ * 범위별 토큰화 규칙은 기존 동작을 유지합니다.
+ * - 전체(ALL): 제목만 사용
+ * - 카테고리: 제목 + 본문 앞부분 사용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingKeywordAggregator {
+
+    private static final String SELECT_SQL =
+            "SELECT news_id, title, content, category_name, published_at, published_at_dt FROM news " +
+            "WHERE news_id > ? ORDER BY news_id LIMIT ?";
+
+    // 콜드 스타트 시작점: 보존 기간 안의 첫 기사 (PK 순으로 훑다가 첫 행에서 멈춤)
+    // published_at_dt가 아직 채워지지 않은 행은 문자열 발행일(yyyy-MM-dd HH:mm:ss, 사전순 비교)로 판단
+    private static final String FIRST_IN_WINDOW_SQL =
+            "SELECT news_id FROM news " +
+            "WHERE published_at_dt >= ? OR (published_at_dt IS NULL AND published_at >= ?) " +
+            "ORDER BY news_id LIMIT 1";
+    private static final DateTimeFormatter PUBLISHED_AT_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String ALL_SCOPE = "ALL";
+    private static final String REDIS_KEY_PREFIX = "trending:kw:";
+    private static final String WATERMARK_KEY = REDIS_KEY_PREFIX + "last-news-id";
+    private static final int MIRROR_CHUNK_SIZE = 1000;
+
+    /**
+     * 미러 반영 스크립트
+     * 여러 인스턴스가 같은 DB를 집계하므로 빈도는 증가분이 아닌 절대값을 기록하고,
+     * 더 큰 값만 덮어써서(max merge) 뒤처진 인스턴스가 값을 되돌리지 않도록 합니다.
+     * KEYS[1] = 워터마크 키, KEYS[2..] = 버킷 키
+     * ARGV[1] = 워터마크(0이면 무시), ARGV[2] = TTL(초), ARGV[3..] = (키 인덱스, 키워드, 빈도) 반복
+     */
+    private static final RedisScript<Long> MIRROR_SCRIPT = new DefaultRedisScript<>(
+            "for i = 3, #ARGV, 3 do\n" +
+            "  local key = KEYS[tonumber(ARGV[i])]\n" +
+            "  local score = tonumber(ARGV[i + 2])\n" +
+            "  local current = redis.call('ZSCORE', key, ARGV[i + 1])\n" +
+            "  if (not current) or tonumber(current) < score then\n" +
+            "    redis.call('ZADD', key, score, ARGV[i + 1])\n" +
+            "  end\n" +
+            "end\n" +
+            "for k = 2, #KEYS do redis.call('EXPIRE', KEYS[k], ARGV[2]) end\n" +
+            "local watermark = tonumber(ARGV[1])\n" +
+            "if watermark > 0 and tonumber(redis.call('GET', KEYS[1]) or '0') < watermark then\n" +
+            "  redis.call('SET', KEYS[1], ARGV[1])\n" +
+            "end\n" +
+            "return 1",
+            Long.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${news.trending.batch-size:500}")
+    private int batchSize;
+
+    @Value("${news.trending.retention-hours:720}")
+    private int retentionHours;
+
+    @Value("${news.trending.bucket-top-k:100}")
+    private int bucketTopK;
+
+    @Value("${news.trending.redis-mirror-enabled:true}")
+    private boolean redisMirrorEnabled;
+
+    // epoch hour -> 버킷
+    private final NavigableMap<Long, Bucket> buckets = new TreeMap<>();
+    private final ReentrantReadWriteLock bucketLock = new ReentrantReadWriteLock();
+    private final ReentrantLock ingestLock = new ReentrantLock();
+
+    // 마지막으로 집계한 news_id
+    private volatile long lastNewsId = 0L;
+    private volatile boolean warmedUp = false;
+
+    /**
+     * 기동 시 Redis 미러에서 버킷을 복원한 뒤 이후 기사만 따라잡음
+     * 미러가 없거나 복원에 실패하면 보존 기간 내 기사를 DB에서 다시 집계
+     * published_at_dt 기동 시 백필이 끝난 뒤 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(PublishedAtBackfillService.STARTUP_ORDER + 1)
+    public void warmUp() {
+        ingestLock.lock();
+        try {
+            if (redisMirrorEnabled) {
+                restoreFromMirror();
+            }
+            if (lastNewsId == 0L) {
+                seedFromRetentionWindow();
+            }
+            ingestNewArticles();
+        } catch (Exception e) {
+            log.error("트렌딩 키워드 집계 초기화 실패", e);
+        } finally {
+            warmedUp = true;
+            ingestLock.unlock();
+        }
+    }
+
+    /**
+     * 새로 저장된 기사 수집 (주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${news.trending.poll-interval-ms:30000}")
+    public void poll() {
+        if (!warmedUp || !ingestLock.tryLock()) {
+            return;
+        }
+        try {
+            ingestNewArticles();
+        } catch (Exception e) {
+            log.error("트렌딩 키워드 증분 집계 실패: lastNewsId={}", lastNewsId, e);
+        } finally {
+            ingestLock.unlock();
+        }
+    }
+
+    /**
+     * 최근 hours 시간 동안의 상위 키워드
+     *
+     * @param category null이면 전체(제목 기준), 아니면 해당 카테고리(제목 + 본문 기준)
+     */
+    public List<TrendingKeywordDto> topKeywords(Category category, int hours, int limit) {
+        String scope = scopeOf(category);
+        long fromHour = epochHour(LocalDateTime.now().minusHours(Math.max(1, hours)));
+
+        Map<String, Long> merged = new HashMap<>();
+        bucketLock.readLock().lock();
+        try {
+            for (Bucket bucket : buckets.tailMap(fromHour, true).values()) {
+                bucket.addTo(scope, merged);
+            }
+        } finally {
+            bucketLock.readLock().unlock();
+        }
+
+        // 상위 limit개만 유지하는 최소 힙
+        Comparator<Map.Entry<String, Long>> order = Map.Entry.<String, Long>comparingByValue()
+                .thenComparing(Map.Entry.<String, Long>comparingByKey().reversed());
+        PriorityQueue<Map.Entry<String, Long>> heap = new PriorityQueue<>(order);
+        int safeLimit = Math.max(1, limit);
+        for (Map.Entry<String, Long> entry : merged.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > safeLimit) {
+                heap.poll();
+            }
+        }
+
+        List<TrendingKeywordDto> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            Map.Entry<String, Long> entry = heap.poll();
+            result.add(TrendingKeywordDto.builder()
+                    .keyword(entry.getKey())
+                    .count(entry.getValue())
+                    .trendScore(entry.getValue().doubleValue())
+                    .build());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * 콜드 스타트 키셋 시작점 설정
+     * news_id 0부터 훑으면 보존 기간이 지난 기사까지 전부 읽으므로, 보존 기간 안의 첫 기사 직전부터 시작
+     * 보존 기간 안의 기사를 찾지 못하면 처음부터 수집 (보존 기간이 지난 기사는 집계하지 않고 건너뜀)
+     * 마지막 news_id로 건너뛰면 그 값이 미러 워터마크로 저장되어 이후 재기동에서도 기간 내 기사가 복구되지 않으므로 사용하지 않음
+     */
+    private void seedFromRetentionWindow() {
+        LocalDateTime since = LocalDateTime.now().minusHours(retentionHours);
+        List<Long> first = jdbcTemplate.queryForList(FIRST_IN_WINDOW_SQL, Long.class,
+                Timestamp.valueOf(since), since.format(PUBLISHED_AT_FORMATTER));
+        lastNewsId = first.isEmpty() ? 0L : first.get(0) - 1;
+        log.info("트렌딩 키워드 콜드 스타트: since={}, lastNewsId={}", since, lastNewsId);
+    }
+
+    private void ingestNewArticles() {
+        long currentHour = epochHour(LocalDateTime.now());
+        long oldestHour = currentHour - retentionHours;
+        int ingested = 0;
+
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_SQL, lastNewsId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            // 미러 키 -> 키워드 -> 갱신된 빈도
+            Map<String, Map<String, Integer>> touched = new HashMap<>();
+            long maxNewsId = lastNewsId;
+
+            bucketLock.writeLock().lock();
+            try {
+                for (Map<String, Object> row : rows) {
+                    maxNewsId = ((Number) row.get("news_id")).longValue();
+
+                    LocalDateTime publishedAt = publishedAtOf(row);
+                    if (publishedAt == null) {
+                        continue;
+                    }
+                    long hour = epochHour(publishedAt);
+                    if (hour <= oldestHour) {
+                        continue;
+                    }
+
+                    String title = (String) row.get("title");
+                    Bucket bucket = buckets.computeIfAbsent(hour, h -> new Bucket());
+                    count(bucket, hour, ALL_SCOPE, TrendingKeywordExtractor.titleKeywords(title), touched);
+
+                    Category category = parseCategory((String) row.get("category_name"));
+                    if (category != null) {
+                        count(bucket, hour, category.name(),
+                                TrendingKeywordExtractor.articleKeywords(title, (String) row.get("content")), touched);
+                    }
+                    ingested++;
+                }
+            } finally {
+                bucketLock.writeLock().unlock();
+            }
+
+            lastNewsId = maxNewsId;
+            mirror(touched, maxNewsId);
+
+            if (rows.size() < batchSize) {
+                break;
+            }
+        }
+
+        sealAndEvict(currentHour, oldestHour);
+
+        if (ingested > 0) {
+            log.debug("트렌딩 키워드 증분 집계: {}건, lastNewsId={}", ingested, lastNewsId);
+        }
+    }
+
+    private void count(Bucket bucket, long hour, String scope, List<String> keywords,
+                       Map<String, Map<String, Integer>> touched) {
+        if (keywords.isEmpty()) {
+            return;
+        }
+        Map<String, Integer> mirrored = touched.computeIfAbsent(bucketKey(hour, scope), k -> new HashMap<>());
+        for (String keyword : keywords) {
+            mirrored.put(keyword, bucket.increment(scope, keyword));
+        }
+    }
+
+    /**
+     * 지난 시간 버킷 봉인(상위 K개만 유지) 및 보존 기간이 지난 버킷 제거
+     */
+    private void sealAndEvict(long currentHour, long oldestHour) {
+        List<String> sealedKeys = new ArrayList<>();
+        bucketLock.writeLock().lock();
+        try {
+            buckets.headMap(oldestHour, true).clear();
+            for (Map.Entry<Long, Bucket> entry : buckets.headMap(currentHour, false).entrySet()) {
+                for (String scope : entry.getValue().seal(bucketTopK)) {
+                    sealedKeys.add(bucketKey(entry.getKey(), scope));
+                }
+            }
+        } finally {
+            bucketLock.writeLock().unlock();
+        }
+
+        if (!redisMirrorEnabled || sealedKeys.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    ZSetOperations<String, String> zSet = ((RedisOperations<String, String>) operations).opsForZSet();
+                    for (String key : sealedKeys) {
+                        zSet.removeRange(key, 0, -(bucketTopK + 1L));
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("트렌딩 키워드 미러 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 갱신된 빈도를 Redis 미러에 반영 (실패해도 메모리 집계에는 영향 없음)
+     */
+    private void mirror(Map<String, Map<String, Integer>> touched, long watermark) {
+        if (!redisMirrorEnabled) {
+            return;
+        }
+        try {
+            List<String> keys = new ArrayList<>();
+            List<String> args = new ArrayList<>();
+            Map<String, Integer> keyIndex = new HashMap<>();
+            keys.add(WATERMARK_KEY);
+
+            for (Map.Entry<String, Map<String, Integer>> bucket : touched.entrySet()) {
+                for (Map.Entry<String, Integer> keyword : bucket.getValue().entrySet()) {
+                    // Lua KEYS는 1부터 시작하므로 추가 직후의 크기가 인덱스
+                    int index = keyIndex.computeIfAbsent(bucket.getKey(), k -> {
+                        keys.add(k);
+                        return keys.size();
+                    });
+                    args.add(String.valueOf(index));
+                    args.add(keyword.getKey());
+                    args.add(String.valueOf(keyword.getValue()));
+
+                    if (args.size() >= MIRROR_CHUNK_SIZE * 3) {
+                        runMirrorScript(keys, args, 0L);
+                        keys.subList(1, keys.size()).clear();
+                        keyIndex.clear();
+                        args.clear();
+                    }
+                }
+            }
+            runMirrorScript(keys, args, watermark);
+        } catch (Exception e) {
+            log.warn("트렌딩 키워드 미러 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    private void runMirrorScript(List<String> keys, List<String> args, long watermark) {
+        List<String> argv = new ArrayList<>(args.size() + 2);
+        argv.add(String.valueOf(watermark));
+        argv.add(String.valueOf((retentionHours + 1L) * 3600));
+        argv.addAll(args);
+        redisTemplate.execute(MIRROR_SCRIPT, keys, argv.toArray());
+    }
+
+    private void restoreFromMirror() {
+        try {
+            String watermark = redisTemplate.opsForValue().get(WATERMARK_KEY);
+            if (watermark == null) {
+                return;
+            }
+
+            long currentHour = epochHour(LocalDateTime.now());
+            List<Long> hours = new ArrayList<>();
+            List<String> scopes = new ArrayList<>();
+            List<String> keys = new ArrayList<>();
+            for (long hour = currentHour - retentionHours + 1; hour <= currentHour; hour++) {
+                for (String scope : allScopes()) {
+                    hours.add(hour);
+                    scopes.add(scope);
+                    keys.add(bucketKey(hour, scope));
+                }
+            }
+
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    ZSetOperations<String, String> zSet = ((RedisOperations<String, String>) operations).opsForZSet();
+                    for (String key : keys) {
+                        zSet.rangeWithScores(key, 0, -1);
+                    }
+                    return null;
+                }
+            });
+
+            bucketLock.writeLock().lock();
+            try {
+                buckets.clear();
+                for (int i = 0; i < results.size(); i++) {
+                    @SuppressWarnings("unchecked")
+                    Set<ZSetOperations.TypedTuple<String>> tuples = (Set<ZSetOperations.TypedTuple<String>>) results.get(i);
+                    if (tuples == null || tuples.isEmpty()) {
+                        continue;
+                    }
+                    buckets.computeIfAbsent(hours.get(i), h -> new Bucket()).restore(scopes.get(i), tuples);
+                }
+            } finally {
+                bucketLock.writeLock().unlock();
+            }
+
+            lastNewsId = Long.parseLong(watermark);
+            log.info("트렌딩 키워드 버킷 복원 완료: buckets={}, lastNewsId={}", buckets.size(), lastNewsId);
+        } catch (Exception e) {
+            log.warn("트렌딩 키워드 미러 복원 실패, DB에서 다시 집계합니다: {}", e.getMessage());
+            bucketLock.writeLock().lock();
+            try {
+                buckets.clear();
+            } finally {
+                bucketLock.writeLock().unlock();
+            }
+            lastNewsId = 0L;
+        }
+    }
+
+    private static LocalDateTime publishedAtOf(Map<String, Object> row) {
+        Object value = row.get("published_at_dt");
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime;
+        }
+        // 백필 전 행은 문자열 컬럼으로 대체
+        return News.parsePublishedAt((String) row.get("published_at"));
+    }
+
+    private static Category parseCategory(String categoryName) {
+        if (categoryName == null) {
+            return null;
+        }
+        try {
+            return Category.valueOf(categoryName);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static List<String> allScopes() {
+        List<String> scopes = new ArrayList<>();
+        scopes.add(ALL_SCOPE);
+        for (Category category : Category.values()) {
+            scopes.add(category.name());
+        }
+        return scopes;
+    }
+
+    private static String scopeOf(Category category) {
+        return category == null ? ALL_SCOPE : category.name();
+    }
+
+    private static String bucketKey(long hour, String scope) {
+        return REDIS_KEY_PREFIX + hour + ":" + scope;
+    }
+
+    // 발행 시각은 로컬 시각 그대로 저장되므로 오프셋 없이 시간 단위로 환산
+    private static long epochHour(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 3600;
+    }
+
+    /**
+     * 한 시간 버킷
+     * 집계 중인 범위는 HashMap, 봉인된 범위는 상위 K개 배열로 보관
+     * 봉인 후 늦게 도착한 기사가 있으면 해당 범위만 다시 열었다가 다음 주기에 재봉인
+     */
+    private static final class Bucket {
+
+        private final Map<String, Map<String, Integer>> open = new HashMap<>();
+        private final Map<String, TopCounts> sealed = new HashMap<>();
+
+        int increment(String scope, String keyword) {
+            Map<String, Integer> counts = open.get(scope);
+            if (counts == null) {
+                counts = new HashMap<>();
+                TopCounts previous = sealed.remove(scope);
+                if (previous != null) {
+                    previous.copyTo(counts);
+                }
+                open.put(scope, counts);
+            }
+            return counts.merge(keyword, 1, Integer::sum);
+        }
+
+        /**
+         * 집계 중인 범위를 상위 topK개로 봉인하고, 봉인한 범위 목록을 반환
+         */
+        List<String> seal(int topK) {
+            if (open.isEmpty()) {
+                return List.of();
+            }
+            List<String> scopes = new ArrayList<>(open.keySet());
+            for (Map.Entry<String, Map<String, Integer>> entry : open.entrySet()) {
+                sealed.put(entry.getKey(), TopCounts.of(entry.getValue(), topK));
+            }
+            open.clear();
+            return scopes;
+        }
+
+        void restore(String scope, Set<ZSetOperations.TypedTuple<String>> tuples) {
+            Map<String, Integer> counts = new HashMap<>(tuples.size() * 2);
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                if (tuple.getValue() != null && tuple.getScore() != null) {
+                    counts.put(tuple.getValue(), tuple.getScore().intValue());
+                }
+            }
+            open.put(scope, counts);
+        }
+
+        void addTo(String scope, Map<String, Long> target) {
+            Map<String, Integer> counts = open.get(scope);
+            if (counts != null) {
+                counts.forEach((keyword, count) -> target.merge(keyword, count.longValue(), Long::sum));
+            }
+            TopCounts top = sealed.get(scope);
+            if (top != null) {
+                top.addTo(target);
+            }
+        }
+    }
+
+    /**
+     * 봉인된 범위의 상위 K개 (빈도 내림차순)
+     */
+    private static final class TopCounts {
+
+        private final String[] keywords;
+        private final int[] counts;
+
+        private TopCounts(String[] keywords, int[] counts) {
+            this.keywords = keywords;
+            this.counts = counts;
+        }
+
+        static TopCounts of(Map<String, Integer> source, int topK) {
+            List<Map.Entry<String, Integer>> entries = new ArrayList<>(source.entrySet());
+            entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+            int size = Math.min(topK, entries.size());
+
+            String[] keywords = new String[size];
+            int[] counts = new int[size];
+            for (int i = 0; i < size; i++) {
+                // 같은 키워드가 여러 버킷에 반복되므로 intern으로 문자열 공유
+                keywords[i] = entries.get(i).getKey().intern();
+                counts[i] = entries.get(i).getValue();
+            }
+            return new TopCounts(keywords, counts);
+        }
+
+        void copyTo(Map<String, Integer> target) {
+            for (int i = 0; i < keywords.length; i++) {
+                target.put(keywords[i], counts[i]);
+            }
+        }
+
+        void addTo(Map<String, Long> target) {
+            for (int i = 0; i < keywords.length; i++) {
+                target.merge(keywords[i], (long) counts[i], Long::sum);
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.newnormallist.newsservice.news.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 트렌딩 키워드 토큰화 규칙
+ * - 전체 트렌딩: 제목만 사용 (특수문자를 공백으로 치환 후 분리)
+ * - 카테고리 트렌딩: 제목 + 본문 앞부분 사용 (공백 분리 후 특수문자 제거)
+ * 기사당 한 번만 호출되도록 TrendingKeywordAggregator에서 수집 시점에 사용합니다.
+ */
+final class TrendingKeywordExtractor {
+
+    // 본문은 앞부분만 사용
+    private static final int CONTENT_PREFIX_LENGTH = 1000;
+
+    private TrendingKeywordExtractor() {
+    }
+
+    /**
+     * 제목에서 키워드 추출 (전체 트렌딩용)
+     * 아주 단순한 한국어/영문 토크나이저 (MVP).
+     */
+    static List<String> titleKeywords(String title) {
+        if (title == null || title.isBlank()) return List.of();
+        String cleaned = title
+                .replaceAll("[^가-힣0-9A-Za-z\\s]", " ")
+                .replaceAll("\\s+", " ")
+                .trim();
+        if (cleaned.isEmpty()) return List.of();
+
+        List<String> keywords = new ArrayList<>();
+        for (String token : cleaned.split(" ")) {
+            if (isValidKeyword(token)) {
+                keywords.add(token);
+            }
+        }
+        return keywords;
+    }
+
+    /**
+     * 제목 + 본문 앞부분에서 키워드 추출 (카테고리 트렌딩용)
+     */
+    static List<String> articleKeywords(String title, String content) {
+        List<String> keywords = new ArrayList<>(extractKeywordsFromText(title));
+        if (content != null) {
+            String prefix = content.length() > CONTENT_PREFIX_LENGTH
+                    ? content.substring(0, CONTENT_PREFIX_LENGTH)
+                    : content;
+            keywords.addAll(extractKeywordsFromText(prefix));
+        }
+        return keywords;
+    }
+
+    private static List<String> extractKeywordsFromText(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return List.of();
+        }
+
+        List<String> keywords = new ArrayList<>();
+        for (String word : text.split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            // 특수문자 제거 (한글, 영문, 숫자만 남김)
+            String cleanedWord = word.replaceAll("[^가-힣0-9A-Za-z]", "");
+            if (isValidKeyword(cleanedWord)) {
+                keywords.add(cleanedWord);
+            }
+        }
+        return keywords;
+    }
+
+    /**
+     * 키워드 유효성 검사 - 체계적인 필터링
+     */
+    private static boolean isValidKeyword(String word) {
+        if (word == null || word.length() < 2) {
+            return false;
+        }
+
+        // 1. 불용어 목록에 포함된 단어 제외
+        if (STOPWORDS.contains(word)) {
+            return false;
+        }
+
+        // 2. 숫자만으로 구성된 단어 제외 (연도, 날짜 등)
+        if (word.matches("^\\d+$")) {
+            return false;
+        }
+
+        // 3. 특수 패턴 제외
+        if (word.matches(".*[#@$%^&*()].*")) {
+            return false;
+        }
+
+        // 4. 너무 짧은 영문 단어 제외 (2글자 이하)
+        if (word.matches("^[A-Za-z]{1,2}$")) {
+            return false;
+        }
+
+        // 5. 반복 문자 패턴 제외 (예: "ㅋㅋㅋ", "ㅎㅎㅎ")
+        if (word.matches("(.)\\1{2,}")) {
+            return false;
+        }
+
+        // 6. 의미없는 조합어 제외
+        return !isMeaninglessCombination(word);
+    }
+
+    /**
+     * 의미없는 조합어 판별
+     */
+    private static boolean isMeaninglessCombination(String word) {
+        for (String pattern : MEANINGLESS_PATTERNS) {
+            if (word.contains(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 의미없는 조합어 패턴들
+    private static final String[] MEANINGLESS_PATTERNS = {
+            "영화의", "기사의", "뉴스의", "사진의", "영상의", "내용의", "정보의",
+            "추출할", "분석할", "조사할", "확인할", "검토할", "검증할",
+            "관련된", "대한", "위한", "통한", "통해", "대해", "관해",
+            "있는", "없는", "같은", "다른", "이런", "그런", "저런",
+            "하는", "되는", "이되는"
+    };
+
+    // 확장된 불용어 목록 - 의미없는 단어들을 체계적으로 필터링
+    private static final Set<String> STOPWORDS = Set.of(
+            // 뉴스 관련 일반 용어
+            "속보", "영상", "단독", "인터뷰", "기자", "사진", "종합", "뉴스", "기사", "외신",
+            "현장", "보도", "취재", "논평", "사설", "칼럼", "특집", "기획", "리포트",
+
+            // 시간 관련
+            "오늘", "내일", "어제", "이번", "지난", "현재", "최근", "곧", "이제",
+            "년", "월", "일", "시", "분", "초", "주", "달", "년도",
+
+            // 일반적인 조사/어미
+            "것", "수", "등", "및", "또는", "그리고", "하지만", "그러나", "따라서",
+            "있다", "없다", "하다", "되다", "이다", "아니다", "같다", "다르다",
+            "위해", "통해", "대해", "관해", "대한", "관련", "위한", "통한",
+
+            // 정부/기관 관련
+            "정부", "대통령", "국회", "한국", "대한민국", "국가", "정부기관", "공공기관",
+            "시청", "구청", "군청", "도청", "청", "부", "처", "원",
+
+            // 일반적인 형용사/부사
+            "최대", "최소", "매우", "정말", "진짜", "완전", "엄청", "너무", "아주",
+            "많이", "조금", "약간", "좀", "더", "가장", "제일", "특히", "특별히",
+
+            // 기타 의미없는 단어들
+            "내용", "정보", "자료", "데이터", "결과", "상황", "문제", "이슈", "사건",
+            "분석", "전망", "동향", "소식", "업데이트", "변화", "발전", "진전",
+            "영향", "효과", "원인", "이유", "목적", "방법", "과정"
+    );
+}
@@ -0,0 +1,184 @@
+package com.newnormallist.newsservice.news.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회수 write-behind 버퍼
+ * - 조회 시점에는 뉴스별 증가분(delta)만 메모리에 누적
+ * - 주기적으로 누적분을 배치 UPDATE 한 번으로 news.view_count에 반영
+ * - 반영에 실패한 증가분은 버퍼로 되돌려 다음 주기에 재시도 (at-least-once)
+ * - 대기 중인 뉴스 수가 상한을 넘으면 주기를 기다리지 않고 즉시 flush
+ * - DB 장애로 버퍼가 보존 상한(max-retained-keys)에 닿으면 새 뉴스의 증가분은 버리고 건수만 집계
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCountFlushService {
+
+    private static final String UPDATE_SQL =
+            "UPDATE news SET view_count = view_count + ? WHERE news_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${news.view-count.max-pending-keys:10000}")
+    private int maxPendingKeys;
+
+    @Value("${news.view-count.batch-size:500}")
+    private int batchSize;
+
+    @Value("${news.view-count.max-retained-keys:100000}")
+    private int maxRetainedKeys;
+
+    // newsId -> 아직 DB에 반영되지 않은 조회수 증가분
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    // 보존 상한 때문에 버린 조회수 (다음 flush 때 로그로 보고 후 초기화)
+    private final AtomicLong droppedViews = new AtomicLong();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean earlyFlushRequested = new AtomicBoolean(false);
+    private final ExecutorService earlyFlushExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "view-count-flush");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * 조회수 1 증가분 기록 (DB 접근 없음)
+     */
+    public void record(Long newsId) {
+        if (newsId == null) {
+            return;
+        }
+        addPending(newsId, 1L);
+
+        if (pending.size() >= maxPendingKeys && earlyFlushRequested.compareAndSet(false, true)) {
+            earlyFlushExecutor.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    earlyFlushRequested.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * 누적된 증가분을 DB에 반영 (주기 실행)
+     * 이미 다른 스레드가 flush 중이면 이번 주기는 건너뜀
+     */
+    @Scheduled(fixedDelayString = "${news.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            drainAndWrite();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 증가분을 모두 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        earlyFlushExecutor.shutdown();
+        try {
+            earlyFlushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        flushLock.lock();
+        try {
+            drainAndWrite();
+            if (!pending.isEmpty()) {
+                log.warn("종료 시 DB에 반영하지 못한 조회수 증가분: {}건", pending.size());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 버린 조회수 누계 (보고 전 값)
+     */
+    public long getDroppedViews() {
+        return droppedViews.get();
+    }
+
+    /**
+     * 증가분 누적
+     * 보존 상한에 닿은 상태에서는 이미 대기 중인 뉴스에만 더하고, 새 뉴스의 증가분은 버림
+     */
+    private void addPending(Long newsId, long delta) {
+        if (pending.size() < maxRetainedKeys) {
+            pending.merge(newsId, delta, Long::sum);
+        } else if (pending.computeIfPresent(newsId, (id, current) -> current + delta) == null) {
+            droppedViews.addAndGet(delta);
+        }
+    }
+
+    private void drainAndWrite() {
+        reportDroppedViews();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // remove()는 키 단위로 원자적이므로 drain 중 들어온 증가분은 다음 주기로 넘어감
+        List<Map.Entry<Long, Long>> drained = new ArrayList<>(pending.size());
+        for (Long newsId : pending.keySet()) {
+            Long delta = pending.remove(newsId);
+            if (delta != null && delta > 0) {
+                drained.add(Map.entry(newsId, delta));
+            }
+        }
+
+        int written = 0;
+        for (int from = 0; from < drained.size(); from += batchSize) {
+            List<Map.Entry<Long, Long>> chunk = drained.subList(from, Math.min(from + batchSize, drained.size()));
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, chunk, chunk.size(), (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+                written += chunk.size();
+            } catch (Exception e) {
+                log.error("조회수 배치 반영 실패, 다음 주기에 재시도합니다: {}건", drained.size() - written, e);
+                drained.subList(from, drained.size())
+                        .forEach(entry -> addPending(entry.getKey(), entry.getValue()));
+                break;
+            }
+        }
+
+        if (written > 0) {
+            log.debug("조회수 배치 반영 완료: {}건", written);
+        }
+    }
+
+    private void reportDroppedViews() {
+        long dropped = droppedViews.getAndSet(0);
+        if (dropped > 0) {
+            log.warn("조회수 버퍼 보존 상한({}건) 초과로 버린 조회수: {}", maxRetainedKeys, dropped);
+        }
+    }
+}
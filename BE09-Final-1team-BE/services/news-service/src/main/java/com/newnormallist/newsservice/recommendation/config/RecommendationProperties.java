@@ -24,4 +24,25 @@ public class RecommendationProperties {
     private double case2Demo, case2Pref, case2Read, case2Scrap;
     private double case3Demo, case3Pref, case3Read, case3Scrap;
     private double case4Demo, case4Pref, case4Read, case4Scrap;
+
+    private FeedCache feedCache = new FeedCache();
+    private VectorRecompute vectorRecompute = new VectorRecompute();
+
+    // 개인화 피드 ID 캐시 설정 (reco.feed-cache.*)
+    @Data
+    public static class FeedCache {
+        private long ttlSeconds = 600;          // Redis 보관 시간
+        private long refreshAfterSeconds = 60;  // 이 시간이 지난 캐시는 응답 후 비동기 재구성
+        private int rebuildThreads = 2;         // 재구성 워커 수
+        private int rebuildQueueCapacity = 1000; // 재구성 대기열 상한
+    }
+
+    // 사용자 벡터 비동기 재계산 설정 (reco.vector-recompute.*)
+    @Data
+    public static class VectorRecompute {
+        private long debounceMs = 3000;   // 같은 사용자의 요청을 모으는 시간
+        private int workerThreads = 2;    // 재계산 워커 수
+        private int maxPending = 1000;    // 대기 사용자 수 상한 (초과 시 다음 피드 조회 때 재시도)
+        private long evictIntervalMs = 60000; // 지난 활동 수/계산 시각 기록 정리 주기
+    }
 }
@@ -9,10 +9,10 @@ import java.time.LocalDateTime;
 
 
 // 뉴스 마스터 테이블 매핑
-// 핵심 인덱스 : (category, published_at DESC) -> 카테고리별 최신 기사 추출\
+// 핵심 인덱스 : (category, published_at_dt DESC) -> 카테고리별 최신 기사 추출
 @Entity
 @Table(name = "news", indexes = {
-    @Index(name = "idx_news_cat_pub", columnList = "category_name, published_at")
+    @Index(name = "idx_news_cat_pub_dt", columnList = "category_name, published_at_dt")
 })
 // WHERE category_name = ? ORDER BY published_at DESC 같은 쿼리에서 효율적으로 최신 기사를 뽑을 수 있음
 @Getter
@@ -42,6 +42,9 @@ public class NewsEntity {
     @Column(name = "published_at", length = 100)
     private String publishedAt;
 
+    @Column(name = "published_at_dt", columnDefinition = "DATETIME")
+    private LocalDateTime publishedDateTime;
+
     @Column(name = "reporter", nullable = false, columnDefinition = "TEXT")
     private String reporter;
 
@@ -0,0 +1,16 @@
+package com.newnormallist.newsservice.recommendation.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 사용자 선호 벡터에 영향을 주는 활동(조회/스크랩) 발생 시 발행.
+// VectorBatchService가 사용자별로 누적하여 임계치 도달 시 비동기 재계산.
+@Getter
+@RequiredArgsConstructor
+public class UserActivityEvent {
+
+    public enum Type { READ, SCRAP }
+
+    private final Long userId;
+    private final Type type;
+}
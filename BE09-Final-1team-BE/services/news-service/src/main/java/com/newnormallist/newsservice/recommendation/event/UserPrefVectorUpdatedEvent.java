@@ -0,0 +1,12 @@
+package com.newnormallist.newsservice.recommendation.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 사용자 선호 벡터가 새로 계산되어 저장되었을 때 발행.
+// 피드 캐시 등 벡터에 의존하는 파생 데이터 갱신 트리거로 사용.
+@Getter
+@RequiredArgsConstructor
+public class UserPrefVectorUpdatedEvent {
+    private final Long userId;
+}
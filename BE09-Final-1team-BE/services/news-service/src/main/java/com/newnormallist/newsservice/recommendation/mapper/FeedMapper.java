@@ -11,9 +11,9 @@ import java.time.format.DateTimeFormatter;
 // News 엔티티를 FeedItemDto로 변환하는 매퍼
 public class FeedMapper {
     public static FeedItemDto toDto(NewsEntity newsEntity) {
-        // publishedAt을 LocalDateTime으로 변환
-        LocalDateTime publishedAt = null;
-        if (newsEntity.getPublishedAt() != null && !newsEntity.getPublishedAt().isEmpty()) {
+        // publishedAt: 타입 컬럼 우선, 백필 전 데이터는 문자열 파싱
+        LocalDateTime publishedAt = newsEntity.getPublishedDateTime();
+        if (publishedAt == null && newsEntity.getPublishedAt() != null && !newsEntity.getPublishedAt().isEmpty()) {
             try {
                 if (newsEntity.getPublishedAt().contains("T")) {
                     // ISO 8601 형식: 2025-08-20T09:35:11
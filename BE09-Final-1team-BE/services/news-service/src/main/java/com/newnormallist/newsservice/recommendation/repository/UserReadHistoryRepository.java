@@ -5,10 +5,17 @@ import java.util.List;
 
 import com.newnormallist.newsservice.recommendation.entity.UserReadHistory;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 
 // 최근 7일 조회 로그 조회 -> R(c) 계산에 사용
 public interface UserReadHistoryRepository extends JpaRepository<UserReadHistory, Long> {
 
     @Query("SELECT urh FROM UserReadHistory urh WHERE urh.userEntity.id = :userId")
     List<UserReadHistory> findByUserId(Long userId);
+
+    // R(c) 계산용: 기간 내 (조회 시각, 카테고리)만 조회 (엔티티 로딩 없음)
+    @Query("SELECT urh.createdAt, urh.categoryName FROM UserReadHistory urh " +
+           "WHERE urh.userEntity.id = :userId AND urh.createdAt > :since")
+    List<Object[]> findReadSignalsSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.newnormallist.newsservice.recommendation.service;
+
+import java.util.List;
+
+/*
+    개인화 피드(첫 페이지) 뉴스 ID 목록 캐시.
+
+    구현체(예: FeedCacheServiceImpl)는:
+    사용자별 피드 ID 목록을 Redis에 짧은 TTL로 보관하고,
+    벡터 변경/신규 기사 유입 시 요청 경로 밖에서 비동기로 재구성.
+    캐시 적중률, 재구성 지연 시간을 메트릭으로 노출.
+*/
+public interface FeedCacheService {
+    List<Long> getFeedIds(Long userId); // 캐시 미스 시에만 동기 조립
+    void invalidate(Long userId);       // 비동기 재구성 예약
+}
@@ -6,10 +6,12 @@ package com.newnormallist.newsservice.recommendation.service;
     구현체(예: VectorBatchServiceImpl)는:
 
     스케줄러/로그인 트리거/운영 호출 등에서 VectorBuilder 호출 →
-    UserPrefVectorRepository.upsertBatch(userId, 9행) 저장.
+    변경된 UserPrefVector 행만 제자리 갱신(upsert).
 
-    stale 정책(최종 업데이트 10분 경과, 마지막 계산 이후 조회≥5 등) 관리.
+    stale 정책(최종 업데이트 10분 경과, 마지막 계산 이후 활동≥5 등) 관리.
+    활동 이벤트는 사용자별로 모아(debounce) 워커 풀에서 비동기 재계산.
 */
 public interface VectorBatchService {
-    void upsert(Long userId); // stale 판단/일괄 갱신은 구현에서
-}
\ No newline at end of file
+    void upsert(Long userId);           // stale 판단/갱신을 호출 스레드에서 수행
+    void requestRecompute(Long userId); // 사용자별 debounce 후 비동기 upsert
+}
@@ -0,0 +1,292 @@
+package com.newnormallist.newsservice.recommendation.service.impl;
+
+import com.newnormallist.newsservice.recommendation.config.RecommendationProperties;
+import com.newnormallist.newsservice.recommendation.entity.RecommendationCategory;
+import com.newnormallist.newsservice.recommendation.entity.UserPrefVector;
+import com.newnormallist.newsservice.recommendation.event.UserPrefVectorUpdatedEvent;
+import com.newnormallist.newsservice.recommendation.repository.RecommendationNewsRepository;
+import com.newnormallist.newsservice.recommendation.repository.UserPrefVectorRepository;
+import com.newnormallist.newsservice.recommendation.service.FeedCacheService;
+import com.newnormallist.newsservice.recommendation.service.VectorBatchService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    개인화 피드 ID 캐시 구현체.
+
+    Redis "reco:feed:{userId}" = "생성시각(ms)|id1,id2,..." (TTL: reco.feed-cache.ttl-seconds)
+    - 적중: 캐시된 ID 반환. 이후 신규 기사가 들어왔으면 비동기 재구성 예약,
+            오래됐으면(refresh-after) 벡터 재계산 요청
+    - 미스: 현재 벡터로 동기 조립 후 저장 (벡터가 없는 신규 사용자만 벡터 계산도 동기)
+    - 벡터 변경 이벤트: 비동기 재구성 예약
+    재구성은 사용자별로 중복 제거되어 대기열에 한 번만 올라감.
+
+    메트릭: reco.feed.cache{result=hit|miss}, reco.feed.cache.hit.ratio,
+           reco.feed.rebuild.lag(stale 시점 -> 재구성 완료), reco.feed.rebuild.pending
+*/
+@Service
+@Slf4j
+public class FeedCacheServiceImpl implements FeedCacheService {
+
+    private static final String KEY_PREFIX = "reco:feed:";
+
+    private final VectorBatchService vectorBatchService;
+    private final UserPrefVectorRepository userPrefVectorRepository;
+    private final RecommendationNewsRepository newsRepository;
+    private final RecommendationProperties properties;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer rebuildLagTimer;
+
+    // userId -> stale 된 시각(ms). 대기열 중복 방지 겸 지연 측정용
+    private final ConcurrentHashMap<Long, Long> pendingRebuilds = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor rebuildExecutor;
+
+    // 마지막으로 감지한 최신 기사 ID / 감지 시각(ms)
+    private volatile long lastSeenNewsId = -1L;
+    private volatile long newsArrivedAt = 0L;
+
+    public FeedCacheServiceImpl(VectorBatchService vectorBatchService,
+                                UserPrefVectorRepository userPrefVectorRepository,
+                                RecommendationNewsRepository newsRepository,
+                                RecommendationProperties properties,
+                                RedisTemplate<String, String> redisTemplate,
+                                MeterRegistry meterRegistry) {
+        this.vectorBatchService = vectorBatchService;
+        this.userPrefVectorRepository = userPrefVectorRepository;
+        this.newsRepository = newsRepository;
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+
+        this.hitCounter = Counter.builder("reco.feed.cache").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("reco.feed.cache").tag("result", "miss").register(meterRegistry);
+        this.rebuildLagTimer = Timer.builder("reco.feed.rebuild.lag")
+                .description("피드가 stale 된 시점부터 재구성 완료까지의 지연")
+                .register(meterRegistry);
+        Gauge.builder("reco.feed.cache.hit.ratio", this, FeedCacheServiceImpl::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder("reco.feed.rebuild.pending", pendingRebuilds, ConcurrentHashMap::size)
+                .register(meterRegistry);
+
+        RecommendationProperties.FeedCache config = properties.getFeedCache();
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.rebuildExecutor = new ThreadPoolExecutor(
+                config.getRebuildThreads(), config.getRebuildThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(config.getRebuildQueueCapacity()),
+                r -> {
+                    Thread t = new Thread(r, "feed-rebuild-" + threadSeq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    @Override
+    public List<Long> getFeedIds(Long userId) {
+        CachedFeed cached = read(userId);
+        if (cached == null) {
+            missCounter.increment();
+            // 캐시가 없으면 현재 벡터로 동기 조립, 벡터 재계산은 비동기로 요청
+            List<Long> ids = buildFeedIds(userId);
+            if (!ids.isEmpty()) {
+                write(userId, ids);
+                vectorBatchService.requestRecompute(userId);
+                return ids;
+            }
+
+            // 벡터가 아직 없는 사용자만 동기 계산
+            // 계산 중 벡터 변경 이벤트로 같은 작업이 다시 예약되지 않도록 대기 중으로 표시
+            boolean claimed = pendingRebuilds.putIfAbsent(userId, System.currentTimeMillis()) == null;
+            try {
+                vectorBatchService.upsert(userId);
+                ids = buildFeedIds(userId);
+                write(userId, ids);
+                return ids;
+            } finally {
+                if (claimed) {
+                    pendingRebuilds.remove(userId);
+                }
+            }
+        }
+
+        hitCounter.increment();
+        if (cached.builtAt < newsArrivedAt) {
+            scheduleRebuild(userId, newsArrivedAt);
+        }
+        // 오래된 캐시는 벡터 재계산만 요청 (벡터가 바뀌면 변경 이벤트로 재구성)
+        long refreshAt = cached.builtAt + properties.getFeedCache().getRefreshAfterSeconds() * 1000;
+        if (System.currentTimeMillis() >= refreshAt) {
+            vectorBatchService.requestRecompute(userId);
+        }
+        return cached.newsIds;
+    }
+
+    @Override
+    public void invalidate(Long userId) {
+        scheduleRebuild(userId, System.currentTimeMillis());
+    }
+
+    @EventListener
+    public void onVectorUpdated(UserPrefVectorUpdatedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    /**
+     * 신규 기사 유입 감지 (최대 news_id 변화)
+     * 캐시는 즉시 지우지 않고, 다음 조회 시 응답 후 재구성되도록 기준 시각만 갱신
+     */
+    @Scheduled(fixedDelayString = "${reco.feed-cache.news-poll-ms:30000}")
+    public void detectNewArticles() {
+        try {
+            Long maxNewsId = newsRepository.findMaxNewsId();
+            long current = maxNewsId != null ? maxNewsId : 0L;
+            if (lastSeenNewsId >= 0 && current > lastSeenNewsId) {
+                newsArrivedAt = System.currentTimeMillis();
+            }
+            lastSeenNewsId = current;
+        } catch (Exception e) {
+            log.warn("신규 기사 감지 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private void scheduleRebuild(Long userId, long staleSince) {
+        if (pendingRebuilds.putIfAbsent(userId, staleSince) != null) {
+            return; // 이미 대기 중
+        }
+        try {
+            rebuildExecutor.execute(() -> rebuild(userId));
+        } catch (RejectedExecutionException e) {
+            pendingRebuilds.remove(userId);
+            log.warn("피드 재구성 대기열이 가득 차 건너뜁니다: userId={}", userId);
+        }
+    }
+
+    private void rebuild(Long userId) {
+        try {
+            Long staleSince = pendingRebuilds.remove(userId);
+
+            write(userId, buildFeedIds(userId));
+
+            if (staleSince != null) {
+                long lag = Math.max(0L, System.currentTimeMillis() - staleSince);
+                rebuildLagTimer.record(Duration.ofMillis(lag));
+            }
+        } catch (Exception e) {
+            pendingRebuilds.remove(userId);
+            log.error("피드 재구성 실패: userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 상위 3개 카테고리에서 quota 만큼 최신 뉴스 ID 수집
+     */
+    private List<Long> buildFeedIds(Long userId) {
+        List<UserPrefVector> top3Vectors = userPrefVectorRepository
+            .findTopByUserIdOrderByScoreDesc(userId, PageRequest.of(0, 3));
+        if (top3Vectors.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> newsIds = new ArrayList<>();
+        List<Integer> quotas = properties.getQuotas();
+        for (int i = 0; i < top3Vectors.size() && i < quotas.size(); i++) {
+            RecommendationCategory category = top3Vectors.get(i).getCategory();
+            newsIds.addAll(newsRepository.findLatestIdsByCategory(category, PageRequest.of(0, quotas.get(i))));
+        }
+        return newsIds;
+    }
+
+    private CachedFeed read(Long userId) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+            return value != null ? CachedFeed.parse(value) : null;
+        } catch (Exception e) {
+            log.warn("피드 캐시 조회 실패: userId={}, error={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void write(Long userId, List<Long> newsIds) {
+        // 빈 피드(벡터 없음)는 캐시하지 않음 -> 벡터가 생기면 바로 반영
+        if (newsIds.isEmpty()) {
+            return;
+        }
+        try {
+            StringBuilder value = new StringBuilder().append(System.currentTimeMillis()).append('|');
+            for (int i = 0; i < newsIds.size(); i++) {
+                if (i > 0) {
+                    value.append(',');
+                }
+                value.append(newsIds.get(i));
+            }
+            redisTemplate.opsForValue().set(KEY_PREFIX + userId, value.toString(),
+                    Duration.ofSeconds(properties.getFeedCache().getTtlSeconds()));
+        } catch (Exception e) {
+            log.warn("피드 캐시 저장 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    private double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    private static final class CachedFeed {
+        private final long builtAt;
+        private final List<Long> newsIds;
+
+        private CachedFeed(long builtAt, List<Long> newsIds) {
+            this.builtAt = builtAt;
+            this.newsIds = newsIds;
+        }
+
+        // 형식이 깨진 값은 미스로 처리
+        static CachedFeed parse(String value) {
+            int sep = value.indexOf('|');
+            if (sep <= 0) {
+                return null;
+            }
+            try {
+                long builtAt = Long.parseLong(value.substring(0, sep));
+                List<Long> ids = new ArrayList<>();
+                String body = value.substring(sep + 1);
+                if (!body.isEmpty()) {
+                    for (String id : body.split(",")) {
+                        ids.add(Long.parseLong(id));
+                    }
+                }
+                return new CachedFeed(builtAt, ids);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
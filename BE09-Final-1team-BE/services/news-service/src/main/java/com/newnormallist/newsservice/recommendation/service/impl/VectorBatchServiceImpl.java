@@ -1,90 +1,258 @@
 package com.newnormallist.newsservice.recommendation.service.impl;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import lombok.extern.slf4j.Slf4j;
+import com.newnormallist.newsservice.recommendation.config.RecommendationProperties;
 import com.newnormallist.newsservice.recommendation.service.VectorBatchService;
 import com.newnormallist.newsservice.recommendation.service.VectorBuilder;
 import com.newnormallist.newsservice.recommendation.entity.*;
+import com.newnormallist.newsservice.recommendation.event.UserActivityEvent;
+import com.newnormallist.newsservice.recommendation.event.UserPrefVectorUpdatedEvent;
 import com.newnormallist.newsservice.recommendation.repository.*;
 
+import jakarta.annotation.PreDestroy;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
-/* 
+/*
     벡터 저장/갱신 orchestrator 구현체.
 
-    스케줄러/로그인 트리거/운영 호출 등에서 VectorBuilder 호출 →
-    UserPrefVectorRepository.upsertBatch(userId, 9행) 저장.
+    조회/스크랩 활동 이벤트를 사용자별 카운터로 누적 →
+    임계치 도달 시 debounce 후 워커 풀에서 VectorBuilder 호출 →
+    값이 바뀐 UserPrefVector 행만 제자리 갱신(dirty checking), 없는 행만 추가.
 
-    stale 정책(최종 업데이트 10분 경과, 마지막 계산 이후 조회≥5 등) 관리.
+    stale 정책(최종 계산 10분 경과, 마지막 계산 이후 활동≥5 등) 관리.
+    활동 수는 조회 이력 전체를 읽지 않고 인스턴스 메모리 카운터로 판단.
+    메모리 기록은 재계산 시 비우고, stale 기준(10분)이 지난 기록은 주기적으로 제거.
 */
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class VectorBatchServiceImpl implements VectorBatchService {
 
     private final VectorBuilder vectorBuilder;
     private final UserPrefVectorRepository userPrefVectorRepository;
     private final UserRepository userRepository;
-    private final UserReadHistoryRepository userReadHistoryRepository;
-    
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final RecommendationProperties.VectorRecompute config;
+
     private static final int STALE_MINUTES = 10; // 10분 경과시 stale
-    private static final int READ_THRESHOLD_FOR_UPDATE = 5; // 조회 5회 이상시 업데이트
+    private static final int READ_THRESHOLD_FOR_UPDATE = 5; // 활동 5회 이상시 업데이트
+    private static final double SCORE_EPSILON = 1e-9;
+
+    // 마지막 계산 이후 활동 수 / 마지막 계산 시각 (사용자별)
+    private final ConcurrentHashMap<Long, ActivityCounter> activityCounts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, LocalDateTime> lastComputedAt = new ConcurrentHashMap<>();
+
+    // debounce 대기 중인 사용자
+    private final ConcurrentHashMap<Long, Boolean> pendingUsers = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor recomputeExecutor;
+
+    public VectorBatchServiceImpl(VectorBuilder vectorBuilder,
+                                  UserPrefVectorRepository userPrefVectorRepository,
+                                  UserRepository userRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  RecommendationProperties properties) {
+        this.vectorBuilder = vectorBuilder;
+        this.userPrefVectorRepository = userPrefVectorRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = properties.getVectorRecompute();
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.recomputeExecutor = new ScheduledThreadPoolExecutor(config.getWorkerThreads(), r -> {
+            Thread t = new Thread(r, "vector-recompute-" + threadSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.recomputeExecutor.scheduleWithFixedDelay(this::evictExpiredEntries,
+            config.getEvictIntervalMs(), config.getEvictIntervalMs(), TimeUnit.MILLISECONDS);
+    }
 
     @Override
     public void upsert(Long userId) {
-        
+
         // 1. 사용자 존재 확인
         Optional<UserEntity> userOpt = userRepository.findById(userId);
         if (userOpt.isEmpty()) {
-            return; // 사용자가 존재하지 않으면 무시
+            // 사용자가 존재하지 않으면 무시 (탈퇴 사용자 기록 정리)
+            activityCounts.remove(userId);
+            lastComputedAt.remove(userId);
+            return;
         }
         UserEntity userEntity = userOpt.get();
-        
+
         // 2. 현재 벡터 조회
         List<UserPrefVector> currentVectors = userPrefVectorRepository
             .findAllByUserIdOrderByScoreDesc(userId);
-        
+
         // 3. stale 판단
         if (!isStale(currentVectors, userId)) {
             return; // stale하지 않으면 업데이트하지 않음
         }
-        
+
         // 4. 새로운 벡터 계산
         List<UserPrefVector> newVectors = vectorBuilder.recomputeForUser(userEntity);
-        
-        // 5. 기존 벡터 삭제 후 새로운 벡터 저장
-        if (!currentVectors.isEmpty()) {
-            userPrefVectorRepository.deleteAll(currentVectors);
+
+        // 5. 바뀐 행만 갱신
+        Integer changed = transactionTemplate.execute(status -> applyChanges(userId, newVectors));
+        lastComputedAt.put(userId, LocalDateTime.now());
+        activityCounts.remove(userId);
+
+        // 6. 벡터 변경 알림 (피드 캐시 재구성 등)
+        if (changed != null && changed > 0) {
+            eventPublisher.publishEvent(new UserPrefVectorUpdatedEvent(userId));
+        }
+    }
+
+    @Override
+    public void requestRecompute(Long userId) {
+        if (userId == null || pendingUsers.containsKey(userId)) {
+            return; // 이미 예약됨 -> 합쳐서 한 번만 실행
+        }
+        if (pendingUsers.size() >= config.getMaxPending()) {
+            log.debug("벡터 재계산 대기열이 가득 차 건너뜁니다: userId={}", userId);
+            return;
+        }
+        if (pendingUsers.putIfAbsent(userId, Boolean.TRUE) != null) {
+            return;
+        }
+        recomputeExecutor.schedule(() -> {
+            pendingUsers.remove(userId);
+            try {
+                upsert(userId);
+            } catch (Exception e) {
+                log.error("사용자 벡터 재계산 실패: userId={}", userId, e);
+            }
+        }, config.getDebounceMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 조회/스크랩 활동 누적, 임계치 도달 시 재계산 예약
+     */
+    @EventListener
+    public void onUserActivity(UserActivityEvent event) {
+        if (event.getUserId() == null) {
+            return;
+        }
+        int count = activityCounts.computeIfAbsent(event.getUserId(), id -> new ActivityCounter())
+            .increment();
+        if (count >= READ_THRESHOLD_FOR_UPDATE) {
+            requestRecompute(event.getUserId());
+        }
+    }
+
+    /**
+     * stale 기준 시간이 지난 메모리 기록 제거 (주기 실행)
+     * - 마지막 계산 시각: 기준 시간이 지나면 어차피 stale로 판단되므로 보관할 필요 없음
+     * - 활동 수: 임계치에 못 미친 채 기준 시간 동안 활동이 없으면 제거 (재계산 대기 중인 사용자는 유지)
+     */
+    private void evictExpiredEntries() {
+        try {
+            LocalDateTime threshold = LocalDateTime.now().minusMinutes(STALE_MINUTES);
+            lastComputedAt.values().removeIf(computedAt -> computedAt.isBefore(threshold));
+            activityCounts.entrySet().removeIf(entry ->
+                entry.getValue().lastActivityAt.isBefore(threshold) && !pendingUsers.containsKey(entry.getKey()));
+        } catch (Exception e) {
+            log.warn("벡터 재계산 메모리 기록 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        recomputeExecutor.shutdownNow();
+    }
+
+    /**
+     * 카테고리별로 기존 행과 비교해 값이 다른 행만 수정, 없는 행만 추가
+     * 관리 상태 엔티티의 필드 변경은 커밋 시 dirty checking으로 해당 행만 UPDATE
+     * @return 변경/추가/삭제된 행 수
+     */
+    private int applyChanges(Long userId, List<UserPrefVector> newVectors) {
+        Map<RecommendationCategory, UserPrefVector> existing = new EnumMap<>(RecommendationCategory.class);
+        for (UserPrefVector vector : userPrefVectorRepository.findAllByUserIdOrderByScoreDesc(userId)) {
+            existing.put(vector.getCategory(), vector);
+        }
+
+        int changed = 0;
+        for (UserPrefVector next : newVectors) {
+            UserPrefVector current = existing.remove(next.getCategory());
+            if (current == null) {
+                userPrefVectorRepository.save(next);
+                changed++;
+            } else if (differs(current, next)) {
+                current.setScore(next.getScore());
+                current.setWDemo(next.getWDemo());
+                current.setWPref(next.getWPref());
+                current.setWRead(next.getWRead());
+                current.setWScrap(next.getWScrap());
+                changed++;
+            }
         }
-        userPrefVectorRepository.saveAll(newVectors);
+
+        // 새 계산에 없는 카테고리 행 제거
+        if (!existing.isEmpty()) {
+            userPrefVectorRepository.deleteAll(existing.values());
+            changed += existing.size();
+        }
+        return changed;
     }
-    
+
+    private boolean differs(UserPrefVector a, UserPrefVector b) {
+        return Math.abs(a.getScore() - b.getScore()) > SCORE_EPSILON
+            || Math.abs(a.getWDemo() - b.getWDemo()) > SCORE_EPSILON
+            || Math.abs(a.getWPref() - b.getWPref()) > SCORE_EPSILON
+            || Math.abs(a.getWRead() - b.getWRead()) > SCORE_EPSILON
+            || Math.abs(a.getWScrap() - b.getWScrap()) > SCORE_EPSILON;
+    }
+
     private boolean isStale(List<UserPrefVector> currentVectors, Long userId) {
-        
+
         // 벡터가 없으면 stale
         if (currentVectors.isEmpty()) {
             return true;
         }
-        
-        // 최신 벡터의 업데이트 시간 확인
-        UserPrefVector latestVector = currentVectors.get(0);
-        LocalDateTime lastUpdate = latestVector.getUpdatedAt();
+
+        // 마지막 계산 시각: 변경된 행만 갱신되므로 행들의 최신 updatedAt과 메모리 기록 중 최신값
+        LocalDateTime lastUpdate = lastComputedAt.get(userId);
+        for (UserPrefVector vector : currentVectors) {
+            if (vector.getUpdatedAt() != null && (lastUpdate == null || vector.getUpdatedAt().isAfter(lastUpdate))) {
+                lastUpdate = vector.getUpdatedAt();
+            }
+        }
         LocalDateTime staleThreshold = LocalDateTime.now().minusMinutes(STALE_MINUTES);
-        
+
         // 10분 경과시 stale
-        if (lastUpdate.isBefore(staleThreshold)) {
+        if (lastUpdate == null || lastUpdate.isBefore(staleThreshold)) {
             return true;
         }
-        
-        // 마지막 업데이트 이후 조회 기록 확인
-        LocalDateTime readCountSince = lastUpdate;
-        long readCount = userReadHistoryRepository.findByUserId(userId)
-            .stream()
-            .filter(history -> history.getCreatedAt().isAfter(readCountSince))
-            .count();
-        
-        // 조회 5회 이상시 stale
-        return readCount >= READ_THRESHOLD_FOR_UPDATE;
+
+        // 마지막 계산 이후 활동 5회 이상시 stale
+        ActivityCounter activityCount = activityCounts.get(userId);
+        return activityCount != null && activityCount.count.get() >= READ_THRESHOLD_FOR_UPDATE;
+    }
+
+    // 사용자별 활동 수와 마지막 활동 시각
+    private static final class ActivityCounter {
+        private final AtomicInteger count = new AtomicInteger();
+        private volatile LocalDateTime lastActivityAt = LocalDateTime.now();
+
+        int increment() {
+            lastActivityAt = LocalDateTime.now();
+            return count.incrementAndGet();
+        }
     }
 }
@@ -9,13 +9,14 @@ import com.newnormallist.newsservice.recommendation.entity.*;
 import com.newnormallist.newsservice.recommendation.repository.*;
 import com.newnormallist.newsservice.recommendation.util.PrefVectorHelper;
 import com.newnormallist.newsservice.recommendation.util.MathUtils;
+import com.newnormallist.newsservice.recommendation.util.CategoryVector;
 import com.newnormallist.newsservice.recommendation.config.RecommendationProperties;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /* 사용자 벡터 계산기 구현체.
 
@@ -27,6 +28,9 @@ import java.util.stream.Collectors;
     WeightSelector.choose(readCount, scrapCount)로 케이스별 가중치 선택
     최종식 Score(c)=Norm(wD·D + wP·P + wR·R + wS·S)로 9개 값 계산
     UserPrefVector 9행으로 만들어 반환 
+
+    벡터는 CategoryVector(ordinal 인덱스 double[])로 다루고,
+    일 단위 감쇠 가중치는 미리 계산한 테이블에서 조회.
 */
 
 @Service
@@ -42,41 +46,50 @@ public class VectorBuilderImpl implements VectorBuilder {
     private final NewsScraperRepository newsScrapRepository;
     private final PrefVectorHelper prefVectorHelper;
 
+    // 감쇠 가중치 테이블 (조회 7일 / 스크랩 30일 구간, 반감기는 설정값 고정이라 지연 생성 후 재사용)
+    private static final int READ_WINDOW_DAYS = 7;
+    private static final int SCRAP_WINDOW_DAYS = 30;
+    private volatile DecayTable readDecayTable;
+    private volatile DecayTable scrapDecayTable;
+
     @Override
     public List<UserPrefVector> recomputeForUser(UserEntity userEntity) {
         
+        // 기준 시각은 한 번만 계산 (행마다 now() 호출하지 않음)
+        LocalDateTime now = LocalDateTime.now();
+
         // 1. 사용자 연령/성별 정보 추출
         AgeBucket ageBucket = calculateAgeBucket(userEntity.getBirthYear());
         
         // 2. D(c) - 인구통계학적 기본 분포
-        Map<RecommendationCategory, Double> D = demoBaseProvider.getBase(ageBucket, userEntity.getGender());
+        CategoryVector D = CategoryVector.from(demoBaseProvider.getBase(ageBucket, userEntity.getGender()));
         
         // 3. P(c) - 사용자 선호 카테고리 분포
-        Map<RecommendationCategory, Double> P = prefVectorHelper.buildP(userEntity.getId());
+        CategoryVector P = CategoryVector.from(prefVectorHelper.buildP(userEntity.getId()));
         
         // 4. R(c) - 최근 7일 조회 기록
-        Map<RecommendationCategory, Double> R = buildReadVector(userEntity.getId());
+        CategoryVector R = buildReadVector(userEntity.getId(), now);
         
         // 5. S(c) - 최근 30일 스크랩 기록
-        Map<RecommendationCategory, Double> S = buildScrapVector(userEntity.getId());
+        CategoryVector S = buildScrapVector(userEntity.getId(), now);
         
         // 6. 가중치 선택
-        int readCount = (int) R.values().stream().mapToDouble(Double::doubleValue).sum();
-        int scrapCount = (int) S.values().stream().mapToDouble(Double::doubleValue).sum();
+        int readCount = (int) R.sum();
+        int scrapCount = (int) S.sum();
         var weights = weightSelector.choose(readCount, scrapCount);
         
-        // 7. 최종 점수 계산 및 UserPrefVector 생성
-        List<UserPrefVector> vectors = new ArrayList<>();
-        for (RecommendationCategory category : RecommendationCategory.values()) {
-            double score = weights.getWDemo() * D.getOrDefault(category, 0.0) +
-                         weights.getWPref() * P.getOrDefault(category, 0.0) +
-                         weights.getWRead() * R.getOrDefault(category, 0.0) +
-                         weights.getWScrap() * S.getOrDefault(category, 0.0);
-            
+        // 7. 최종 점수 계산 + 정규화 (합이 1이 되도록)
+        CategoryVector scores = CategoryVector.mixNormalized(
+            weights.getWDemo(), D, weights.getWPref(), P,
+            weights.getWRead(), R, weights.getWScrap(), S);
+
+        // 8. UserPrefVector 생성
+        List<UserPrefVector> vectors = new ArrayList<>(CategoryVector.DIMENSION);
+        for (int i = 0; i < CategoryVector.DIMENSION; i++) {
             vectors.add(UserPrefVector.builder()
                 .userId(userEntity.getId())
-                .category(category)
-                .score(score)
+                .category(CategoryVector.category(i))
+                .score(scores.get(i))
                 .wDemo(weights.getWDemo())
                 .wPref(weights.getWPref())
                 .wRead(weights.getWRead())
@@ -84,12 +97,6 @@ public class VectorBuilderImpl implements VectorBuilder {
                 .build());
         }
         
-        // 8. 정규화 (합이 1이 되도록)
-        double totalScore = vectors.stream().mapToDouble(UserPrefVector::getScore).sum();
-        if (totalScore > 0) {
-            vectors.forEach(vector -> vector.setScore(vector.getScore() / totalScore));
-        }
-        
         return vectors;
     }
     
@@ -104,78 +111,76 @@ public class VectorBuilderImpl implements VectorBuilder {
         return AgeBucket.AGE_60s_PLUS;
     }
     
-    private Map<RecommendationCategory, Double> buildReadVector(Long userId) {
-        LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
+    private CategoryVector buildReadVector(Long userId, LocalDateTime now) {
+        LocalDateTime sevenDaysAgo = now.minusDays(READ_WINDOW_DAYS);
         
-        List<UserReadHistory> readHistories = userReadHistoryRepository.findByUserId(userId)
-            .stream()
-            .filter(history -> history.getCreatedAt().isAfter(sevenDaysAgo))
-            .collect(Collectors.toList());
+        // 기간 내 (created_at, category)만 조회
+        List<Object[]> readSignals = userReadHistoryRepository.findReadSignalsSince(userId, sevenDaysAgo);
         
-        Map<RecommendationCategory, Double> categoryWeights = new HashMap<>();
+        double halfLife = properties.getReadHalfLifeDays();
+        double[] decay = readDecayTable(halfLife);
+        CategoryVector categoryWeights = CategoryVector.zeros();
         double totalWeight = 0.0;
         
-        for (UserReadHistory history : readHistories) {
-            long daysDiff = java.time.Duration.between(history.getCreatedAt(), LocalDateTime.now()).toDays();
-            double weight = MathUtils.dayWeight(daysDiff, properties.getReadHalfLifeDays());
+        for (Object[] row : readSignals) {
+            long daysDiff = ChronoUnit.DAYS.between((LocalDateTime) row[0], now);
+            double weight = MathUtils.dayWeight(decay, daysDiff, halfLife);
             
-            categoryWeights.merge(history.getCategoryName(), weight, Double::sum);
+            // 카테고리 없는 기록도 분모에는 포함
+            if (row[1] != null) {
+                categoryWeights.add((RecommendationCategory) row[1], weight);
+            }
             totalWeight += weight;
         }
         
-        // 정규화
-        final double finalTotalWeight = totalWeight;
-        if (finalTotalWeight > 0) {
-            categoryWeights.replaceAll((k, v) -> v / finalTotalWeight);
-        }
-        
-        return categoryWeights;
+        return categoryWeights.divideBy(totalWeight);
     }
     
-    private Map<RecommendationCategory, Double> buildScrapVector(Long userId) {
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
+    private CategoryVector buildScrapVector(Long userId, LocalDateTime now) {
+        LocalDateTime thirtyDaysAgo = now.minusDays(SCRAP_WINDOW_DAYS);
         
         try {
             // 먼저 JPA 방식 시도
             List<NewsScraper> scraps = newsScrapRepository.findRecentScrapsByUserId(userId, thirtyDaysAgo);
-            return calculateScrapWeights(scraps);
+            return calculateScrapWeights(scraps, now);
         } catch (Exception e) {
             try {
                 // 날짜 파싱 오류 시 Native Query 사용
                 String sinceStr = thirtyDaysAgo.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
                 List<Object[]> scrapData = newsScrapRepository.findRecentScrapsByUserIdNative(userId, sinceStr);
-                return calculateScrapWeightsFromNative(scrapData);
+                return calculateScrapWeightsFromNative(scrapData, now);
             } catch (Exception e2) {
-                // 스크랩 저장소가 없거나 모든 방법이 실패한 경우 빈 맵 반환
+                // 스크랩 저장소가 없거나 모든 방법이 실패한 경우 빈 벡터 반환
                 log.debug("사용자 {}의 스크랩 데이터가 없습니다. 빈 스크랩 벡터를 사용합니다.", userId);
-                return new HashMap<>();
+                return CategoryVector.zeros();
             }
         }
     }
     
-    private Map<RecommendationCategory, Double> calculateScrapWeights(List<NewsScraper> scraps) {
-        Map<RecommendationCategory, Double> categoryWeights = new HashMap<>();
+    private CategoryVector calculateScrapWeights(List<NewsScraper> scraps, LocalDateTime now) {
+        double halfLife = properties.getScrapHalfLifeDays();
+        double[] decay = scrapDecayTable(halfLife);
+        CategoryVector categoryWeights = CategoryVector.zeros();
         double totalWeight = 0.0;
         
         for (NewsScraper scrap : scraps) {
-            long daysDiff = java.time.Duration.between(scrap.getCreatedAt(), LocalDateTime.now()).toDays();
-            double weight = MathUtils.dayWeight(daysDiff, properties.getScrapHalfLifeDays());
+            long daysDiff = ChronoUnit.DAYS.between(scrap.getCreatedAt(), now);
+            double weight = MathUtils.dayWeight(decay, daysDiff, halfLife);
             
-            categoryWeights.merge(scrap.getNewsEntity().getCategoryName(), weight, Double::sum);
+            RecommendationCategory category = scrap.getNewsEntity().getCategoryName();
+            if (category != null) {
+                categoryWeights.add(category, weight);
+            }
             totalWeight += weight;
         }
         
-        // 정규화
-        final double finalTotalWeight = totalWeight;
-        if (finalTotalWeight > 0) {
-            categoryWeights.replaceAll((k, v) -> v / finalTotalWeight);
-        }
-        
-        return categoryWeights;
+        return categoryWeights.divideBy(totalWeight);
     }
     
-    private Map<RecommendationCategory, Double> calculateScrapWeightsFromNative(List<Object[]> scrapData) {
-        Map<RecommendationCategory, Double> categoryWeights = new HashMap<>();
+    private CategoryVector calculateScrapWeightsFromNative(List<Object[]> scrapData, LocalDateTime now) {
+        double halfLife = properties.getScrapHalfLifeDays();
+        double[] decay = scrapDecayTable(halfLife);
+        CategoryVector categoryWeights = CategoryVector.zeros();
         double totalWeight = 0.0;
         
         for (Object[] row : scrapData) {
@@ -188,25 +193,22 @@ public class VectorBuilderImpl implements VectorBuilder {
                 LocalDateTime createdAt;
                 try {
                     // 마이크로초 형식 시도
-                    createdAt = LocalDateTime.parse(createdAtStr, 
-                        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS"));
+                    createdAt = LocalDateTime.parse(createdAtStr, MICROS_FORMAT);
                 } catch (Exception e1) {
                     try {
                         // 밀리초 형식 시도
-                        createdAt = LocalDateTime.parse(createdAtStr, 
-                            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS"));
+                        createdAt = LocalDateTime.parse(createdAtStr, MILLIS_FORMAT);
                     } catch (Exception e2) {
                         // 기본 형식 시도
-                        createdAt = LocalDateTime.parse(createdAtStr, 
-                            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+                        createdAt = LocalDateTime.parse(createdAtStr, SECONDS_FORMAT);
                     }
                 }
                 RecommendationCategory category = RecommendationCategory.valueOf(categoryStr);
                 
-                long daysDiff = java.time.Duration.between(createdAt, LocalDateTime.now()).toDays();
-                double weight = MathUtils.dayWeight(daysDiff, properties.getScrapHalfLifeDays());
+                long daysDiff = ChronoUnit.DAYS.between(createdAt, now);
+                double weight = MathUtils.dayWeight(decay, daysDiff, halfLife);
                 
-                categoryWeights.merge(category, weight, Double::sum);
+                categoryWeights.add(category, weight);
                 totalWeight += weight;
             } catch (Exception e) {
                 // 개별 레코드 파싱 실패 시 건너뛰기
@@ -214,12 +216,31 @@ public class VectorBuilderImpl implements VectorBuilder {
             }
         }
         
-        // 정규화
-        final double finalTotalWeight = totalWeight;
-        if (finalTotalWeight > 0) {
-            categoryWeights.replaceAll((k, v) -> v / finalTotalWeight);
+        return categoryWeights.divideBy(totalWeight);
+    }
+
+    private double[] readDecayTable(double halfLife) {
+        DecayTable table = readDecayTable;
+        if (table == null || table.halfLife != halfLife) {
+            table = new DecayTable(halfLife, MathUtils.dayWeightTable(READ_WINDOW_DAYS, halfLife));
+            readDecayTable = table;
         }
-        
-        return categoryWeights;
+        return table.weights;
     }
+
+    private double[] scrapDecayTable(double halfLife) {
+        DecayTable table = scrapDecayTable;
+        if (table == null || table.halfLife != halfLife) {
+            table = new DecayTable(halfLife, MathUtils.dayWeightTable(SCRAP_WINDOW_DAYS, halfLife));
+            scrapDecayTable = table;
+        }
+        return table.weights;
+    }
+
+    private record DecayTable(double halfLife, double[] weights) {
+    }
+
+    private static final DateTimeFormatter MICROS_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+    private static final DateTimeFormatter MILLIS_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    private static final DateTimeFormatter SECONDS_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 }
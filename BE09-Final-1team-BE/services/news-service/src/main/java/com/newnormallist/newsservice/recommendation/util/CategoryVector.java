@@ -0,0 +1,82 @@
+package com.newnormallist.newsservice.recommendation.util;
+
+import java.util.Map;
+
+import com.newnormallist.newsservice.recommendation.entity.RecommendationCategory;
+
+// 카테고리 9차원 밀집 벡터 : RecommendationCategory.ordinal() 인덱스의 double[]
+// 박싱된 Map<Category, Double> 대신 사용 (누적/혼합/정규화를 배열 한 번 순회로 처리)
+
+public final class CategoryVector {
+
+    private static final RecommendationCategory[] CATEGORIES = RecommendationCategory.values();
+    public static final int DIMENSION = CATEGORIES.length;
+
+    private final double[] values;
+
+    private CategoryVector(double[] values) {
+        this.values = values;
+    }
+
+    public static CategoryVector zeros() {
+        return new CategoryVector(new double[DIMENSION]);
+    }
+
+    public static CategoryVector from(Map<RecommendationCategory, Double> map) {
+        CategoryVector v = zeros();
+        if (map != null) {
+            for (Map.Entry<RecommendationCategory, Double> e : map.entrySet()) {
+                if (e.getKey() != null && e.getValue() != null) {
+                    v.values[e.getKey().ordinal()] = e.getValue();
+                }
+            }
+        }
+        return v;
+    }
+
+    public static RecommendationCategory category(int index) {
+        return CATEGORIES[index];
+    }
+
+    public void add(RecommendationCategory category, double weight) {
+        values[category.ordinal()] += weight;
+    }
+
+    public double get(int index) {
+        return values[index];
+    }
+
+    public double sum() {
+        double sum = 0.0;
+        for (double v : values) sum += v;
+        return sum;
+    }
+
+    // 주어진 합계로 나눠 비율화 (합계가 0 이하이면 그대로)
+    public CategoryVector divideBy(double total) {
+        if (total <= 0) return this;
+        for (int i = 0; i < DIMENSION; i++) values[i] /= total;
+        return this;
+    }
+
+    // 합이 1이 되도록 정규화
+    public CategoryVector normalize() {
+        return divideBy(sum());
+    }
+
+    // Norm(wD·D + wP·P + wR·R + wS·S) : 혼합과 합계를 한 번에 계산 후 정규화
+    public static CategoryVector mixNormalized(double wD, CategoryVector d, double wP, CategoryVector p,
+                                               double wR, CategoryVector r, double wS, CategoryVector s) {
+        double[] out = new double[DIMENSION];
+        double sum = 0.0;
+        for (int i = 0; i < DIMENSION; i++) {
+            double score = wD * d.values[i] + wP * p.values[i] + wR * r.values[i] + wS * s.values[i];
+            out[i] = score;
+            sum += score;
+        }
+        if (sum > 0) {
+            for (int i = 0; i < DIMENSION; i++) out[i] /= sum;
+        }
+        return new CategoryVector(out);
+    }
+}
@@ -6,12 +6,23 @@ import com.newnormallist.newsservice.recommendation.entity.RecommendationCategor
 
 // 감쇠 가중치 : exp(- ln2/halfLifeDays × deltaDays)
 // 정규화 : 9개 값 합 = 1 보장
+// 감쇠 테이블 : 0~maxDays일 가중치를 미리 계산해 행마다 exp 호출을 피함
 
 public class MathUtils {
     public static double dayWeight(long deltaDays, double halfLifeDays) {
         double lambda = Math.log(2.0) / halfLifeDays;
         return Math.exp(-lambda * deltaDays);
     }
+    public static double[] dayWeightTable(int maxDays, double halfLifeDays) {
+        double[] table = new double[maxDays + 1];
+        for (int d = 0; d <= maxDays; d++) table[d] = dayWeight(d, halfLifeDays);
+        return table;
+    }
+    // 테이블 범위 밖(미래 시각, 기간 초과)은 직접 계산
+    public static double dayWeight(double[] table, long deltaDays, double halfLifeDays) {
+        if (deltaDays >= 0 && deltaDays < table.length) return table[(int) deltaDays];
+        return dayWeight(deltaDays, halfLifeDays);
+    }
     public static void normalize(Map<RecommendationCategory, Double> m) {
         double sum = m.values().stream().mapToDouble(Double::doubleValue).sum();
         if (sum <= 0) return;
@@ -2,40 +2,46 @@ package com.newnormallist.newsservice.summarizer.client;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 import com.newnormallist.newsservice.summarizer.dto.SummaryResponse;
 import com.newnormallist.newsservice.summarizer.exception.SummarizerException;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.*;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpStatusCodeException;
-import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
- * Flask 요약 API 클라이언트 - RestTemplate 사용
+ * Flask 요약 API 클라이언트 - JDK HttpClient(커넥션 재사용, 비동기) 사용
+ * - 동시에 들어온 요청은 마이크로 배치로 묶어 /summary/batch 한 번으로 전송 (1건이면 /summary)
+ * - Flask가 /summary/batch를 지원하지 않으면(404) 건별 /summary 호출로 전환
  * - 뉴스ID 요약: 문자열(줄바꿈 결합) 또는 SummaryResponse 형태로 반환
  * - 텍스트 요약: 문자열로 반환
  */
 @Component
-@RequiredArgsConstructor
 public class SummarizerClient {
 
     private static final Logger log = LoggerFactory.getLogger(SummarizerClient.class);
 
-    private final RestTemplateBuilder builder;
-
-    private RestTemplate rt;
     private final ObjectMapper om = new ObjectMapper();
+    private HttpClient http;
+    private SummaryMicroBatcher batcher;
+    private volatile boolean batchSupported = true;
 
     @Value("${summarizer.base-url:http://localhost:5000}")
     private String baseUrl;
@@ -46,65 +52,74 @@ public class SummarizerClient {
     @Value("${summarizer.read-timeout-ms:10000}")
     private int readTimeoutMs;
 
+    @Value("${summarizer.batch.max-size:8}")
+    private int batchMaxSize;
+
+    @Value("${summarizer.batch.window-ms:20}")
+    private long batchWindowMs;
+
+    @Value("${summarizer.batch.read-timeout-ms:30000}")
+    private int batchReadTimeoutMs;
+
+    @Value("${summarizer.batch.max-concurrent-requests:4}")
+    private int maxConcurrentRequests;
+
+    @Value("${summarizer.batch.max-pending:200}")
+    private int maxPending;
+
     @PostConstruct
     void init() {
-        // 일부 환경에서 SimpleClientHttpRequestFactory가 필요할 수 있어 명시적 설정
-        SimpleClientHttpRequestFactory rf = new SimpleClientHttpRequestFactory();
-        rf.setConnectTimeout(connectTimeoutMs);
-        rf.setReadTimeout(readTimeoutMs);
-
-        this.rt = builder
-                .requestFactory(() -> rf)
+        // HTTP/1.1 고정: Flask 개발 서버는 h2c 업그레이드를 지원하지 않음
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
                 .build();
+        this.batcher = new SummaryMicroBatcher(batchMaxSize, batchWindowMs, maxConcurrentRequests, maxPending, this::send);
+
+        log.info("[SummarizerClient] baseUrl={} connectTimeoutMs={} readTimeoutMs={} batch(maxSize={}, windowMs={}, maxConcurrent={}, maxPending={})",
+                baseUrl, connectTimeoutMs, readTimeoutMs, batchMaxSize, batchWindowMs, maxConcurrentRequests, maxPending);
+    }
 
-        log.info("[SummarizerClient] baseUrl={} connectTimeoutMs={} readTimeoutMs={}",
-                baseUrl, connectTimeoutMs, readTimeoutMs);
+    @PreDestroy
+    void shutdown() {
+        batcher.shutdown();
     }
 
     // -----------------------------
     // Public APIs
     // -----------------------------
 
-    /** 뉴스ID 기반 요약(기존 방식): 응답을 N줄 문자열로 평탄화하여 반환 */
-    public String summarizeByNewsId(Long newsId, String type, int lines, String promptOverride) {
+    /** 뉴스ID 기반 요약(비동기): Flask가 최종 사용한 타입/라인/본문을 SummaryResponse로 반환 */
+    public CompletableFuture<SummaryResponse> summarizeByNewsIdAsync(Long newsId, String type, int lines, String promptOverride) {
         Map<String, Object> body = baseBody(type, lines, promptOverride);
         body.put("news_id", newsId);
-        return callAndPlainText("/summary", body, lines);
+        int fallbackLines = Math.max(1, lines);
+        return batcher.submit(body).thenApply(root -> parseSummaryResponse(root, newsId, fallbackLines));
     }
 
-    /** 뉴스ID 기반 요약(신규): Flask가 최종 사용한 타입/라인/본문을 그대로 SummaryResponse로 반환 (재조회 불필요) */
-    public SummaryResponse summarizeByNewsIdAsResponse(Long newsId, String type, int lines, String promptOverride) {
+    /** 자유 텍스트 요약(비동기): 응답을 N줄 문자열로 평탄화하여 반환 */
+    public CompletableFuture<String> summarizeByTextAsync(String text, String type, Integer lines, String promptOverride) {
+        int n = (lines == null || lines <= 0) ? 3 : lines;
+        Map<String, Object> body = baseBody(type, n, promptOverride);
+        body.put("text", text);
+        return batcher.submit(body).thenApply(root -> extractPlainText(root, n));
+    }
+
+    /** 뉴스ID 기반 요약(기존 방식): 응답을 N줄 문자열로 평탄화하여 반환 */
+    public String summarizeByNewsId(Long newsId, String type, int lines, String promptOverride) {
         Map<String, Object> body = baseBody(type, lines, promptOverride);
         body.put("news_id", newsId);
+        return await(batcher.submit(body).thenApply(root -> extractPlainText(root, lines)));
+    }
 
-        String url = baseUrl + "/summary";
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        try {
-            log.debug("[SummarizerClient] POST {} body={}", url, body);
-            ResponseEntity<String> resp = rt.postForEntity(url, new HttpEntity<>(body, headers), String.class);
-            String payload = resp.getBody();
-            if (!resp.getStatusCode().is2xxSuccessful()) {
-                throw new SummarizerException("Flask API 오류: " + resp.getStatusCode() + " " + payload);
-            }
-            return parseSummaryResponse(payload, newsId, Math.max(1, lines));
-        } catch (HttpStatusCodeException e) {
-            log.error("[SummarizerClient] HTTP {} {} body={}",
-                    e.getStatusCode(), e.getStatusText(), e.getResponseBodyAsString(), e);
-            throw new SummarizerException("Flask API 오류: " + e.getStatusCode(), e);
-        } catch (Exception e) {
-            log.error("[SummarizerClient] request failed", e);
-            throw new SummarizerException("Flask API 호출 실패", e);
-        }
+    /** 뉴스ID 기반 요약(동기): summarizeByNewsIdAsync 결과를 기다려 반환 */
+    public SummaryResponse summarizeByNewsIdAsResponse(Long newsId, String type, int lines, String promptOverride) {
+        return await(summarizeByNewsIdAsync(newsId, type, lines, promptOverride));
     }
 
-    /** 자유 텍스트 요약: 응답을 N줄 문자열로 평탄화하여 반환 */
+    /** 자유 텍스트 요약(동기): summarizeByTextAsync 결과를 기다려 반환 */
     public String summarizeByText(String text, String type, Integer lines, String promptOverride) {
-        int n = (lines == null || lines <= 0) ? 3 : lines;
-        Map<String, Object> body = baseBody(type, n, promptOverride);
-        body.put("text", text);
-        return callAndPlainText("/summary", body, n);
+        return await(summarizeByTextAsync(text, type, lines, promptOverride));
     }
 
     // -----------------------------
@@ -119,67 +134,138 @@ public class SummarizerClient {
         return m;
     }
 
-    private String callAndPlainText(String path, Map<String, Object> body, int lines) {
-        String url = baseUrl + path;
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+    /** 배치 전송: 모든 요청의 결과를 완료시킴 (실패도 SummarizerException으로 완료) */
+    private CompletableFuture<?> send(List<SummaryMicroBatcher.Pending> batch) {
+        CompletableFuture<?> sent;
+        if (batch.size() == 1 || !batchSupported) {
+            sent = sendEach(batch);
+        } else {
+            Map<String, Object> payload = Map.of("items", batch.stream().map(SummaryMicroBatcher.Pending::body).toList());
+            sent = post("/summary/batch", payload, batchReadTimeoutMs).thenCompose(resp -> {
+                if (resp.statusCode() == 404) {
+                    // 일괄 요약을 지원하지 않는 Flask → 이후 건별 호출
+                    batchSupported = false;
+                    log.warn("[SummarizerClient] /summary/batch 미지원, 건별 /summary 호출로 전환합니다.");
+                    return sendEach(batch);
+                }
+                if (!is2xx(resp.statusCode())) {
+                    throw new SummarizerException("Flask API 오류: " + resp.statusCode() + " " + resp.body());
+                }
+                JsonNode results = readJson(resp.body()).path("results");
+                for (int i = 0; i < batch.size(); i++) {
+                    JsonNode item = results.path(i);
+                    complete(batch.get(i), item.path("status").asInt(0), item.path("body"));
+                }
+                log.debug("[SummarizerClient] batch summary size={}", batch.size());
+                return CompletableFuture.<Void>completedFuture(null);
+            });
+        }
+        return sent.handle((ignored, error) -> {
+            if (error != null) {
+                SummarizerException ex = toSummarizerException(error);
+                batch.forEach(p -> p.result().completeExceptionally(ex));
+            }
+            return null;
+        });
+    }
 
+    private CompletableFuture<Void> sendEach(List<SummaryMicroBatcher.Pending> batch) {
+        CompletableFuture<?>[] calls = batch.stream()
+                .map(p -> post("/summary", p.body(), readTimeoutMs)
+                        .thenAccept(resp -> complete(p, resp.statusCode(), readJson(resp.body())))
+                        .exceptionally(e -> {
+                            p.result().completeExceptionally(toSummarizerException(e));
+                            return null;
+                        }))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(calls);
+    }
+
+    private void complete(SummaryMicroBatcher.Pending p, int status, JsonNode body) {
+        if (is2xx(status)) {
+            p.result().complete(body);
+        } else {
+            log.error("[SummarizerClient] HTTP {} body={}", status, body);
+            p.result().completeExceptionally(new SummarizerException("Flask API 오류: " + status + " " + body));
+        }
+    }
+
+    private CompletableFuture<HttpResponse<String>> post(String path, Object body, int timeoutMs) {
         try {
-            log.debug("[SummarizerClient] POST {} body={}", url, body);
-            ResponseEntity<String> resp = rt.postForEntity(url, new HttpEntity<>(body, headers), String.class);
-            String raw = resp.getBody();
-            if (!resp.getStatusCode().is2xxSuccessful()) {
-                throw new SummarizerException("Flask API 오류: " + resp.getStatusCode() + " " + raw);
-            }
-            return extractPlainText(raw, lines);
-        } catch (HttpStatusCodeException e) {
-            log.error("[SummarizerClient] HTTP {} {} body={}",
-                    e.getStatusCode(), e.getStatusText(), e.getResponseBodyAsString(), e);
-            throw new SummarizerException("Flask API 오류: " + e.getStatusCode(), e);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofMillis(timeoutMs))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(om.writeValueAsBytes(body)))
+                    .build();
+            log.debug("[SummarizerClient] POST {} body={}", path, body);
+            return http.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
         } catch (Exception e) {
-            log.error("[SummarizerClient] request failed", e);
-            throw new SummarizerException("Flask API 호출 실패", e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static boolean is2xx(int status) {
+        return status >= 200 && status < 300;
+    }
+
+    /** JSON이 아니면 원문을 텍스트 노드로 취급 */
+    private JsonNode readJson(String raw) {
+        if (raw == null || raw.isBlank()) return MissingNode.getInstance();
+        try {
+            return om.readTree(raw);
+        } catch (Exception ignore) {
+            return TextNode.valueOf(raw);
+        }
+    }
+
+    private static SummarizerException toSummarizerException(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof SummarizerException se) {
+            return se;
         }
+        log.error("[SummarizerClient] request failed", cause);
+        return new SummarizerException("Flask API 호출 실패", cause);
     }
 
-    /** JSON/텍스트 무엇이든 → “줄바꿈 기준 N줄 텍스트”로 평탄화 */
-    private String extractPlainText(String raw, int limit) {
-        if (raw == null || raw.isBlank()) return "";
+    private static <T> T await(CompletableFuture<T> future) {
         try {
-            JsonNode root = om.readTree(raw);
-
-            // 1) summary_text / summary 우선
-            if (root.has("summary_text")) return root.get("summary_text").asText();
-            if (root.has("summary")) return root.get("summary").asText();
-
-            // 2) lines 배열이면 줄바꿈으로 합치되 최대 limit 줄까지만
-            if (root.has("lines") && root.get("lines").isArray()) {
-                StringBuilder sb = new StringBuilder();
-                int n = 0;
-                for (JsonNode nline : root.get("lines")) {
-                    if (n >= Math.max(1, limit)) break;
-                    String s = nline.asText();
-                    if (s != null && !s.isBlank()) {
-                        if (sb.length() > 0) sb.append('\n');
-                        sb.append(s.trim());
-                        n++;
-                    }
+            return future.join();
+        } catch (CompletionException e) {
+            throw toSummarizerException(e);
+        }
+    }
+
+    /** JSON 응답 → “줄바꿈 기준 N줄 텍스트”로 평탄화 */
+    private String extractPlainText(JsonNode root, int limit) {
+        if (root == null || root.isMissingNode() || root.isNull()) return "";
+        if (root.isTextual()) return root.asText().trim(); // JSON이 아니면 원문 그대로
+
+        // 1) summary_text / summary 우선
+        if (root.has("summary_text")) return root.get("summary_text").asText();
+        if (root.has("summary")) return root.get("summary").asText();
+
+        // 2) lines 배열이면 줄바꿈으로 합치되 최대 limit 줄까지만
+        if (root.has("lines") && root.get("lines").isArray()) {
+            StringBuilder sb = new StringBuilder();
+            int n = 0;
+            for (JsonNode nline : root.get("lines")) {
+                if (n >= Math.max(1, limit)) break;
+                String s = nline.asText();
+                if (s != null && !s.isBlank()) {
+                    if (sb.length() > 0) sb.append('\n');
+                    sb.append(s.trim());
+                    n++;
                 }
-                return sb.toString();
             }
-
-            // 3) count/기타만 있으면 원문 반환
-            return raw.trim();
-        } catch (Exception ignore) {
-            // JSON이 아니면 그냥 원문 반환
-            return raw.trim();
+            return sb.toString();
         }
+
+        // 3) count/기타만 있으면 원문 반환
+        return root.toString().trim();
     }
 
     /** Flask 응답(JSON) → SummaryResponse 로 변환 */
-    private SummaryResponse parseSummaryResponse(String raw, Long newsId, int fallbackLines) throws Exception {
-        JsonNode root = om.readTree(raw);
-
+    private SummaryResponse parseSummaryResponse(JsonNode root, Long newsId, int fallbackLines) {
         // newsId
         Long nid = newsId;
         if (root.has("news_id")) nid = root.get("news_id").asLong();
@@ -0,0 +1,125 @@
+package com.newnormallist.newsservice.summarizer.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.newnormallist.newsservice.summarizer.exception.SummarizerException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 동시에 들어온 요약 요청을 모아 한 번에 보내는 마이크로 배처
+ * - 첫 요청이 들어온 뒤 window-ms 동안(또는 max-batch-size가 찰 때까지) 모아서 전송
+ * - 동시에 진행 중인 전송 수는 maxConcurrent로 제한 (초과 시 다음 배치는 대기열에서 계속 모임)
+ * - 대기 요청 수가 maxPending을 넘으면 즉시 실패 처리
+ */
+final class SummaryMicroBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(SummaryMicroBatcher.class);
+
+    /** 대기 중인 요청 한 건: Flask 요청 본문 + 결과(Flask 응답 JSON) */
+    record Pending(Map<String, Object> body, CompletableFuture<JsonNode> result) {
+    }
+
+    private final BlockingQueue<Pending> queue;
+    private final Semaphore inFlight;
+    private final int maxBatchSize;
+    private final long windowMs;
+    // 배치 전송: 각 Pending의 result를 완료시키는 책임은 sender에 있음
+    private final Function<List<Pending>, CompletableFuture<?>> sender;
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    SummaryMicroBatcher(int maxBatchSize, long windowMs, int maxConcurrent, int maxPending,
+                        Function<List<Pending>, CompletableFuture<?>> sender) {
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.windowMs = Math.max(0L, windowMs);
+        this.inFlight = new Semaphore(Math.max(1, maxConcurrent));
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, maxPending));
+        this.sender = sender;
+
+        this.flusher = new Thread(this::runFlushLoop, "summary-batcher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    CompletableFuture<JsonNode> submit(Map<String, Object> body) {
+        CompletableFuture<JsonNode> result = new CompletableFuture<>();
+        if (!running || !queue.offer(new Pending(body, result))) {
+            result.completeExceptionally(new SummarizerException("요약 요청 대기열이 가득 찼습니다. 잠시 후 다시 시도하세요."));
+        }
+        return result;
+    }
+
+    void shutdown() {
+        running = false;
+        flusher.interrupt();
+        List<Pending> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        rest.forEach(p -> p.result().completeExceptionally(new SummarizerException("요약 클라이언트가 종료되었습니다.")));
+    }
+
+    private void runFlushLoop() {
+        while (running) {
+            try {
+                List<Pending> batch = collectBatch();
+                inFlight.acquire();
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[SummaryMicroBatcher] flush loop error", e);
+            }
+        }
+    }
+
+    // 첫 요청을 기다린 뒤, 윈도우가 끝나거나 배치가 찰 때까지 추가로 모음
+    private List<Pending> collectBatch() throws InterruptedException {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        batch.add(queue.take());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMs);
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                break;
+            }
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void dispatch(List<Pending> batch) {
+        CompletableFuture<?> sent;
+        try {
+            sent = sender.apply(batch);
+        } catch (Exception e) {
+            inFlight.release();
+            batch.forEach(p -> p.result().completeExceptionally(e));
+            return;
+        }
+        sent.whenComplete((ignored, error) -> {
+            inFlight.release();
+            // sender가 완료시키지 못한 요청은 실패 처리
+            for (Pending p : batch) {
+                if (!p.result().isDone()) {
+                    p.result().completeExceptionally(error != null ? error
+                            : new SummarizerException("Flask API 응답에 요청 결과가 없습니다."));
+                }
+            }
+        });
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/news")
@@ -28,7 +29,7 @@ public class NewsSummaryController {
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<SummaryResponse> summarizeByNewsId(
+    public CompletableFuture<ResponseEntity<SummaryResponse>> summarizeByNewsId(
             @PathVariable Long newsId,
             @Valid @RequestBody SummaryRequest req
     ) {
@@ -39,8 +40,8 @@ public class NewsSummaryController {
                 .force(Boolean.TRUE.equals(req.getForce()))
                 .build();
 
-        SummaryResponse res = newsSummaryService.summarize(newsId, opt);
-        return ResponseEntity.ok(res);
+        // Flask 응답을 기다리는 동안 서블릿 스레드를 반환 (MVC 비동기 처리)
+        return newsSummaryService.summarize(newsId, opt).thenApply(ResponseEntity::ok);
     }
 
     /** 자유 텍스트 즉시 요약(저장 없음) */
@@ -49,7 +50,7 @@ public class NewsSummaryController {
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.TEXT_PLAIN_VALUE
     )
-    public ResponseEntity<String> summarizeAdhoc(
+    public CompletableFuture<ResponseEntity<String>> summarizeAdhoc(
             @Valid @RequestBody AdhocSummaryRequest req
     ) {
         SummaryOptions opt = SummaryOptions.builder()
@@ -59,7 +60,6 @@ public class NewsSummaryController {
                 .force(false)
                 .build();
 
-        String result = newsSummaryService.summarizeText(req.getText(), opt);
-        return ResponseEntity.ok(result);
+        return newsSummaryService.summarizeText(req.getText(), opt).thenApply(ResponseEntity::ok);
     }
 }
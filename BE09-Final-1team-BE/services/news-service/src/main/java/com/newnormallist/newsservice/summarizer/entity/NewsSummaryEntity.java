@@ -7,7 +7,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.Instant;
 
 @Entity
-@Table(name = "news_summary")
+@Table(name = "news_summary",
+        uniqueConstraints = @UniqueConstraint(name = "uq_news_summary_key",
+                columnNames = {"news_id", "summary_type", "lines"}))
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class NewsSummaryEntity {
@@ -2,14 +2,33 @@ package com.newnormallist.newsservice.summarizer.repository;
 
 import com.newnormallist.newsservice.summarizer.entity.NewsSummaryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface NewsSummaryRepository extends JpaRepository<NewsSummaryEntity, Long> {
 
-    // 캐시 조회: 키는 newsId + summaryType (스키마 유니크와 동일)
+    // 캐시 조회: 키는 newsId + summaryType + lines (uq_news_summary_key 인덱스 사용)
     Optional<NewsSummaryEntity> findTopByNewsIdAndSummaryTypeAndLinesOrderByIdDesc(Long newsId, String summaryType, Integer lines);
 
     // 존재 여부만 빠르게 확인하고 싶을 때(선택)
     boolean existsByNewsIdAndSummaryType(long newsId, String summaryType);
+
+    // 미리 생성 스윕 시작점: 기간 안의 첫 뉴스 ID (idx_news_pub_dt 범위 스캔)
+    @Query(value = "SELECT MIN(news_id) FROM news WHERE published_at_dt >= :since", nativeQuery = true)
+    Long findFirstNewsIdPublishedSince(@Param("since") LocalDateTime since);
+
+    // 해당 타입/줄 수 요약이 없는 뉴스 ID (news_id 순서 keyset)
+    @Query(value = "SELECT n.news_id FROM news n " +
+            "LEFT JOIN news_summary s ON s.news_id = n.news_id AND s.summary_type = :type AND s.`lines` = :lines " +
+            "WHERE n.news_id > :afterId AND s.id IS NULL " +
+            "ORDER BY n.news_id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findNewsIdsWithoutSummary(@Param("afterId") long afterId,
+                                         @Param("type") String type,
+                                         @Param("lines") int lines,
+                                         @Param("limit") int limit);
 }
\ No newline at end of file
@@ -4,19 +4,86 @@ import com.newnormallist.newsservice.summarizer.client.SummarizerClient;
 import com.newnormallist.newsservice.summarizer.dto.SummaryOptions;
 import com.newnormallist.newsservice.summarizer.dto.SummaryResponse;
 import com.newnormallist.newsservice.summarizer.repository.NewsSummaryRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 뉴스 요약
+ * - 같은 (newsId, type, lines) 캐시 미스가 동시에 들어오면 Flask 생성 요청 하나를 함께 기다림
+ *   (프롬프트를 직접 지정한 요청은 결과가 달라질 수 있어 합치지 않음)
+ * - 새로 저장된 뉴스는 기본 타입/줄 수 요약을 백그라운드 대기열에서 미리 생성
+ *   (news_id keyset 주기 스윕으로 크롤러가 저장한 뉴스를 찾고, 승격 시점에는 즉시 예약)
+ * 중복 행은 news_summary (news_id, summary_type, lines) 유니크 키가 막음
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class NewsSummaryService {
 
+    private static final String DEFAULT_TYPE = "DEFAULT";
+    private static final int DEFAULT_LINES = 3;
+
     private final NewsSummaryRepository repo;
     private final SummarizerClient client;
+    private final boolean pregenerateEnabled;
+    private final int queueCapacity;
+    private final int sweepBatchSize;
+    private final int sweepWindowHours;
+
+    // 진행 중인 생성 요청 (동시 미스 합치기)
+    private final ConcurrentHashMap<SummaryKey, CompletableFuture<SummaryResponse>> inFlight = new ConcurrentHashMap<>();
+    // 미리 생성 대기/진행 중인 뉴스 (중복 예약 방지)
+    private final Set<Long> pendingPregeneration = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor pregenerateExecutor;
+    private final AtomicBoolean sweeping = new AtomicBoolean(false);
+
+    // 미리 생성 스윕 keyset 위치 (0: 아직 시작 전, 스윕 시 기간 안의 첫 뉴스 직전으로 설정)
+    private volatile long sweepAfterId = 0L;
+
+    public NewsSummaryService(NewsSummaryRepository repo,
+                              SummarizerClient client,
+                              @Value("${summarizer.pregenerate.enabled:true}") boolean pregenerateEnabled,
+                              @Value("${summarizer.pregenerate.worker-threads:2}") int workerThreads,
+                              @Value("${summarizer.pregenerate.queue-capacity:1000}") int queueCapacity,
+                              @Value("${summarizer.pregenerate.sweep-batch-size:100}") int sweepBatchSize,
+                              @Value("${summarizer.pregenerate.sweep-window-hours:24}") int sweepWindowHours) {
+        this.repo = repo;
+        this.client = client;
+        this.pregenerateEnabled = pregenerateEnabled;
+        this.queueCapacity = queueCapacity;
+        this.sweepBatchSize = sweepBatchSize;
+        this.sweepWindowHours = sweepWindowHours;
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.pregenerateExecutor = new ThreadPoolExecutor(
+                workerThreads, workerThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "summary-pregen-" + threadSeq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
 
     /** Flask와 동일 규칙으로 타입 정규화 */
     private static String canonType(String t) {
@@ -32,9 +99,10 @@ public class NewsSummaryService {
      * 뉴스 ID 기반 요약
      * - 캐시 히트면 DB에서 즉시 반환
      * - 미스면 Flask에 생성 요청 후, Flask가 응답한 최종 타입/라인/본문을 그대로 반환 (재조회 없음)
+     *   생성은 비동기로 진행되어 요청 스레드를 붙잡지 않음
      */
     @Transactional(readOnly = true, propagation = Propagation.NOT_SUPPORTED)
-    public SummaryResponse summarize(Long newsId, SummaryOptions opt) {
+    public CompletableFuture<SummaryResponse> summarize(Long newsId, SummaryOptions opt) {
         final String type = canonType(opt.type());
         final int lines = (opt.lines() > 0) ? opt.lines() : 3;
 
@@ -42,19 +110,137 @@ public class NewsSummaryService {
         if (!opt.force()) {
             var hit = repo.findTopByNewsIdAndSummaryTypeAndLinesOrderByIdDesc(newsId, type, lines);
             if (hit.isPresent()) {
-                return SummaryResponse.fromEntity(hit.get(), true);
+                return CompletableFuture.completedFuture(SummaryResponse.fromEntity(hit.get(), true));
             }
         }
 
         // 2) 캐시 미스 → Flask 생성 요청 → 응답 그대로 반환(재조회 X)
-        return client.summarizeByNewsIdAsResponse(newsId, type, lines, opt.prompt());
+        if (opt.prompt() != null && !opt.prompt().isBlank()) {
+            return client.summarizeByNewsIdAsync(newsId, type, lines, opt.prompt());
+        }
+        return generateCoalesced(new SummaryKey(newsId, type, lines));
     }
 
     /** 자유 텍스트 즉시 요약(저장 없음) */
     @Transactional(readOnly = true, propagation = Propagation.NOT_SUPPORTED)
-    public String summarizeText(String text, SummaryOptions opt) {
+    public CompletableFuture<String> summarizeText(String text, SummaryOptions opt) {
         final String type = canonType(opt.type());
         final int lines = (opt.lines() > 0) ? opt.lines() : 3;
-        return client.summarizeByText(text, type, lines, opt.prompt());
+        return client.summarizeByTextAsync(text, type, lines, opt.prompt());
+    }
+
+    /**
+     * 승격된 뉴스의 기본 요약 미리 생성 예약 (트랜잭션 안에서 호출되면 커밋 후 예약)
+     */
+    public void requestPregeneration(Long newsId) {
+        if (!pregenerateEnabled || newsId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueuePregeneration(newsId);
+                }
+            });
+            return;
+        }
+        enqueuePregeneration(newsId);
+    }
+
+    /**
+     * 새로 저장된 뉴스 중 기본 요약이 없는 뉴스를 미리 생성 대기열에 추가 (주기 실행)
+     * 크롤러가 DB에 직접 저장한 뉴스는 승격 경로를 거치지 않으므로 news_id keyset으로 따라감
+     */
+    @Scheduled(fixedDelayString = "${summarizer.pregenerate.sweep-interval-ms:30000}")
+    public void sweepNewNews() {
+        if (!pregenerateEnabled || !sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (sweepAfterId == 0L) {
+                // 처음에는 최근 기간의 뉴스부터 (이전 뉴스는 조회 시 생성)
+                Long firstNewsId = repo.findFirstNewsIdPublishedSince(LocalDateTime.now().minusHours(sweepWindowHours));
+                if (firstNewsId == null) {
+                    return; // 기간 안의 뉴스 없음 -> 다음 주기에 재확인
+                }
+                sweepAfterId = firstNewsId - 1;
+            }
+
+            // 대기열 여유만큼만 가져옴
+            int room = Math.min(sweepBatchSize, queueCapacity - pendingPregeneration.size());
+            if (room <= 0) {
+                return;
+            }
+            List<Long> newsIds = repo.findNewsIdsWithoutSummary(sweepAfterId, DEFAULT_TYPE, DEFAULT_LINES, room);
+            for (Long newsId : newsIds) {
+                if (!enqueuePregeneration(newsId)) {
+                    break; // 대기열이 가득 참 -> 이 뉴스부터 다음 주기에 재시도
+                }
+                sweepAfterId = newsId;
+            }
+        } catch (Exception e) {
+            log.warn("요약 미리 생성 스윕 실패: {}", e.getMessage());
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pregenerateExecutor.shutdownNow();
+    }
+
+    private CompletableFuture<SummaryResponse> generateCoalesced(SummaryKey key) {
+        CompletableFuture<SummaryResponse> mine = new CompletableFuture<>();
+        CompletableFuture<SummaryResponse> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return existing;
+        }
+        client.summarizeByNewsIdAsync(key.newsId(), key.type(), key.lines(), null)
+                .whenComplete((response, error) -> {
+                    inFlight.remove(key, mine);
+                    if (error != null) {
+                        mine.completeExceptionally(error);
+                    } else {
+                        mine.complete(response);
+                    }
+                });
+        return mine;
+    }
+
+    /**
+     * @return 대기열에 있으면 true, 대기열이 가득 차 건너뛰었으면 false
+     */
+    private boolean enqueuePregeneration(Long newsId) {
+        if (!pendingPregeneration.add(newsId)) {
+            return true; // 이미 대기 중
+        }
+        try {
+            pregenerateExecutor.execute(() -> pregenerate(newsId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            pendingPregeneration.remove(newsId);
+            log.debug("요약 미리 생성 대기열이 가득 차 건너뜁니다: newsId={}", newsId);
+            return false;
+        }
+    }
+
+    // 워커 스레드에서 완료까지 기다려 동시 생성 수를 worker-threads로 제한
+    // (Flask가 카테고리 타입으로 저장해 여기서 못 찾은 경우에도 Flask 캐시에서 바로 반환됨)
+    private void pregenerate(Long newsId) {
+        try {
+            if (repo.findTopByNewsIdAndSummaryTypeAndLinesOrderByIdDesc(newsId, DEFAULT_TYPE, DEFAULT_LINES).isPresent()) {
+                return;
+            }
+            generateCoalesced(new SummaryKey(newsId, DEFAULT_TYPE, DEFAULT_LINES)).join();
+        } catch (Exception e) {
+            log.warn("뉴스 ID {} 요약 미리 생성 실패 (조회 시 생성됩니다): {}", newsId, e.getMessage());
+        } finally {
+            pendingPregeneration.remove(newsId);
+        }
+    }
+
+    private record SummaryKey(Long newsId, String type, int lines) {
     }
 }
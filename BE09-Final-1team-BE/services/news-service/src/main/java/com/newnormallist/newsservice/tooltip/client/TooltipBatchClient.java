@@ -0,0 +1,88 @@
+package com.newnormallist.newsservice.tooltip.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newnormallist.newsservice.tooltip.dto.ProcessContentRequest;
+import com.newnormallist.newsservice.tooltip.dto.ProcessContentResult;
+import feign.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 툴팁 서비스 일괄 분석 클라이언트
+ * - 요청을 chunk-size 단위로 나눠 순서대로 호출하고, NDJSON 응답을 한 줄씩 읽어 결과로 변환
+ * - 호출 실패/응답 누락 기사는 error가 채워진 결과로 돌려줌 (호출자가 재시도 판단)
+ */
+@Slf4j
+@Component
+public class TooltipBatchClient {
+
+    private final TooltipServiceClient tooltipServiceClient;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public TooltipBatchClient(TooltipServiceClient tooltipServiceClient,
+                              ObjectMapper objectMapper,
+                              @Value("${news.tooltip-markup.batch-chunk-size:50}") int chunkSize) {
+        this.tooltipServiceClient = tooltipServiceClient;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public List<ProcessContentResult> processContents(List<ProcessContentRequest> requests) {
+        List<ProcessContentResult> results = new ArrayList<>(requests.size());
+        for (int from = 0; from < requests.size(); from += chunkSize) {
+            results.addAll(processChunk(requests.subList(from, Math.min(from + chunkSize, requests.size()))));
+        }
+        return results;
+    }
+
+    private List<ProcessContentResult> processChunk(List<ProcessContentRequest> chunk) {
+        List<ProcessContentResult> results = new ArrayList<>(chunk.size());
+        Set<Long> answered = new HashSet<>();
+        String failure = null;
+
+        try (Response response = tooltipServiceClient.processContentBatch(chunk)) {
+            if (response == null || response.body() == null) {
+                failure = "툴팁 서비스 호출 실패";
+            } else if (response.status() != 200) {
+                failure = "툴팁 서비스 응답 코드 " + response.status();
+            } else {
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(response.body().asInputStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.isBlank()) {
+                            continue;
+                        }
+                        ProcessContentResult result = objectMapper.readValue(line, ProcessContentResult.class);
+                        results.add(result);
+                        answered.add(result.newsId());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // 스트림 도중 끊긴 경우 받은 결과는 유지
+            failure = "툴팁 서비스 일괄 분석 중 오류: " + e.getMessage();
+        }
+
+        if (failure != null) {
+            log.warn("⚠️ {} (기사 {}건 중 {}건 수신)", failure, chunk.size(), answered.size());
+        }
+        for (ProcessContentRequest request : chunk) {
+            if (!answered.contains(request.newsId())) {
+                results.add(new ProcessContentResult(request.newsId(), null, null,
+                        failure != null ? failure : "응답에 결과가 없습니다."));
+            }
+        }
+        return results;
+    }
+}
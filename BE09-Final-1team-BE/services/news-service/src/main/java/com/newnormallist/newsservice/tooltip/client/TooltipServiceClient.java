@@ -2,10 +2,15 @@ package com.newnormallist.newsservice.tooltip.client;
 
 import com.newnormallist.newsservice.tooltip.dto.ProcessContentRequest;
 import com.newnormallist.newsservice.tooltip.dto.ProcessContentResponse;
+import com.newnormallist.newsservice.tooltip.dto.VocabularyVersionResponse;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
+
 @FeignClient(
     name = "tooltip-service",
     fallback = TooltipServiceFallback.class
@@ -14,4 +19,11 @@ public interface TooltipServiceClient {
     
     @PostMapping("/api/news/analysis/process")
     ProcessContentResponse processContent(@RequestBody ProcessContentRequest request);
+
+    // NDJSON 스트리밍 응답이므로 본문은 직접 읽음 (TooltipBatchClient 사용)
+    @PostMapping(value = "/api/news/analysis/process/batch", produces = "application/x-ndjson")
+    Response processContentBatch(@RequestBody List<ProcessContentRequest> requests);
+
+    @GetMapping("/api/news/analysis/vocabulary/version")
+    VocabularyVersionResponse getVocabularyVersion();
 }
@@ -2,9 +2,13 @@ package com.newnormallist.newsservice.tooltip.client;
 
 import com.newnormallist.newsservice.tooltip.dto.ProcessContentRequest;
 import com.newnormallist.newsservice.tooltip.dto.ProcessContentResponse;
+import com.newnormallist.newsservice.tooltip.dto.VocabularyVersionResponse;
+import feign.Response;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 public class TooltipServiceFallback implements TooltipServiceClient {
@@ -13,7 +17,19 @@ public class TooltipServiceFallback implements TooltipServiceClient {
     public ProcessContentResponse processContent(ProcessContentRequest request) {
         log.warn("⚠️ 툴팁 서비스 호출 실패! 뉴스 ID: {}, 원본 텍스트로 폴백합니다.", request.newsId());
         
-        // 툴팁 서비스 장애 시 원본 텍스트 그대로 반환
-        return new ProcessContentResponse(request.originalContent());
+        // 툴팁 서비스 장애 시 원본 텍스트 그대로 반환 (사전 버전 없음 -> 저장하지 않음)
+        return new ProcessContentResponse(request.originalContent(), null);
+    }
+
+    @Override
+    public Response processContentBatch(List<ProcessContentRequest> requests) {
+        log.warn("⚠️ 툴팁 서비스 일괄 분석 호출 실패! 기사 {}건", requests.size());
+        return null;
+    }
+
+    @Override
+    public VocabularyVersionResponse getVocabularyVersion() {
+        log.warn("⚠️ 툴팁 서비스 사전 버전 조회 실패!");
+        return null;
     }
 }
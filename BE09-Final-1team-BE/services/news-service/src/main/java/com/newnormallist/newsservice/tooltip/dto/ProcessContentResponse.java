@@ -1,6 +1,8 @@
 package com.newnormallist.newsservice.tooltip.dto;
 
 public record ProcessContentResponse(
-    String processedContent
+    String processedContent,
+    // 마크업에 사용된 어려운 단어 사전 버전 (툴팁 서비스가 원본을 돌려준 경우 null)
+    Long vocabularyVersion
 ) {
 }
@@ -0,0 +1,14 @@
+package com.newnormallist.newsservice.tooltip.dto;
+
+// 일괄 분석 결과 한 건 (툴팁 서비스 NDJSON 응답의 한 줄)
+public record ProcessContentResult(
+    Long newsId,
+    String processedContent,
+    Long vocabularyVersion,
+    // 실패 사유 (성공 시 null)
+    String error
+) {
+    public boolean isSuccess() {
+        return error == null && processedContent != null && vocabularyVersion != null;
+    }
+}
@@ -0,0 +1,6 @@
+package com.newnormallist.newsservice.tooltip.dto;
+
+public record VocabularyVersionResponse(
+    long version
+) {
+}
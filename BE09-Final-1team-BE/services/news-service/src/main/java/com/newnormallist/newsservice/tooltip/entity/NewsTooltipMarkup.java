@@ -0,0 +1,33 @@
+package com.newnormallist.newsservice.tooltip.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 뉴스 본문 툴팁 마크업 (미리 생성해 저장)
+ * vocabulary_version: 마크업 생성에 사용한 어려운 단어 사전 버전, 사전이 바뀌면 재생성 대상
+ * 저장은 NewsTooltipMarkupRepository.upsert로만 수행 (이전 버전이 새 버전을 덮어쓰지 않도록)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "news_tooltip_markup")
+public class NewsTooltipMarkup {
+
+    @Id
+    @Column(name = "news_id")
+    private Long newsId;
+
+    @Column(name = "processed_content", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String processedContent;
+
+    @Column(name = "vocabulary_version", nullable = false)
+    private Long vocabularyVersion;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,44 @@
+package com.newnormallist.newsservice.tooltip.repository;
+
+import com.newnormallist.newsservice.tooltip.entity.NewsTooltipMarkup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NewsTooltipMarkupRepository extends JpaRepository<NewsTooltipMarkup, Long> {
+
+    // 마크업 저장: 같은 버전 이상일 때만 본문을 교체 (컬럼은 왼쪽부터 갱신되므로 버전은 마지막에 갱신)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO news_tooltip_markup (news_id, processed_content, vocabulary_version, updated_at) " +
+            "VALUES (:newsId, :processedContent, :version, NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "processed_content = IF(VALUES(vocabulary_version) >= vocabulary_version, VALUES(processed_content), processed_content), " +
+            "updated_at = IF(VALUES(vocabulary_version) >= vocabulary_version, VALUES(updated_at), updated_at), " +
+            "vocabulary_version = GREATEST(vocabulary_version, VALUES(vocabulary_version))",
+            nativeQuery = true)
+    int upsert(@Param("newsId") Long newsId,
+               @Param("processedContent") String processedContent,
+               @Param("version") long version);
+
+    // 스윕 keyset 시작점: 재생성 기간 안의 첫 뉴스 ID (idx_news_pub_dt 범위 스캔)
+    @Query(value = "SELECT MIN(news_id) FROM news WHERE published_at_dt >= :since", nativeQuery = true)
+    Long findFirstNewsIdPublishedSince(@Param("since") LocalDateTime since);
+
+    // 마크업이 없거나 이전 사전 버전으로 만든 뉴스 ID (news_id 순서 keyset)
+    @Query(value = "SELECT n.news_id FROM news n " +
+            "LEFT JOIN news_tooltip_markup m ON m.news_id = n.news_id " +
+            "WHERE n.news_id > :afterId AND n.published_at_dt >= :since " +
+            "AND (m.news_id IS NULL OR m.vocabulary_version < :version) " +
+            "ORDER BY n.news_id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findNewsIdsNeedingMarkup(@Param("afterId") long afterId,
+                                        @Param("since") LocalDateTime since,
+                                        @Param("version") long version,
+                                        @Param("limit") int limit);
+}
@@ -0,0 +1,266 @@
+package com.newnormallist.newsservice.tooltip.service;
+
+import com.newnormallist.newsservice.news.entity.News;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import com.newnormallist.newsservice.tooltip.client.TooltipBatchClient;
+import com.newnormallist.newsservice.tooltip.client.TooltipServiceClient;
+import com.newnormallist.newsservice.tooltip.dto.ProcessContentRequest;
+import com.newnormallist.newsservice.tooltip.dto.ProcessContentResponse;
+import com.newnormallist.newsservice.tooltip.dto.ProcessContentResult;
+import com.newnormallist.newsservice.tooltip.dto.VocabularyVersionResponse;
+import com.newnormallist.newsservice.tooltip.entity.NewsTooltipMarkup;
+import com.newnormallist.newsservice.tooltip.repository.NewsTooltipMarkupRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 뉴스 본문 툴팁 마크업 사전 생성
+ * - 상세 조회는 저장된 마크업(news_tooltip_markup)만 읽고 툴팁 서비스를 호출하지 않음
+ *   (마크업이 없으면 원본 본문 반환 + 생성 예약, 이전 사전 버전이면 기존 마크업 반환 + 재생성 예약)
+ * - 생성은 뉴스 승격 시점과 주기적 스윕에서 비동기로 요청 (스윕은 일괄 분석 API로 묶어서 호출)
+ * - 스윕은 툴팁 서비스의 사전 버전을 확인해, 마크업이 없거나 버전이 낮은 최근 뉴스만 처리
+ *   (사전이 바뀐 경우에만 기존 뉴스가 재생성 대상이 됨)
+ */
+@Service
+@Slf4j
+public class TooltipMarkupService {
+
+    private final NewsTooltipMarkupRepository markupRepository;
+    private final NewsRepository newsRepository;
+    private final TooltipServiceClient tooltipServiceClient;
+    private final TooltipBatchClient tooltipBatchClient;
+
+    private final int queueCapacity;
+    private final int sweepBatchSize;
+    private final int regenerateWindowDays;
+
+    // 생성 대기/진행 중인 뉴스 (중복 요청 방지, 대기열 크기 판단)
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor generateExecutor;
+    private final AtomicBoolean sweeping = new AtomicBoolean(false);
+
+    // 툴팁 서비스의 현재 사전 버전 (-1: 아직 모름)
+    private volatile long currentVersion = -1L;
+    // 스윕 keyset 위치 (0: 처음부터, 스윕 시 재생성 기간의 첫 뉴스 직전으로 설정)
+    private volatile long scanAfterId = 0L;
+
+    public TooltipMarkupService(NewsTooltipMarkupRepository markupRepository,
+                                NewsRepository newsRepository,
+                                TooltipServiceClient tooltipServiceClient,
+                                TooltipBatchClient tooltipBatchClient,
+                                @Value("${news.tooltip-markup.worker-threads:2}") int workerThreads,
+                                @Value("${news.tooltip-markup.queue-capacity:1000}") int queueCapacity,
+                                @Value("${news.tooltip-markup.sweep-batch-size:200}") int sweepBatchSize,
+                                @Value("${news.tooltip-markup.regenerate-window-days:30}") int regenerateWindowDays) {
+        this.markupRepository = markupRepository;
+        this.newsRepository = newsRepository;
+        this.tooltipServiceClient = tooltipServiceClient;
+        this.tooltipBatchClient = tooltipBatchClient;
+        this.queueCapacity = queueCapacity;
+        this.sweepBatchSize = sweepBatchSize;
+        this.regenerateWindowDays = regenerateWindowDays;
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.generateExecutor = new ThreadPoolExecutor(
+                workerThreads, workerThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "tooltip-markup-" + threadSeq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    /**
+     * 상세 조회용 본문: 저장된 마크업이 있으면 그대로, 없으면 원본 본문
+     */
+    public String getProcessedContent(News news) {
+        try {
+            Optional<NewsTooltipMarkup> markup = markupRepository.findById(news.getNewsId());
+            if (markup.isPresent()) {
+                if (currentVersion >= 0 && markup.get().getVocabularyVersion() < currentVersion) {
+                    requestGeneration(news.getNewsId());
+                }
+                return markup.get().getProcessedContent();
+            }
+        } catch (Exception e) {
+            log.warn("뉴스 ID {} 툴팁 마크업 조회 실패, 원본 텍스트 사용: {}", news.getNewsId(), e.getMessage());
+            return news.getContent();
+        }
+
+        requestGeneration(news.getNewsId());
+        return news.getContent();
+    }
+
+    /**
+     * 마크업 생성 예약 (트랜잭션 안에서 호출되면 커밋 후 예약)
+     */
+    public void requestGeneration(Long newsId) {
+        if (newsId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(newsId);
+                }
+            });
+            return;
+        }
+        enqueue(newsId);
+    }
+
+    /**
+     * 사전 버전 확인 후 마크업이 없거나 오래된 최근 뉴스를 생성 대기열에 추가
+     */
+    @Scheduled(fixedDelayString = "${news.tooltip-markup.sweep-interval-ms:60000}")
+    public void sweep() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            VocabularyVersionResponse response = tooltipServiceClient.getVocabularyVersion();
+            if (response == null) {
+                return; // 툴팁 서비스 장애 -> 다음 주기에 재시도
+            }
+            long version = response.version();
+            if (version != currentVersion) {
+                if (currentVersion >= 0) {
+                    log.info("어려운 단어 사전 변경 감지: {} -> {}, 최근 {}일 뉴스 마크업을 재생성합니다.",
+                            currentVersion, version, regenerateWindowDays);
+                }
+                currentVersion = version;
+                scanAfterId = 0L;
+            }
+
+            // 대기열 여유만큼만 가져옴
+            int room = Math.min(sweepBatchSize, queueCapacity - pending.size());
+            if (room <= 0) {
+                return;
+            }
+            LocalDateTime since = LocalDateTime.now().minusDays(regenerateWindowDays);
+            if (scanAfterId == 0L) {
+                // news_id 0부터 훑으면 기간 밖 뉴스를 매번 다시 읽으므로 기간 안의 첫 뉴스부터 시작
+                Long firstNewsId = markupRepository.findFirstNewsIdPublishedSince(since);
+                if (firstNewsId == null) {
+                    return; // 기간 안의 뉴스 없음
+                }
+                scanAfterId = firstNewsId - 1;
+            }
+            List<Long> newsIds = markupRepository.findNewsIdsNeedingMarkup(scanAfterId, since, version, room);
+            if (newsIds.isEmpty()) {
+                // 끝까지 확인함 -> 다음 스윕은 처음부터 (생성 실패 건 재시도)
+                scanAfterId = 0L;
+                return;
+            }
+            enqueueBatch(newsIds);
+            scanAfterId = newsIds.get(newsIds.size() - 1);
+        } catch (Exception e) {
+            log.warn("툴팁 마크업 스윕 실패: {}", e.getMessage());
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        generateExecutor.shutdownNow();
+    }
+
+    private void enqueue(Long newsId) {
+        if (!pending.add(newsId)) {
+            return; // 이미 대기 중
+        }
+        try {
+            generateExecutor.execute(() -> generate(newsId));
+        } catch (RejectedExecutionException e) {
+            pending.remove(newsId);
+            log.debug("툴팁 마크업 대기열이 가득 차 건너뜁니다: newsId={}", newsId);
+        }
+    }
+
+    private void enqueueBatch(List<Long> newsIds) {
+        List<Long> claimed = new ArrayList<>(newsIds.size());
+        for (Long newsId : newsIds) {
+            if (pending.add(newsId)) {
+                claimed.add(newsId);
+            }
+        }
+        if (claimed.isEmpty()) {
+            return;
+        }
+        try {
+            generateExecutor.execute(() -> generateBatch(claimed));
+        } catch (RejectedExecutionException e) {
+            claimed.forEach(pending::remove);
+            log.debug("툴팁 마크업 대기열이 가득 차 건너뜁니다: {}건", claimed.size());
+        }
+    }
+
+    private void generateBatch(List<Long> newsIds) {
+        try {
+            List<ProcessContentRequest> requests = new ArrayList<>(newsIds.size());
+            for (News news : newsRepository.findAllById(newsIds)) {
+                if (news.getContent() != null) {
+                    requests.add(new ProcessContentRequest(news.getNewsId(), news.getContent()));
+                }
+            }
+
+            int stored = 0;
+            for (ProcessContentResult result : tooltipBatchClient.processContents(requests)) {
+                // 실패한 기사는 다음 스윕에서 재시도
+                if (result.isSuccess()) {
+                    markupRepository.upsert(result.newsId(), result.processedContent(), result.vocabularyVersion());
+                    stored++;
+                }
+            }
+            log.debug("툴팁 마크업 일괄 생성: 요청 {}건, 저장 {}건", requests.size(), stored);
+        } catch (Exception e) {
+            log.warn("툴팁 마크업 일괄 생성 실패: {}건, {}", newsIds.size(), e.getMessage());
+        } finally {
+            newsIds.forEach(pending::remove);
+        }
+    }
+
+    private void generate(Long newsId) {
+        try {
+            News news = newsRepository.findById(newsId).orElse(null);
+            if (news == null || news.getContent() == null) {
+                return;
+            }
+            ProcessContentResponse response = tooltipServiceClient.processContent(
+                    new ProcessContentRequest(newsId, news.getContent()));
+
+            // 툴팁 서비스가 원본을 돌려준 경우(장애/폴백)는 저장하지 않음
+            if (response == null || response.processedContent() == null || response.vocabularyVersion() == null) {
+                log.debug("뉴스 ID {} 툴팁 마크업 생성 실패, 다음 스윕에서 재시도합니다.", newsId);
+                return;
+            }
+            markupRepository.upsert(newsId, response.processedContent(), response.vocabularyVersion());
+        } catch (Exception e) {
+            log.warn("뉴스 ID {} 툴팁 마크업 생성 실패: {}", newsId, e.getMessage());
+        } finally {
+            pending.remove(newsId);
+        }
+    }
+}
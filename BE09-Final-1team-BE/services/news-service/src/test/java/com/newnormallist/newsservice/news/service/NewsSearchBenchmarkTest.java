@@ -0,0 +1,229 @@
+package com.newnormallist.newsservice.news.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 키워드 검색 LIKE vs ngram FULLTEXT 비교 (MySQL 필요, ./gradlew benchmark로 실행)
+ * - benchmark.mysql.url(필수), benchmark.mysql.user, benchmark.mysql.password
+ * - benchmark.rows(기본 1,000,000), benchmark.content-chars(기본 1000), benchmark.repeats(기본 5)
+ * 같은 행 수의 벤치마크 테이블이 이미 있으면 다시 만들지 않습니다.
+ */
+@Tag("benchmark")
+class NewsSearchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsSearchBenchmarkTest.class);
+
+    private static final String TABLE = "news_search_benchmark";
+    private static final int INSERT_CHUNK = 500;
+    private static final int PAGE_SIZE = 20;
+
+    // 앞쪽 단어일수록 자주 등장 (검색어별 결과 수가 크게 달라지도록)
+    private static final String[] WORDS = {
+            "정부", "시장", "경제", "기업", "금리", "투자", "수출", "정책", "발표", "지원",
+            "반도체", "부동산", "물가", "환율", "증시", "소비", "고용", "성장률", "예산", "국회",
+            "배터리", "전기차", "인공지능", "플랫폼", "스타트업", "규제", "협상", "관세", "공급망", "원자재",
+            "기준금리", "가계부채", "재정적자", "국채", "외환보유액", "경상수지", "탄소중립", "재생에너지", "양자컴퓨터", "우주항공"
+    };
+
+    // 단일 단어 검색어는 LIKE와 FULLTEXT 결과 수가 같아야 함
+    private static final String[] SINGLE_WORD_QUERIES = {"정부", "반도체", "기준금리", "우주항공"};
+    private static final String[] MULTI_WORD_QUERIES = {"반도체 수출", "기준금리 동결"};
+
+    private static final String LIKE_PAGE_SQL =
+            "SELECT news_id FROM " + TABLE + " WHERE (title LIKE ? OR content LIKE ?) " +
+            "ORDER BY published_at_dt DESC, news_id DESC LIMIT " + PAGE_SIZE;
+    private static final String LIKE_COUNT_SQL =
+            "SELECT COUNT(*) FROM " + TABLE + " WHERE (title LIKE ? OR content LIKE ?)";
+    private static final String FULLTEXT_PAGE_SQL =
+            "SELECT news_id FROM " + TABLE + " WHERE MATCH(title, content) AGAINST (? IN BOOLEAN MODE) > 0 " +
+            "ORDER BY MATCH(title, content) AGAINST (? IN BOOLEAN MODE) DESC, published_at_dt DESC, news_id DESC " +
+            "LIMIT " + PAGE_SIZE;
+    private static final String FULLTEXT_COUNT_SQL =
+            "SELECT COUNT(*) FROM " + TABLE + " WHERE MATCH(title, content) AGAINST (? IN BOOLEAN MODE) > 0";
+
+    @Test
+    void fullTextVersusLike() throws SQLException {
+        String url = System.getProperty("benchmark.mysql.url");
+        assumeTrue(url != null, "benchmark.mysql.url 미지정 (예: -Dbenchmark.mysql.url=jdbc:mysql://localhost:3306/bench)");
+        int rows = Integer.getInteger("benchmark.rows", 1_000_000);
+        int contentChars = Integer.getInteger("benchmark.content-chars", 1000);
+        int repeats = Integer.getInteger("benchmark.repeats", 5);
+
+        try (Connection connection = DriverManager.getConnection(url,
+                System.getProperty("benchmark.mysql.user", "root"),
+                System.getProperty("benchmark.mysql.password", ""))) {
+            prepareTable(connection, rows, contentChars);
+
+            for (String query : SINGLE_WORD_QUERIES) {
+                Result like = measureLike(connection, query, repeats);
+                Result fullText = measureFullText(connection, query, repeats);
+                report(query, like, fullText);
+                assertThat(fullText.count()).isEqualTo(like.count());
+            }
+            for (String query : MULTI_WORD_QUERIES) {
+                Result like = measureLike(connection, query, repeats);
+                Result fullText = measureFullText(connection, query, repeats);
+                report(query, like, fullText);
+                // LIKE는 구문 전체, FULLTEXT는 단어별 필수 조건이므로 FULLTEXT 결과가 더 넓음
+                assertThat(fullText.count()).isGreaterThanOrEqualTo(like.count());
+            }
+        }
+    }
+
+    private Result measureLike(Connection connection, String keyword, int repeats) throws SQLException {
+        String pattern = "%" + keyword + "%";
+        return measure(connection, LIKE_PAGE_SQL, LIKE_COUNT_SQL, repeats,
+                new String[]{pattern, pattern}, new String[]{pattern, pattern});
+    }
+
+    private Result measureFullText(Connection connection, String keyword, int repeats) throws SQLException {
+        String booleanModeQuery = toBooleanModeQuery(keyword);
+        return measure(connection, FULLTEXT_PAGE_SQL, FULLTEXT_COUNT_SQL, repeats,
+                new String[]{booleanModeQuery, booleanModeQuery}, new String[]{booleanModeQuery});
+    }
+
+    /**
+     * 첫 페이지 + count 쿼리 한 쌍의 지연 시간 (워밍업 1회 후 중앙값)
+     */
+    private Result measure(Connection connection, String pageSql, String countSql, int repeats,
+                           String[] pageParams, String[] countParams) throws SQLException {
+        long[] nanos = new long[repeats];
+        long count = 0;
+        for (int i = -1; i < repeats; i++) {
+            long start = System.nanoTime();
+            try (PreparedStatement page = connection.prepareStatement(pageSql)) {
+                bind(page, pageParams);
+                try (ResultSet rs = page.executeQuery()) {
+                    while (rs.next()) {
+                        rs.getLong(1);
+                    }
+                }
+            }
+            try (PreparedStatement counter = connection.prepareStatement(countSql)) {
+                bind(counter, countParams);
+                try (ResultSet rs = counter.executeQuery()) {
+                    rs.next();
+                    count = rs.getLong(1);
+                }
+            }
+            if (i >= 0) {
+                nanos[i] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(nanos);
+        return new Result(count, TimeUnit.NANOSECONDS.toMillis(nanos[repeats / 2]));
+    }
+
+    private void report(String query, Result like, Result fullText) {
+        log.info("검색어 '{}': LIKE {}건 {}ms, FULLTEXT {}건 {}ms",
+                query, like.count(), like.medianMs(), fullText.count(), fullText.medianMs());
+    }
+
+    private void prepareTable(Connection connection, int rows, int contentChars) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + TABLE)) {
+                if (rs.next() && rs.getLong(1) == rows) {
+                    log.info("기존 벤치마크 테이블 사용: {}건", rows);
+                    return;
+                }
+            } catch (SQLException e) {
+                // 테이블 없음
+            }
+
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (" +
+                    "news_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, " +
+                    "title VARCHAR(255) NOT NULL, " +
+                    "content TEXT NOT NULL, " +
+                    "published_at_dt DATETIME NOT NULL, " +
+                    "INDEX idx_bench_pub_dt (published_at_dt)) " +
+                    "ENGINE=InnoDB DEFAULT CHARSET=utf8mb4");
+        }
+
+        long start = System.nanoTime();
+        connection.setAutoCommit(false);
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        StringBuilder sql = new StringBuilder();
+        for (int from = 0; from < rows; from += INSERT_CHUNK) {
+            int size = Math.min(INSERT_CHUNK, rows - from);
+            sql.setLength(0);
+            sql.append("INSERT INTO ").append(TABLE).append(" (title, content, published_at_dt) VALUES ");
+            for (int i = 0; i < size; i++) {
+                sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+            }
+            try (PreparedStatement insert = connection.prepareStatement(sql.toString())) {
+                int index = 1;
+                for (int i = 0; i < size; i++) {
+                    insert.setString(index++, text(random, 40));
+                    insert.setString(index++, text(random, contentChars));
+                    insert.setTimestamp(index++, Timestamp.valueOf(base.plusMinutes(random.nextInt(60 * 24 * 240))));
+                }
+                insert.executeUpdate();
+            }
+            connection.commit();
+        }
+        connection.setAutoCommit(true);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + TABLE +
+                    " ADD FULLTEXT INDEX ft_bench_title_content (title, content) WITH PARSER ngram");
+        }
+        log.info("벤치마크 테이블 생성: {}건, {}초", rows,
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+    }
+
+    /**
+     * 약 maxChars 길이의 문장 (앞쪽 단어일수록 자주 선택)
+     */
+    private static String text(Random random, int maxChars) {
+        StringBuilder sb = new StringBuilder(maxChars + 16);
+        while (sb.length() < maxChars) {
+            double skewed = Math.pow(random.nextDouble(), 3);
+            sb.append(WORDS[(int) (skewed * WORDS.length)]);
+            sb.append(random.nextInt(8) == 0 ? ". " : " ");
+        }
+        return sb.substring(0, Math.min(sb.length(), maxChars)).trim();
+    }
+
+    /**
+     * NewsServiceImpl과 같은 규칙의 BOOLEAN MODE 쿼리 (단어별 필수 구문)
+     */
+    private static String toBooleanModeQuery(String keyword) {
+        StringBuilder sb = new StringBuilder();
+        for (String token : keyword.trim().split("\\s+")) {
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append("+\"").append(token).append('"');
+        }
+        return sb.toString();
+    }
+
+    private static void bind(PreparedStatement statement, String[] params) throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            statement.setString(i + 1, params[i]);
+        }
+    }
+
+    private record Result(long count, long medianMs) {
+    }
+}
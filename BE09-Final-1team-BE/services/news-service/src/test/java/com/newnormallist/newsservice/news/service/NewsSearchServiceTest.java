@@ -0,0 +1,219 @@
+package com.newnormallist.newsservice.news.service;
+
+import com.newnormallist.newsservice.news.client.NewsServiceClient;
+import com.newnormallist.newsservice.news.client.UserServiceClient;
+import com.newnormallist.newsservice.news.dto.NewsListResponse;
+import com.newnormallist.newsservice.news.entity.Category;
+import com.newnormallist.newsservice.news.entity.DedupState;
+import com.newnormallist.newsservice.news.entity.News;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import com.newnormallist.newsservice.news.repository.NewsSpecifications;
+import com.newnormallist.newsservice.summarizer.service.NewsSummaryService;
+import com.newnormallist.newsservice.tooltip.client.TooltipServiceClient;
+import com.newnormallist.newsservice.tooltip.service.TooltipMarkupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 뉴스 검색 (Specification 필터 + 페이징) H2 테스트
+ * 전문 검색을 끈 상태에서 LIKE 조건, 필터 조합, 기본 정렬, count 쿼리를 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(NewsServiceImpl.class)
+@TestPropertySource(properties = {
+        "news.search.fulltext-enabled=false",
+        "spring.cloud.config.enabled=false"
+})
+class NewsSearchServiceTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Autowired
+    private NewsService newsService;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    // 검색과 무관한 협력 객체는 mock으로 대체
+    @MockitoBean
+    private UserServiceClient userServiceClient;
+
+    @MockitoBean
+    private NewsServiceClient newsServiceClient;
+
+    @MockitoBean
+    private TooltipServiceClient tooltipServiceClient;
+
+    @MockitoBean
+    private TooltipMarkupService tooltipMarkupService;
+
+    @MockitoBean
+    private NewsSummaryService newsSummaryService;
+
+    @MockitoBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockitoBean
+    private ViewCountFlushService viewCountFlushService;
+
+    @MockitoBean
+    private TrendingKeywordAggregator trendingKeywordAggregator;
+
+    private Long budgetPassed;
+    private Long chipExport;
+    private Long rateFrozen;
+    private Long budgetReview;
+    private Long aiChip;
+
+    @BeforeEach
+    void setUp() {
+        aiChip = save("AI 반도체 개발 경쟁", "인공지능 칩 시장", Category.IT_SCIENCE, "연합뉴스TV", false, "2025-08-09 18:00:00");
+        budgetPassed = save("국회 예산안 통과", "본회의에서 의결", Category.POLITICS, "연합뉴스", true, "2025-08-10 09:00:00");
+        chipExport = save("반도체 수출 증가", "정부 예산 지원 효과", Category.ECONOMY, "한국경제", false, "2025-08-11 10:00:00");
+        rateFrozen = save("기준금리 동결", "한국은행 발표", Category.ECONOMY, "연합뉴스", true, "2025-08-12 08:00:00");
+        // rateFrozen과 발행 시각이 같음 (newsId 보조 정렬 확인용)
+        budgetReview = save("예산 심사 시작", "상임위원회 일정", Category.POLITICS, "조선일보", true, "2025-08-12 08:00:00");
+    }
+
+    @Test
+    void likeFallbackMatchesTitleAndContentSubstrings() {
+        // 제목(예산안, 예산 심사)과 본문(정부 예산)에서 모두 부분 일치
+        assertThat(ids(newsService.searchNews("예산", FIRST_PAGE)))
+                .containsExactly(budgetReview, chipExport, budgetPassed);
+
+        // ngram 토큰 크기보다 짧은 한 글자 검색어도 LIKE로 처리
+        assertThat(ids(newsService.searchNews("칩", FIRST_PAGE)))
+                .containsExactly(aiChip);
+
+        assertThat(newsService.searchNews("없는검색어", FIRST_PAGE).getTotalElements()).isZero();
+    }
+
+    @Test
+    void defaultSortIsPublishedDateTimeDescThenNewsIdDesc() {
+        Page<NewsListResponse> page = newsService.searchNewsWithFilters(
+                null, null, null, null, null, null, null, null, FIRST_PAGE);
+
+        // 같은 발행 시각이면 나중에 저장된(newsId가 큰) 뉴스가 먼저
+        assertThat(ids(page))
+                .containsExactly(budgetReview, rateFrozen, chipExport, budgetPassed, aiChip);
+        assertThat(budgetReview).isGreaterThan(rateFrozen);
+    }
+
+    @Test
+    void categoryFilter() {
+        assertThat(ids(search(null, "economy", null, null, null, null)))
+                .containsExactly(rateFrozen, chipExport);
+
+        // 알 수 없는 카테고리는 빈 결과
+        assertThat(search(null, "unknown", null, null, null, null).getTotalElements()).isZero();
+    }
+
+    @Test
+    void pressFilterIsCaseInsensitiveContains() {
+        assertThat(ids(search(null, null, "연합", null, null, null)))
+                .containsExactly(rateFrozen, budgetPassed, aiChip);
+        assertThat(ids(search(null, null, "뉴스tv", null, null, null)))
+                .containsExactly(aiChip);
+    }
+
+    @Test
+    void trustedFilter() {
+        assertThat(ids(search(null, null, null, true, null, null)))
+                .containsExactly(budgetReview, rateFrozen, budgetPassed);
+        assertThat(ids(search(null, null, null, false, null, null)))
+                .containsExactly(chipExport, aiChip);
+    }
+
+    @Test
+    void dateRangeFilterIncludesWholeEndDate() {
+        assertThat(ids(search(null, null, null, null, "2025-08-12", null)))
+                .containsExactly(budgetReview, rateFrozen);
+
+        // 종료일은 해당 일자 전체를 포함
+        assertThat(ids(search(null, null, null, null, null, "2025-08-10")))
+                .containsExactly(budgetPassed, aiChip);
+
+        assertThat(ids(search(null, null, null, null, "2025-08-10", "2025-08-11")))
+                .containsExactly(chipExport, budgetPassed);
+    }
+
+    @Test
+    void combinedFilters() {
+        assertThat(ids(search("예산", "POLITICS", null, true, null, null)))
+                .containsExactly(budgetReview, budgetPassed);
+
+        assertThat(ids(search("예산", "POLITICS", "연합", true, "2025-08-10", "2025-08-10")))
+                .containsExactly(budgetPassed);
+
+        assertThat(search("예산", "ECONOMY", null, true, null, null).getTotalElements()).isZero();
+    }
+
+    @Test
+    void totalElementsMatchesFilteredRowCount() {
+        Pageable firstPage = PageRequest.of(0, 2);
+        Page<NewsListResponse> page = newsService.searchNewsWithFilters(
+                "예산", null, null, null, null, null, null, null, firstPage);
+
+        long expected = newsRepository.count(NewsSpecifications.containsKeyword("예산"));
+        assertThat(expected).isEqualTo(3);
+        assertThat(page.getTotalElements()).isEqualTo(expected);
+        assertThat(page.getTotalPages()).isEqualTo(2);
+        assertThat(ids(page)).containsExactly(budgetReview, chipExport);
+
+        Page<NewsListResponse> lastPage = newsService.searchNewsWithFilters(
+                "예산", null, null, null, null, null, null, null, PageRequest.of(1, 2));
+        assertThat(lastPage.getTotalElements()).isEqualTo(expected);
+        assertThat(ids(lastPage)).containsExactly(budgetPassed);
+
+        Page<NewsListResponse> filtered = newsService.searchNewsWithFilters(
+                null, null, null, "economy", null, null, null, null, PageRequest.of(0, 1));
+        assertThat(filtered.getTotalElements())
+                .isEqualTo(newsRepository.count(NewsSpecifications.hasCategory(Category.ECONOMY)))
+                .isEqualTo(2);
+        assertThat(filtered.getContent()).hasSize(1);
+    }
+
+    private Page<NewsListResponse> search(String query, String category, String press, Boolean trusted,
+                                          String startDate, String endDate) {
+        return newsService.searchNewsWithFilters(query, null, null, category, press, trusted,
+                startDate, endDate, FIRST_PAGE);
+    }
+
+    private Long save(String title, String content, Category category, String press, boolean trusted,
+                      String publishedAt) {
+        News news = News.builder()
+                .title(title)
+                .content(content)
+                .categoryName(category)
+                .press(press)
+                .reporter("기자")
+                .trusted(trusted)
+                .publishedAt(publishedAt)
+                .dedupState(DedupState.REPRESENTATIVE)
+                .link("https://n.news.naver.com/article/" + title.hashCode())
+                .build();
+        News saved = newsRepository.saveAndFlush(news);
+        assertThat(saved.getPublishedDateTime()).isEqualTo(LocalDateTime.parse(publishedAt.replace(' ', 'T')));
+        return saved.getNewsId();
+    }
+
+    private static List<Long> ids(Page<NewsListResponse> page) {
+        return page.getContent().stream().map(NewsListResponse::getNewsId).toList();
+    }
+}
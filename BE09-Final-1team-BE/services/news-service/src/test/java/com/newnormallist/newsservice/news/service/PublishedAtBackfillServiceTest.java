@@ -0,0 +1,160 @@
+package com.newnormallist.newsservice.news.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PublishedAtBackfillServiceTest {
+
+    private static final String WATERMARK_KEY = "news:published-at-backfill:last-id";
+
+    // news_id -> published_at 문자열 / 채워진 published_at_dt
+    private final TreeMap<Long, String> publishedAt = new TreeMap<>();
+    private final Map<Long, Timestamp> publishedAtDt = new HashMap<>();
+    // SELECT가 반환한 news_id (같은 행을 다시 읽는지 확인)
+    private final List<Long> selected = new ArrayList<>();
+    // SELECT에 전달된 시작 news_id
+    private final List<Long> selectedAfter = new ArrayList<>();
+
+    private final Map<String, String> redis = new HashMap<>();
+    private boolean redisDown;
+
+    private PublishedAtBackfillService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForList(anyString(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            selectedAfter.add(afterId);
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (Map.Entry<Long, String> entry : publishedAt.tailMap(afterId, false).entrySet()) {
+                if (rows.size() == limit) {
+                    break;
+                }
+                if (!publishedAtDt.containsKey(entry.getKey())) {
+                    Map<String, Object> row = new HashMap<>();
+                    row.put("news_id", entry.getKey());
+                    row.put("published_at", entry.getValue());
+                    rows.add(row);
+                    selected.add(entry.getKey());
+                }
+            }
+            return rows;
+        });
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> params = invocation.getArgument(1);
+            params.forEach(p -> publishedAtDt.put((Long) p[1], (Timestamp) p[0]));
+            return new int[params.size()];
+        });
+
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(WATERMARK_KEY)).thenAnswer(invocation -> {
+            if (redisDown) {
+                throw new RedisConnectionFailureException("Redis 연결 실패");
+            }
+            return redis.get(WATERMARK_KEY);
+        });
+        doAnswer(invocation -> {
+            if (redisDown) {
+                throw new RedisConnectionFailureException("Redis 연결 실패");
+            }
+            redis.put(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(valueOperations).set(eq(WATERMARK_KEY), anyString());
+
+        service = new PublishedAtBackfillService(jdbcTemplate, redisTemplate);
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+    }
+
+    @Test
+    void laterRunsOnlyScanRowsAfterWatermark() {
+        publishedAt.put(1L, "2025-08-01 09:00:00");
+        publishedAt.put(2L, "발행일 미상");
+        publishedAt.put(3L, "2025-08-01T10:00:00");
+
+        service.backfill();
+
+        assertThat(publishedAtDt).containsOnlyKeys(1L, 3L);
+        assertThat(publishedAtDt.get(1L)).isEqualTo(Timestamp.valueOf("2025-08-01 09:00:00"));
+        assertThat(redis).containsEntry(WATERMARK_KEY, "3");
+
+        publishedAt.put(4L, "2025-08-02 08:30:00");
+        selected.clear();
+        selectedAfter.clear();
+        service.backfill();
+
+        // 파싱 불가 행(2)은 다시 읽지 않고 새 행만 확인
+        assertThat(selectedAfter.get(0)).isEqualTo(3L);
+        assertThat(selected).containsExactly(4L);
+        assertThat(publishedAtDt).containsKey(4L);
+        assertThat(redis).containsEntry(WATERMARK_KEY, "4");
+    }
+
+    @Test
+    void runWithNothingNewKeepsWatermark() {
+        publishedAt.put(1L, "2025-08-01 09:00:00");
+        service.backfill();
+        selectedAfter.clear();
+
+        service.backfill();
+
+        assertThat(selectedAfter).containsExactly(1L);
+        assertThat(redis).containsEntry(WATERMARK_KEY, "1");
+    }
+
+    @Test
+    void resumesFromStoredWatermarkAfterRestart() {
+        redis.put(WATERMARK_KEY, "2");
+        publishedAt.put(1L, "발행일 미상");
+        publishedAt.put(2L, "발행일 미상");
+        publishedAt.put(3L, "2025-08-01 10:00:00");
+
+        service.backfill();
+
+        assertThat(selectedAfter.get(0)).isEqualTo(2L);
+        assertThat(selected).containsExactly(3L);
+        assertThat(redis).containsEntry(WATERMARK_KEY, "3");
+    }
+
+    @Test
+    void keepsInMemoryWatermarkWhenRedisIsDown() {
+        redisDown = true;
+        publishedAt.put(1L, "발행일 미상");
+        publishedAt.put(2L, "2025-08-01 10:00:00");
+
+        service.backfill();
+        assertThat(publishedAtDt).containsOnlyKeys(2L);
+
+        publishedAt.put(3L, "2025-08-01 11:00:00");
+        selected.clear();
+        service.backfill();
+
+        assertThat(selected).containsExactly(3L);
+    }
+}
@@ -0,0 +1,50 @@
+package com.newnormallist.newsservice.news.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchKeywordTest {
+
+    @Test
+    void wordsBecomeRequiredPhrases() {
+        SearchKeyword keyword = SearchKeyword.parse("  반도체   수출 ");
+
+        assertThat(keyword.booleanModeQuery()).isEqualTo("+\"반도체\" +\"수출\"");
+        assertThat(keyword.shortTerms()).isEmpty();
+    }
+
+    @Test
+    void booleanModeOperatorsAreStripped() {
+        SearchKeyword keyword = SearchKeyword.parse("-금리 +\"환율\" 물가*");
+
+        assertThat(keyword.booleanModeQuery()).isEqualTo("+\"금리\" +\"환율\" +\"물가\"");
+    }
+
+    @Test
+    void singleCharacterWordsAreKeptAsShortTerms() {
+        // '금'은 ngram 토큰(2글자)보다 짧아 FULLTEXT로 찾을 수 없으므로 버리지 않고 LIKE 대상으로 남김
+        SearchKeyword keyword = SearchKeyword.parse("금 시세");
+
+        assertThat(keyword.booleanModeQuery()).isEqualTo("+\"시세\"");
+        assertThat(keyword.shortTerms()).containsExactly("금");
+    }
+
+    @Test
+    void onlyShortWordsHaveNoFullTextQuery() {
+        SearchKeyword keyword = SearchKeyword.parse("금 은");
+
+        assertThat(keyword.booleanModeQuery()).isNull();
+        assertThat(keyword.shortTerms()).containsExactly("금", "은");
+    }
+
+    @Test
+    void emptyInput() {
+        assertThat(SearchKeyword.parse(null).booleanModeQuery()).isNull();
+        assertThat(SearchKeyword.parse("   ").shortTerms()).isEmpty();
+        // 연산자만 있는 단어는 무시
+        SearchKeyword keyword = SearchKeyword.parse("+ - 경제");
+        assertThat(keyword.booleanModeQuery()).isEqualTo("+\"경제\"");
+        assertThat(keyword.shortTerms()).isEmpty();
+    }
+}
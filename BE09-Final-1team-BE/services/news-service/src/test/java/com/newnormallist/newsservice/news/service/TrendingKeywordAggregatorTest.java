@@ -0,0 +1,135 @@
+package com.newnormallist.newsservice.news.service;
+
+import com.newnormallist.newsservice.news.dto.TrendingKeywordDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 트렌딩 키워드 콜드 스타트 시작점 (Redis 미러 없이)
+ */
+class TrendingKeywordAggregatorTest {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private JdbcTemplate jdbcTemplate;
+    private TrendingKeywordAggregator aggregator;
+
+    // news_id -> 행
+    private final TreeMap<Long, Map<String, Object>> news = new TreeMap<>();
+    // 콜드 스타트 쿼리 결과와 전달된 파라미터
+    private List<Long> firstInWindow = List.of();
+    private Object[] seedParams;
+    // 수집 쿼리의 시작 news_id
+    private final List<Long> scannedAfter = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(), any())).thenAnswer(invocation -> {
+            seedParams = new Object[]{invocation.getArgument(2), invocation.getArgument(3)};
+            return firstInWindow;
+        });
+        when(jdbcTemplate.queryForList(anyString(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            scannedAfter.add(afterId);
+            return news.tailMap(afterId, false).values().stream().limit(limit).toList();
+        });
+
+        aggregator = new TrendingKeywordAggregator(jdbcTemplate, mock(RedisTemplate.class));
+        ReflectionTestUtils.setField(aggregator, "batchSize", 500);
+        ReflectionTestUtils.setField(aggregator, "retentionHours", 720);
+        ReflectionTestUtils.setField(aggregator, "bucketTopK", 100);
+        ReflectionTestUtils.setField(aggregator, "redisMirrorEnabled", false);
+    }
+
+    @Test
+    void coldStartCountsRowsNotYetBackfilled() {
+        LocalDateTime recent = LocalDateTime.now().minusHours(2);
+        addNews(1L, "오래된 반도체 기사", LocalDateTime.now().minusDays(60), false);
+        // published_at_dt가 아직 NULL인 최근 기사
+        addNews(2L, "반도체 수출 급증", recent, false);
+        addNews(3L, "반도체 공급망 재편", recent, true);
+        firstInWindow = List.of(2L);
+
+        aggregator.warmUp();
+
+        // dt 기준 시각과 같은 시각의 문자열 발행일로도 판단
+        assertThat(seedParams[0]).isInstanceOf(Timestamp.class);
+        LocalDateTime since = ((Timestamp) seedParams[0]).toLocalDateTime();
+        assertThat(seedParams[1]).isEqualTo(since.format(FORMATTER));
+        assertThat(since).isBefore(recent);
+
+        assertThat(scannedAfter.get(0)).isEqualTo(1L);
+        List<TrendingKeywordDto> top = aggregator.topKeywords(null, 24, 10);
+        assertThat(top).extracting(TrendingKeywordDto::getKeyword).contains("반도체", "수출", "공급망");
+        assertThat(top.get(0).getKeyword()).isEqualTo("반도체");
+        assertThat(top.get(0).getCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void emptyWindowScansFromStartInsteadOfSkippingToMaxNewsId() {
+        addNews(1L, "오래된 반도체 기사", LocalDateTime.now().minusDays(60), true);
+        addNews(2L, "오래된 수출 기사", LocalDateTime.now().minusDays(45), true);
+        firstInWindow = List.of();
+
+        aggregator.warmUp();
+
+        assertThat(scannedAfter.get(0)).isZero();
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Long.class));
+        assertThat(aggregator.topKeywords(null, 720, 10)).isEmpty();
+
+        // 이후 들어온 기사는 이어서 집계
+        addNews(3L, "반도체 수출 급증", LocalDateTime.now().minusMinutes(5), true);
+        aggregator.poll();
+        assertThat(scannedAfter).last().isEqualTo(2L);
+        assertThat(aggregator.topKeywords(null, 24, 10)).extracting(TrendingKeywordDto::getKeyword)
+                .contains("반도체", "수출");
+    }
+
+    @Test
+    void warmUpRunsAfterStartupBackfill() throws NoSuchMethodException {
+        int backfillOrder = PublishedAtBackfillService.class.getMethod("backfillOnStartup")
+                .getAnnotation(Order.class).value();
+        int warmUpOrder = TrendingKeywordAggregator.class.getMethod("warmUp")
+                .getAnnotation(Order.class).value();
+
+        assertThat(warmUpOrder).isGreaterThan(backfillOrder);
+    }
+
+    private void addNews(long newsId, String title, LocalDateTime publishedAt, boolean backfilled) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("news_id", newsId);
+        row.put("title", title);
+        row.put("content", title);
+        row.put("category_name", "ECONOMY");
+        row.put("published_at", publishedAt.format(FORMATTER));
+        row.put("published_at_dt", backfilled ? Timestamp.valueOf(publishedAt) : null);
+        news.put(newsId, row);
+    }
+}
@@ -0,0 +1,109 @@
+package com.newnormallist.newsservice.news.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ViewCountFlushServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ViewCountFlushService service;
+
+    // 성공한 배치 UPDATE로 반영된 newsId -> 증가분
+    private final Map<Long, Long> written = new HashMap<>();
+    private boolean dbDown;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        service = new ViewCountFlushService(jdbcTemplate);
+        // 즉시 flush가 끼어들지 않도록 크게 잡음
+        ReflectionTestUtils.setField(service, "maxPendingKeys", 1_000_000);
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        ReflectionTestUtils.setField(service, "maxRetainedKeys", 3);
+
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+                ArgumentMatchers.<ParameterizedPreparedStatementSetter<Map.Entry<Long, Long>>>any()))
+                .thenAnswer(invocation -> {
+                    if (dbDown) {
+                        throw new DataAccessResourceFailureException("DB 연결 실패");
+                    }
+                    Collection<Map.Entry<Long, Long>> chunk = invocation.getArgument(1);
+                    chunk.forEach(entry -> written.merge(entry.getKey(), entry.getValue(), Long::sum));
+                    return new int[0][];
+                });
+    }
+
+    @Test
+    void failedFlushIsRetriedOnNextFlush() {
+        service.record(1L);
+        service.record(1L);
+        service.record(2L);
+
+        dbDown = true;
+        service.flush();
+        assertThat(written).isEmpty();
+
+        service.record(1L);
+        dbDown = false;
+        service.flush();
+
+        assertThat(written).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 3L, 2L, 1L));
+        assertThat(service.getDroppedViews()).isZero();
+    }
+
+    @Test
+    void bufferStopsGrowingAtRetainedLimitDuringOutage() {
+        dbDown = true;
+        for (long newsId = 1; newsId <= 3; newsId++) {
+            service.record(newsId);
+        }
+        service.flush();
+
+        // 상한에 닿은 뒤 새 뉴스는 버리고, 이미 대기 중인 뉴스는 계속 누적
+        service.record(4L);
+        service.record(5L);
+        service.record(5L);
+        service.record(1L);
+        assertThat(service.getDroppedViews()).isEqualTo(3);
+        service.flush();
+
+        dbDown = false;
+        service.flush();
+
+        assertThat(written).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L, 2L, 1L, 3L, 1L));
+        // 버린 건수는 보고 후 초기화
+        assertThat(service.getDroppedViews()).isZero();
+    }
+
+    @Test
+    void newKeysAreAcceptedAgainAfterRecovery() {
+        dbDown = true;
+        for (long newsId = 1; newsId <= 4; newsId++) {
+            service.record(newsId);
+        }
+        assertThat(service.getDroppedViews()).isEqualTo(1);
+
+        dbDown = false;
+        service.flush();
+        service.record(4L);
+        service.flush();
+
+        assertThat(written).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 1L, 2L, 1L, 3L, 1L, 4L, 1L));
+    }
+}
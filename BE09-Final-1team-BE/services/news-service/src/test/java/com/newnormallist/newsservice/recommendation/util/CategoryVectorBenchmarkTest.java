@@ -0,0 +1,182 @@
+package com.newnormallist.newsservice.recommendation.util;
+
+import com.newnormallist.newsservice.recommendation.entity.RecommendationCategory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 사용자 벡터 계산 : 박싱된 Map 방식 vs CategoryVector + 감쇠 테이블 (./gradlew benchmark로 실행)
+ * - benchmark.users(기본 20,000) : 반복할 사용자 수
+ * - benchmark.signals(기본 200) : 사용자당 조회/스크랩 기록 수
+ * - benchmark.rounds(기본 5) : 측정 횟수 (첫 회는 워밍업으로 제외)
+ * VectorBuilderImpl의 R/S 누적 + D/P/R/S 혼합 + 정규화 부분만 DB 없이 재현합니다.
+ */
+@Tag("benchmark")
+class CategoryVectorBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryVectorBenchmarkTest.class);
+
+    private static final RecommendationCategory[] CATEGORIES = RecommendationCategory.values();
+    private static final int READ_WINDOW_DAYS = 7;
+    private static final int SCRAP_WINDOW_DAYS = 30;
+    private static final double READ_HALF_LIFE = 3.0;
+    private static final double SCRAP_HALF_LIFE = 14.0;
+    private static final double W_DEMO = 0.2, W_PREF = 0.3, W_READ = 0.3, W_SCRAP = 0.2;
+
+    @Test
+    void denseVectorVersusBoxedMap() {
+        int users = Integer.getInteger("benchmark.users", 20_000);
+        int signals = Integer.getInteger("benchmark.signals", 200);
+        int rounds = Integer.getInteger("benchmark.rounds", 5);
+
+        Input[] inputs = inputs(users, signals, new Random(42));
+        double[] readTable = MathUtils.dayWeightTable(READ_WINDOW_DAYS, READ_HALF_LIFE);
+        double[] scrapTable = MathUtils.dayWeightTable(SCRAP_WINDOW_DAYS, SCRAP_HALF_LIFE);
+
+        // 두 방식의 결과가 같아야 비교 의미가 있음
+        for (int u = 0; u < Math.min(users, 100); u++) {
+            Map<RecommendationCategory, Double> expected = boxed(inputs[u]);
+            CategoryVector actual = dense(inputs[u], readTable, scrapTable);
+            for (int i = 0; i < CategoryVector.DIMENSION; i++) {
+                assertThat(actual.get(i)).isCloseTo(expected.get(CategoryVector.category(i)), within(1e-12));
+            }
+        }
+
+        double boxedSink = 0.0;
+        double denseSink = 0.0;
+        for (int round = 0; round <= rounds; round++) {
+            long start = System.nanoTime();
+            for (Input input : inputs) {
+                boxedSink += boxed(input).get(RecommendationCategory.ECONOMY);
+            }
+            long boxedNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (Input input : inputs) {
+                denseSink += dense(input, readTable, scrapTable).get(RecommendationCategory.ECONOMY.ordinal());
+            }
+            long denseNanos = System.nanoTime() - start;
+
+            if (round > 0) {
+                log.info("round {}: Map {} ns/user, CategoryVector {} ns/user ({}x)", round,
+                        boxedNanos / users, denseNanos / users,
+                        String.format("%.2f", (double) boxedNanos / denseNanos));
+            }
+        }
+        assertThat(denseSink).isCloseTo(boxedSink, within(1e-6 * Math.max(1.0, boxedSink)));
+    }
+
+    /**
+     * 변경 전 방식 : 행마다 exp() 호출, Map<Category, Double> 누적/혼합/정규화
+     */
+    private static Map<RecommendationCategory, Double> boxed(Input input) {
+        Map<RecommendationCategory, Double> d = input.demo;
+        Map<RecommendationCategory, Double> p = input.pref;
+        Map<RecommendationCategory, Double> r = boxedDecayed(input.readDays, input.readCategories, READ_HALF_LIFE);
+        Map<RecommendationCategory, Double> s = boxedDecayed(input.scrapDays, input.scrapCategories, SCRAP_HALF_LIFE);
+
+        Map<RecommendationCategory, Double> scores = new EnumMap<>(RecommendationCategory.class);
+        for (RecommendationCategory c : CATEGORIES) {
+            double score = W_DEMO * d.getOrDefault(c, 0.0) + W_PREF * p.getOrDefault(c, 0.0)
+                    + W_READ * r.getOrDefault(c, 0.0) + W_SCRAP * s.getOrDefault(c, 0.0);
+            scores.put(c, score);
+        }
+        MathUtils.normalize(scores);
+        return scores;
+    }
+
+    private static Map<RecommendationCategory, Double> boxedDecayed(int[] days, RecommendationCategory[] categories,
+                                                                    double halfLife) {
+        Map<RecommendationCategory, Double> weights = new HashMap<>();
+        for (RecommendationCategory c : CATEGORIES) weights.put(c, 0.0);
+        double total = 0.0;
+        for (int i = 0; i < days.length; i++) {
+            double weight = MathUtils.dayWeight(days[i], halfLife);
+            if (categories[i] != null) {
+                weights.put(categories[i], weights.get(categories[i]) + weight);
+            }
+            total += weight;
+        }
+        if (total > 0) {
+            for (RecommendationCategory c : CATEGORIES) weights.put(c, weights.get(c) / total);
+        }
+        return weights;
+    }
+
+    /**
+     * 변경 후 방식 : 감쇠 테이블 조회 + CategoryVector 누적, 혼합과 정규화를 한 번에
+     */
+    private static CategoryVector dense(Input input, double[] readTable, double[] scrapTable) {
+        CategoryVector d = CategoryVector.from(input.demo);
+        CategoryVector p = CategoryVector.from(input.pref);
+        CategoryVector r = denseDecayed(input.readDays, input.readCategories, readTable, READ_HALF_LIFE);
+        CategoryVector s = denseDecayed(input.scrapDays, input.scrapCategories, scrapTable, SCRAP_HALF_LIFE);
+        return CategoryVector.mixNormalized(W_DEMO, d, W_PREF, p, W_READ, r, W_SCRAP, s);
+    }
+
+    private static CategoryVector denseDecayed(int[] days, RecommendationCategory[] categories,
+                                               double[] table, double halfLife) {
+        CategoryVector weights = CategoryVector.zeros();
+        double total = 0.0;
+        for (int i = 0; i < days.length; i++) {
+            double weight = MathUtils.dayWeight(table, days[i], halfLife);
+            if (categories[i] != null) {
+                weights.add(categories[i], weight);
+            }
+            total += weight;
+        }
+        return weights.divideBy(total);
+    }
+
+    private static Input[] inputs(int users, int signals, Random random) {
+        Input[] inputs = new Input[users];
+        for (int u = 0; u < users; u++) {
+            Map<RecommendationCategory, Double> demo = new EnumMap<>(RecommendationCategory.class);
+            for (RecommendationCategory c : CATEGORIES) demo.put(c, random.nextDouble());
+            MathUtils.normalize(demo);
+
+            // 선호 카테고리 1~3개 균등분포
+            Map<RecommendationCategory, Double> pref = new EnumMap<>(RecommendationCategory.class);
+            int k = 1 + random.nextInt(3);
+            for (int i = 0; i < k; i++) pref.put(CATEGORIES[random.nextInt(CATEGORIES.length)], 0.0);
+            for (RecommendationCategory c : pref.keySet()) pref.put(c, 1.0 / pref.size());
+
+            int reads = random.nextInt(signals + 1);
+            int scraps = random.nextInt(signals / 4 + 1);
+            inputs[u] = new Input(demo, pref,
+                    days(random, reads, READ_WINDOW_DAYS), categories(random, reads),
+                    days(random, scraps, SCRAP_WINDOW_DAYS), categories(random, scraps));
+        }
+        return inputs;
+    }
+
+    private static int[] days(Random random, int count, int windowDays) {
+        int[] days = new int[count];
+        for (int i = 0; i < count; i++) days[i] = random.nextInt(windowDays + 1);
+        return days;
+    }
+
+    // 약 5%는 카테고리 없는 기록 (분모에만 포함)
+    private static RecommendationCategory[] categories(Random random, int count) {
+        RecommendationCategory[] categories = new RecommendationCategory[count];
+        for (int i = 0; i < count; i++) {
+            categories[i] = random.nextInt(20) == 0 ? null : CATEGORIES[random.nextInt(CATEGORIES.length)];
+        }
+        return categories;
+    }
+
+    private record Input(Map<RecommendationCategory, Double> demo, Map<RecommendationCategory, Double> pref,
+                         int[] readDays, RecommendationCategory[] readCategories,
+                         int[] scrapDays, RecommendationCategory[] scrapCategories) {
+    }
+}
@@ -1,5 +1,13 @@
 package com.newnormallist.tooltipservice.config;
 
+import com.fasterxml.jackson.databind.JavaType;
+import com.newnormallist.tooltipservice.config.TooltipCacheProperties.Codec;
+import com.newnormallist.tooltipservice.dto.ProcessedContentEntry;
+import com.newnormallist.tooltipservice.dto.TermDetailResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,21 +16,61 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Map;
+
+@Slf4j
 @Configuration
+@EnableConfigurationProperties(TooltipCacheProperties.class)
 public class CacheConfig {
 
+    // COMPACT 직렬화는 타입 정보를 저장하지 않으므로 캐시별 값 타입을 고정
+    private static final Map<String, JavaType> VALUE_TYPES = Map.of(
+            "processedContent", CompactRedisSerializer.typeOf(ProcessedContentEntry.class),
+            "termDetails", CompactRedisSerializer.typeOf(TermDetailResponseDto.class),
+            "difficultWords", CompactRedisSerializer.setOf(String.class));
+
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory cf) {
+    public CacheManager cacheManager(RedisConnectionFactory cf,
+                                     TooltipCacheProperties properties,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${tooltip.processed-content.ttl:24h}") Duration processedContentTtl) {
         // Redis 캐시의 기본 설정을 정의합니다.
         RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
                 .entryTtl(Duration.ofHours(24L)); // 기본 TTL을 24시간으로 설정
 
-        return RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(cf)
-                .cacheDefaults(redisCacheConfiguration).build();
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(cf)
+                .cacheDefaults(redisCacheConfiguration);
+
+        // 캐시별 직렬화 방식 적용 (processedContent는 조기 갱신 계산과 같은 TTL 사용)
+        for (String cacheName : VALUE_TYPES.keySet()) {
+            RedisCacheConfiguration config = withCodec(redisCacheConfiguration, cacheName, properties, meterRegistry);
+            if ("processedContent".equals(cacheName)) {
+                config = config.entryTtl(processedContentTtl);
+            }
+            builder.withCacheConfiguration(cacheName, config);
+        }
+        return builder.build();
+    }
+
+    private RedisCacheConfiguration withCodec(RedisCacheConfiguration base, String cacheName,
+                                              TooltipCacheProperties properties, MeterRegistry meterRegistry) {
+        Codec codec = properties.getCodecs().getOrDefault(cacheName, Codec.JSON);
+        RedisSerializer<Object> serializer;
+        if (codec == Codec.COMPACT) {
+            serializer = new CompactRedisSerializer<>(VALUE_TYPES.get(cacheName), properties.getCompressThresholdBytes());
+            // 기존 JSON 키("{cacheName}::")와 겹치지 않도록 별도 접두사 사용
+            base = base.computePrefixWith(name -> properties.getKeyPrefix() + name + "::");
+        } else {
+            serializer = new GenericJackson2JsonRedisSerializer();
+        }
+        log.info("캐시 '{}' 직렬화 방식: {}", cacheName, codec);
+        return base.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                new MeteredRedisSerializer<>(serializer, meterRegistry, cacheName, codec.name().toLowerCase())));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,135 @@
+package com.newnormallist.tooltipservice.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * 캐시 값 타입이 고정된 캐시용 바이너리 직렬화
+ * - 타입 정보(@class) 없이 Smile로 기록하고, compressThreshold 이상이면 Deflate 압축
+ * - 첫 바이트로 압축 여부를 구분: 0 = 그대로, 1 = Deflate
+ */
+public class CompactRedisSerializer<T> implements RedisSerializer<T> {
+
+    private static final byte PLAIN = 0;
+    private static final byte DEFLATED = 1;
+
+    private static final ObjectMapper SMILE_MAPPER = SmileMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final int compressThreshold;
+
+    public CompactRedisSerializer(JavaType type, int compressThreshold) {
+        this.reader = SMILE_MAPPER.readerFor(type);
+        this.writer = SMILE_MAPPER.writerFor(type);
+        this.compressThreshold = compressThreshold;
+    }
+
+    public static JavaType typeOf(Class<?> type) {
+        return SMILE_MAPPER.constructType(type);
+    }
+
+    public static JavaType setOf(Class<?> elementType) {
+        return SMILE_MAPPER.getTypeFactory().constructCollectionType(HashSet.class, elementType);
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        byte[] encoded;
+        try {
+            encoded = writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 실패: " + value.getClass().getSimpleName(), e);
+        }
+
+        if (encoded.length >= compressThreshold) {
+            byte[] deflated = deflate(encoded);
+            // 압축 효과가 없으면 그대로 저장
+            if (deflated.length < encoded.length) {
+                return withHeader(DEFLATED, deflated);
+            }
+        }
+        return withHeader(PLAIN, encoded);
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return switch (bytes[0]) {
+                case PLAIN -> reader.readValue(bytes, 1, bytes.length - 1);
+                case DEFLATED -> reader.readValue(inflate(bytes));
+                default -> throw new SerializationException("알 수 없는 캐시 값 형식: " + bytes[0]);
+            };
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 역직렬화 실패", e);
+        }
+    }
+
+    private static byte[] withHeader(byte header, byte[] body) {
+        byte[] result = new byte[body.length + 1];
+        result[0] = header;
+        System.arraycopy(body, 0, result, 1, body.length);
+        return result;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    // 첫 바이트(헤더)를 제외하고 해제
+    private static byte[] inflate(byte[] bytes) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, 1, bytes.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new SerializationException("손상된 캐시 값 (압축 데이터가 끝나지 않음)");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new SerializationException("손상된 캐시 값 (압축 해제 실패)", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
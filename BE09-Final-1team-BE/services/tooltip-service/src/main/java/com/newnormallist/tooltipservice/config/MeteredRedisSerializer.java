@@ -0,0 +1,63 @@
+package com.newnormallist.tooltipservice.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 캐시 값 직렬화 계측 (캐시/코덱별 저장 크기와 직렬화·역직렬화 시간)
+ * 메트릭: tooltip.cache.payload{cache,codec}, tooltip.cache.codec{cache,codec,operation}
+ */
+public class MeteredRedisSerializer<T> implements RedisSerializer<T> {
+
+    private final RedisSerializer<T> delegate;
+    private final DistributionSummary payloadSize;
+    private final Timer serializeTimer;
+    private final Timer deserializeTimer;
+
+    public MeteredRedisSerializer(RedisSerializer<T> delegate, MeterRegistry meterRegistry,
+                                  String cacheName, String codec) {
+        this.delegate = delegate;
+        this.payloadSize = DistributionSummary.builder("tooltip.cache.payload")
+                .description("캐시 값 저장 크기")
+                .baseUnit("bytes")
+                .tag("cache", cacheName)
+                .tag("codec", codec)
+                .register(meterRegistry);
+        this.serializeTimer = codecTimer(meterRegistry, cacheName, codec, "serialize");
+        this.deserializeTimer = codecTimer(meterRegistry, cacheName, codec, "deserialize");
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        long start = System.nanoTime();
+        byte[] bytes = delegate.serialize(value);
+        serializeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (bytes != null) {
+            payloadSize.record(bytes.length);
+        }
+        return bytes;
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        long start = System.nanoTime();
+        T value = delegate.deserialize(bytes);
+        deserializeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return value;
+    }
+
+    private static Timer codecTimer(MeterRegistry meterRegistry, String cacheName, String codec, String operation) {
+        return Timer.builder("tooltip.cache.codec")
+                .description("캐시 값 직렬화/역직렬화 시간")
+                .tag("cache", cacheName)
+                .tag("codec", codec)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
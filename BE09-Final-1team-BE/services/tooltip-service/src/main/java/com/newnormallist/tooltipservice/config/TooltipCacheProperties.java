@@ -0,0 +1,28 @@
+package com.newnormallist.tooltipservice.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/*
+    Redis 캐시 값 직렬화 설정 (tooltip.cache.*)
+    - codecs: 캐시 이름별 직렬화 방식 (지정하지 않은 캐시는 JSON)
+    - COMPACT 캐시는 key-prefix를 붙인 별도 키에 저장하므로
+      배포 중 구버전(JSON) 인스턴스와 같은 키를 서로 다른 형식으로 읽지 않음
+*/
+@Data
+@ConfigurationProperties(prefix = "tooltip.cache")
+public class TooltipCacheProperties {
+
+    public enum Codec {
+        JSON,    // GenericJackson2Json (타입 정보 포함, 기존 형식)
+        COMPACT  // Smile 바이너리 + 큰 값은 Deflate 압축
+    }
+
+    private Map<String, Codec> codecs = new HashMap<>();
+    private String keyPrefix = "tooltip:c1:";       // COMPACT 캐시 키 접두사 (형식이 바뀌면 올려서 기존 키와 분리)
+    private int compressThresholdBytes = 1024;      // 이 크기 이상인 값만 압축 시도
+}
@@ -0,0 +1,37 @@
+package com.newnormallist.tooltipservice.config;
+
+import com.newnormallist.tooltipservice.service.AnalysisCacheService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 어려운 단어 사전 변경 알림 구독 설정
+ * 한 인스턴스에서 캐시를 갱신하면 Redis pub/sub으로 새 버전을 알리고,
+ * 나머지 인스턴스는 로컬 스냅샷을 재생성합니다.
+ */
+@Slf4j
+@Configuration
+public class VocabularyPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer vocabularyListenerContainer(RedisConnectionFactory cf,
+                                                                     AnalysisCacheService analysisCacheService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        container.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                analysisCacheService.onVocabularyChanged(Long.parseLong(body));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 사전 변경 알림 메시지: {}", body);
+            }
+        }, new ChannelTopic(AnalysisCacheService.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
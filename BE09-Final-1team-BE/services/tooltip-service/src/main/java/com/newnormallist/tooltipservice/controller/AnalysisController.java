@@ -4,19 +4,30 @@ import com.newnormallist.tooltipservice.dto.ProcessContentRequest;
 import com.newnormallist.tooltipservice.dto.ProcessContentResponse;
 import com.newnormallist.tooltipservice.dto.TermDefinitionResponseDto;
 import com.newnormallist.tooltipservice.dto.TermDetailResponseDto;
+import com.newnormallist.tooltipservice.dto.VocabularyVersionResponse;
+import com.newnormallist.tooltipservice.service.BatchAnalysisService;
 import com.newnormallist.tooltipservice.service.NewsAnalysisService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
 
 @Tag(name = "News Analysis", description = "뉴스 본문 분석 및 단어 정의 조회 API")
 @RestController
@@ -26,6 +37,7 @@ import java.util.NoSuchElementException;
 public class AnalysisController {
 
     private final NewsAnalysisService newsAnalysisService;
+    private final BatchAnalysisService batchAnalysisService;
 
     @Operation(
             summary = "뉴스 본문 분석 및 마크업", 
@@ -43,12 +55,58 @@ public class AnalysisController {
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("뉴스 ID {} 분석 중 에러 발생. 원본 내용을 반환합니다.", request.newsId(), e);
-            ProcessContentResponse fallbackResponse = new ProcessContentResponse(request.originalContent());
+            ProcessContentResponse fallbackResponse = new ProcessContentResponse(request.originalContent(), null);
             return ResponseEntity.ok(fallbackResponse);
         }
     }
 
 
+    @Operation(
+            summary = "뉴스 본문 일괄 분석 및 마크업",
+            description = "여러 뉴스 본문을 병렬로 분석하여 끝나는 순서대로 NDJSON(한 줄에 한 건)으로 반환합니다. "
+                    + "기사별 실패는 해당 줄의 error 필드로 전달됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "분석 결과 스트리밍"),
+            @ApiResponse(responseCode = "413", description = "한 번에 보낼 수 있는 기사 수 초과"),
+            @ApiResponse(responseCode = "429", description = "처리 중인 기사가 많아 잠시 후 재시도 필요")
+    })
+    @PostMapping(value = "/process/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> processNewsContentBatch(
+            @Parameter(description = "뉴스 ID와 원본 내용 목록", required = true) @RequestBody List<ProcessContentRequest> requests,
+            HttpServletRequest httpRequest) {
+        if (requests.size() > batchAnalysisService.getMaxItems()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        BatchAnalysisService.Permit permit = batchAnalysisService.tryAcquire(requests.size());
+        if (permit == null) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
+        try {
+            // 본문이 실행되지 못한 채 비동기 요청이 끝나는 경우(타임아웃, 작업 거부, 연결 끊김)에도 슬롯 반환
+            WebAsyncUtils.getAsyncManager(httpRequest).registerCallableInterceptor(permit,
+                    new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                            permit.close();
+                        }
+                    });
+            StreamingResponseBody body = out -> {
+                try (permit) {
+                    batchAnalysisService.process(requests, out);
+                }
+            };
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(body);
+        } catch (RuntimeException e) {
+            permit.close();
+            throw e;
+        }
+    }
+
     @Operation(
             summary = "단어 정의 조회", 
             description = "특정 단어의 모든 정의를 displayOrder 순으로 조회합니다. 정확 일치 후 부분 일치로 검색합니다."
@@ -82,4 +140,13 @@ public class AnalysisController {
         newsAnalysisService.refreshDifficultWordsCache();
         return ResponseEntity.ok("어려운 단어 캐시가 성공적으로 갱신되었습니다.");
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "어려운 단어 사전 버전 조회",
+            description = "현재 마크업에 사용 중인 어려운 단어 사전 버전을 조회합니다. 사전이 갱신되면 버전이 증가합니다."
+    )
+    @GetMapping("/vocabulary/version")
+    public ResponseEntity<VocabularyVersionResponse> getVocabularyVersion() {
+        return ResponseEntity.ok(newsAnalysisService.getVocabularyVersion());
+    }
+}
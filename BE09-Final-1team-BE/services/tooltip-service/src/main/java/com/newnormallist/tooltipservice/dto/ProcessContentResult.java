@@ -0,0 +1,14 @@
+package com.newnormallist.tooltipservice.dto;
+
+// 일괄 분석 결과 한 건 (NDJSON 한 줄)
+// 성공: processedContent + vocabularyVersion, 실패: error
+public record ProcessContentResult(Long newsId, String processedContent, Long vocabularyVersion, String error) {
+
+    public static ProcessContentResult success(Long newsId, ProcessContentResponse response) {
+        return new ProcessContentResult(newsId, response.processedContent(), response.vocabularyVersion(), null);
+    }
+
+    public static ProcessContentResult failure(Long newsId, String error) {
+        return new ProcessContentResult(newsId, null, null, error);
+    }
+}
@@ -0,0 +1,6 @@
+package com.newnormallist.tooltipservice.dto;
+
+// processedContent 캐시 항목
+// computedAt: 캐시에 저장한 시각(ms), computeMillis: 분석에 걸린 시간(ms) - 조기 갱신 확률 계산에 사용
+public record ProcessedContentEntry(ProcessContentResponse response, long computedAt, long computeMillis) {
+}
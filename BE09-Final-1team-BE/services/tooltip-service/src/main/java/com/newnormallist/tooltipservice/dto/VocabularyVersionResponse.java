@@ -0,0 +1,5 @@
+package com.newnormallist.tooltipservice.dto;
+
+// 현재 어려운 단어 사전 버전 응답 DTO (news-service가 마크업 재생성 여부 판단에 사용)
+public record VocabularyVersionResponse(long version) {
+}
@@ -5,6 +5,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -20,4 +22,8 @@ public interface VocabularyTermRepository extends JpaRepository<VocabularyTerm,L
     @Query("SELECT vt FROM VocabularyTerm vt WHERE vt.term LIKE CONCAT(:term, '%') OR vt.term = :term ORDER BY LENGTH(vt.term) ASC")
     Optional<VocabularyTerm> findByTermStartingWith(@Param("term") String term);
 
+    // 여러 단어와 정의를 한 번에 조회하는 메소드 (정의 fetch join)
+    @Query("SELECT DISTINCT vt FROM VocabularyTerm vt LEFT JOIN FETCH vt.definitions WHERE vt.term IN :terms")
+    List<VocabularyTerm> findAllWithDefinitionsByTermIn(@Param("terms") Collection<String> terms);
+
 }
\ No newline at end of file
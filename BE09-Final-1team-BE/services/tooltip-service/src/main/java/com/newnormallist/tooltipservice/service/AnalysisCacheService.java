@@ -3,11 +3,17 @@ package com.newnormallist.tooltipservice.service;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import com.newnormallist.tooltipservice.dto.TermDefinitionResponseDto;
@@ -26,8 +32,128 @@ public class AnalysisCacheService {
     private final VocabularyTermRepository vocabularyTermRepository;
     private final CacheManager cacheManager;
 
+    // 사전 버전 키 / 변경 알림 채널 (인스턴스 간 로컬 스냅샷 무효화)
+    private static final String VERSION_KEY = "difficultWords:version";
+    public static final String INVALIDATION_CHANNEL = "tooltip:difficult-words:invalidate";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 로컬 스냅샷: 사전 버전 + 매칭 오토마톤 (사전이 바뀌면 새로 만들어 통째로 교체)
+    private final AtomicReference<VocabularySnapshot> snapshotRef = new AtomicReference<>();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private volatile long lastVersionCheckAt;
+
+    // 변경 알림을 놓친 경우를 대비한 버전 확인 주기
+    @Value("${tooltip.difficult-words.version-check-ms:300000}")
+    private long versionCheckMs;
+
     @Cacheable(value = "difficultWords", key = "'all'")
     public Set<String> getDifficultWordsFromCache() {
+        return loadDifficultWordsFromDb();
+    }
+
+    /**
+     * 어려운 단어 매칭 오토마톤을 반환합니다.
+     * 평소에는 로컬 스냅샷만 사용하므로 Redis 조회/역직렬화가 없습니다.
+     * 최초 호출 시에만 Redis(없으면 DB)에서 사전을 읽어 생성하고,
+     * version-check-ms마다 한 스레드만 Redis 버전을 확인해 달라졌으면 재생성합니다.
+     */
+    public DifficultWordMatcher getDifficultWordMatcher() {
+        VocabularySnapshot current = snapshotRef.get();
+        if (current == null) {
+            snapshotLock.lock();
+            try {
+                current = snapshotRef.get();
+                if (current == null) {
+                    current = rebuildSnapshot();
+                }
+            } finally {
+                snapshotLock.unlock();
+            }
+            return current.matcher();
+        }
+
+        if (System.currentTimeMillis() - lastVersionCheckAt > versionCheckMs && snapshotLock.tryLock()) {
+            try {
+                lastVersionCheckAt = System.currentTimeMillis();
+                Long remoteVersion = readVersion();
+                if (remoteVersion != null && remoteVersion != current.version()) {
+                    current = rebuildSnapshot();
+                }
+            } catch (Exception e) {
+                log.warn("어려운 단어 스냅샷 재생성 실패, 기존 스냅샷을 계속 사용합니다: {}", e.getMessage());
+            } finally {
+                snapshotLock.unlock();
+            }
+        }
+        return current.matcher();
+    }
+
+    /**
+     * 현재 로컬 스냅샷의 사전 버전을 반환합니다. (스냅샷이 없으면 생성)
+     */
+    public long getVocabularyVersion() {
+        getDifficultWordMatcher();
+        return snapshotRef.get().version();
+    }
+
+    /**
+     * 다른 인스턴스의 사전 변경 알림 처리 (Redis pub/sub)
+     * 로컬 스냅샷이 알림 버전보다 오래됐을 때만 재생성합니다.
+     */
+    public void onVocabularyChanged(long version) {
+        VocabularySnapshot current = snapshotRef.get();
+        if (current != null && current.version() >= version) {
+            return;
+        }
+        snapshotLock.lock();
+        try {
+            current = snapshotRef.get();
+            if (current != null && current.version() >= version) {
+                return;
+            }
+            log.info("어려운 단어 사전 변경 알림 수신: version={}", version);
+            rebuildSnapshot();
+        } catch (Exception e) {
+            log.warn("어려운 단어 스냅샷 재생성 실패: version={}, error={}", version, e.getMessage());
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    // 버전을 먼저 읽고 사전을 읽어, 스냅샷 버전이 내용보다 앞서지 않도록 함
+    private VocabularySnapshot rebuildSnapshot() {
+        long startTime = System.currentTimeMillis();
+        Long version = readVersion();
+        DifficultWordMatcher matcher = DifficultWordMatcher.build(loadDifficultWords());
+        VocabularySnapshot snapshot = new VocabularySnapshot(version != null ? version : 0L, matcher);
+        snapshotRef.set(snapshot);
+        lastVersionCheckAt = System.currentTimeMillis();
+        log.info("어려운 단어 스냅샷 생성 완료: version={}, {}개 단어, {}ms",
+                snapshot.version(), matcher.vocabularySize(), System.currentTimeMillis() - startTime);
+        return snapshot;
+    }
+
+    private Long readVersion() {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(VERSION_KEY);
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (Exception e) {
+            log.warn("어려운 단어 사전 버전 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // Redis 캐시 우선 조회 (내부 호출은 @Cacheable 프록시를 거치지 않으므로 직접 사용)
+    private Set<String> loadDifficultWords() {
+        Cache cache = cacheManager.getCache("difficultWords");
+        if (cache == null) {
+            return loadDifficultWordsFromDb();
+        }
+        return cache.get("all", this::loadDifficultWordsFromDb);
+    }
+
+    private Set<String> loadDifficultWordsFromDb() {
         log.info("🔴 REDIS 캐시 미스 발생! DB에서 어려운 단어 목록을 로드합니다...");
         log.info("🔴 CacheManager 타입: {}", cacheManager.getClass().getSimpleName());
         log.info("🔴 사용 가능한 캐시: {}", cacheManager.getCacheNames());
@@ -74,9 +200,27 @@ public class AnalysisCacheService {
         return new TermDetailResponseDto(vocabularyTerm.getTerm(), definitionDtos);
     }
 
-    @CacheEvict(value = "difficultWords", key = "'all'")
+    // 이전 사전으로 만든 본문 마크업도 함께 제거 (news-service가 새 버전으로 재생성 요청)
+    @Caching(evict = {
+            @CacheEvict(value = "difficultWords", key = "'all'", beforeInvocation = true),
+            @CacheEvict(value = "processedContent", allEntries = true, beforeInvocation = true)
+    })
     public void refreshDifficultWordsCache() {
         log.info("어려운 단어 캐시를 강제로 갱신합니다.");
+        // 새 스냅샷이 준비될 때까지 기존 스냅샷으로 계속 처리
+        snapshotLock.lock();
+        try {
+            Long version = stringRedisTemplate.opsForValue().increment(VERSION_KEY);
+            VocabularySnapshot snapshot = rebuildSnapshot();
+            // 다른 인스턴스에 변경 알림
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    String.valueOf(version != null ? version : snapshot.version()));
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    private record VocabularySnapshot(long version, DifficultWordMatcher matcher) {
     }
 }
 
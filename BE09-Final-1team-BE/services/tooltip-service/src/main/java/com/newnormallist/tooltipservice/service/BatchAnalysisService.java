@@ -0,0 +1,146 @@
+package com.newnormallist.tooltipservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newnormallist.tooltipservice.dto.ProcessContentRequest;
+import com.newnormallist.tooltipservice.dto.ProcessContentResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 뉴스 본문 일괄 분석
+ * - 요청 기사들을 전용 풀에서 병렬로 분석하고, 끝나는 순서대로 NDJSON 한 줄씩 내보냄
+ * - 전체 동시 처리 기사 수(max-in-flight)를 넘는 요청은 받지 않음 (호출자가 잠시 후 재시도)
+ * - 기사별 실패는 해당 줄의 error로 알리고 나머지는 계속 처리
+ */
+@Slf4j
+@Service
+public class BatchAnalysisService {
+
+    private static final byte[] NEWLINE = {'\n'};
+
+    private final NewsAnalysisService newsAnalysisService;
+    private final ObjectMapper objectMapper;
+    private final int maxItems;
+    private final Semaphore inFlight;
+    private final ThreadPoolExecutor analysisExecutor;
+
+    public BatchAnalysisService(NewsAnalysisService newsAnalysisService,
+                                ObjectMapper objectMapper,
+                                @Value("${tooltip.batch.max-items:50}") int maxItems,
+                                @Value("${tooltip.batch.max-in-flight:200}") int maxInFlight,
+                                @Value("${tooltip.batch.worker-threads:0}") int workerThreads) {
+        this.newsAnalysisService = newsAnalysisService;
+        this.objectMapper = objectMapper;
+        this.maxItems = maxItems;
+        this.inFlight = new Semaphore(maxInFlight);
+
+        // 0이면 CPU 코어 수 (Komoran 풀 크기와 맞춤)
+        int threads = workerThreads > 0 ? workerThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.analysisExecutor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                // 대기 작업 수는 in-flight 세마포어가 제한
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "batch-analysis-" + threadSeq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    /**
+     * 기사 수만큼 처리 슬롯 확보 (여유가 없으면 null)
+     * 확보한 쪽이 Permit.close()로 반환하며, 여러 경로에서 닫아도 한 번만 반환됩니다.
+     */
+    public Permit tryAcquire(int itemCount) {
+        return inFlight.tryAcquire(itemCount) ? new Permit(itemCount) : null;
+    }
+
+    /**
+     * 일괄 분석 후 결과를 끝나는 순서대로 NDJSON으로 기록합니다.
+     * 처리 슬롯은 호출자가 확보/반환합니다.
+     */
+    public void process(List<ProcessContentRequest> requests, OutputStream out) throws IOException {
+        CompletionService<ProcessContentResult> completionService = new ExecutorCompletionService<>(analysisExecutor);
+        List<Future<ProcessContentResult>> futures = new ArrayList<>(requests.size());
+        try {
+            for (ProcessContentRequest request : requests) {
+                futures.add(completionService.submit(() -> analyze(request)));
+            }
+            for (int i = 0; i < requests.size(); i++) {
+                ProcessContentResult result = completionService.take().get();
+                out.write(objectMapper.writeValueAsBytes(result));
+                out.write(NEWLINE);
+                out.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("일괄 분석이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            // analyze는 예외를 결과로 바꾸므로 발생하지 않음
+            throw new IOException("일괄 분석 실패", e.getCause());
+        } finally {
+            // 클라이언트 연결이 끊긴 경우 남은 작업 취소
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        analysisExecutor.shutdownNow();
+    }
+
+    /**
+     * 확보한 처리 슬롯 (한 번만 반환)
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final int itemCount;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Permit(int itemCount) {
+            this.itemCount = itemCount;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                inFlight.release(itemCount);
+            }
+        }
+    }
+
+    private ProcessContentResult analyze(ProcessContentRequest request) {
+        if (request == null || request.newsId() == null) {
+            return ProcessContentResult.failure(null, "newsId가 없습니다.");
+        }
+        try {
+            return ProcessContentResult.success(request.newsId(), newsAnalysisService.processContent(request));
+        } catch (Exception e) {
+            log.warn("뉴스 ID {} 일괄 분석 중 에러 발생: {}", request.newsId(), e.getMessage());
+            return ProcessContentResult.failure(request.newsId(), e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+}
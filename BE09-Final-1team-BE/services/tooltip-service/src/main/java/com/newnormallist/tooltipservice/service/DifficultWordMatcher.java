@@ -0,0 +1,249 @@
+package com.newnormallist.tooltipservice.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 어려운 단어 사전으로 만든 불변 Aho-Corasick 오토마톤
+ * - 매칭 키: DB 단어 그대로 + "단어 (한자/영어)" 형태의 기본 단어("단어")
+ * - 본문 전체를 한 번 순회하며 키가 끝나는 위치를 모두 찾고, 형태소 토큰 경계와 일치하는 것만 인정
+ * 생성 후에는 수정하지 않으므로 여러 스레드가 동시에 사용해도 안전하며,
+ * 사전이 바뀌면 새 인스턴스를 만들어 통째로 교체합니다.
+ */
+public final class DifficultWordMatcher {
+
+    private static final int ROOT = 0;
+
+    // 노드별 전이: labels/targets[edgeStart[n] .. edgeStart[n+1]) 구간, labels는 오름차순
+    private final int[] edgeStart;
+    private final char[] labels;
+    private final int[] targets;
+
+    private final int[] fail;
+    // 이 노드에서 끝나는 키의 길이 (없으면 0)
+    private final int[] keyLength;
+    // 실패 링크를 따라가며 만나는 다음 키 노드 (없으면 -1)
+    private final int[] outputLink;
+
+    // DB 단어 정렬 목록 (정의 조회 시 접두사 대체 검색용)
+    private final String[] sortedTerms;
+
+    private DifficultWordMatcher(int[] edgeStart, char[] labels, int[] targets,
+                                 int[] fail, int[] keyLength, int[] outputLink, String[] sortedTerms) {
+        this.edgeStart = edgeStart;
+        this.labels = labels;
+        this.targets = targets;
+        this.fail = fail;
+        this.keyLength = keyLength;
+        this.outputLink = outputLink;
+        this.sortedTerms = sortedTerms;
+    }
+
+    /**
+     * DB 단어 목록으로 오토마톤을 생성합니다.
+     */
+    public static DifficultWordMatcher build(Collection<String> difficultWords) {
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        List<String> terms = new ArrayList<>(difficultWords.size());
+        children.add(new HashMap<>());
+        lengths.add(0);
+
+        for (String dbTerm : difficultWords) {
+            if (dbTerm == null || dbTerm.isEmpty()) {
+                continue;
+            }
+            terms.add(dbTerm);
+            insert(dbTerm, children, lengths);
+            String baseWord = baseWordOf(dbTerm);
+            if (baseWord != null && !baseWord.isEmpty()) {
+                insert(baseWord, children, lengths);
+            }
+        }
+
+        int nodeCount = children.size();
+        int edgeCount = 0;
+        for (Map<Character, Integer> edges : children) {
+            edgeCount += edges.size();
+        }
+
+        // 전이를 정렬된 평면 배열로 고정
+        int[] edgeStart = new int[nodeCount + 1];
+        char[] labels = new char[edgeCount];
+        int[] targets = new int[edgeCount];
+        int cursor = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            edgeStart[node] = cursor;
+            Map<Character, Integer> edges = children.get(node);
+            char[] sorted = new char[edges.size()];
+            int i = 0;
+            for (Character c : edges.keySet()) {
+                sorted[i++] = c;
+            }
+            Arrays.sort(sorted);
+            for (char c : sorted) {
+                labels[cursor] = c;
+                targets[cursor] = edges.get(c);
+                cursor++;
+            }
+        }
+        edgeStart[nodeCount] = cursor;
+
+        int[] keyLength = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            keyLength[node] = lengths.get(node);
+        }
+
+        // BFS로 실패 링크와 출력 링크 계산
+        int[] fail = new int[nodeCount];
+        int[] outputLink = new int[nodeCount];
+        Arrays.fill(outputLink, -1);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int e = edgeStart[ROOT]; e < edgeStart[ROOT + 1]; e++) {
+            fail[targets[e]] = ROOT;
+            queue.add(targets[e]);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+                char c = labels[e];
+                int child = targets[e];
+                int f = fail[node];
+                int next;
+                while ((next = transition(edgeStart, labels, targets, f, c)) < 0 && f != ROOT) {
+                    f = fail[f];
+                }
+                fail[child] = next >= 0 ? next : ROOT;
+                int link = fail[child];
+                outputLink[child] = keyLength[link] > 0 ? link : outputLink[link];
+                queue.add(child);
+            }
+        }
+
+        String[] sortedTerms = terms.toArray(new String[0]);
+        Arrays.sort(sortedTerms);
+
+        return new DifficultWordMatcher(edgeStart, labels, targets, fail, keyLength, outputLink, sortedTerms);
+    }
+
+    /**
+     * 본문을 한 번 순회하며 토큰 경계와 정확히 일치하는 키를 찾습니다.
+     * @param text 원본 본문
+     * @param tokenEndByBegin 시작 위치별 검사 대상 토큰의 끝 위치 (검사 대상이 없으면 -1)
+     * @return 시작 위치별 매칭 여부
+     */
+    public boolean[] matchTokens(String text, int[] tokenEndByBegin) {
+        boolean[] matched = new boolean[text.length()];
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = transition(edgeStart, labels, targets, state, c)) < 0 && state != ROOT) {
+                state = fail[state];
+            }
+            state = next >= 0 ? next : ROOT;
+
+            int end = i + 1;
+            for (int node = keyLength[state] > 0 ? state : outputLink[state]; node >= 0; node = outputLink[node]) {
+                int begin = end - keyLength[node];
+                if (tokenEndByBegin[begin] == end) {
+                    matched[begin] = true;
+                }
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 단어 하나가 키와 정확히 일치하는지 확인합니다. (형태소 원형이 본문 표기와 다른 경우용)
+     */
+    public boolean matches(String term) {
+        if (term == null || term.isEmpty()) {
+            return false;
+        }
+        int state = ROOT;
+        for (int i = 0; i < term.length(); i++) {
+            state = transition(edgeStart, labels, targets, state, term.charAt(i));
+            if (state < 0) {
+                return false;
+            }
+        }
+        return keyLength[state] > 0;
+    }
+
+    /**
+     * 정의를 조회할 DB 단어를 찾습니다. (기존 findByTerm → findByTermStartingWith 순서와 동일)
+     * 정확히 일치하는 단어가 있으면 그 단어, 없으면 term으로 시작하는 가장 짧은 단어
+     * @return DB 단어 (없으면 null)
+     */
+    public String resolveTerm(String term) {
+        if (term == null || term.isEmpty()) {
+            return null;
+        }
+        int index = Arrays.binarySearch(sortedTerms, term);
+        if (index >= 0) {
+            return sortedTerms[index];
+        }
+
+        // 정렬 목록에서 접두사가 같은 구간은 연속되어 있음
+        String shortest = null;
+        for (int i = -index - 1; i < sortedTerms.length && sortedTerms[i].startsWith(term); i++) {
+            if (shortest == null || sortedTerms[i].length() < shortest.length()) {
+                shortest = sortedTerms[i];
+            }
+        }
+        return shortest;
+    }
+
+    public int vocabularySize() {
+        return sortedTerms.length;
+    }
+
+    /**
+     * "예산 (豫算)" → "예산", 패턴이 아니면 null
+     */
+    static String baseWordOf(String dbTerm) {
+        if (dbTerm.contains(" (") && dbTerm.endsWith(")")) {
+            return dbTerm.substring(0, dbTerm.indexOf(" (")).trim();
+        }
+        return null;
+    }
+
+    private static void insert(String key, List<Map<Character, Integer>> children, List<Integer> lengths) {
+        int node = ROOT;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            Integer next = children.get(node).get(c);
+            if (next == null) {
+                next = children.size();
+                children.add(new HashMap<>());
+                lengths.add(0);
+                children.get(node).put(c, next);
+            }
+            node = next;
+        }
+        lengths.set(node, key.length());
+    }
+
+    private static int transition(int[] edgeStart, char[] labels, int[] targets, int node, char c) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char label = labels[mid];
+            if (label < c) {
+                low = mid + 1;
+            } else if (label > c) {
+                high = mid - 1;
+            } else {
+                return targets[mid];
+            }
+        }
+        return -1;
+    }
+}
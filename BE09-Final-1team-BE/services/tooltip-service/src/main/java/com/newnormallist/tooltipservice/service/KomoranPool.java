@@ -0,0 +1,120 @@
+package com.newnormallist.tooltipservice.service;
+
+import jakarta.annotation.PostConstruct;
+import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
+import kr.co.shineware.nlp.komoran.core.Komoran;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 미리 준비(warm-up)된 Komoran 분석기 풀
+ * - 기동 시 백그라운드에서 코어 수만큼 LIGHT 모델 인스턴스를 만들고 사용자 사전을 적재한 뒤 예열 문장을 분석합니다.
+ * - 준비가 끝날 때까지 readiness 헬스(komoranPool)는 OUT_OF_SERVICE이고, 요청은 준비될 때까지 대기합니다.
+ * - 요청마다 인스턴스를 빌려 쓰고 반납하므로 동시 요청끼리 분석기를 공유하지 않습니다.
+ */
+@Slf4j
+@Component
+public class KomoranPool implements HealthIndicator {
+
+    private static final String WARM_UP_TEXT = "정부는 내년도 예산안을 국회에 제출하고 기준금리 동결을 발표했다.";
+
+    // 0이면 CPU 코어 수
+    @Value("${tooltip.komoran.pool-size:0}")
+    private int configuredPoolSize;
+
+    // Komoran 사용자 사전 파일 경로 (비어 있으면 사용하지 않음)
+    @Value("${tooltip.komoran.user-dic-path:}")
+    private String userDicPath;
+
+    @Value("${tooltip.komoran.borrow-timeout-ms:30000}")
+    private long borrowTimeoutMs;
+
+    private final BlockingQueue<Komoran> idle = new LinkedBlockingQueue<>();
+    private final CountDownLatch ready = new CountDownLatch(1);
+    private volatile int poolSize;
+    private volatile Exception failure;
+
+    @PostConstruct
+    public void start() {
+        Thread warmUpThread = new Thread(this::warmUp, "komoran-warmup");
+        warmUpThread.setDaemon(true);
+        warmUpThread.start();
+    }
+
+    /**
+     * 풀에서 분석기를 빌려 작업을 수행하고 반납합니다.
+     */
+    public <T> T execute(Function<Komoran, T> work) {
+        Komoran komoran = borrow();
+        try {
+            return work.apply(komoran);
+        } finally {
+            idle.offer(komoran);
+        }
+    }
+
+    @Override
+    public Health health() {
+        if (ready.getCount() > 0) {
+            return Health.outOfService().withDetail("status", "warming up").build();
+        }
+        if (poolSize == 0) {
+            return Health.down(failure != null ? failure : new IllegalStateException("분석기 없음")).build();
+        }
+        return Health.up()
+                .withDetail("poolSize", poolSize)
+                .withDetail("idle", idle.size())
+                .build();
+    }
+
+    private void warmUp() {
+        long startTime = System.currentTimeMillis();
+        int targetSize = configuredPoolSize > 0 ? configuredPoolSize : Runtime.getRuntime().availableProcessors();
+        try {
+            for (int i = 0; i < targetSize; i++) {
+                // 모델은 경량화된 LIGHT 모델을 사용합니다. 더 높은 정확도가 필요하면 DEFAULT_MODEL.FULL을 사용할 수 있습니다.
+                Komoran komoran = new Komoran(DEFAULT_MODEL.LIGHT);
+                if (!userDicPath.isBlank()) {
+                    komoran.setUserDic(userDicPath);
+                }
+                komoran.analyze(WARM_UP_TEXT);
+                idle.add(komoran);
+            }
+            log.info("Komoran 분석기 풀 준비 완료: {}개, {}ms", targetSize, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            failure = e;
+            log.error("Komoran 분석기 풀 준비 실패: 생성된 인스턴스 {}개", idle.size(), e);
+        } finally {
+            poolSize = idle.size();
+            ready.countDown();
+        }
+    }
+
+    private Komoran borrow() {
+        try {
+            if (!ready.await(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Komoran 분석기가 아직 준비되지 않았습니다.");
+            }
+            if (poolSize == 0) {
+                throw new IllegalStateException("사용 가능한 Komoran 분석기가 없습니다.", failure);
+            }
+            Komoran komoran = idle.poll(borrowTimeoutMs, TimeUnit.MILLISECONDS);
+            if (komoran == null) {
+                throw new IllegalStateException("Komoran 분석기 대기 시간을 초과했습니다.");
+            }
+            return komoran;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Komoran 분석기 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+}
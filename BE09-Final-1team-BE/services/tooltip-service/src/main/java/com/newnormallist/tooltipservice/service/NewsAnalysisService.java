@@ -2,40 +2,119 @@ package com.newnormallist.tooltipservice.service;
 
 import com.newnormallist.tooltipservice.dto.ProcessContentRequest;
 import com.newnormallist.tooltipservice.dto.ProcessContentResponse;
+import com.newnormallist.tooltipservice.dto.ProcessedContentEntry;
 import com.newnormallist.tooltipservice.dto.TermDetailResponseDto;
-import lombok.RequiredArgsConstructor;
+import com.newnormallist.tooltipservice.dto.VocabularyVersionResponse;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 뉴스 본문 분석 (processedContent 캐시)
+ * - 같은 뉴스의 동시 캐시 미스는 진행 중인 분석 하나를 함께 기다림 (인스턴스 내 single-flight)
+ * - redis-lock 사용 시 인스턴스 간에도 한 곳만 분석하고, 나머지는 캐시에 저장될 때까지 대기
+ * - 만료가 가까운 항목은 확률적으로 미리 백그라운드 갱신 (분석 시간이 길수록 일찍 갱신)
+ *   조회 요청은 갱신을 기다리지 않고 기존 값을 바로 반환
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NewsAnalysisService {
 
+    private static final String CACHE_NAME = "processedContent";
+    private static final String LOCK_KEY_PREFIX = "processedContent:lock:";
+
+    // 자기 토큰일 때만 락 해제
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
     private final AnalysisCacheService analysisCacheService;
     private final NlpService nlpService;
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final long ttlMillis;
+    private final double earlyRefreshBeta;
+    private final boolean redisLockEnabled;
+    private final long lockTtlMs;
+    private final long lockWaitMs;
+    private final long lockPollMs;
 
-    // Redis 캐시로 변경됨 - 메모리 캐시 제거
+    // newsId -> 진행 중인 분석 (동시 미스 공유, 조기 갱신 중복 방지)
+    private final ConcurrentHashMap<Long, CompletableFuture<ProcessContentResponse>> inFlight = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor refreshExecutor;
+
+    public NewsAnalysisService(AnalysisCacheService analysisCacheService,
+                               NlpService nlpService,
+                               CacheManager cacheManager,
+                               StringRedisTemplate stringRedisTemplate,
+                               @Value("${tooltip.processed-content.ttl:24h}") Duration ttl,
+                               @Value("${tooltip.processed-content.early-refresh-beta:1.0}") double earlyRefreshBeta,
+                               @Value("${tooltip.processed-content.refresh-threads:2}") int refreshThreads,
+                               @Value("${tooltip.processed-content.refresh-queue-capacity:100}") int refreshQueueCapacity,
+                               @Value("${tooltip.processed-content.redis-lock.enabled:false}") boolean redisLockEnabled,
+                               @Value("${tooltip.processed-content.redis-lock.ttl-ms:30000}") long lockTtlMs,
+                               @Value("${tooltip.processed-content.redis-lock.wait-ms:5000}") long lockWaitMs,
+                               @Value("${tooltip.processed-content.redis-lock.poll-ms:50}") long lockPollMs) {
+        this.analysisCacheService = analysisCacheService;
+        this.nlpService = nlpService;
+        this.cacheManager = cacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttlMillis = ttl.toMillis();
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.redisLockEnabled = redisLockEnabled;
+        this.lockTtlMs = lockTtlMs;
+        this.lockWaitMs = lockWaitMs;
+        this.lockPollMs = lockPollMs;
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(
+                refreshThreads, refreshThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(refreshQueueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "content-refresh-" + threadSeq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
 
     /**
-     * 뉴스 본문을 분석하여 어려운 단어에 마크업을 추가합니다.
+     * 뉴스 본문을 분석하여 어려운 단어에 마크업을 추가합니다. (processedContent 캐시 사용)
      */
-    @Cacheable(value = "processedContent", key = "#request.newsId()")
     public ProcessContentResponse processContent(ProcessContentRequest request) {
-        log.info("뉴스 ID {}의 본문 분석을 시작합니다.", request.newsId());
-
-        // Redis 캐시에서 어려운 단어 목록을 가져와서 마크업 처리
-        log.info("🟡 어려운 단어 목록 조회를 시작합니다...");
-        Set<String> difficultWords = analysisCacheService.getDifficultWordsFromCache();
-        log.info("🟢 어려운 단어 목록 조회 완료! 총 {}개 (Redis에서 가져왔다면 위 🔴 로그가 없을 것입니다)", difficultWords.size());
-        
-        // NlpService를 직접 호출하여 마크업 처리
-        String analyzedContent = nlpService.markupDifficultWords(request.originalContent(), difficultWords);
+        Long newsId = request.newsId();
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (newsId == null || cache == null) {
+            return analyze(request);
+        }
 
-        return new ProcessContentResponse(analyzedContent);
+        ProcessedContentEntry entry = readEntry(cache, newsId);
+        if (entry != null) {
+            if (shouldRefreshEarly(entry)) {
+                refreshAsync(cache, request);
+            }
+            return entry.response();
+        }
+        return loadSingleFlight(cache, request);
     }
 
     // --- Delegations for controller compatibility ---
@@ -47,9 +126,191 @@ public class NewsAnalysisService {
         analysisCacheService.refreshDifficultWordsCache();
     }
 
+    public VocabularyVersionResponse getVocabularyVersion() {
+        return new VocabularyVersionResponse(analysisCacheService.getVocabularyVersion());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // 캐시 미스: 먼저 시작한 요청이 분석하고, 나머지는 그 결과를 함께 사용
+    private ProcessContentResponse loadSingleFlight(Cache cache, ProcessContentRequest request) {
+        Long newsId = request.newsId();
+        CompletableFuture<ProcessContentResponse> mine = new CompletableFuture<>();
+        CompletableFuture<ProcessContentResponse> existing = inFlight.putIfAbsent(newsId, mine);
+        if (existing != null) {
+            ProcessContentResponse shared = await(cache, newsId, existing);
+            // 조기 갱신이 다른 인스턴스에 양보했거나 실패한 경우 결과가 없음 -> 직접 분석
+            return shared != null ? shared : loadThroughLock(cache, request, true);
+        }
+
+        try {
+            ProcessContentResponse response = loadThroughLock(cache, request, true);
+            mine.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(newsId, mine);
+        }
+    }
+
+    // 조기 갱신: 이미 진행 중이면 건너뜀
+    private void refreshAsync(Cache cache, ProcessContentRequest request) {
+        Long newsId = request.newsId();
+        CompletableFuture<ProcessContentResponse> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(newsId, mine) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    mine.complete(loadThroughLock(cache, request, false));
+                } catch (Exception e) {
+                    // 함께 기다리던 캐시 미스 요청은 예외 대신 null을 받아 직접 분석
+                    log.warn("뉴스 ID {} 본문 조기 갱신 실패: {}", newsId, e.getMessage());
+                    mine.complete(null);
+                } finally {
+                    inFlight.remove(newsId, mine);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(newsId, mine);
+            mine.complete(null);
+            log.debug("본문 조기 갱신 대기열이 가득 차 건너뜁니다: newsId={}", newsId);
+        }
+    }
+
     /**
-     * Redis 캐시에서 어려운 단어 목록을 조회합니다.
-     * 캐시 미스 시 DB에서 로드하여 캐시에 저장합니다.
+     * 인스턴스 간 락을 잡은 경우에만 분석해 캐시에 저장합니다. (redis-lock 미사용 시 바로 분석)
+     * @param waitForOthers 락을 못 잡았을 때 다른 인스턴스의 결과를 기다릴지 (false면 null 반환)
      */
-    // termDetails 및 캐시 갱신은 AnalysisCacheService로 이동
-}
\ No newline at end of file
+    private ProcessContentResponse loadThroughLock(Cache cache, ProcessContentRequest request, boolean waitForOthers) {
+        if (!redisLockEnabled) {
+            return computeAndStore(cache, request);
+        }
+
+        String lockKey = LOCK_KEY_PREFIX + request.newsId();
+        String token = UUID.randomUUID().toString();
+        Boolean acquired;
+        try {
+            acquired = stringRedisTemplate.opsForValue().setIfAbsent(lockKey, token, Duration.ofMillis(lockTtlMs));
+        } catch (Exception e) {
+            log.warn("본문 분석 락 획득 실패, 락 없이 분석합니다: newsId={}, error={}", request.newsId(), e.getMessage());
+            return computeAndStore(cache, request);
+        }
+
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                return computeAndStore(cache, request);
+            } finally {
+                unlock(lockKey, token);
+            }
+        }
+        if (!waitForOthers) {
+            return null;
+        }
+
+        // 다른 인스턴스가 분석 중 -> 캐시에 저장될 때까지 대기, 시간 안에 안 오면 직접 분석
+        long deadline = System.currentTimeMillis() + lockWaitMs;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(lockPollMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            ProcessedContentEntry entry = readEntry(cache, request.newsId());
+            if (entry != null) {
+                return entry.response();
+            }
+        }
+        log.debug("뉴스 ID {} 다른 인스턴스의 분석 결과를 기다리다 시간 초과, 직접 분석합니다.", request.newsId());
+        return computeAndStore(cache, request);
+    }
+
+    private ProcessContentResponse computeAndStore(Cache cache, ProcessContentRequest request) {
+        long startTime = System.currentTimeMillis();
+        ProcessContentResponse response = analyze(request);
+        long now = System.currentTimeMillis();
+        try {
+            cache.put(request.newsId(), new ProcessedContentEntry(response, now, now - startTime));
+        } catch (Exception e) {
+            log.warn("뉴스 ID {} 분석 결과 캐시 저장 실패: {}", request.newsId(), e.getMessage());
+        }
+        return response;
+    }
+
+    private ProcessContentResponse analyze(ProcessContentRequest request) {
+        log.info("뉴스 ID {}의 본문 분석을 시작합니다.", request.newsId());
+
+        // 어려운 단어 사전으로 만든 매처를 가져와서 마크업 처리
+        // 버전을 먼저 읽어, 응답 버전이 실제 사용한 사전보다 앞서지 않도록 함
+        long vocabularyVersion = analysisCacheService.getVocabularyVersion();
+        DifficultWordMatcher matcher = analysisCacheService.getDifficultWordMatcher();
+        log.info("🟢 어려운 단어 매처 조회 완료! 총 {}개", matcher.vocabularySize());
+
+        // NlpService를 직접 호출하여 마크업 처리
+        String analyzedContent = nlpService.markupDifficultWords(request.originalContent(), matcher);
+
+        return new ProcessContentResponse(analyzedContent, vocabularyVersion);
+    }
+
+    /**
+     * 확률적 조기 갱신 (XFetch)
+     * now - computeMillis * beta * ln(rand) >= 만료 시각 이면 갱신
+     * 만료에 가까울수록, 분석이 오래 걸리는 항목일수록 갱신 확률이 높아짐
+     */
+    private boolean shouldRefreshEarly(ProcessedContentEntry entry) {
+        if (earlyRefreshBeta <= 0) {
+            return false;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        double gap = -entry.computeMillis() * earlyRefreshBeta * Math.log(random);
+        return System.currentTimeMillis() + gap >= entry.computedAt() + ttlMillis;
+    }
+
+    // 이전 형식(ProcessContentResponse)이나 읽을 수 없는 값은 미스로 처리해 새로 저장
+    private ProcessedContentEntry readEntry(Cache cache, Long newsId) {
+        try {
+            Cache.ValueWrapper wrapper = cache.get(newsId);
+            if (wrapper != null && wrapper.get() instanceof ProcessedContentEntry entry && entry.response() != null) {
+                return entry;
+            }
+        } catch (Exception e) {
+            log.warn("뉴스 ID {} 분석 결과 캐시 조회 실패: {}", newsId, e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * 진행 중인 분석 결과를 기다립니다.
+     * 분석이 실패해도 그 사이 캐시에 저장된 값이 있으면 그 값을 사용하고, 없을 때만 예외를 전달합니다.
+     */
+    private ProcessContentResponse await(Cache cache, Long newsId, CompletableFuture<ProcessContentResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            ProcessedContentEntry entry = readEntry(cache, newsId);
+            if (entry != null) {
+                return entry.response();
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void unlock(String lockKey, String token) {
+        try {
+            stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+        } catch (Exception e) {
+            // 해제 실패 시 락 TTL로 자동 만료
+            log.warn("본문 분석 락 해제 실패: key={}, error={}", lockKey, e.getMessage());
+        }
+    }
+}
@@ -1,17 +1,22 @@
 package com.newnormallist.tooltipservice.service;
 
-import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
-import kr.co.shineware.nlp.komoran.core.Komoran;
 import kr.co.shineware.nlp.komoran.model.Token;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import com.newnormallist.tooltipservice.repository.VocabularyTermRepository;
 import com.newnormallist.tooltipservice.entity.VocabularyTerm;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 @Slf4j
@@ -19,48 +24,89 @@ public class NlpService {
 
     private final VocabularyTermRepository vocabularyTermRepository;
 
-    private final Komoran komoran;
+    private final KomoranPool komoranPool;
 
-    public NlpService(VocabularyTermRepository vocabularyTermRepository) {
+    // 형태소 분석 결과를 DEBUG로 남길 요청 비율 (0이면 남기지 않음)
+    private final double tokenLogSampleRate;
+
+    public NlpService(VocabularyTermRepository vocabularyTermRepository,
+                      KomoranPool komoranPool,
+                      @Value("${tooltip.nlp.token-log-sample-rate:0.0}") double tokenLogSampleRate) {
         this.vocabularyTermRepository = vocabularyTermRepository;
-        // Komoran 객체를 생성합니다. 모델은 경량화된 LIGHT 모델을 사용합니다.
-        // 더 높은 정확도가 필요하면 DEFAULT_MODEL.FULL을 사용할 수 있습니다.
-        this.komoran = new Komoran(DEFAULT_MODEL.LIGHT);
-        log.info("Komoran 형태소 분석기 초기화 완료.");
+        this.komoranPool = komoranPool;
+        this.tokenLogSampleRate = tokenLogSampleRate;
     }
 
     /**
      * 원본 텍스트에서 어려운 단어를 찾아 span 태그로 감싸는 메소드
      * @param originalContent 원본 뉴스 기사 본문
-     * @param difficultWords DB에서 가져온 어려운 단어 목록
+     * @param matcher 어려운 단어 사전으로 만든 매처
      * @return span 태그가 삽입된 HTML 텍스트
      */
-    public String markupDifficultWords(String originalContent, Set<String> difficultWords) {
-        if (originalContent == null || originalContent.isBlank() || difficultWords == null || difficultWords.isEmpty()) {
+    public String markupDifficultWords(String originalContent, DifficultWordMatcher matcher) {
+        if (originalContent == null || originalContent.isBlank() || matcher == null || matcher.vocabularySize() == 0) {
             return originalContent;
         }
 
         long startTime = System.currentTimeMillis();
 
-        // Komoran을 사용하여 텍스트를 형태소 단위로 분석합니다.
-        List<Token> tokens = komoran.analyze(originalContent).getTokenList();
+        // 풀에서 빌린 Komoran으로 텍스트를 형태소 단위로 분석합니다.
+        List<Token> tokens = komoranPool.execute(komoran -> komoran.analyze(originalContent).getTokenList());
         
-        // 디버깅: Komoran 분석 결과 로그 출력
-        log.info("============= Komoran 형태소 분석 결과 =============");
-        log.info("원본 텍스트: {}", originalContent);
-        for (Token token : tokens) {
-            log.info("형태소: '{}', 품사: '{}', 위치: {}-{}", 
-                    token.getMorph(), token.getPos(), token.getBeginIndex(), token.getEndIndex());
+        // 디버깅: 샘플링된 요청만 Komoran 분석 결과 로그 출력
+        boolean logTokens = isTokenLogSampled();
+        if (logTokens) {
+            log.debug("============= Komoran 형태소 분석 결과 =============");
+            log.debug("원본 텍스트: {}", originalContent);
+            for (Token token : tokens) {
+                log.debug("형태소: '{}', 품사: '{}', 위치: {}-{}", 
+                        token.getMorph(), token.getPos(), token.getBeginIndex(), token.getEndIndex());
+            }
+            log.debug("=== 어려운 단어 사전 크기: {} ===", matcher.vocabularySize());
         }
-        log.info("=== 어려운 단어 캐시 내용 ===");
-        log.info("캐시된 어려운 단어 개수: {}", difficultWords.size());
-        difficultWords.forEach(word -> log.info("어려운 단어: '{}'", word));
-        log.info("================================");
         
+        // 본문 표기와 형태소가 같은 명사 토큰은 본문 한 번 순회로 일괄 매칭
+        int[] tokenEndByBegin = new int[originalContent.length()];
+        Arrays.fill(tokenEndByBegin, -1);
+        for (Token token : tokens) {
+            int beginIndex = token.getBeginIndex();
+            int endIndex = token.getEndIndex();
+            if (isNoun(token.getPos()) && beginIndex >= 0 && endIndex <= originalContent.length()
+                    && beginIndex < endIndex && tokenEndByBegin[beginIndex] < 0
+                    && token.getMorph().length() == endIndex - beginIndex
+                    && originalContent.regionMatches(beginIndex, token.getMorph(), 0, endIndex - beginIndex)) {
+                tokenEndByBegin[beginIndex] = endIndex;
+            }
+        }
+        boolean[] matchedAt = matcher.matchTokens(originalContent, tokenEndByBegin);
+
+        // 마크업 대상 토큰을 먼저 판정하고, 정의는 기사 단위로 한 번에 조회
+        boolean[] difficultTokens = new boolean[tokens.size()];
+        Set<String> matchedTerms = new LinkedHashSet<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            int beginIndex = token.getBeginIndex();
+            int endIndex = token.getEndIndex();
+            if (beginIndex < 0 || endIndex > originalContent.length() || beginIndex >= endIndex
+                    || !isNoun(token.getPos())) {
+                continue;
+            }
+            // 형태소가 본문 표기와 다르면 형태소로 직접 확인
+            boolean isDifficult = tokenEndByBegin[beginIndex] == endIndex
+                    ? matchedAt[beginIndex]
+                    : matcher.matches(token.getMorph());
+            if (isDifficult) {
+                difficultTokens[i] = true;
+                matchedTerms.add(token.getMorph());
+            }
+        }
+        Map<String, String> definitionsJsonByTerm = getWordDefinitionsJson(matchedTerms, matcher);
+
         StringBuilder markedUpContent = new StringBuilder();
         int lastIndex = 0;
 
-        for (Token token : tokens) {
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
             int beginIndex = token.getBeginIndex();
             int endIndex = token.getEndIndex();
             
@@ -75,7 +121,7 @@ public class NlpService {
                 markedUpContent.append(originalContent, lastIndex, beginIndex);
             } else if (beginIndex < lastIndex) {
                 // 토큰이 겹치는 경우 - 이미 처리된 부분이므로 스킵
-                log.debug("토큰 겹침 감지: '{}' ({}-{}), 이전 위치: {}", token.getMorph(), beginIndex, endIndex, lastIndex);
+                if (logTokens) log.debug("토큰 겹침 감지: '{}' ({}-{}), 이전 위치: {}", token.getMorph(), beginIndex, endIndex, lastIndex);
                 continue;
             }
 
@@ -83,17 +129,21 @@ public class NlpService {
             String pos = token.getPos(); // 품사 (예: NNP-고유명사, NNG-일반명사)
 
             // 단어가 명사(NNG, NNP)이고, 어려운 단어 목록에 포함되어 있다면
-            boolean isNoun = pos.equals("NNG") || pos.equals("NNP");
-            boolean isDifficult = isMatchingDifficultWord(term, difficultWords);
+            boolean isNoun = isNoun(pos);
+            boolean isDifficult = difficultTokens[i];
             
-            log.debug("형태소 '{}' 검사 - 명사여부: {}, 어려운단어여부: {}, 위치: {}-{}", 
-                     term, isNoun, isDifficult, beginIndex, endIndex);
+            if (logTokens) {
+                log.debug("형태소 '{}' 검사 - 명사여부: {}, 어려운단어여부: {}, 위치: {}-{}", 
+                         term, isNoun, isDifficult, beginIndex, endIndex);
+            }
             
-            if (isNoun && isDifficult) {
+            if (isDifficult) {
                 // 툴팁 기능을 위한 span 태그를 추가합니다.
-                log.info("✅ 마크업 적용: '{}'", term);
+                if (logTokens) {
+                    log.debug("✅ 마크업 적용: '{}'", term);
+                }
                 String originalWord = originalContent.substring(beginIndex, endIndex);
-                String definitionsJson = getWordDefinitionsJson(term);
+                String definitionsJson = definitionsJsonByTerm.getOrDefault(term, "");
                 
                 markedUpContent.append("<span class=\"tooltip-word\" data-term=\"")
                         .append(escapeHtml(term))
@@ -104,8 +154,7 @@ public class NlpService {
                         .append("</span>");
             } else {
                 // 그렇지 않으면 원본 텍스트를 그대로 추가합니다.
-                String originalWord = originalContent.substring(beginIndex, endIndex);
-                markedUpContent.append(originalWord);
+                markedUpContent.append(originalContent, beginIndex, endIndex);
             }
             lastIndex = endIndex;
         }
@@ -116,90 +165,80 @@ public class NlpService {
         }
 
         long endTime = System.currentTimeMillis();
-        log.debug("NLP 마크업 처리 시간: {}ms", (endTime - startTime));
+        log.debug("NLP 마크업 처리 시간: {}ms, 토큰 {}개, 마크업 단어 {}개",
+                (endTime - startTime), tokens.size(), matchedTerms.size());
 
         return markedUpContent.toString();
     }
 
-    /**
-     * 추출된 단어가 어려운 단어 목록과 매칭되는지 확인하는 메서드
-     * DB에 "예산 (豫算)", "예산 (Budget)" 형태로 저장되어 있어도 "예산"으로 매칭 가능
-     */
-    private boolean isMatchingDifficultWord(String extractedTerm, Set<String> difficultWords) {
-        log.debug("매칭 검사 시작: '{}'", extractedTerm);
-        
-        // 1. 정확 일치 (가장 빠름)
-        if (difficultWords.contains(extractedTerm)) {
-            log.debug("정확 일치 발견: '{}'", extractedTerm);
-            return true;
-        }
-        
-        // 2. DB에 한자/영어 포함 형태로 저장된 경우 매칭
-        // 예: extractedTerm="예산" → DB에서 "예산 (豫算)", "예산 (Budget)" 등을 찾음
-        boolean found = difficultWords.stream()
-                .anyMatch(dbTerm -> {
-                    boolean match = isTermMatch(extractedTerm, dbTerm);
-                    if (match) {
-                        log.debug("패턴 매칭 성공: '{}' ↔ '{}'", extractedTerm, dbTerm);
-                    }
-                    return match;
-                });
-        
-        if (!found) {
-            log.debug("매칭되는 어려운 단어 없음: '{}'", extractedTerm);
-        }
-        
-        return found;
+    private boolean isTokenLogSampled() {
+        return tokenLogSampleRate > 0 && log.isDebugEnabled()
+                && ThreadLocalRandom.current().nextDouble() < tokenLogSampleRate;
     }
 
-    /**
-     * 추출된 단어와 DB 단어가 매칭되는지 판단
-     * @param extractedTerm Komoran에서 추출된 순수 단어 (예: "예산")
-     * @param dbTerm DB에 저장된 단어 (예: "예산 (豫算)", "예산 (Budget)")
-     */
-    private boolean isTermMatch(String extractedTerm, String dbTerm) {
-        // DB 단어가 "단어 (한자/영어)" 패턴인지 확인
-        if (dbTerm.contains(" (") && dbTerm.endsWith(")")) {
-            // "예산 (豫算)" → "예산" 추출
-            String baseWord = dbTerm.substring(0, dbTerm.indexOf(" (")).trim();
-            return extractedTerm.equals(baseWord);
-        }
-        
-        // 패턴이 아니면 정확 일치만 인정
-        return extractedTerm.equals(dbTerm);
+    private boolean isNoun(String pos) {
+        return "NNG".equals(pos) || "NNP".equals(pos);
     }
     
     /**
-     * 단어의 모든 정의를 JSON 형태로 가져옵니다.
-     * @param term 조회할 단어
-     * @return JSON 형태의 정의 문자열 (없으면 빈 문자열)
+     * 기사에서 찾은 단어들의 모든 정의를 JSON 형태로 한 번에 가져옵니다.
+     * 정확 일치/접두사 대체 검색은 사전 스냅샷에서 처리하고, DB는 정의 fetch join 한 번만 조회합니다.
+     * @param terms 마크업할 단어 목록
+     * @param matcher 어려운 단어 사전으로 만든 매처
+     * @return 단어별 JSON 형태의 정의 문자열 (정의가 없는 단어는 제외)
      */
-    private String getWordDefinitionsJson(String term) {
+    private Map<String, String> getWordDefinitionsJson(Set<String> terms, DifficultWordMatcher matcher) {
+        Map<String, String> definitionsJsonByTerm = new HashMap<>();
+        if (terms.isEmpty()) {
+            return definitionsJsonByTerm;
+        }
         try {
-            // DB에서 직접 조회 (캐시는 AnalysisCacheService에서 처리)
-            VocabularyTerm vocabularyTerm = vocabularyTermRepository.findByTerm(term)
-                    .or(() -> vocabularyTermRepository.findByTermStartingWith(term))
-                    .orElse(null);
-            
-            if (vocabularyTerm != null && !vocabularyTerm.getDefinitions().isEmpty()) {
-                // displayOrder 순서대로 정렬하여 JSON 형태로 반환
-                String jsonDefinitions = vocabularyTerm.getDefinitions().stream()
-                        .sorted((def1, def2) -> {
-                            Integer order1 = def1.getDisplayOrder() != null ? def1.getDisplayOrder() : Integer.MAX_VALUE;
-                            Integer order2 = def2.getDisplayOrder() != null ? def2.getDisplayOrder() : Integer.MAX_VALUE;
-                            return order1.compareTo(order2);
-                        })
-                        .map(def -> String.format("{\"def\":\"%s\",\"order\":%d}", 
-                                escapeJson(def.getDefinition()), 
-                                def.getDisplayOrder() != null ? def.getDisplayOrder() : 999))
-                        .collect(java.util.stream.Collectors.joining(","));
-                
-                return "[" + jsonDefinitions + "]";
+            // 단어 → 정의를 가진 DB 단어 (예: "예산" → "예산 (豫算)")
+            Map<String, String> dbTermByTerm = new HashMap<>();
+            for (String term : terms) {
+                String dbTerm = matcher.resolveTerm(term);
+                if (dbTerm != null) {
+                    dbTermByTerm.put(term, dbTerm);
+                }
+            }
+            if (dbTermByTerm.isEmpty()) {
+                return definitionsJsonByTerm;
             }
+
+            Map<String, VocabularyTerm> vocabularyTerms = new HashMap<>();
+            for (VocabularyTerm vocabularyTerm
+                    : vocabularyTermRepository.findAllWithDefinitionsByTermIn(new HashSet<>(dbTermByTerm.values()))) {
+                vocabularyTerms.put(vocabularyTerm.getTerm(), vocabularyTerm);
+            }
+
+            dbTermByTerm.forEach((term, dbTerm) -> {
+                VocabularyTerm vocabularyTerm = vocabularyTerms.get(dbTerm);
+                if (vocabularyTerm != null && !vocabularyTerm.getDefinitions().isEmpty()) {
+                    definitionsJsonByTerm.put(term, toDefinitionsJson(vocabularyTerm));
+                }
+            });
         } catch (Exception e) {
-            log.warn("단어 '{}' 정의 조회 중 오류: {}", term, e.getMessage());
+            log.warn("단어 {}개 정의 일괄 조회 중 오류: {}", terms.size(), e.getMessage());
         }
-        return ""; // 정의가 없으면 빈 문자열
+        return definitionsJsonByTerm;
+    }
+
+    /**
+     * displayOrder 순서대로 정렬하여 JSON 형태로 반환
+     */
+    private String toDefinitionsJson(VocabularyTerm vocabularyTerm) {
+        String jsonDefinitions = vocabularyTerm.getDefinitions().stream()
+                .sorted((def1, def2) -> {
+                    Integer order1 = def1.getDisplayOrder() != null ? def1.getDisplayOrder() : Integer.MAX_VALUE;
+                    Integer order2 = def2.getDisplayOrder() != null ? def2.getDisplayOrder() : Integer.MAX_VALUE;
+                    return order1.compareTo(order2);
+                })
+                .map(def -> String.format("{\"def\":\"%s\",\"order\":%d}", 
+                        escapeJson(def.getDefinition()), 
+                        def.getDisplayOrder() != null ? def.getDisplayOrder() : 999))
+                .collect(java.util.stream.Collectors.joining(","));
+        
+        return "[" + jsonDefinitions + "]";
     }
     
     /**
@@ -0,0 +1,170 @@
+package com.newnormallist.tooltipservice.config;
+
+import com.newnormallist.tooltipservice.dto.ProcessContentResponse;
+import com.newnormallist.tooltipservice.dto.ProcessedContentEntry;
+import com.newnormallist.tooltipservice.dto.TermDefinitionResponseDto;
+import com.newnormallist.tooltipservice.dto.TermDetailResponseDto;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캐시 값 직렬화 : JSON(GenericJackson2JsonRedisSerializer) vs COMPACT(Smile + Deflate) (./gradlew benchmark로 실행)
+ * 캐시별 대표 값의 직렬화 크기와 직렬화/역직렬화 시간(중앙값)을 비교합니다.
+ * - benchmark.iterations(기본 2,000) : 값별 측정 반복 횟수 (같은 횟수만큼 먼저 워밍업)
+ * - benchmark.compress-threshold(기본 1024) : tooltip.cache.compress-threshold-bytes와 같은 의미
+ */
+@Tag("benchmark")
+class CompactRedisSerializerBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CompactRedisSerializerBenchmarkTest.class);
+
+    private static final String[] WORDS = {
+            "정부는", "내년도", "예산안을", "국회에", "제출하고", "기준금리", "동결을", "발표했다.", "한국은행은", "물가",
+            "상승률이", "둔화되고", "있지만", "가계부채", "증가세가", "부담이라고", "밝혔다.", "반도체", "수출이", "경상수지"
+    };
+
+    @Test
+    void sizeAndLatencyAgainstJson() {
+        int iterations = Integer.getInteger("benchmark.iterations", 2_000);
+        int threshold = Integer.getInteger("benchmark.compress-threshold", 1024);
+        Random random = new Random(42);
+
+        ProcessedContentEntry shortArticle = processedContent(random, 800, 5);
+        ProcessedContentEntry longArticle = processedContent(random, 8_000, 60);
+        TermDetailResponseDto termDetail = termDetail(random);
+        Set<String> difficultWords = difficultWords(random, 20_000);
+
+        compare("processedContent (짧은 기사)", shortArticle,
+                new CompactRedisSerializer<>(CompactRedisSerializer.typeOf(ProcessedContentEntry.class), threshold),
+                iterations);
+        compare("processedContent (긴 기사)", longArticle,
+                new CompactRedisSerializer<>(CompactRedisSerializer.typeOf(ProcessedContentEntry.class), threshold),
+                iterations);
+        compare("termDetails", termDetail,
+                new CompactRedisSerializer<>(CompactRedisSerializer.typeOf(TermDetailResponseDto.class), threshold),
+                iterations);
+        compare("difficultWords (" + difficultWords.size() + "개)", difficultWords,
+                new CompactRedisSerializer<>(CompactRedisSerializer.setOf(String.class), threshold),
+                Math.max(1, iterations / 100));
+    }
+
+    private void compare(String name, Object value, RedisSerializer<Object> compact, int iterations) {
+        RedisSerializer<Object> json = new GenericJackson2JsonRedisSerializer();
+
+        Result jsonResult = measure(json, value, iterations);
+        Result compactResult = measure(compact, value, iterations);
+
+        log.info("{}: JSON {}B, 쓰기 {}us, 읽기 {}us | COMPACT {}B ({}%), 쓰기 {}us, 읽기 {}us",
+                name, jsonResult.bytes(), micros(jsonResult.writeNanos()), micros(jsonResult.readNanos()),
+                compactResult.bytes(), compactResult.bytes() * 100 / jsonResult.bytes(),
+                micros(compactResult.writeNanos()), micros(compactResult.readNanos()));
+        assertThat(compactResult.bytes()).isLessThanOrEqualTo(jsonResult.bytes());
+    }
+
+    /**
+     * 직렬화/역직렬화 각각의 중앙값 (워밍업 후 측정), 왕복 결과가 원래 값과 같은지 확인
+     */
+    private Result measure(RedisSerializer<Object> serializer, Object value, int iterations) {
+        byte[] bytes = serializer.serialize(value);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+
+        long[] writes = new long[iterations];
+        long[] reads = new long[iterations];
+        for (int i = -iterations; i < iterations; i++) {
+            long start = System.nanoTime();
+            byte[] encoded = serializer.serialize(value);
+            long written = System.nanoTime();
+            Object decoded = serializer.deserialize(encoded);
+            long read = System.nanoTime();
+            if (i >= 0) {
+                writes[i] = written - start;
+                reads[i] = read - written;
+            }
+            if (decoded == null) {
+                throw new AssertionError("역직렬화 결과 없음");
+            }
+        }
+        Arrays.sort(writes);
+        Arrays.sort(reads);
+        return new Result(bytes.length, writes[iterations / 2], reads[iterations / 2]);
+    }
+
+    /**
+     * NlpService 마크업과 같은 형태의 본문 (툴팁 span에 정의 JSON이 HTML 이스케이프되어 들어감)
+     */
+    private static ProcessedContentEntry processedContent(Random random, int plainChars, int markedWords) {
+        StringBuilder sb = new StringBuilder(plainChars * 2);
+        int plain = 0;
+        int marked = 0;
+        while (plain < plainChars) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            if (marked < markedWords && random.nextInt(Math.max(1, plainChars / 5 / markedWords)) == 0) {
+                sb.append("<span class=\"tooltip-word\" data-term=\"").append(word)
+                        .append("\" data-definitions=\"")
+                        .append("[{&quot;definition&quot;:&quot;").append(definition(random))
+                        .append("&quot;,&quot;displayOrder&quot;:1}]")
+                        .append("\">").append(word).append("</span>");
+                marked++;
+            } else {
+                sb.append(word);
+            }
+            sb.append(random.nextInt(12) == 0 ? "\n\n" : " ");
+            plain += word.length() + 1;
+        }
+        ProcessContentResponse response = new ProcessContentResponse(sb.toString(), 42L);
+        return new ProcessedContentEntry(response, 1_760_000_000_000L, 35L + random.nextInt(200));
+    }
+
+    private static TermDetailResponseDto termDetail(Random random) {
+        List<TermDefinitionResponseDto> definitions = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            definitions.add(new TermDefinitionResponseDto(definition(random), i));
+        }
+        return new TermDetailResponseDto("기준금리 (基準金利)", definitions);
+    }
+
+    private static Set<String> difficultWords(Random random, int count) {
+        Set<String> words = new HashSet<>();
+        while (words.size() < count) {
+            StringBuilder sb = new StringBuilder();
+            int length = 2 + random.nextInt(4);
+            for (int i = 0; i < length; i++) {
+                sb.append((char) ('가' + random.nextInt(400) * 28));
+            }
+            if (random.nextInt(3) == 0) {
+                sb.append(" (").append((char) ('一' + random.nextInt(2000))).append((char) ('一' + random.nextInt(2000))).append(')');
+            }
+            words.add(sb.toString());
+        }
+        return words;
+    }
+
+    private static String definition(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int words = 12 + random.nextInt(20);
+        for (int i = 0; i < words; i++) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return sb.toString().trim();
+    }
+
+    private static long micros(long nanos) {
+        return nanos / 1_000;
+    }
+
+    private record Result(int bytes, long writeNanos, long readNanos) {
+    }
+}
@@ -0,0 +1,164 @@
+package com.newnormallist.tooltipservice.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 어려운 단어 매칭 : 토큰마다 사전 전체를 훑던 방식 vs Aho-Corasick (./gradlew benchmark로 실행)
+ * - benchmark.terms(기본 50,000) : 사전 단어 수 (약 1/3은 "단어 (漢字)" 형태)
+ * - benchmark.text-chars(기본 10,000) : 본문 길이
+ * - benchmark.rounds(기본 5) : 측정 횟수 (첫 회는 워밍업으로 제외)
+ * 형태소 분석 없이 공백으로 나눈 단어를 명사 토큰으로 간주합니다.
+ */
+@Tag("benchmark")
+class DifficultWordMatcherBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DifficultWordMatcherBenchmarkTest.class);
+
+    @Test
+    void automatonVersusLinearScan() {
+        int termCount = Integer.getInteger("benchmark.terms", 50_000);
+        int textChars = Integer.getInteger("benchmark.text-chars", 10_000);
+        int rounds = Integer.getInteger("benchmark.rounds", 5);
+
+        Random random = new Random(42);
+        List<String> vocabulary = vocabulary(random, termCount);
+        String text = text(random, vocabulary, textChars);
+        int[][] spans = spans(text);
+
+        long buildStart = System.nanoTime();
+        DifficultWordMatcher matcher = DifficultWordMatcher.build(vocabulary);
+        log.info("사전 {}개 오토마톤 생성: {}ms, 본문 {}자 토큰 {}개", vocabulary.size(),
+                (System.nanoTime() - buildStart) / 1_000_000, text.length(), spans.length);
+        Set<String> difficultWords = new HashSet<>(vocabulary);
+
+        int expected = linearScan(text, spans, difficultWords);
+        assertThat(automaton(text, spans, matcher)).isEqualTo(expected);
+        assertThat(expected).isPositive();
+
+        for (int round = 0; round <= rounds; round++) {
+            long start = System.nanoTime();
+            int linearMatches = linearScan(text, spans, difficultWords);
+            long linearNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int automatonMatches = automaton(text, spans, matcher);
+            long automatonNanos = System.nanoTime() - start;
+
+            assertThat(automatonMatches).isEqualTo(linearMatches);
+            if (round > 0) {
+                log.info("round {}: 선형 탐색 {}us, Aho-Corasick {}us ({}x), 매칭 {}개", round,
+                        linearNanos / 1_000, automatonNanos / 1_000,
+                        String.format("%.1f", (double) linearNanos / automatonNanos), automatonMatches);
+            }
+        }
+    }
+
+    /**
+     * 변경 전 방식 : 정확 일치 실패 시 사전 전체에서 "단어 (漢字)"의 기본 단어 비교
+     */
+    private static int linearScan(String text, int[][] spans, Set<String> difficultWords) {
+        int matches = 0;
+        for (int[] span : spans) {
+            String term = text.substring(span[0], span[1]);
+            if (difficultWords.contains(term)
+                    || difficultWords.stream().anyMatch(dbTerm -> term.equals(baseWordOrSelf(dbTerm)))) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static String baseWordOrSelf(String dbTerm) {
+        String baseWord = DifficultWordMatcher.baseWordOf(dbTerm);
+        return baseWord != null ? baseWord : dbTerm;
+    }
+
+    /**
+     * 변경 후 방식 : NlpService와 같이 토큰 경계 배열을 만들고 본문 한 번 순회
+     */
+    private static int automaton(String text, int[][] spans, DifficultWordMatcher matcher) {
+        int[] tokenEndByBegin = new int[text.length()];
+        Arrays.fill(tokenEndByBegin, -1);
+        for (int[] span : spans) {
+            tokenEndByBegin[span[0]] = span[1];
+        }
+        boolean[] matched = matcher.matchTokens(text, tokenEndByBegin);
+        int matches = 0;
+        for (int[] span : spans) {
+            if (matched[span[0]]) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static List<String> vocabulary(Random random, int termCount) {
+        Set<String> terms = new HashSet<>();
+        while (terms.size() < termCount) {
+            String word = hangul(random, 2 + random.nextInt(4));
+            terms.add(random.nextInt(3) == 0 ? word + " (" + hanja(random, 2) + ")" : word);
+        }
+        return new ArrayList<>(terms);
+    }
+
+    /**
+     * 사전 단어(기본 단어 포함) 약 10%, 나머지는 임의 단어로 채운 본문
+     */
+    private static String text(Random random, List<String> vocabulary, int textChars) {
+        StringBuilder sb = new StringBuilder(textChars + 16);
+        while (sb.length() < textChars) {
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            if (random.nextInt(10) == 0) {
+                sb.append(baseWordOrSelf(vocabulary.get(random.nextInt(vocabulary.size()))));
+            } else {
+                sb.append(hangul(random, 1 + random.nextInt(5)));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static int[][] spans(String text) {
+        List<int[]> spans = new ArrayList<>();
+        int begin = 0;
+        for (int i = 0; i <= text.length(); i++) {
+            if (i == text.length() || text.charAt(i) == ' ') {
+                if (i > begin) {
+                    spans.add(new int[]{begin, i});
+                }
+                begin = i + 1;
+            }
+        }
+        return spans.toArray(new int[0][]);
+    }
+
+    // 음절 분포를 좁혀 접두사가 겹치는 단어가 많이 생기도록 함
+    private static String hangul(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('가' + random.nextInt(400) * 28);
+        }
+        return new String(chars);
+    }
+
+    private static String hanja(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('一' + random.nextInt(2000));
+        }
+        return new String(chars);
+    }
+}
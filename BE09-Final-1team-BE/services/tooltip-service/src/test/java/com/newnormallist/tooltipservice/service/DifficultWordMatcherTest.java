@@ -0,0 +1,133 @@
+package com.newnormallist.tooltipservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DifficultWordMatcherTest {
+
+    @Test
+    void overlappingTermsAreFoundThroughFailAndOutputLinks() {
+        DifficultWordMatcher matcher = DifficultWordMatcher.build(List.of("he", "she", "his", "hers"));
+        String text = "ushers";
+
+        // "she"(1-4)와 "hers"(2-6): "hers"는 "she"에서 실패 링크로 넘어가야 찾을 수 있음
+        boolean[] matched = matcher.matchTokens(text, tokens(text, 1, 4, 2, 6));
+        assertThat(matchedBegins(matched)).containsExactly(1, 2);
+
+        // "he"(2-4)는 "she" 노드의 출력 링크로만 보고됨
+        matched = matcher.matchTokens(text, tokens(text, 2, 4));
+        assertThat(matchedBegins(matched)).containsExactly(2);
+    }
+
+    @Test
+    void nestedTermsEndingAtSamePositionAreAllReported() {
+        DifficultWordMatcher matcher = DifficultWordMatcher.build(List.of("금리", "기준금리", "준금"));
+        String text = "기준금리 인상";
+
+        // 서로 겹치거나 포함된 단어를 모두 찾되, 토큰 구간과 같은 것만 인정
+        assertThat(matchedBegins(matcher.matchTokens(text, tokens(text, 0, 4)))).containsExactly(0);
+        assertThat(matchedBegins(matcher.matchTokens(text, tokens(text, 2, 4)))).containsExactly(2);
+        assertThat(matchedBegins(matcher.matchTokens(text, tokens(text, 1, 3)))).containsExactly(1);
+    }
+
+    @Test
+    void longestTermCoveringTheTokenIsSelected() {
+        DifficultWordMatcher matcher = DifficultWordMatcher.build(List.of("금리", "기준금리"));
+        String text = "한국은행 기준금리 동결";
+
+        // 복합명사 토큰 전체(5-9)는 긴 단어로 매칭되고, 내부의 짧은 단어(7-9) 위치는 표시하지 않음
+        boolean[] matched = matcher.matchTokens(text, tokens(text, 5, 9));
+        assertThat(matchedBegins(matched)).containsExactly(5);
+        assertThat(matched[7]).isFalse();
+    }
+
+    @Test
+    void noMatchInsideMorpheme() {
+        DifficultWordMatcher matcher = DifficultWordMatcher.build(List.of("예산"));
+
+        // 토큰이 더 길면("예산안") 키가 토큰 시작에서 시작해도 매칭하지 않음
+        String text = "예산안 통과";
+        assertThat(matchedBegins(matcher.matchTokens(text, tokens(text, 0, 3)))).isEmpty();
+
+        // 토큰 중간("추경예산"의 2-4)에서 시작하는 키도 매칭하지 않음
+        text = "추경예산 편성";
+        assertThat(matchedBegins(matcher.matchTokens(text, tokens(text, 0, 4)))).isEmpty();
+
+        // 토큰 경계와 일치하면 매칭
+        text = "정부 예산이 늘었다";
+        assertThat(matchedBegins(matcher.matchTokens(text, tokens(text, 0, 2, 3, 5)))).containsExactly(3);
+    }
+
+    @Test
+    void baseWordOfParenthesizedTermIsAlsoAKey() {
+        DifficultWordMatcher matcher = DifficultWordMatcher.build(List.of("예산 (豫算)", "금리"));
+
+        assertThat(matcher.matches("예산")).isTrue();
+        assertThat(matcher.matches("예산 (豫算)")).isTrue();
+        assertThat(matcher.matches("예")).isFalse();
+        assertThat(matcher.matches("예산안")).isFalse();
+
+        String text = "정부 예산이 늘었다";
+        assertThat(matchedBegins(matcher.matchTokens(text, tokens(text, 3, 5)))).containsExactly(3);
+
+        // 정의 조회는 기본 단어를 DB 단어로 되돌림
+        assertThat(matcher.resolveTerm("예산")).isEqualTo("예산 (豫算)");
+        assertThat(matcher.resolveTerm("금리")).isEqualTo("금리");
+        assertThat(matcher.resolveTerm("환율")).isNull();
+    }
+
+    @Test
+    void baseWordOf() {
+        assertThat(DifficultWordMatcher.baseWordOf("예산 (豫算)")).isEqualTo("예산");
+        assertThat(DifficultWordMatcher.baseWordOf("인플레이션 (inflation)")).isEqualTo("인플레이션");
+        assertThat(DifficultWordMatcher.baseWordOf("예산")).isNull();
+        assertThat(DifficultWordMatcher.baseWordOf("예산(豫算)")).isNull();
+    }
+
+    @Test
+    void resolveTermFallsBackToShortestTermWithPrefix() {
+        DifficultWordMatcher matcher = DifficultWordMatcher.build(
+                List.of("국채 (國債) 발행", "국채 (國債)", "국채금리"));
+
+        assertThat(matcher.resolveTerm("국채금리")).isEqualTo("국채금리");
+        assertThat(matcher.resolveTerm("국채 (")).isEqualTo("국채 (國債)");
+        assertThat(matcher.resolveTerm("국채")).isEqualTo("국채금리");
+    }
+
+    @Test
+    void blankTermsAreIgnored() {
+        DifficultWordMatcher matcher = DifficultWordMatcher.build(Arrays.asList("금리", null, ""));
+
+        assertThat(matcher.vocabularySize()).isEqualTo(1);
+        assertThat(matcher.matches("")).isFalse();
+        assertThat(matcher.matches(null)).isFalse();
+        assertThat(matcher.resolveTerm(null)).isNull();
+    }
+
+    /**
+     * (시작, 끝) 쌍으로 검사 대상 토큰 배열 생성
+     */
+    private static int[] tokens(String text, int... beginEndPairs) {
+        int[] tokenEndByBegin = new int[text.length()];
+        Arrays.fill(tokenEndByBegin, -1);
+        for (int i = 0; i < beginEndPairs.length; i += 2) {
+            tokenEndByBegin[beginEndPairs[i]] = beginEndPairs[i + 1];
+        }
+        return tokenEndByBegin;
+    }
+
+    private static List<Integer> matchedBegins(boolean[] matched) {
+        List<Integer> begins = new ArrayList<>();
+        for (int i = 0; i < matched.length; i++) {
+            if (matched[i]) {
+                begins.add(i);
+            }
+        }
+        return begins;
+    }
+}
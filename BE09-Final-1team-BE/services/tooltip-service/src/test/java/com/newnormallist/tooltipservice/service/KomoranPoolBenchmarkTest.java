@@ -0,0 +1,97 @@
+package com.newnormallist.tooltipservice.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Komoran 분석기 풀 처리량 : 동시 호출자 1 / 4 / 16명일 때 초당 토큰 수 (./gradlew benchmark로 실행)
+ * - benchmark.pool-size(기본 0 = CPU 코어 수)
+ * - benchmark.seconds(기본 5) : 호출자 수별 측정 시간 (같은 시간만큼 먼저 워밍업)
+ */
+@Tag("benchmark")
+class KomoranPoolBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(KomoranPoolBenchmarkTest.class);
+
+    private static final int[] CALLERS = {1, 4, 16};
+
+    private static final String[] SENTENCES = {
+            "정부는 내년도 예산안을 국회에 제출하고 기준금리 동결을 발표했다.",
+            "한국은행은 물가 상승률이 둔화되고 있지만 가계부채 증가세가 여전히 부담이라고 밝혔다.",
+            "반도체 수출이 석 달 연속 증가하면서 경상수지 흑자 폭이 확대됐다.",
+            "전기차 배터리 공급망 재편에 따라 원자재 가격 변동성이 커지고 있다.",
+            "국회는 탄소중립 기본법 개정안을 두고 여야 협상을 이어갔다."
+    };
+
+    @Test
+    void throughputByCallers() throws Exception {
+        int poolSize = Integer.getInteger("benchmark.pool-size", 0);
+        long measureNanos = TimeUnit.SECONDS.toNanos(Integer.getInteger("benchmark.seconds", 5));
+
+        KomoranPool pool = new KomoranPool();
+        ReflectionTestUtils.setField(pool, "configuredPoolSize", poolSize);
+        ReflectionTestUtils.setField(pool, "userDicPath", "");
+        ReflectionTestUtils.setField(pool, "borrowTimeoutMs", 60_000L);
+
+        long startupStart = System.nanoTime();
+        pool.start();
+        // 첫 호출은 풀 준비가 끝날 때까지 대기
+        pool.execute(komoran -> komoran.analyze(SENTENCES[0]).getTokenList().size());
+        assertThat(pool.health().getStatus()).isEqualTo(Status.UP);
+        log.info("풀 준비: {}ms, {}", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startupStart),
+                pool.health().getDetails());
+
+        for (int callers : CALLERS) {
+            run(pool, callers, measureNanos);
+            long tokens = run(pool, callers, measureNanos);
+            assertThat(tokens).isPositive();
+            log.info("호출자 {}명: {} tokens/s", callers, tokens * TimeUnit.SECONDS.toNanos(1) / measureNanos);
+        }
+    }
+
+    /**
+     * 호출자마다 문장을 돌아가며 분석하고, 측정 시간 동안 얻은 토큰 수 합계를 반환
+     */
+    private long run(KomoranPool pool, int callers, long measureNanos) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Long>> results = new ArrayList<>(callers);
+            for (int c = 0; c < callers; c++) {
+                int offset = c;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    long deadline = System.nanoTime() + measureNanos;
+                    long tokens = 0;
+                    for (int i = offset; System.nanoTime() < deadline; i++) {
+                        String sentence = SENTENCES[i % SENTENCES.length];
+                        tokens += pool.execute(komoran -> komoran.analyze(sentence).getTokenList().size());
+                    }
+                    return tokens;
+                }));
+            }
+            start.countDown();
+            long total = 0;
+            for (Future<Long> result : results) {
+                total += result.get();
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.newnormallist.tooltipservice.service;
+
+import com.newnormallist.tooltipservice.dto.ProcessContentRequest;
+import com.newnormallist.tooltipservice.dto.ProcessContentResponse;
+import com.newnormallist.tooltipservice.dto.ProcessedContentEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * processedContent 캐시 single-flight : 함께 기다리던 분석이 실패했을 때의 처리
+ */
+class NewsAnalysisServiceTest {
+
+    private static final long NEWS_ID = 1L;
+    private static final Duration TTL = Duration.ofHours(24);
+
+    private NlpService nlpService;
+    private Cache cache;
+    private NewsAnalysisService service;
+
+    // 첫 분석 호출을 붙잡아 두었다가 실패시킴
+    private final CountDownLatch firstCallStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstCall = new CountDownLatch(1);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        AnalysisCacheService analysisCacheService = mock(AnalysisCacheService.class);
+        when(analysisCacheService.getVocabularyVersion()).thenReturn(7L);
+        when(analysisCacheService.getDifficultWordMatcher()).thenReturn(DifficultWordMatcher.build(List.of("금리")));
+
+        nlpService = mock(NlpService.class);
+        when(nlpService.markupDifficultWords(anyString(), any())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                firstCallStarted.countDown();
+                releaseFirstCall.await(5, TimeUnit.SECONDS);
+                throw new IllegalStateException("분석 실패");
+            }
+            return "marked:" + invocation.getArgument(0);
+        });
+
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("processedContent");
+        cache = cacheManager.getCache("processedContent");
+        service = new NewsAnalysisService(analysisCacheService, nlpService, cacheManager,
+                mock(StringRedisTemplate.class), TTL, 1.0, 1, 10, false, 30_000, 5_000, 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseFirstCall.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    void missJoiningFailedEarlyRefreshComputesItsOwnValue() throws Exception {
+        // 만료 직전이고 분석이 오래 걸린 항목 -> 조기 갱신 시작
+        long now = System.currentTimeMillis();
+        ProcessContentResponse stale = new ProcessContentResponse("old", 6L);
+        cache.put(NEWS_ID, new ProcessedContentEntry(stale, now - TTL.toMillis(), 60_000));
+
+        assertThat(service.processContent(request())).isEqualTo(stale);
+        assertThat(firstCallStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 갱신 중 항목이 사라진 뒤 들어온 캐시 미스 요청은 진행 중인 갱신을 기다림
+        cache.evict(NEWS_ID);
+        AtomicReference<Thread> reader = new AtomicReference<>();
+        CompletableFuture<ProcessContentResponse> result = CompletableFuture.supplyAsync(() -> {
+            reader.set(Thread.currentThread());
+            return service.processContent(request());
+        });
+        awaitWaiting(reader);
+
+        releaseFirstCall.countDown();
+
+        ProcessContentResponse response = result.get(5, TimeUnit.SECONDS);
+        assertThat(response.processedContent()).isEqualTo("marked:본문");
+        assertThat(response.vocabularyVersion()).isEqualTo(7L);
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(cache.get(NEWS_ID, ProcessedContentEntry.class).response()).isEqualTo(response);
+    }
+
+    @Test
+    void missJoiningFailedLoadPropagatesErrorWhenNothingIsCached() throws Exception {
+        CompletableFuture<ProcessContentResponse> first = CompletableFuture.supplyAsync(() -> service.processContent(request()));
+        assertThat(firstCallStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        AtomicReference<Thread> reader = new AtomicReference<>();
+        CompletableFuture<ProcessContentResponse> second = CompletableFuture.supplyAsync(() -> {
+            reader.set(Thread.currentThread());
+            return service.processContent(request());
+        });
+        awaitWaiting(reader);
+
+        releaseFirstCall.countDown();
+
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("분석 실패");
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("분석 실패");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    private static ProcessContentRequest request() {
+        return new ProcessContentRequest(NEWS_ID, "본문");
+    }
+
+    // 요청 스레드가 진행 중인 분석을 기다리기 시작할 때까지 대기
+    private static void awaitWaiting(AtomicReference<Thread> reader) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            Thread thread = reader.get();
+            if (thread != null && thread.getState() == Thread.State.WAITING) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("요청 스레드가 대기 상태가 되지 않았습니다.");
+    }
+}